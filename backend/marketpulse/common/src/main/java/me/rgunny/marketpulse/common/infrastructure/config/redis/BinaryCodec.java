@@ -0,0 +1,61 @@
+package me.rgunny.marketpulse.common.infrastructure.config.redis;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+/**
+ * Redis 값 바이너리 코덱
+ * 
+ * BinaryRedisSerializer 가 맨 앞에 포맷 버전 1바이트를 붙이므로 코덱은 본문만 읽고 씀
+ * 포맷을 바꿀 때는 version 을 올리고 read 에서 이전 버전도 읽을 수 있게 유지
+ * 
+ * @param <T> 값 타입
+ */
+public interface BinaryCodec<T> {
+    
+    /**
+     * 현재 쓰기 포맷 버전
+     */
+    byte version();
+    
+    /**
+     * 값 본문 쓰기
+     */
+    void write(T value, DataOutput out) throws IOException;
+    
+    /**
+     * 값 본문 읽기
+     * 
+     * @param version 저장 당시 포맷 버전
+     * @throws IOException 지원하지 않는 버전이거나 본문이 손상된 경우
+     */
+    T read(byte version, DataInput in) throws IOException;
+    
+    /**
+     * 부호 있는 정수를 zigzag 가변 길이로 쓰기 (절댓값이 작을수록 짧음)
+     */
+    static void writeVarLong(DataOutput out, long value) throws IOException {
+        long zigzag = (value << 1) ^ (value >> 63);
+        while ((zigzag & ~0x7FL) != 0) {
+            out.writeByte((int) ((zigzag & 0x7F) | 0x80));
+            zigzag >>>= 7;
+        }
+        out.writeByte((int) zigzag);
+    }
+    
+    /**
+     * writeVarLong 으로 쓴 정수 읽기
+     */
+    static long readVarLong(DataInput in) throws IOException {
+        long zigzag = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            byte b = in.readByte();
+            zigzag |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return (zigzag >>> 1) ^ -(zigzag & 1);
+            }
+        }
+        throw new IOException("Malformed varlong");
+    }
+}
@@ -0,0 +1,65 @@
+package me.rgunny.marketpulse.common.infrastructure.config.redis;
+
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+
+/**
+ * BinaryCodec 기반 Redis 값 직렬화기
+ * 
+ * 저장 형식: [포맷 버전 1바이트][코덱 본문]
+ * 
+ * @param <T> 값 타입
+ */
+public class BinaryRedisSerializer<T> implements RedisSerializer<T> {
+    
+    private static final int INITIAL_BUFFER_SIZE = 128;
+    
+    private final BinaryCodec<T> codec;
+    private final Class<T> targetClass;
+    
+    public BinaryRedisSerializer(BinaryCodec<T> codec, Class<T> targetClass) {
+        this.codec = codec;
+        this.targetClass = targetClass;
+    }
+    
+    @Override
+    public byte[] serialize(T value) throws SerializationException {
+        if (value == null) {
+            return new byte[0];
+        }
+        try {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream(INITIAL_BUFFER_SIZE);
+            DataOutputStream out = new DataOutputStream(bytes);
+            out.writeByte(codec.version());
+            codec.write(value, out);
+            out.flush();
+            return bytes.toByteArray();
+        } catch (IOException | RuntimeException e) {
+            throw new SerializationException("Could not write " + targetClass.getSimpleName() + ": " + e.getMessage(), e);
+        }
+    }
+    
+    @Override
+    public T deserialize(byte[] bytes) throws SerializationException {
+        if (bytes == null || bytes.length == 0) {
+            return null;
+        }
+        try {
+            DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes));
+            return codec.read(in.readByte(), in);
+        } catch (IOException | RuntimeException e) {
+            throw new SerializationException("Could not read " + targetClass.getSimpleName() + ": " + e.getMessage(), e);
+        }
+    }
+    
+    @Override
+    public Class<?> getTargetType() {
+        return targetClass;
+    }
+}
@@ -34,6 +34,20 @@ public final class RedisSerializerHelper {
         return new Jackson2JsonRedisSerializer<>(createObjectMapper(), targetClass);
     }
     
+    /**
+     * 바이너리 코덱 직렬화기 생성
+     * 
+     * 조회가 잦고 필드 구성이 고정된 값에 사용 (JSON 보다 작게 저장)
+     * 
+     * @param codec 값 코덱
+     * @param targetClass 직렬화 대상 클래스
+     * @param <T> 타입 파라미터
+     * @return BinaryRedisSerializer
+     */
+    public static <T> BinaryRedisSerializer<T> binarySerializer(BinaryCodec<T> codec, Class<T> targetClass) {
+        return new BinaryRedisSerializer<>(codec, targetClass);
+    }
+    
     /**
      * 다형성 지원 JSON 직렬화기 생성
      * 
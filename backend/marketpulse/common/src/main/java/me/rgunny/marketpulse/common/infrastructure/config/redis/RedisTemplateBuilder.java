@@ -62,6 +62,34 @@ public final class RedisTemplateBuilder {
         return new ReactiveRedisTemplate<>(connectionFactory, context);
     }
     
+    /**
+     * String 키와 바이너리 값 타입 ReactiveRedisTemplate 생성
+     * 
+     * @param connectionFactory Redis 연결 팩토리
+     * @param codec 값 코덱
+     * @param valueClass 값 타입 클래스
+     * @param <T> 값 타입
+     * @return ReactiveRedisTemplate<String, T>
+     */
+    public static <T> ReactiveRedisTemplate<String, T> binaryTemplate(
+            ReactiveRedisConnectionFactory connectionFactory,
+            BinaryCodec<T> codec,
+            Class<T> valueClass) {
+        
+        RedisSerializer<String> keySerializer = RedisSerializerHelper.stringSerializer();
+        RedisSerializer<T> valueSerializer = RedisSerializerHelper.binarySerializer(codec, valueClass);
+        
+        RedisSerializationContext<String, T> context = RedisSerializationContext
+                .<String, T>newSerializationContext()
+                .key(keySerializer)
+                .value(valueSerializer)
+                .hashKey(keySerializer)
+                .hashValue(valueSerializer)
+                .build();
+                
+        return new ReactiveRedisTemplate<>(connectionFactory, context);
+    }
+    
     /**
      * 다형성 지원 ReactiveRedisTemplate 생성
      * 
@@ -0,0 +1,97 @@
+package me.rgunny.marketpulse.unit.config;
+
+import me.rgunny.marketpulse.common.infrastructure.config.redis.BinaryCodec;
+import me.rgunny.marketpulse.common.infrastructure.config.redis.BinaryRedisSerializer;
+import me.rgunny.marketpulse.common.infrastructure.config.redis.RedisSerializerHelper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.IOException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("BinaryRedisSerializer - 바이너리 값 직렬화 검증 (unit)")
+class BinaryRedisSerializerTest {
+
+    private record Quote(String symbol, long price) {
+    }
+
+    private static final BinaryCodec<Quote> QUOTE_CODEC = new BinaryCodec<>() {
+        @Override
+        public byte version() {
+            return 1;
+        }
+
+        @Override
+        public void write(Quote value, DataOutput out) throws IOException {
+            out.writeUTF(value.symbol());
+            BinaryCodec.writeVarLong(out, value.price());
+        }
+
+        @Override
+        public Quote read(byte version, DataInput in) throws IOException {
+            if (version != 1) {
+                throw new IOException("Unsupported version: " + version);
+            }
+            return new Quote(in.readUTF(), BinaryCodec.readVarLong(in));
+        }
+    };
+
+    private final BinaryRedisSerializer<Quote> serializer = RedisSerializerHelper.binarySerializer(QUOTE_CODEC, Quote.class);
+
+    @Test
+    @DisplayName("포맷 버전을 앞에 붙여 저장하고 그대로 복원한다")
+    void givenValue_whenRoundTrip_thenRestoresWithVersionPrefix() {
+        // given
+        Quote quote = new Quote("005930", 71_000L);
+
+        // when
+        byte[] bytes = serializer.serialize(quote);
+
+        // then
+        assertThat(bytes[0]).isEqualTo((byte) 1);
+        assertThat(serializer.deserialize(bytes)).isEqualTo(quote);
+        assertThat(serializer.getTargetType()).isEqualTo(Quote.class);
+    }
+
+    @Test
+    @DisplayName("null 과 빈 값은 null 로 처리한다")
+    void givenNullOrEmpty_whenSerialize_thenNullSafe() {
+        assertThat(serializer.serialize(null)).isEmpty();
+        assertThat(serializer.deserialize(null)).isNull();
+        assertThat(serializer.deserialize(new byte[0])).isNull();
+    }
+
+    @Test
+    @DisplayName("코덱 오류는 SerializationException 으로 감싼다")
+    void givenUnsupportedVersion_whenDeserialize_thenThrowsSerializationException() {
+        assertThatThrownBy(() -> serializer.deserialize(new byte[]{2, 0}))
+                .isInstanceOf(SerializationException.class)
+                .hasMessageContaining("Quote");
+    }
+
+    @Test
+    @DisplayName("가변 길이 정수는 부호와 경계값을 보존하고 작은 값은 짧게 저장한다")
+    void givenLongs_whenVarLongRoundTrip_thenPreserved() throws IOException {
+        long[] values = {0L, 1L, -1L, 63L, -64L, 71_000L, -71_000L, Long.MAX_VALUE, Long.MIN_VALUE};
+        for (long value : values) {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            BinaryCodec.writeVarLong(new DataOutputStream(bytes), value);
+
+            long restored = BinaryCodec.readVarLong(new DataInputStream(new ByteArrayInputStream(bytes.toByteArray())));
+
+            assertThat(restored).isEqualTo(value);
+            if (value >= -64 && value < 64) {
+                assertThat(bytes.size()).isEqualTo(1);
+            }
+        }
+    }
+}
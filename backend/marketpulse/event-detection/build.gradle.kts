@@ -2,6 +2,7 @@ import com.google.protobuf.gradle.*
 
 plugins {
     id("com.google.protobuf")
+    id("me.champeau.jmh")
 }
 
 dependencies {
@@ -26,6 +27,14 @@ dependencies {
     testImplementation("com.squareup.okhttp3:mockwebserver:${rootProject.extra["mockwebserver"]}")
 }
 
+// JMH 벤치마크 (src/jmh, ./gradlew :event-detection:jmh)
+jmh {
+    warmupIterations.set(3)
+    iterations.set(5)
+    fork.set(1)
+    profilers.set(listOf("gc"))     // gc.alloc.rate.norm 으로 요청당 할당량(B/op) 확인
+}
+
 // Spring Boot 메인 클래스 설정
 springBoot {
     mainClass.set("me.rgunny.marketpulse.event.EventDetectionApplication")
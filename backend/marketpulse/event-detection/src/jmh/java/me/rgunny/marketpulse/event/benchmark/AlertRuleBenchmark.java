@@ -0,0 +1,82 @@
+package me.rgunny.marketpulse.event.benchmark;
+
+import me.rgunny.marketpulse.event.marketdata.application.util.CompiledAlertRules;
+import me.rgunny.marketpulse.event.marketdata.domain.model.AlertCondition;
+import me.rgunny.marketpulse.event.marketdata.domain.model.AlertRule;
+import me.rgunny.marketpulse.event.marketdata.domain.model.AlertRuleSet;
+import me.rgunny.marketpulse.event.marketdata.domain.model.AlertType;
+import me.rgunny.marketpulse.event.marketdata.domain.model.Tick;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 알림 규칙 평가 벤치마크
+ *
+ * 전체 규칙 ruleCount 개(절 2개씩: 등락률 AND (거래량 OR 가격))와 종목 규칙 1개를 둔 상태에서 체결 1건 평가 시간 측정
+ * - noMatch: 어떤 규칙에도 맞지 않는 평시 체결 (등락률 색인에서 후보 없음)
+ * - symbolMatch: 종목 규칙에 맞고 전체 구간은 색인 탐색만 하는 경우
+ * - surge: 전체 규칙의 등락률 하한을 모두 넘는 급등 체결 (후보 절을 모두 비교하는 최악의 경우)
+ * 실행: ./gradlew :event-detection:jmh
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class AlertRuleBenchmark {
+
+    @Param({"1000", "10000", "50000"})
+    private int ruleCount;
+
+    private CompiledAlertRules rules;
+    private Tick quiet;
+    private Tick symbolMove;
+    private Tick surge;
+
+    @Setup
+    public void setUp() {
+        List<AlertRule> ruleList = new ArrayList<>(ruleCount + 1);
+        for (int i = 0; i < ruleCount; i++) {
+            // 10% ~ 29% 구간의 서로 다른 임계값
+            BigDecimal threshold = BigDecimal.valueOf(1000 + i % 1900, 2);
+            ruleList.add(AlertRule.global("rule-" + i, AlertType.PRICE_RISE, i % 100, 30,
+                    AlertCondition.allOf(
+                            AlertCondition.changeRateAtLeast(threshold),
+                            AlertCondition.anyOf(
+                                    AlertCondition.volumeAtLeast(1_000_000L + i),
+                                    AlertCondition.priceAtLeast(1_000_000L)))));
+        }
+        ruleList.add(AlertRule.forSymbol("samsung", "005930", AlertType.PRICE_RISE, 50, 30,
+                AlertCondition.changeRateAtLeast(new BigDecimal("2.0"))));
+        rules = CompiledAlertRules.compile(new AlertRuleSet(ruleList, Map.of()));
+
+        quiet = Tick.of("035720", 50_500L, 50_000L, 50_000L, 50_500L, 49_900L, 50_600L, 50_500L, 10_000L, 0L);
+        symbolMove = Tick.of("005930", 71_500L, 70_000L, 70_000L, 71_500L, 70_000L, 71_600L, 71_500L, 10_000L, 0L);
+        surge = Tick.of("035720", 65_000L, 50_000L, 50_000L, 65_000L, 50_000L, 65_100L, 65_000L, 10_000L, 0L);
+    }
+
+    @Benchmark
+    public AlertRule noMatch() {
+        return rules.match(quiet);
+    }
+
+    @Benchmark
+    public AlertRule symbolMatch() {
+        return rules.match(symbolMove);
+    }
+
+    @Benchmark
+    public AlertRule surge() {
+        return rules.match(surge);
+    }
+}
@@ -0,0 +1,77 @@
+package me.rgunny.marketpulse.event.benchmark;
+
+import me.rgunny.marketpulse.event.marketdata.application.port.out.kis.KISCredentialPort;
+import me.rgunny.marketpulse.event.marketdata.infrastructure.adapter.out.kis.KISCredentialResolverImpl;
+import me.rgunny.marketpulse.event.marketdata.infrastructure.adapter.out.kis.KISRequestTemplates;
+import me.rgunny.marketpulse.event.marketdata.infrastructure.config.kis.KISApiProperties;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.util.DefaultUriBuilderFactory;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * KIS 현재가 요청 준비 벤치마크 (요청마다 조립 vs 미리 만든 템플릿)
+ *
+ * WebClient 가 요청마다 만드는 HttpHeaders 에 헤더를 채우고 URI 를 만드는 비용만 측정
+ * 요청당 할당량은 gc 프로파일러의 gc.alloc.rate.norm (B/op) 으로 확인
+ * 실행: ./gradlew :event-detection:jmh
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class KISRequestTemplateBenchmark {
+
+    private static final String TOKEN = "eyJ0eXAiOiJKV1QiLCJhbGciOiJIUzUxMiJ9.benchmark-token";
+    private static final String SYMBOL = "005930";
+
+    private KISApiProperties properties;
+    private KISCredentialPort credentialPort;
+    private DefaultUriBuilderFactory uriBuilderFactory;
+    private KISRequestTemplates templates;
+    private KISRequestTemplates.Endpoint stockPriceEndpoint;
+
+    @Setup
+    public void setUp() {
+        properties = new KISApiProperties(
+                true, "https://openapi.koreainvestment.com:9443", "benchmark-app-key", "benchmark-app-secret",
+                null, null, null, null, null, null, null, null, null, null, null, null, null, null);
+        credentialPort = new KISCredentialResolverImpl(properties);
+        uriBuilderFactory = new DefaultUriBuilderFactory(properties.baseUrl());
+        templates = new KISRequestTemplates(credentialPort, properties);
+        stockPriceEndpoint = templates.endpoint(properties.stockPricePath(), "fid_cond_mrkt_div_code", "fid_input_iscd");
+    }
+
+    @Benchmark
+    public void perCallAssembly(Blackhole blackhole) {
+        blackhole.consume(uriBuilderFactory.builder()
+                .path(properties.stockPricePath())
+                .queryParam("fid_cond_mrkt_div_code", "J")
+                .queryParam("fid_input_iscd", SYMBOL)
+                .build());
+
+        HttpHeaders headers = new HttpHeaders();
+        headers.set("Content-Type", properties.headers().contentType());
+        headers.set("authorization", "Bearer " + TOKEN);
+        headers.set("appkey", credentialPort.getDecryptedAppKey());
+        headers.set("appsecret", credentialPort.getDecryptedAppSecret());
+        headers.set(properties.headers().transactionId(), properties.stockPriceTransactionId());
+        blackhole.consume(headers);
+    }
+
+    @Benchmark
+    public void precompiledTemplate(Blackhole blackhole) {
+        blackhole.consume(stockPriceEndpoint.uri("J", SYMBOL));
+
+        HttpHeaders headers = new HttpHeaders();
+        headers.putAll(templates.headers(TOKEN, properties.stockPriceTransactionId()));
+        blackhole.consume(headers);
+    }
+}
@@ -0,0 +1,69 @@
+package me.rgunny.marketpulse.event.benchmark;
+
+import me.rgunny.marketpulse.common.infrastructure.config.redis.RedisSerializerHelper;
+import me.rgunny.marketpulse.event.marketdata.domain.model.StockPrice;
+import me.rgunny.marketpulse.event.marketdata.infrastructure.util.StockPriceBinaryCodec;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 현재가 캐시 직렬화 벤치마크 (JSON vs 바이너리 코덱)
+ *
+ * 인코딩/디코딩 시간을 ns/op 로 측정 (항목당 저장 크기 비교는 StockPriceBinaryCodecTest 에서 검증)
+ * 실행: ./gradlew :event-detection:jmh
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class StockPriceCodecBenchmark {
+
+    private RedisSerializer<StockPrice> json;
+    private RedisSerializer<StockPrice> binary;
+
+    private StockPrice price;
+    private byte[] jsonBytes;
+    private byte[] binaryBytes;
+
+    @Setup
+    public void setUp() {
+        json = RedisSerializerHelper.jsonSerializer(StockPrice.class);
+        binary = RedisSerializerHelper.binarySerializer(new StockPriceBinaryCodec(), StockPrice.class);
+
+        price = StockPrice.createWithTTL(
+                "005930", "삼성전자",
+                new BigDecimal("71000"), new BigDecimal("70000"),
+                new BigDecimal("71500"), new BigDecimal("70500"), new BigDecimal("70800"),
+                12_345_678L, new BigDecimal("71100"), new BigDecimal("70900"));
+        jsonBytes = json.serialize(price);
+        binaryBytes = binary.serialize(price);
+    }
+
+    @Benchmark
+    public byte[] encodeJson() {
+        return json.serialize(price);
+    }
+
+    @Benchmark
+    public byte[] encodeBinary() {
+        return binary.serialize(price);
+    }
+
+    @Benchmark
+    public StockPrice decodeJson() {
+        return json.deserialize(jsonBytes);
+    }
+
+    @Benchmark
+    public StockPrice decodeBinary() {
+        return binary.deserialize(binaryBytes);
+    }
+}
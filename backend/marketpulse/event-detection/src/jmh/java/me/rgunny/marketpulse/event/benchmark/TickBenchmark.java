@@ -0,0 +1,118 @@
+package me.rgunny.marketpulse.event.benchmark;
+
+import me.rgunny.marketpulse.event.marketdata.domain.model.StockPrice;
+import me.rgunny.marketpulse.event.marketdata.domain.model.Tick;
+import me.rgunny.marketpulse.event.marketdata.infrastructure.util.KISFieldParser;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 체결 1건 처리 벤치마크 (StockPrice vs Tick)
+ *
+ * 실시간 체결 필드(문자열)를 시세로 만들고 알림 임계값 4개와 비교하는 구간을 측정
+ * - stockPrice: BigDecimal 파싱 + StockPrice.createWithTTL + BigDecimal.compareTo (기존 경로)
+ * - tick: long 파싱 + Tick.of + int 비교 (수집/알림 경로)
+ * 처리량은 ops/us, 건당 할당량은 gc 프로파일러의 gc.alloc.rate.norm (B/op) 으로 확인
+ * 실행: ./gradlew :event-detection:jmh
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TickBenchmark {
+
+    private static final BigDecimal RISE = new BigDecimal("5.0");
+    private static final BigDecimal FALL = new BigDecimal("-5.0");
+    private static final BigDecimal LIMIT_UP = new BigDecimal("29.5");
+    private static final BigDecimal LIMIT_DOWN = new BigDecimal("-29.5");
+
+    private static final int RISE_BPS = Tick.toBasisPoints(RISE);
+    private static final int FALL_BPS = Tick.toBasisPoints(FALL);
+    private static final int LIMIT_UP_BPS = Tick.toBasisPoints(LIMIT_UP);
+    private static final int LIMIT_DOWN_BPS = Tick.toBasisPoints(LIMIT_DOWN);
+
+    // H0STCNT0 체결 필드 (현재가, 전일대비, 시가, 고가, 저가, 매도호가1, 매수호가1, 누적거래량)
+    private String price;
+    private String change;
+    private String open;
+    private String high;
+    private String low;
+    private String ask;
+    private String bid;
+    private String volume;
+
+    private Tick tick;
+    private long epochMillis;
+
+    @Setup
+    public void setUp() {
+        price = "74550";
+        change = "4550";
+        open = "70500";
+        high = "74800";
+        low = "70100";
+        ask = "74600";
+        bid = "74500";
+        volume = "12345678";
+        epochMillis = System.currentTimeMillis();
+        tick = Tick.of("005930", 74550L, 70000L, 70500L, 74800L, 70100L, 74600L, 74500L, 12_345_678L, epochMillis);
+    }
+
+    @Benchmark
+    public int stockPrice() {
+        BigDecimal current = new BigDecimal(price);
+        StockPrice stockPrice = StockPrice.createWithTTL(
+                "005930", "삼성전자",
+                current, current.subtract(new BigDecimal(change)),
+                new BigDecimal(high), new BigDecimal(low), new BigDecimal(open),
+                Long.parseLong(volume), new BigDecimal(ask), new BigDecimal(bid));
+        BigDecimal changeRate = stockPrice.getChangeRate();
+        if (changeRate.compareTo(LIMIT_UP) >= 0) {
+            return 3;
+        }
+        if (changeRate.compareTo(LIMIT_DOWN) <= 0) {
+            return 4;
+        }
+        if (changeRate.compareTo(RISE) >= 0) {
+            return 1;
+        }
+        return changeRate.compareTo(FALL) <= 0 ? 2 : 0;
+    }
+
+    @Benchmark
+    public int tick() {
+        long current = KISFieldParser.parseLong(price);
+        Tick parsed = Tick.of(
+                "005930",
+                current, current - KISFieldParser.parseLong(change),
+                KISFieldParser.parseLong(open), KISFieldParser.parseLong(high), KISFieldParser.parseLong(low),
+                KISFieldParser.parseLong(ask), KISFieldParser.parseLong(bid), KISFieldParser.parseLong(volume),
+                epochMillis);
+        int changeRateBps = parsed.changeRateBps();
+        if (changeRateBps >= LIMIT_UP_BPS) {
+            return 3;
+        }
+        if (changeRateBps <= LIMIT_DOWN_BPS) {
+            return 4;
+        }
+        if (changeRateBps >= RISE_BPS) {
+            return 1;
+        }
+        return changeRateBps <= FALL_BPS ? 2 : 0;
+    }
+
+    /**
+     * 저장 경계 변환 비용 (체결당 한 번, 알림 판단 이후)
+     */
+    @Benchmark
+    public StockPrice tickToStockPrice() {
+        return tick.toStockPrice("삼성전자");
+    }
+}
@@ -1,8 +1,10 @@
 package me.rgunny.marketpulse.event;
 
 import me.rgunny.marketpulse.event.marketdata.infrastructure.config.kis.KISApiProperties;
+import me.rgunny.marketpulse.event.marketdata.infrastructure.config.shared.MarketDataCacheProperties;
 import me.rgunny.marketpulse.event.marketdata.infrastructure.config.shared.StockCollectionProperties;
 import me.rgunny.marketpulse.event.marketdata.infrastructure.config.PriceAlertProperties;
+import me.rgunny.marketpulse.event.notification.infrastructure.config.NotificationClientProperties;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.boot.autoconfigure.jdbc.DataSourceAutoConfiguration;
@@ -14,7 +16,9 @@ import org.springframework.scheduling.annotation.EnableScheduling;
 @EnableConfigurationProperties({
         KISApiProperties.class,
         StockCollectionProperties.class,
-        PriceAlertProperties.class
+        MarketDataCacheProperties.class,
+        PriceAlertProperties.class,
+        NotificationClientProperties.class
 })
 @SpringBootApplication(scanBasePackages = "me.rgunny.marketpulse", exclude = {
         DataSourceAutoConfiguration.class,
@@ -1,8 +1,12 @@
 package me.rgunny.marketpulse.event.marketdata.application.port.in;
 
 import me.rgunny.marketpulse.event.marketdata.domain.model.StockPrice;
+import me.rgunny.marketpulse.event.marketdata.domain.model.Tick;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.util.Collection;
+
 public interface CollectStockPriceUseCase {
     
     /**
@@ -25,4 +29,33 @@ public interface CollectStockPriceUseCase {
      * @return 저장된 현재가 정보
      */
     Mono<StockPrice> getCurrentPriceAndSave(String symbol);
+    
+    /**
+     * 수집 주기가 된 종목 현재가 수집 (캐시를 거치지 않고 API 호출 후 캐시/MongoDB 저장과 알림 분석)
+     * @param symbol 종목코드 (예: 005930)
+     * @return 저장된 현재가 정보
+     */
+    Mono<StockPrice> collectCurrentPrice(String symbol);
+    
+    /**
+     * 수집 주기가 된 여러 종목 현재가 일괄 수집 (캐시를 거치지 않고 묶어서 API 호출)
+     * @param symbols 종목코드 목록
+     * @return 저장된 현재가 정보 (조회되지 않은 종목은 제외)
+     */
+    Flux<StockPrice> collectCurrentPrices(Collection<String> symbols);
+    
+    /**
+     * 1회 API 호출로 조회할 수 있는 최대 종목 수
+     * @return 최대 종목 수 (여러 종목 조회를 지원하지 않으면 1)
+     */
+    int maxBatchSize();
+    
+    /**
+     * 실시간으로 수신한 체결을 캐시/MongoDB 에 저장하고 알림 분석 (API 호출 없음)
+     * 알림 판단은 체결의 basis point 등락률로 하고, StockPrice 변환은 저장 시 한 번만 수행
+     * @param tick 수신한 체결
+     * @param name 종목명
+     * @return 저장된 현재가 정보
+     */
+    Mono<StockPrice> ingestTick(Tick tick, String name);
 }
\ No newline at end of file
@@ -0,0 +1,33 @@
+package me.rgunny.marketpulse.event.marketdata.application.port.in;
+
+import reactor.core.publisher.Mono;
+
+/**
+ * 인스턴스 간 수집 종목 분할 유스케이스
+ */
+public interface CollectionShardUseCase {
+
+    /**
+     * 현재 인스턴스 임대를 갱신하고 살아 있는 인스턴스 목록으로 종목 소유권을 다시 계산
+     *
+     * @return 인스턴스 목록이 바뀌어 소유권이 재분배되었는지 여부
+     */
+    Mono<Boolean> refreshMembership();
+
+    /**
+     * 현재 인스턴스가 종목을 수집해야 하는지 확인
+     */
+    boolean owns(String symbol);
+
+    /**
+     * 살아 있는 수집 인스턴스 수
+     */
+    int memberCount();
+
+    /**
+     * 현재 인스턴스 임대 반납
+     *
+     * @return 완료 신호
+     */
+    Mono<Void> leave();
+}
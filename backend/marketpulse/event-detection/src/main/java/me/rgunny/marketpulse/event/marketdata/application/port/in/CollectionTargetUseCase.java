@@ -0,0 +1,17 @@
+package me.rgunny.marketpulse.event.marketdata.application.port.in;
+
+import me.rgunny.marketpulse.event.marketdata.domain.model.CollectionTarget;
+import reactor.core.publisher.Flux;
+
+/**
+ * 시세 수집 대상 조회 유스케이스
+ */
+public interface CollectionTargetUseCase {
+
+    /**
+     * 거래 가능한 활성 종목을 등급(CORE, HIGH, NORMAL)과 수집 주기와 함께 조회
+     *
+     * @return 종목별 수집 대상 (종목코드 중복 없음)
+     */
+    Flux<CollectionTarget> resolveTargets();
+}
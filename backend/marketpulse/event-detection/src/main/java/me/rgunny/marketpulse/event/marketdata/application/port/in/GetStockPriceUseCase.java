@@ -1,8 +1,11 @@
 package me.rgunny.marketpulse.event.marketdata.application.port.in;
 
 import me.rgunny.marketpulse.event.marketdata.domain.model.StockPrice;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.util.Collection;
+
 public interface GetStockPriceUseCase {
     
     /**
@@ -12,6 +15,14 @@ public interface GetStockPriceUseCase {
      */
     Mono<StockPrice> getCurrentPrice(String symbol);
     
+    /**
+     * 여러 종목 현재가 일괄 조회 (캐시 일괄 조회 후 캐시에 없는 종목만 외부 API 일괄 호출)
+     * 외부 API 는 수집과 같은 허용량 안에서 요청당 최대 두 묶음까지만 호출하고, 나머지 종목은 응답에서 빠짐
+     * @param symbols 종목코드 목록
+     * @return 현재가 정보 (조회하지 못한 종목은 제외, 순서는 보장하지 않음)
+     */
+    Flux<StockPrice> getCurrentPrices(Collection<String> symbols);
+    
     /**
      * 종목 현재가 강제 갱신 (캐시 무시하고 API 호출)
      * @param symbol 종목코드 (예: 005930)
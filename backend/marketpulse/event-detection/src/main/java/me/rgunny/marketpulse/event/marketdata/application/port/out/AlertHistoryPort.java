@@ -2,6 +2,7 @@ package me.rgunny.marketpulse.event.marketdata.application.port.out;
 
 import me.rgunny.marketpulse.event.marketdata.domain.model.AlertHistory;
 import me.rgunny.marketpulse.event.marketdata.domain.model.AlertType;
+import me.rgunny.marketpulse.event.marketdata.domain.model.CooldownClaim;
 import reactor.core.publisher.Mono;
 
 /**
@@ -37,6 +38,16 @@ public interface AlertHistoryPort {
      */
     Mono<Boolean> canSendAlert(String symbol, AlertType alertType);
     
+    /**
+     * 쿨다운 선점 (확인과 기록을 한 번에 원자적으로 수행)
+     * 같은 종목/타입의 이력이 없으면 cooldownUntil 까지 유효한 이력을 기록하고 선점,
+     * 있으면 기록하지 않고 남은 쿨다운을 반환 (여러 인스턴스가 동시에 요청해도 하나만 선점)
+     * 
+     * @param alertHistory 기록할 알림 이력
+     * @return 선점 결과
+     */
+    Mono<CooldownClaim> tryAcquireCooldown(AlertHistory alertHistory);
+    
     /**
      * 알림 이력 삭제 (쿨다운 해제)
      * 
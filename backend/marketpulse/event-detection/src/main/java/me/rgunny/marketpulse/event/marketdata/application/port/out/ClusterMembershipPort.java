@@ -0,0 +1,40 @@
+package me.rgunny.marketpulse.event.marketdata.application.port.out;
+
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.Set;
+
+/**
+ * 수집 인스턴스 멤버십 포트
+ * 인스턴스별 임대(lease)로 살아 있는 수집 인스턴스를 관리
+ */
+public interface ClusterMembershipPort {
+
+    /**
+     * 현재 인스턴스 ID
+     */
+    String getInstanceId();
+
+    /**
+     * 현재 인스턴스의 임대 등록 또는 갱신
+     *
+     * @param leaseTtl 임대 유지 시간 (이 안에 다시 갱신하지 않으면 멤버에서 제외)
+     * @return 임대 보유 여부
+     */
+    Mono<Boolean> heartbeat(Duration leaseTtl);
+
+    /**
+     * 임대가 유효한 인스턴스 목록 조회
+     *
+     * @return 살아 있는 인스턴스 ID 목록
+     */
+    Mono<Set<String>> findActiveMembers();
+
+    /**
+     * 현재 인스턴스의 임대 반납 (정상 종료 시 다른 인스턴스가 즉시 인계)
+     *
+     * @return 완료 신호
+     */
+    Mono<Void> leave();
+}
@@ -0,0 +1,65 @@
+package me.rgunny.marketpulse.event.marketdata.application.port.out;
+
+import me.rgunny.marketpulse.event.marketdata.domain.model.CollectionRunResult;
+import me.rgunny.marketpulse.event.marketdata.domain.model.CollectionTier;
+
+import java.time.Duration;
+
+/**
+ * 시세 수집 메트릭 포트
+ */
+public interface CollectionMetricsPort {
+    
+    /**
+     * 수집 1회 실행 결과 기록
+     * @param result 수집 실행 결과
+     */
+    void recordRun(CollectionRunResult result);
+    
+    /**
+     * 종목 1건 수집 시작 기록 (마감을 넘겼으면 마감 초과로 집계)
+     * @param tier 수집 등급
+     * @param latenessMillis 마감을 넘긴 시간 (마감 전이면 0)
+     */
+    void recordDispatch(CollectionTier tier, long latenessMillis);
+    
+    /**
+     * 등급별 수집 대상 수 기록
+     * @param tier 수집 등급
+     * @param count 대상 종목 수
+     */
+    void recordTargets(CollectionTier tier, int count);
+    
+    /**
+     * 종목별로 적용된 수집 주기 기록 (주기 분포 집계)
+     * @param tier 수집 등급
+     * @param interval 적용된 수집 주기
+     */
+    void recordInterval(CollectionTier tier, Duration interval);
+    
+    /**
+     * 계획 호출량과 예산 배율 기록
+     * @param plannedCallsPerMinute 종목별 희망 주기 기준 분당 호출량
+     * @param budgetScale 예산 초과로 주기에 곱한 배율 (예산 이내면 1)
+     */
+    void recordIntervalPlan(double plannedCallsPerMinute, double budgetScale);
+    
+    /**
+     * 인스턴스 간 종목 분할 상태 기록
+     * @param memberCount 살아 있는 수집 인스턴스 수
+     * @param ownedTargets 현재 인스턴스가 수집하는 종목 수
+     */
+    void recordShardOwnership(int memberCount, int ownedTargets);
+    
+    /**
+     * 실시간 시세 1건 처리 기록
+     * @param tickToAlert 수신부터 저장/알림 분석 완료까지 걸린 시간
+     */
+    void recordStreamQuote(Duration tickToAlert);
+    
+    /**
+     * 외부 API 1회 호출로 묶어 수집한 종목 수 기록
+     * @param symbolCount 묶음 종목 수
+     */
+    void recordBatch(int symbolCount);
+}
\ No newline at end of file
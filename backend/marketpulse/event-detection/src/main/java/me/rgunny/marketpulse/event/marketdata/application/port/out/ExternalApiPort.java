@@ -2,8 +2,11 @@ package me.rgunny.marketpulse.event.marketdata.application.port.out;
 
 import me.rgunny.marketpulse.event.shared.domain.value.MarketDataType;
 import me.rgunny.marketpulse.event.shared.domain.value.MarketDataValue;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.util.Collection;
+
 /**
  * 외부 API 통합을 위한 범용 포트
  * Strategy 패턴으로 다양한 외부 API 지원
@@ -25,6 +28,21 @@ public interface ExternalApiPort {
      */
     <T extends MarketDataValue> Mono<T> fetchMarketData(String symbol, MarketDataType dataType, Class<T> clazz);
     
+    /**
+     * 여러 종목 시장 데이터 일괄 조회
+     * 외부 API가 여러 종목 조회를 지원하면 getMaxBatchSize() 개씩 묶어 1회 호출로 조회
+     * @param symbols 종목/심볼 코드 목록
+     * @param dataType 요청할 데이터 타입
+     * @return 시장 데이터 (조회되지 않은 종목은 제외)
+     */
+    <T extends MarketDataValue> Flux<T> fetchMarketDataBatch(Collection<String> symbols, MarketDataType dataType, Class<T> clazz);
+    
+    /**
+     * 1회 호출로 조회할 수 있는 최대 종목 수
+     * @return 최대 종목 수 (여러 종목 조회를 지원하지 않으면 1)
+     */
+    int getMaxBatchSize();
+    
     /**
      * API 제공자 이름
      * @return API 제공자 (예: "KIS", "AlphaVantage", "Yahoo")
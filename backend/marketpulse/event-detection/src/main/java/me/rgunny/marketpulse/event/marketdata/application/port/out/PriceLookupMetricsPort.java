@@ -0,0 +1,37 @@
+package me.rgunny.marketpulse.event.marketdata.application.port.out;
+
+/**
+ * 현재가 조회 메트릭 포트
+ */
+public interface PriceLookupMetricsPort {
+    
+    /**
+     * 캐시 미스로 외부 API 를 호출한 경우 기록
+     */
+    void recordUpstreamCall();
+    
+    /**
+     * 캐시 미스였지만 진행 중인 외부 API 호출에 합류한 경우 기록 (절약된 호출)
+     */
+    void recordCoalescedCall();
+    
+    /**
+     * 최근 거부된 종목이라 외부 API 를 호출하지 않은 경우 기록
+     */
+    void recordNegativeCacheHit();
+    
+    /**
+     * softTtl 이 지난 캐시 값을 응답한 경우 기록
+     */
+    void recordStaleHit();
+    
+    /**
+     * 만료 전 백그라운드 갱신을 예약한 경우 기록
+     */
+    void recordBackgroundRefresh();
+    
+    /**
+     * 속도 제한 허용량이 없어 조회하지 않고 빠진 종목 수 기록
+     */
+    void recordThrottledSymbols(int count);
+}
@@ -0,0 +1,41 @@
+package me.rgunny.marketpulse.event.marketdata.application.port.out;
+
+import me.rgunny.marketpulse.event.marketdata.domain.model.PriceTarget;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Collection;
+
+/**
+ * 사용자 목표가 알림 저장소 Port
+ * 인스턴스 재시작/종목 재분배 후에도 목표가를 유지하는 원본 저장소
+ */
+public interface PriceTargetPort {
+    
+    /**
+     * 목표가 알림 저장
+     */
+    Mono<PriceTarget> save(PriceTarget target);
+    
+    /**
+     * 목표가 알림 조회
+     */
+    Mono<PriceTarget> findById(String targetId);
+    
+    /**
+     * 종목의 목표가 알림 목록 (목표가 오름차순)
+     */
+    Flux<PriceTarget> findBySymbol(String symbol);
+    
+    /**
+     * 여러 종목의 목표가 알림 목록
+     */
+    Flux<PriceTarget> findBySymbols(Collection<String> symbols);
+    
+    /**
+     * 목표가 알림 삭제
+     *
+     * @return 이번 호출로 삭제했으면 true, 이미 없으면 false (발송/해제 선점에 사용)
+     */
+    Mono<Boolean> delete(String targetId);
+}
@@ -0,0 +1,48 @@
+package me.rgunny.marketpulse.event.marketdata.application.port.out;
+
+import me.rgunny.marketpulse.event.marketdata.domain.model.RealtimeQuote;
+import me.rgunny.marketpulse.event.marketdata.domain.model.StockPrice;
+import reactor.core.publisher.Flux;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 실시간 시세 수신 포트
+ * 외부 시세 제공자의 실시간 체결가 스트림 추상화
+ */
+public interface RealtimeQuotePort {
+    
+    /**
+     * 실시간 시세 스트림 (구독 중인 종목의 체결마다 발행)
+     * 
+     * @return 수신 시세
+     */
+    Flux<RealtimeQuote> quotes();
+    
+    /**
+     * 구독 종목 교체
+     * 세션당 구독 상한을 넘으면 앞쪽(우선순위가 높은) 종목만 구독
+     * 
+     * @param symbols 우선순위 순 종목코드 목록
+     */
+    void updateSubscriptions(List<String> symbols);
+    
+    /**
+     * 실시간으로 수신 중인 종목의 최근 시세
+     * 
+     * @return 연결 중이고 구독 후 체결을 받은 종목이면 최근 시세, 아니면 empty (폴링으로 조회)
+     */
+    Optional<StockPrice> findLatestPrice(String symbol);
+    
+    /**
+     * 실시간으로 수신 중인 종목인지 확인 (연결 중이고 구독 후 체결을 받은 종목)
+     * 수신 중인 종목은 체결마다 저장/알림이 처리되므로 폴링 수집에서 제외
+     */
+    boolean isStreaming(String symbol);
+    
+    /**
+     * 실시간 세션 연결 여부
+     */
+    boolean isConnected();
+}
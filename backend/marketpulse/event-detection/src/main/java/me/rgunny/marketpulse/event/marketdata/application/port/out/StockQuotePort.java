@@ -0,0 +1,30 @@
+package me.rgunny.marketpulse.event.marketdata.application.port.out;
+
+import me.rgunny.marketpulse.event.marketdata.domain.model.RealtimeQuote;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Collection;
+
+/**
+ * 주식 현재가 수집 포트
+ * 수집 경로 전용으로 외부 API 응답을 StockPrice 를 거치지 않고 체결(Tick)과 종목명으로 반환
+ */
+public interface StockQuotePort {
+    
+    /**
+     * 현재가 조회
+     * 
+     * @param symbol 종목코드
+     * @return 조회 시세
+     */
+    Mono<RealtimeQuote> fetchQuote(String symbol);
+    
+    /**
+     * 여러 종목 현재가 일괄 조회 (최대 종목 수씩 묶어 1회 호출로 조회)
+     * 
+     * @param symbols 종목코드 목록
+     * @return 조회 시세 (응답에 없는 종목은 제외)
+     */
+    Flux<RealtimeQuote> fetchQuotes(Collection<String> symbols);
+}
@@ -10,6 +10,13 @@ import java.time.Duration;
  */
 public interface SyncLockPort {
     
+    /**
+     * 락 보유자 식별값 (현재 인스턴스 ID)
+     * 
+     * @return 인스턴스 ID
+     */
+    String getInstanceId();
+    
     /**
      * 락 획득 시도
      * 
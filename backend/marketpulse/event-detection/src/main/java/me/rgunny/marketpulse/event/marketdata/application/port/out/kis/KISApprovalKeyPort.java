@@ -0,0 +1,22 @@
+package me.rgunny.marketpulse.event.marketdata.application.port.out.kis;
+
+import reactor.core.publisher.Mono;
+
+/**
+ * KIS 웹소켓 접속키 관리 포트
+ */
+public interface KISApprovalKeyPort {
+    
+    /**
+     * 웹소켓 접속키 획득
+     * 유효한 접속키가 있으면 재사용하고 없으면 신규 발급
+     * 
+     * @return 웹소켓 접속키
+     */
+    Mono<String> getApprovalKey();
+    
+    /**
+     * 접속키 폐기 (접속이 거부된 경우 다음 접속에서 재발급)
+     */
+    void invalidate();
+}
@@ -1,9 +1,11 @@
 package me.rgunny.marketpulse.event.marketdata.application.port.out.shared;
 
 import me.rgunny.marketpulse.event.marketdata.domain.model.StockPrice;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import java.time.Duration;
+import java.util.Collection;
 
 public interface MarketDataCachePort {
     
@@ -14,6 +16,13 @@ public interface MarketDataCachePort {
      */
     Mono<StockPrice> getStockPrice(String symbol);
     
+    /**
+     * 캐시에서 여러 종목 현재가 일괄 조회
+     * @param symbols 종목코드 목록
+     * @return 캐시된 현재가 정보 (캐시에 없는 종목은 제외, 순서는 보장하지 않음)
+     */
+    Flux<StockPrice> getStockPrices(Collection<String> symbols);
+    
     /**
      * 현재가 캐시 저장
      * @param stockPrice 저장할 현재가 정보
@@ -0,0 +1,95 @@
+package me.rgunny.marketpulse.event.marketdata.application.service;
+
+import lombok.extern.slf4j.Slf4j;
+import me.rgunny.marketpulse.event.marketdata.application.util.CompiledAlertRules;
+import me.rgunny.marketpulse.event.marketdata.domain.model.AlertCondition;
+import me.rgunny.marketpulse.event.marketdata.domain.model.AlertRule;
+import me.rgunny.marketpulse.event.marketdata.domain.model.AlertRuleSet;
+import me.rgunny.marketpulse.event.marketdata.domain.model.AlertType;
+import me.rgunny.marketpulse.event.marketdata.domain.model.Tick;
+import me.rgunny.marketpulse.event.marketdata.infrastructure.config.PriceAlertProperties;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+/**
+ * 알림 규칙 엔진
+ *
+ * 규칙 집합을 CompiledAlertRules 로 컴파일해 두고 체결마다 평가
+ * - 규칙 교체는 새 집합을 모두 컴파일한 뒤 참조 하나만 바꿔서 수행 (평가 중인 체결은 이전 집합으로 끝까지 평가)
+ * - 컴파일에 실패하면 기존 집합을 그대로 유지
+ * - 규칙을 설정하지 않으면 임계값 4개(상한가/하한가/급등/급락)로 기본 규칙을 만듦
+ */
+@Slf4j
+@Service
+public class AlertRuleEngine {
+
+    // 상한가/하한가가 급등/급락보다 먼저 판단되도록 우선순위 부여
+    static final int LIMIT_PRIORITY = 100;
+    static final int MOVE_PRIORITY = 10;
+
+    private volatile Snapshot snapshot;
+
+    public AlertRuleEngine(PriceAlertProperties properties) {
+        AlertRuleSet initial = properties.rules().isEmpty()
+                ? new AlertRuleSet(defaultRules(properties), properties.groups())
+                : new AlertRuleSet(properties.rules(), properties.groups());
+        this.snapshot = Snapshot.of(initial);
+        log.info("Alert rules loaded: {} rules, {} clauses",
+                snapshot.compiled().ruleCount(), snapshot.compiled().clauseCount());
+    }
+
+    /**
+     * 체결에 해당하는 최우선 규칙
+     *
+     * @return 일치한 규칙 (없으면 null)
+     */
+    public AlertRule evaluate(Tick tick) {
+        return snapshot.compiled().match(tick);
+    }
+
+    /**
+     * 현재 적용 중인 규칙 집합
+     */
+    public AlertRuleSet currentRules() {
+        return snapshot.ruleSet();
+    }
+
+    /**
+     * 규칙 집합 교체
+     *
+     * @throws IllegalArgumentException 규칙이 올바르지 않으면 (기존 규칙 유지)
+     */
+    public void replace(AlertRuleSet ruleSet) {
+        Snapshot next = Snapshot.of(ruleSet);
+        snapshot = next;
+        log.info("Alert rules replaced: {} rules, {} clauses",
+                next.compiled().ruleCount(), next.compiled().clauseCount());
+    }
+
+    /**
+     * 임계값 설정으로 만든 기본 규칙 (기존 판단 순서와 쿨다운 유지)
+     */
+    static List<AlertRule> defaultRules(PriceAlertProperties properties) {
+        return List.of(
+                AlertRule.global("limit-up", AlertType.LIMIT_UP, LIMIT_PRIORITY, properties.limitCooldownMinutes(),
+                        AlertCondition.changeRateAtLeast(properties.limitUpThreshold())),
+                AlertRule.global("limit-down", AlertType.LIMIT_DOWN, LIMIT_PRIORITY, properties.limitCooldownMinutes(),
+                        AlertCondition.changeRateAtMost(properties.limitDownThreshold())),
+                AlertRule.global("rise", AlertType.PRICE_RISE, MOVE_PRIORITY, properties.cooldownMinutes(),
+                        AlertCondition.changeRateAtLeast(properties.riseThreshold())),
+                AlertRule.global("fall", AlertType.PRICE_FALL, MOVE_PRIORITY, properties.cooldownMinutes(),
+                        AlertCondition.changeRateAtMost(properties.fallThreshold()))
+        );
+    }
+
+    /**
+     * 규칙 집합과 컴파일 결과 (함께 교체)
+     */
+    private record Snapshot(AlertRuleSet ruleSet, CompiledAlertRules compiled) {
+
+        static Snapshot of(AlertRuleSet ruleSet) {
+            return new Snapshot(ruleSet, CompiledAlertRules.compile(ruleSet));
+        }
+    }
+}
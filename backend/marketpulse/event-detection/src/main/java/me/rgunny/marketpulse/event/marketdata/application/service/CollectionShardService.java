@@ -0,0 +1,97 @@
+package me.rgunny.marketpulse.event.marketdata.application.service;
+
+import lombok.extern.slf4j.Slf4j;
+import me.rgunny.marketpulse.event.marketdata.application.port.in.CollectionShardUseCase;
+import me.rgunny.marketpulse.event.marketdata.application.port.out.ClusterMembershipPort;
+import me.rgunny.marketpulse.event.marketdata.application.util.ConsistentHashRing;
+import me.rgunny.marketpulse.event.marketdata.infrastructure.config.shared.StockCollectionProperties;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 인스턴스 간 수집 종목 분할 서비스
+ *
+ * 임대가 유효한 인스턴스로 일관된 해시 링을 만들어 종목마다 정확히 한 인스턴스만 수집하도록 함
+ * - 인스턴스가 추가되거나 임대가 만료되면 다음 멤버 확인에서 링을 다시 만들고, 이동한 종목만 소유자가 바뀜
+ * - 멤버 조회에 실패하면 마지막으로 확인한 링을 유지 (모든 인스턴스가 같은 링을 유지하므로 중복 수집 없음)
+ * - 링을 한 번도 확인하지 못했으면 단독 인스턴스로 보고 모든 종목을 수집
+ */
+@Slf4j
+@Service
+public class CollectionShardService implements CollectionShardUseCase {
+
+    private final ClusterMembershipPort membershipPort;
+    private final StockCollectionProperties.Sharding config;
+    private final AtomicReference<ConsistentHashRing> ring;
+
+    public CollectionShardService(ClusterMembershipPort membershipPort, StockCollectionProperties properties) {
+        this.membershipPort = membershipPort;
+        this.config = properties.sharding();
+        this.ring = new AtomicReference<>(
+                ConsistentHashRing.of(Set.of(membershipPort.getInstanceId()), config.virtualNodes()));
+    }
+
+    @Override
+    public Mono<Boolean> refreshMembership() {
+        if (!config.enabled()) {
+            return Mono.just(false);
+        }
+        return membershipPort.heartbeat(config.leaseTtl())
+                .flatMap(leased -> membershipPort.findActiveMembers()
+                        .map(members -> ringMembers(members, leased)))
+                .map(this::updateRing)
+                .onErrorResume(error -> {
+                    log.warn("Collection membership refresh failed. Keeping last shard ring {}: {}",
+                            ring.get().members(), error.getMessage());
+                    return Mono.just(false);
+                });
+    }
+
+    @Override
+    public boolean owns(String symbol) {
+        return !config.enabled() || ring.get().isOwnedBy(symbol, membershipPort.getInstanceId());
+    }
+
+    @Override
+    public int memberCount() {
+        return config.enabled() ? ring.get().members().size() : 1;
+    }
+
+    @Override
+    public Mono<Void> leave() {
+        return config.enabled() ? membershipPort.leave() : Mono.empty();
+    }
+
+    /**
+     * 링에 올릴 인스턴스 목록
+     * 임대를 잡지 못했으면 다른 인스턴스도 현재 인스턴스를 제외하고 계산하므로 같은 기준을 따름
+     */
+    private Set<String> ringMembers(Set<String> activeMembers, boolean leased) {
+        Set<String> members = new HashSet<>(activeMembers);
+        String self = membershipPort.getInstanceId();
+        if (leased) {
+            members.add(self);
+        } else {
+            members.remove(self);
+        }
+        if (members.isEmpty()) {
+            members.add(self);
+        }
+        return members;
+    }
+
+    private boolean updateRing(Set<String> members) {
+        ConsistentHashRing current = ring.get();
+        if (current.members().equals(members)) {
+            return false;
+        }
+        ring.set(ConsistentHashRing.of(members, config.virtualNodes()));
+        log.info("Collection shard ring rebalanced: {} -> {} instances (self: {})",
+                current.members().size(), members.size(), membershipPort.getInstanceId());
+        return true;
+    }
+}
@@ -0,0 +1,104 @@
+package me.rgunny.marketpulse.event.marketdata.application.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import me.rgunny.marketpulse.event.marketdata.application.port.in.CollectionTargetUseCase;
+import me.rgunny.marketpulse.event.marketdata.application.port.out.MarketRankingPort;
+import me.rgunny.marketpulse.event.marketdata.application.port.out.shared.StockPort;
+import me.rgunny.marketpulse.event.marketdata.domain.model.CollectionTarget;
+import me.rgunny.marketpulse.event.marketdata.domain.model.CollectionTier;
+import me.rgunny.marketpulse.event.marketdata.domain.model.MarketRanking;
+import me.rgunny.marketpulse.event.marketdata.domain.model.Stock;
+import me.rgunny.marketpulse.event.marketdata.infrastructure.config.MarketRankingProperties;
+import me.rgunny.marketpulse.event.marketdata.infrastructure.config.shared.StockCollectionProperties;
+import org.springframework.scheduling.support.CronExpression;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 시세 수집 대상 등급 분류 서비스
+ *
+ * - CORE: priority.core-symbols 에 지정된 종목, coreStocks cron 주기로 수집
+ * - HIGH: 최근 자동 감시 후보 중 자동 감시 우선순위가 priority.high-min ~ high-max 범위인 종목
+ * - NORMAL: 그 외 거래 가능한 활성 종목
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CollectionTargetService implements CollectionTargetUseCase {
+
+    // 자동 감시 후보 조회 범위 (이상 종목 감지와 동일)
+    private static final Duration AUTO_WATCH_WINDOW = Duration.ofMinutes(10);
+
+    private final StockPort stockPort;
+    private final MarketRankingPort marketRankingPort;
+    private final StockCollectionProperties properties;
+    private final MarketRankingProperties rankingProperties;
+    private final Clock clock;
+
+    @Override
+    public Flux<CollectionTarget> resolveTargets() {
+        Set<String> coreSymbols = Set.copyOf(properties.priority().coreSymbols());
+        Duration coreInterval = coreInterval();
+
+        return findHighPrioritySymbols()
+                .flatMapMany(highSymbols -> stockPort.findAllActiveStocks()
+                        .filter(Stock::isTradable)
+                        .map(Stock::getSymbol)
+                        .distinct()
+                        .map(symbol -> {
+                            if (coreSymbols.contains(symbol)) {
+                                return CollectionTarget.of(symbol, CollectionTier.CORE, coreInterval);
+                            }
+                            if (highSymbols.contains(symbol)) {
+                                return CollectionTarget.of(symbol, CollectionTier.HIGH,
+                                        properties.schedule().highPriority());
+                            }
+                            return CollectionTarget.of(symbol, CollectionTier.NORMAL,
+                                    properties.schedule().activeStocks());
+                        }));
+    }
+
+    /**
+     * 자동 감시 후보 중 높은 우선순위 종목 조회
+     * 자동 감시가 꺼져 있거나 우선순위가 범위 밖이면 빈 집합
+     */
+    private Mono<Set<String>> findHighPrioritySymbols() {
+        int autoWatchPriority = rankingProperties.autoWatch().priority();
+        StockCollectionProperties.Priority priority = properties.priority();
+        if (!rankingProperties.autoWatch().enabled()
+                || autoWatchPriority < priority.highMin()
+                || autoWatchPriority > priority.highMax()) {
+            return Mono.just(Set.of());
+        }
+
+        LocalDateTime after = LocalDateTime.now(clock).minus(AUTO_WATCH_WINDOW);
+        return marketRankingPort.findAutoWatchCandidates(after)
+                .map(MarketRanking::getSymbol)
+                .collect(Collectors.toSet())
+                .onErrorResume(error -> {
+                    log.warn("Failed to load auto-watch candidates, treating as normal tier: {}", error.getMessage());
+                    return Mono.just(Set.of());
+                });
+    }
+
+    /**
+     * 코어 종목 cron 의 연속 두 실행 간격을 수집 주기로 사용
+     */
+    private Duration coreInterval() {
+        CronExpression cron = CronExpression.parse(properties.schedule().coreStocks());
+        LocalDateTime first = cron.next(LocalDateTime.now(clock));
+        LocalDateTime second = first != null ? cron.next(first) : null;
+        if (first == null || second == null) {
+            return properties.schedule().activeStocks();
+        }
+        return Duration.between(first, second);
+    }
+}
@@ -29,6 +29,7 @@ public class MarketRankingService implements MarketRankingUseCase {
     private final MarketRankingPort marketRankingPort;
 //    private final WatchTargetPort watchTargetPort;
     private final StockPort stockPort;
+    private final SymbolRegistry symbolRegistry;
     private final MarketRankingProperties rankingProperties;
 
     private static final int DEFAULT_RANKING_LIMIT = 30;
@@ -213,9 +214,12 @@ public class MarketRankingService implements MarketRankingUseCase {
 //    }
 
     /**
-     * Stock 마스터 데이터 확인 및 생성
+     * Stock 마스터 데이터 확인 및 생성 (레지스트리에 있으면 저장소를 조회하지 않음)
      */
     private Mono<Stock> ensureStockExists(MarketRanking ranking) {
+        if (symbolRegistry.contains(ranking.getSymbol())) {
+            return Mono.empty();
+        }
         return stockPort.findBySymbol(ranking.getSymbol())
                 .switchIfEmpty(Mono.defer(() -> {
                     // Stock이 없으면 생성
@@ -230,7 +234,8 @@ public class MarketRankingService implements MarketRankingUseCase {
                     return stockPort.save(newStock)
                             .doOnNext(saved -> log.info("Created new Stock: {} ({})",
                                     saved.getName(), saved.getSymbol()));
-                }));
+                }))
+                .doOnNext(symbolRegistry::register);
     }
 
     /**
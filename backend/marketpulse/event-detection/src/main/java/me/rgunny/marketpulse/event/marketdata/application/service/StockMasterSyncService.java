@@ -34,6 +34,7 @@ public class StockMasterSyncService implements StockMasterSyncUseCase {
     private final StockPort stockPort;
     private final SyncLockPort syncLockPort;
     private final SyncConfigPort syncConfigPort;
+    private final SymbolRegistry symbolRegistry;
     
     private static final String SYNC_LOCK_KEY = "stock_master_sync";
     private static final Duration SYNC_LOCK_TTL = Duration.ofMinutes(30);
@@ -193,7 +194,8 @@ public class StockMasterSyncService implements StockMasterSyncUseCase {
                 .switchIfEmpty(Mono.defer(() -> {
                     newCount.incrementAndGet();
                     return stockPort.save(stock);
-                }));
+                }))
+                .doOnNext(symbolRegistry::register); // 저장된 종목만 레지스트리에 반영
     }
     
     private Mono<SyncResult> createSyncResult(
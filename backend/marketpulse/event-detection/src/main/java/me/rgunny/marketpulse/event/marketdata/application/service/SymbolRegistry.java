@@ -0,0 +1,179 @@
+package me.rgunny.marketpulse.event.marketdata.application.service;
+
+import lombok.extern.slf4j.Slf4j;
+import me.rgunny.marketpulse.event.marketdata.application.port.out.shared.StockPort;
+import me.rgunny.marketpulse.event.marketdata.domain.model.MarketType;
+import me.rgunny.marketpulse.event.marketdata.domain.model.Stock;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+/**
+ * 종목 레지스트리 (메모리 종목 사전)
+ *
+ * 시세 변환/순위 수집처럼 자주 호출되는 경로에서 종목명 조회로 MongoDB 를 읽지 않도록 종목 마스터를 메모리에 보관
+ * - 시작 시 전체 종목을 한 번 읽고, 이후에는 종목 마스터 동기화에서 저장한 종목만 반영 (register)
+ * - 6자리 종목코드를 그대로 배열 인덱스로 써서 조회 시 I/O 와 객체 할당이 없음
+ * - 종목마다 등록 순서대로 0부터 촘촘한 int id 를 부여하고, 한 번 받은 id 는 바뀌지 않음
+ * - 쓰기는 동기화 스레드에서만 일어나므로 synchronized 로 직렬화하고, 읽기는 잠금 없이 수행
+ */
+@Slf4j
+@Service
+public class SymbolRegistry {
+
+    public static final int UNKNOWN_ID = -1;
+
+    private static final int SYMBOL_LENGTH = 6;
+    private static final int CODE_SPACE = 1_000_000;
+    private static final int INITIAL_CAPACITY = 4096;
+
+    private final StockPort stockPort;
+
+    // 종목코드(정수) -> id + 1 (0 은 미등록)
+    private final AtomicIntegerArray codeToId = new AtomicIntegerArray(CODE_SPACE);
+    private volatile Entry[] entries = new Entry[INITIAL_CAPACITY];
+    private volatile int size;
+    private volatile boolean loaded;
+
+    public SymbolRegistry(StockPort stockPort) {
+        this.stockPort = stockPort;
+    }
+
+    /**
+     * 시작 시 종목 마스터 적재
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadOnStartup() {
+        reload().subscribe(
+                ignored -> { },
+                error -> log.error("Failed to load symbol registry", error));
+    }
+
+    /**
+     * 전체 활성 종목 적재 (이미 등록된 종목은 id 를 유지한 채 정보만 갱신)
+     */
+    public Mono<Void> reload() {
+        return stockPort.findAllActiveStocks()
+                .doOnNext(this::register)
+                .then(Mono.fromRunnable(() -> {
+                    loaded = true;
+                    log.info("Symbol registry loaded: {} symbols", size);
+                }));
+    }
+
+    /**
+     * 종목 등록/갱신
+     *
+     * @return 종목 id (종목코드 형식이 아니면 UNKNOWN_ID)
+     */
+    public synchronized int register(Stock stock) {
+        int code = parseCode(stock.getSymbol());
+        if (code < 0) {
+            return UNKNOWN_ID;
+        }
+        int existing = codeToId.get(code) - 1;
+        if (existing >= 0) {
+            entries[existing] = Entry.of(existing, stock);
+            return existing;
+        }
+
+        int id = size;
+        Entry[] current = entries;
+        if (id == current.length) {
+            current = Arrays.copyOf(current, current.length * 2);
+        }
+        current[id] = Entry.of(id, stock);
+        entries = current;
+        size = id + 1;
+        // id 를 마지막에 공개하여 codeToId 로 id 를 본 스레드는 entries 도 보게 함
+        codeToId.set(code, id + 1);
+        return id;
+    }
+
+    /**
+     * 종목 id 조회
+     *
+     * @return 종목 id (미등록이면 UNKNOWN_ID)
+     */
+    public int idOf(String symbol) {
+        int code = parseCode(symbol);
+        return code < 0 ? UNKNOWN_ID : codeToId.get(code) - 1;
+    }
+
+    /**
+     * 종목 정보 조회
+     *
+     * @return 종목 정보 (미등록이면 null)
+     */
+    public Entry find(String symbol) {
+        int id = idOf(symbol);
+        return id < 0 ? null : entries[id];
+    }
+
+    /**
+     * id 로 종목 정보 조회
+     */
+    public Entry get(int id) {
+        if (id < 0 || id >= size) {
+            throw new IndexOutOfBoundsException("Unknown symbol id: " + id);
+        }
+        return entries[id];
+    }
+
+    /**
+     * 종목명 조회
+     *
+     * @return 종목명 (미등록이면 null)
+     */
+    public String nameOf(String symbol) {
+        Entry entry = find(symbol);
+        return entry == null ? null : entry.name();
+    }
+
+    public boolean contains(String symbol) {
+        return idOf(symbol) >= 0;
+    }
+
+    /**
+     * 시작 시 적재 완료 여부 (적재 전에는 미등록 종목을 저장소에서 확인해야 함)
+     */
+    public boolean isLoaded() {
+        return loaded;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * 6자리 숫자 종목코드를 정수로 변환 (형식이 다르면 -1)
+     */
+    private static int parseCode(String symbol) {
+        if (symbol == null || symbol.length() != SYMBOL_LENGTH) {
+            return -1;
+        }
+        int code = 0;
+        for (int i = 0; i < SYMBOL_LENGTH; i++) {
+            char c = symbol.charAt(i);
+            if (c < '0' || c > '9') {
+                return -1;
+            }
+            code = code * 10 + (c - '0');
+        }
+        return code;
+    }
+
+    /**
+     * 종목 정보
+     */
+    public record Entry(int id, String symbol, String name, MarketType marketType, boolean etf) {
+
+        private static Entry of(int id, Stock stock) {
+            return new Entry(id, stock.getSymbol(), stock.getName(), stock.getMarketType(), stock.isETF());
+        }
+    }
+}
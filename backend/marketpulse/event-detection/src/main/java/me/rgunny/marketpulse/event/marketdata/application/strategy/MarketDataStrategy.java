@@ -2,10 +2,35 @@ package me.rgunny.marketpulse.event.marketdata.application.strategy;
 
 import me.rgunny.marketpulse.event.shared.domain.value.MarketDataType;
 import me.rgunny.marketpulse.event.shared.domain.value.MarketDataValue;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.util.Collection;
+
 public interface MarketDataStrategy {
 
     MarketDataType getType();
     <T extends MarketDataValue> Mono<T> fetch(String symbol, Class<T> clazz);
+
+    /**
+     * 여러 종목 일괄 조회 (기본 구현은 종목별 조회, 실패한 종목은 제외)
+     */
+    default <T extends MarketDataValue> Flux<T> fetchBatch(Collection<String> symbols, Class<T> clazz) {
+        return Flux.fromIterable(symbols)
+                .flatMap(symbol -> fetch(symbol, clazz).onErrorResume(error -> Mono.empty()));
+    }
+
+    /**
+     * 1회 호출로 조회할 수 있는 최대 종목 수
+     */
+    default int maxBatchSize() {
+        return 1;
+    }
+
+    /**
+     * 같은 타입의 전략이 여러 개면 값이 큰 전략을 사용
+     */
+    default int priority() {
+        return 0;
+    }
 }
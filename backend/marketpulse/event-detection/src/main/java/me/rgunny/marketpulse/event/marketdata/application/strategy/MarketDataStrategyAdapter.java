@@ -5,8 +5,11 @@ import me.rgunny.marketpulse.event.marketdata.application.port.out.ExternalApiPo
 import me.rgunny.marketpulse.event.shared.domain.value.MarketDataType;
 import me.rgunny.marketpulse.event.shared.domain.value.MarketDataValue;
 import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.util.Collection;
+
 @Component
 @RequiredArgsConstructor
 public class MarketDataStrategyAdapter implements ExternalApiPort {
@@ -23,6 +26,11 @@ public class MarketDataStrategyAdapter implements ExternalApiPort {
         return registry.fetch(dataType, symbol, clazz);
     }
 
+    @Override
+    public <T extends MarketDataValue> Flux<T> fetchMarketDataBatch(Collection<String> symbols, MarketDataType dataType, Class<T> clazz) {
+        return registry.fetchBatch(dataType, symbols, clazz);
+    }
+
     @Override
     public String getProviderName() {
         return "KIS";
@@ -33,4 +41,9 @@ public class MarketDataStrategyAdapter implements ExternalApiPort {
         return 200; // KIS API 제한
     }
 
+    @Override
+    public int getMaxBatchSize() {
+        return registry.maxBatchSize(MarketDataType.STOCK);
+    }
+
 }
@@ -3,8 +3,10 @@ package me.rgunny.marketpulse.event.marketdata.application.strategy;
 import me.rgunny.marketpulse.event.shared.domain.value.MarketDataType;
 import me.rgunny.marketpulse.event.shared.domain.value.MarketDataValue;
 import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.function.Function;
@@ -17,7 +19,10 @@ public class MarketDataStrategyRegistry {
 
     public MarketDataStrategyRegistry(List<MarketDataStrategy> strategies) {
         this.strategyMap = strategies.stream()
-                .collect(Collectors.toUnmodifiableMap(MarketDataStrategy::getType, Function.identity()));
+                .collect(Collectors.toUnmodifiableMap(
+                        MarketDataStrategy::getType,
+                        Function.identity(),
+                        (a, b) -> a.priority() >= b.priority() ? a : b));
     }
 
     public <T extends MarketDataValue> Mono<T> fetch(MarketDataType type, String symbol, Class<T> clazz) {
@@ -29,4 +34,19 @@ public class MarketDataStrategyRegistry {
 
         return strategy.fetch(symbol, clazz);
     }
+
+    public <T extends MarketDataValue> Flux<T> fetchBatch(MarketDataType type, Collection<String> symbols, Class<T> clazz) {
+        MarketDataStrategy strategy = strategyMap.get(type);
+
+        if (strategy == null) {
+            return Flux.error(new IllegalArgumentException("No strategy registered for type " + type + " and symbols " + symbols));
+        }
+
+        return strategy.fetchBatch(symbols, clazz);
+    }
+
+    public int maxBatchSize(MarketDataType type) {
+        MarketDataStrategy strategy = strategyMap.get(type);
+        return strategy == null ? 1 : strategy.maxBatchSize();
+    }
 }
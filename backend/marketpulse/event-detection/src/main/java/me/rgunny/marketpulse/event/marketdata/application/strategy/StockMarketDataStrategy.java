@@ -8,8 +8,11 @@ import me.rgunny.marketpulse.event.shared.domain.value.MarketDataType;
 import me.rgunny.marketpulse.event.shared.domain.value.MarketDataValue;
 import me.rgunny.marketpulse.common.core.exception.BusinessException;
 import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.util.Collection;
+
 @Component
 @RequiredArgsConstructor
 public class StockMarketDataStrategy implements MarketDataStrategy {
@@ -28,4 +31,17 @@ public class StockMarketDataStrategy implements MarketDataStrategy {
         }
         return kisApiService.fetchCurrentPrice(symbol).cast(clazz);
     }
+
+    @Override
+    public <T extends MarketDataValue> Flux<T> fetchBatch(Collection<String> symbols, Class<T> clazz) {
+        if (!clazz.isAssignableFrom(StockPrice.class)) {
+            return Flux.error(new BusinessException(StockPriceErrorCode.STOCK_PRICE_999));
+        }
+        return kisApiService.fetchCurrentPrices(symbols).cast(clazz);
+    }
+
+    @Override
+    public int maxBatchSize() {
+        return kisApiService.getMaxBatchSize();
+    }
 }
@@ -0,0 +1,75 @@
+package me.rgunny.marketpulse.event.marketdata.application.strategy;
+
+import lombok.RequiredArgsConstructor;
+import me.rgunny.marketpulse.event.marketdata.application.port.out.RealtimeQuotePort;
+import me.rgunny.marketpulse.event.marketdata.domain.error.StockPriceErrorCode;
+import me.rgunny.marketpulse.event.marketdata.domain.model.StockPrice;
+import me.rgunny.marketpulse.event.shared.domain.value.MarketDataType;
+import me.rgunny.marketpulse.event.shared.domain.value.MarketDataValue;
+import me.rgunny.marketpulse.common.core.exception.BusinessException;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 실시간 체결가 우선 주식 시세 전략
+ *
+ * 실시간으로 수신 중인 종목은 최근 체결가를 바로 반환하고,
+ * 구독하지 않았거나 연결이 끊긴 종목은 REST 폴링 전략으로 조회
+ */
+@Component
+@RequiredArgsConstructor
+public class StreamingStockMarketDataStrategy implements MarketDataStrategy {
+
+    private final RealtimeQuotePort realtimeQuotePort;
+    private final StockMarketDataStrategy pollingStrategy;
+
+    @Override
+    public MarketDataType getType() {
+        return MarketDataType.STOCK;
+    }
+
+    @Override
+    public <T extends MarketDataValue> Mono<T> fetch(String symbol, Class<T> clazz) {
+        if (!clazz.isAssignableFrom(StockPrice.class)) {
+            return Mono.error(new BusinessException(StockPriceErrorCode.STOCK_PRICE_999));
+        }
+        return Mono.justOrEmpty(realtimeQuotePort.findLatestPrice(symbol))
+                .cast(clazz)
+                .switchIfEmpty(Mono.defer(() -> pollingStrategy.fetch(symbol, clazz)));
+    }
+
+    /**
+     * 실시간으로 수신 중인 종목은 최근 체결가를 쓰고, 나머지만 묶어서 폴링 전략으로 조회
+     */
+    @Override
+    public <T extends MarketDataValue> Flux<T> fetchBatch(Collection<String> symbols, Class<T> clazz) {
+        if (!clazz.isAssignableFrom(StockPrice.class)) {
+            return Flux.error(new BusinessException(StockPriceErrorCode.STOCK_PRICE_999));
+        }
+        List<StockPrice> streamed = new ArrayList<>();
+        List<String> remaining = new ArrayList<>();
+        for (String symbol : symbols) {
+            realtimeQuotePort.findLatestPrice(symbol)
+                    .ifPresentOrElse(streamed::add, () -> remaining.add(symbol));
+        }
+        Flux<T> polled = remaining.isEmpty()
+                ? Flux.empty()
+                : Flux.defer(() -> pollingStrategy.fetchBatch(remaining, clazz));
+        return Flux.fromIterable(streamed).cast(clazz).concatWith(polled);
+    }
+
+    @Override
+    public int maxBatchSize() {
+        return pollingStrategy.maxBatchSize();
+    }
+
+    @Override
+    public int priority() {
+        return 1;
+    }
+}
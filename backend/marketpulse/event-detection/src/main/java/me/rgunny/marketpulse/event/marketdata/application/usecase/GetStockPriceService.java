@@ -1,45 +1,120 @@
 package me.rgunny.marketpulse.event.marketdata.application.usecase;
 
+import lombok.extern.slf4j.Slf4j;
 import me.rgunny.marketpulse.event.marketdata.application.port.in.GetStockPriceUseCase;
 import me.rgunny.marketpulse.event.marketdata.application.port.in.CollectStockPriceUseCase;
 import me.rgunny.marketpulse.event.marketdata.application.port.out.ExternalApiPort;
+import me.rgunny.marketpulse.event.marketdata.application.port.out.PriceLookupMetricsPort;
+import me.rgunny.marketpulse.event.marketdata.application.port.out.StockQuotePort;
 import me.rgunny.marketpulse.event.marketdata.application.port.out.shared.MarketDataCachePort;
 import me.rgunny.marketpulse.event.marketdata.application.port.out.shared.MarketDataRepositoryPort;
+import me.rgunny.marketpulse.event.marketdata.application.util.NegativeCache;
+import me.rgunny.marketpulse.event.marketdata.application.util.RefreshAheadPolicy;
+import me.rgunny.marketpulse.event.marketdata.application.util.SingleFlight;
+import me.rgunny.marketpulse.event.marketdata.application.util.TokenBucketRateLimiter;
+import me.rgunny.marketpulse.event.marketdata.domain.exception.kis.KisApiException;
+import me.rgunny.marketpulse.event.marketdata.domain.model.RealtimeQuote;
 import me.rgunny.marketpulse.event.marketdata.domain.model.StockPrice;
+import me.rgunny.marketpulse.event.marketdata.domain.model.Tick;
 import me.rgunny.marketpulse.event.shared.domain.value.MarketDataType;
 import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.time.Clock;
 import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
 
+/**
+ * 주식 현재가 조회/수집 서비스
+ *
+ * 조회 경로는 ExternalApiPort 로 StockPrice 를 받아 캐시 우선으로 응답하고,
+ * 수집 경로는 StockQuotePort 로 체결(Tick)을 받아 알림 판단까지 Tick 으로 처리 (StockPrice 변환은 캐시/MongoDB 저장 시 한 번)
+ */
+@Slf4j
 @Service
 public class GetStockPriceService implements GetStockPriceUseCase, CollectStockPriceUseCase {
     
-    private static final Duration CACHE_TTL = Duration.ofMinutes(1);
+    // KIS 가 종목코드 오류로 거부한 종목은 조회 경로에서 잠시 다시 호출하지 않음 (수집 경로는 항상 호출)
+    private static final Duration NEGATIVE_CACHE_TTL = Duration.ofSeconds(30);
+    private static final int NEGATIVE_CACHE_MAX_SIZE = 10_000;
+    // 사용자 일괄 조회 1건이 캐시 미스로 호출할 수 있는 최대 묶음 수 (나머지는 조회되지 않은 종목으로 응답)
+    private static final int MAX_READ_BATCHES_PER_REQUEST = 2;
     
     private final ExternalApiPort externalApiPort;
+    private final StockQuotePort stockQuotePort;
     private final MarketDataCachePort marketDataCachePort;
     private final MarketDataRepositoryPort marketDataRepositoryPort;
     private final PriceAlertService priceAlertService;
+    private final PriceLookupMetricsPort lookupMetricsPort;
+    private final RefreshAheadPolicy refreshAheadPolicy;
+    // 수집과 같은 외부 API 허용량을 나눠 쓰도록 사용자 일괄 조회도 같은 속도 제한기에서 토큰을 받음
+    private final TokenBucketRateLimiter apiRateLimiter;
+    private final Clock clock;
+    
+    // 캐시 만료 직후 동시에 들어온 같은 종목 조회는 외부 API 호출 1회를 공유
+    private final SingleFlight<String, StockPrice> upstreamCalls = new SingleFlight<>();
+    private final NegativeCache<String> rejectedSymbols = new NegativeCache<>(NEGATIVE_CACHE_TTL, NEGATIVE_CACHE_MAX_SIZE);
     
     public GetStockPriceService(ExternalApiPort externalApiPort,
+                               StockQuotePort stockQuotePort,
                                MarketDataCachePort marketDataCachePort,
                                MarketDataRepositoryPort marketDataRepositoryPort,
-                               PriceAlertService priceAlertService) {
+                               PriceAlertService priceAlertService,
+                               PriceLookupMetricsPort lookupMetricsPort,
+                               RefreshAheadPolicy refreshAheadPolicy,
+                               TokenBucketRateLimiter collectionRateLimiter,
+                               Clock clock) {
         this.externalApiPort = externalApiPort;
+        this.stockQuotePort = stockQuotePort;
         this.marketDataCachePort = marketDataCachePort;
         this.marketDataRepositoryPort = marketDataRepositoryPort;
         this.priceAlertService = priceAlertService;
+        this.lookupMetricsPort = lookupMetricsPort;
+        this.refreshAheadPolicy = refreshAheadPolicy;
+        this.apiRateLimiter = collectionRateLimiter;
+        this.clock = clock;
     }
     
     @Override
     public Mono<StockPrice> getCurrentPrice(String symbol) {
         return marketDataCachePort.getStockPrice(symbol)
+                .doOnNext(this::refreshIfStale)
                 .switchIfEmpty(getFromApiAndCache(symbol));
     }
     
+    @Override
+    public Flux<StockPrice> getCurrentPrices(Collection<String> symbols) {
+        List<String> distinct = symbols.stream().distinct().toList();
+        if (distinct.isEmpty()) {
+            return Flux.empty();
+        }
+        return Flux.defer(() -> {
+            Set<String> cachedSymbols = ConcurrentHashMap.newKeySet();
+            Flux<StockPrice> cached = marketDataCachePort.getStockPrices(distinct)
+                    .doOnNext(price -> {
+                        cachedSymbols.add(price.getSymbol());
+                        refreshIfStale(price);
+                    });
+            // 캐시 값은 바로 내보내고, 캐시에 없는 종목은 허용량만큼만 묶어서 조회 (배치 조회가 실패해도 캐시 값은 응답)
+            Flux<StockPrice> fetched = Flux.defer(() -> getBatchFromApiAndCache(
+                            withinReadBudget(uncachedSymbols(distinct, cachedSymbols))))
+                    .onErrorResume(error -> {
+                        log.warn("Batch price fetch failed for {} uncached symbols: {}",
+                                distinct.size() - cachedSymbols.size(), error.getMessage());
+                        return Flux.empty();
+                    });
+            return cached.concatWith(fetched);
+        });
+    }
+    
     @Override
     public Mono<StockPrice> refreshCurrentPrice(String symbol) {
+        rejectedSymbols.invalidate(symbol);
         return marketDataCachePort.deleteStockPrice(symbol)
                 .then(getFromApiAndCache(symbol));
     }
@@ -47,21 +122,193 @@ public class GetStockPriceService implements GetStockPriceUseCase, CollectStockP
     @Override
     public Mono<StockPrice> getCurrentPriceAndSave(String symbol) {
         return getCurrentPrice(symbol)
-                .flatMap(stockPrice -> 
-                    marketDataRepositoryPort.save(stockPrice)
-                            .flatMap(savedStockPrice -> 
-                                priceAlertService.analyzeAndSendAlert(savedStockPrice)
-                                        .thenReturn(savedStockPrice)
-                            )
+                .flatMap(this::saveAndAnalyze);
+    }
+    
+    /**
+     * 수집은 직전 수집 값이 캐시에 남아 있어도 항상 API 에서 새로 조회 (캐시 우선/선제 갱신/부정 캐시는 조회 경로 전용)
+     */
+    @Override
+    public Mono<StockPrice> collectCurrentPrice(String symbol) {
+        return Mono.defer(() -> fetchQuote(symbol))
+                .flatMap(quote -> ingest(quote.tick(), quote.name()));
+    }
+    
+    @Override
+    public Flux<StockPrice> collectCurrentPrices(Collection<String> symbols) {
+        List<String> distinct = symbols.stream().distinct().toList();
+        return Flux.defer(() -> fetchQuotes(distinct))
+                .flatMap(quote -> ingest(quote.tick(), quote.name()));
+    }
+    
+    @Override
+    public int maxBatchSize() {
+        return Math.max(1, externalApiPort.getMaxBatchSize());
+    }
+    
+    @Override
+    public Mono<StockPrice> ingestTick(Tick tick, String name) {
+        return Mono.defer(() -> ingest(tick, name));
+    }
+    
+    /**
+     * 수집/수신한 체결을 저장 경계에서 StockPrice 로 한 번 변환해 캐시/MongoDB 에 저장하고, 알림은 체결로 분석
+     */
+    private Mono<StockPrice> ingest(Tick tick, String name) {
+        StockPrice stockPrice = tick.toStockPrice(name);
+        return marketDataCachePort.saveStockPrice(stockPrice, refreshAheadPolicy.hardTtl())
+                .then(marketDataRepositoryPort.save(stockPrice))
+                .flatMap(savedStockPrice ->
+                    priceAlertService.analyzeAndSendAlert(tick, savedStockPrice)
+                            .thenReturn(savedStockPrice)
                 );
     }
     
+    private Mono<StockPrice> saveAndAnalyze(StockPrice stockPrice) {
+        return marketDataRepositoryPort.save(stockPrice)
+                .flatMap(savedStockPrice -> 
+                    priceAlertService.analyzeAndSendAlert(savedStockPrice)
+                            .thenReturn(savedStockPrice)
+                );
+    }
+    
+    
+    /**
+     * softTtl 이 지난 캐시 값은 그대로 응답하고 백그라운드로 1회 갱신 (예약하지 못하면 hardTtl 만료 후 갱신)
+     * 조회 경로(getCurrentPrice/getCurrentPrices)에서만 사용하고 수집 경로는 거치지 않음
+     */
+    private void refreshIfStale(StockPrice cached) {
+        if (!refreshAheadPolicy.isStale(cached.getTimestamp())) {
+            return;
+        }
+        lookupMetricsPort.recordStaleHit();
+        
+        String symbol = cached.getSymbol();
+        if (!refreshAheadPolicy.tryBegin(symbol)) {
+            return;
+        }
+        lookupMetricsPort.recordBackgroundRefresh();
+        getFromApiAndCache(symbol)
+                .doFinally(signal -> refreshAheadPolicy.complete(symbol))
+                .subscribe(
+                        refreshed -> log.debug("Refreshed stale price ahead of expiry: {}", symbol),
+                        error -> log.debug("Background price refresh failed: {} - {}", symbol, error.getMessage()));
+    }
     
+    /**
+     * 캐시 미스 시 외부 API 조회 (진행 중인 같은 종목 호출이 있으면 합류, 최근 거부된 종목은 호출하지 않음)
+     */
     private Mono<StockPrice> getFromApiAndCache(String symbol) {
+        return Mono.defer(() -> {
+            if (rejectedSymbols.contains(symbol, clock.millis())) {
+                lookupMetricsPort.recordNegativeCacheHit();
+                return Mono.error(new KisApiException(symbol));
+            }
+            return fetchCoalesced(symbol);
+        });
+    }
+    
+    private Mono<StockPrice> fetchCoalesced(String symbol) {
+        return upstreamCalls.execute(symbol,
+                () -> fetchAndCache(symbol),
+                lookupMetricsPort::recordCoalescedCall);
+    }
+    
+    private Mono<StockPrice> fetchAndCache(String symbol) {
+        lookupMetricsPort.recordUpstreamCall();
         return externalApiPort.fetchMarketData(symbol, MarketDataType.STOCK, StockPrice.class)
-                .flatMap(stockPrice -> 
-                    marketDataCachePort.saveStockPrice(stockPrice, CACHE_TTL)
-                            .thenReturn(stockPrice)
-                );
+                .doOnError(this::isRejection, error -> rejectedSymbols.put(symbol, clock.millis()))
+                .flatMap(this::cache);
+    }
+    
+    /**
+     * 수집 경로 단건 조회 (부정 캐시는 거치지 않고, 거부되면 조회 경로용으로 기록)
+     */
+    private Mono<RealtimeQuote> fetchQuote(String symbol) {
+        lookupMetricsPort.recordUpstreamCall();
+        return stockQuotePort.fetchQuote(symbol)
+                .doOnError(this::isRejection, error -> rejectedSymbols.put(symbol, clock.millis()));
+    }
+    
+    /**
+     * 수집 경로 묶음 조회 (거부된 묶음은 종목별로 다시 조회하고 다음 묶음은 그대로 조회)
+     */
+    private Flux<RealtimeQuote> fetchQuotes(List<String> symbols) {
+        if (symbols.isEmpty()) {
+            return Flux.empty();
+        }
+        return Flux.fromIterable(symbols)
+                .buffer(maxBatchSize())
+                .concatMap(batch -> stockQuotePort.fetchQuotes(batch)
+                        .onErrorResume(this::isRejection, error -> fetchEachWithinBudget(batch, this::fetchQuote)));
+    }
+    
+    private Mono<StockPrice> cache(StockPrice stockPrice) {
+        return marketDataCachePort.saveStockPrice(stockPrice, refreshAheadPolicy.hardTtl())
+                .thenReturn(stockPrice);
+    }
+    
+    // 종목코드 오류로 거부된 KIS 오류만 거부로 간주 (초당 거래건수 초과/토큰/네트워크/서킷브레이커 오류는 제외)
+    private boolean isRejection(Throwable error) {
+        return error instanceof KisApiException kisApiException && kisApiException.getSymbol() != null;
+    }
+    
+    /**
+     * 캐시에 없고 최근 거부되지 않은 종목
+     */
+    private List<String> uncachedSymbols(List<String> symbols, Set<String> cached) {
+        long now = clock.millis();
+        return symbols.stream()
+                .filter(symbol -> !cached.contains(symbol))
+                .filter(symbol -> !rejectedSymbols.contains(symbol, now))
+                .toList();
+    }
+    
+    /**
+     * 사용자 일괄 조회에서 호출할 종목 (묶음마다 토큰을 대기 없이 받고, 최대 MAX_READ_BATCHES_PER_REQUEST 묶음)
+     * 토큰을 받지 못한 묶음은 호출하지 않아 수집 허용량을 침범하지 않음
+     */
+    private List<String> withinReadBudget(List<String> symbols) {
+        int batchSize = maxBatchSize();
+        int allowed = 0;
+        int batches = 0;
+        while (allowed < symbols.size() && batches < MAX_READ_BATCHES_PER_REQUEST && apiRateLimiter.tryAcquire()) {
+            allowed = Math.min(symbols.size(), allowed + batchSize);
+            batches++;
+        }
+        if (allowed < symbols.size()) {
+            lookupMetricsPort.recordThrottledSymbols(symbols.size() - allowed);
+            log.debug("Bulk read limited by API budget: fetching {} of {} uncached symbols", allowed, symbols.size());
+        }
+        return symbols.subList(0, allowed);
+    }
+    
+    /**
+     * 묶음 단위로 조회하여 캐시에 저장 (거부된 묶음은 종목별로 다시 조회하고 다음 묶음은 그대로 조회)
+     */
+    private Flux<StockPrice> getBatchFromApiAndCache(List<String> symbols) {
+        if (symbols.isEmpty()) {
+            return Flux.empty();
+        }
+        return Flux.fromIterable(symbols)
+                .buffer(maxBatchSize())
+                .concatMap(batch -> externalApiPort.fetchMarketDataBatch(batch, MarketDataType.STOCK, StockPrice.class)
+                        .flatMap(this::cache)
+                        .onErrorResume(this::isRejection, error -> fetchEachWithinBudget(batch, this::fetchCoalesced)));
+    }
+    
+    /**
+     * 종목코드 오류로 거부된 묶음을 종목별로 다시 조회 (단건으로도 거부된 종목만 부정 캐시에 기록)
+     * 종목마다 속도 제한기 토큰을 대기 없이 받고, 받지 못한 종목은 이번에는 조회하지 않음
+     */
+    private <T> Flux<T> fetchEachWithinBudget(List<String> batch, Function<String, Mono<T>> fetch) {
+        log.warn("Batch of {} symbols rejected by KIS, retrying each symbol: {}", batch.size(), batch);
+        return Flux.fromIterable(batch)
+                .filter(symbol -> apiRateLimiter.tryAcquire())
+                .concatMap(symbol -> fetch.apply(symbol)
+                        .onErrorResume(error -> {
+                            log.debug("Symbol fetch failed after batch rejection: {} - {}", symbol, error.getMessage());
+                            return Mono.empty();
+                        }));
     }
 }
\ No newline at end of file
@@ -0,0 +1,202 @@
+package me.rgunny.marketpulse.event.marketdata.application.usecase;
+
+import lombok.extern.slf4j.Slf4j;
+import me.rgunny.marketpulse.common.core.exception.BusinessException;
+import me.rgunny.marketpulse.event.marketdata.application.port.in.CollectionShardUseCase;
+import me.rgunny.marketpulse.event.marketdata.application.port.out.PriceTargetPort;
+import me.rgunny.marketpulse.event.marketdata.application.util.PriceCrossingIndex;
+import me.rgunny.marketpulse.event.marketdata.domain.error.StockPriceErrorCode;
+import me.rgunny.marketpulse.event.marketdata.domain.model.PriceCrossing;
+import me.rgunny.marketpulse.event.marketdata.domain.model.PriceTarget;
+import me.rgunny.marketpulse.event.marketdata.domain.model.StockPrice;
+import me.rgunny.marketpulse.event.marketdata.domain.model.Tick;
+import me.rgunny.marketpulse.event.notification.application.port.out.NotificationClientPort;
+import me.rgunny.marketpulse.notification.grpc.NotificationServiceProto.PriceAlertType;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * 사용자 목표가 알림 서비스
+ *
+ * 목표가는 저장소(PriceTargetPort)가 원본이고, 종목을 수집하는 인스턴스가 자기 종목의 목표가만 색인에 올려 돌파를 확인
+ * - 체결마다 PriceCrossingIndex 로 직전 체결가 이후 돌파한 목표가만 꺼내 발송 (전체 목표가를 훑지 않음)
+ * - 등록은 저장 후 이 인스턴스가 소유한 종목이면 바로 색인에 올리고, 다른 인스턴스 소유 종목은 그 인스턴스가
+ *   다음 수집 대상 갱신(loadTargets) 때 저장소에서 읽어 올림 (재시작/재분배 때도 같은 경로로 다시 올림)
+ * - 목표가 알림은 1회성: 발송 전에 저장소에서 삭제에 성공한 인스턴스만 발송하여 재분배 중 두 인스턴스가
+ *   같은 목표가를 들고 있거나, 다른 인스턴스에서 해제한 목표가가 색인에 남아 있어도 중복/오발송하지 않음
+ * - 발송에 실패하면 짧은 백오프로 몇 번 더 재시도 (이미 돌파한 목표가를 다시 등록하면 가격이 되돌아와
+ *   다시 돌파할 때까지 발송되지 않으므로 재등록하지 않음), 재시도도 모두 실패하면 오류 로그를 남기고 버림
+ */
+@Slf4j
+@Service
+public class PriceTargetAlertService {
+
+    private static final String SYMBOL_PATTERN = "\\d{6}";
+
+    // 발송 재시도 (체결 처리가 발송 완료를 기다리므로 짧게 제한)
+    private static final int MAX_SEND_RETRIES = 3;
+    private static final Duration SEND_RETRY_MIN_BACKOFF = Duration.ofMillis(200);
+    private static final Duration SEND_RETRY_MAX_BACKOFF = Duration.ofSeconds(1);
+
+    private final NotificationClientPort notificationClient;
+    private final PriceTargetPort priceTargetPort;
+    private final CollectionShardUseCase collectionShardUseCase;
+    private final PriceCrossingIndex crossingIndex = new PriceCrossingIndex();
+
+    public PriceTargetAlertService(NotificationClientPort notificationClient,
+                                   PriceTargetPort priceTargetPort,
+                                   CollectionShardUseCase collectionShardUseCase) {
+        this.notificationClient = notificationClient;
+        this.priceTargetPort = priceTargetPort;
+        this.collectionShardUseCase = collectionShardUseCase;
+    }
+
+    /**
+     * 목표가 알림 등록
+     *
+     * @return 저장된 목표가 알림, 사용자 ID 누락, 종목코드 형식 오류, 목표가가 0 이하이면 BusinessException (STOCK_PRICE_007)
+     */
+    public Mono<PriceTarget> register(String userId, String symbol, long targetPrice) {
+        if (userId == null || userId.isBlank()
+                || symbol == null || !symbol.matches(SYMBOL_PATTERN)
+                || targetPrice <= 0) {
+            return Mono.error(new BusinessException(StockPriceErrorCode.STOCK_PRICE_007));
+        }
+        PriceTarget target = new PriceTarget(UUID.randomUUID().toString(), userId, symbol, targetPrice);
+        return priceTargetPort.save(target)
+                .doOnNext(saved -> {
+                    if (collectionShardUseCase.owns(symbol)) {
+                        crossingIndex.add(saved);
+                    }
+                    log.info("Price target registered: id={}, userId={}, symbol={}, targetPrice={}",
+                            saved.id(), userId, symbol, targetPrice);
+                });
+    }
+
+    /**
+     * 목표가 알림 해제
+     *
+     * @return 해제된 목표가 알림, 없는 목표가 알림이면 BusinessException (STOCK_PRICE_008)
+     */
+    public Mono<PriceTarget> cancel(String targetId) {
+        return priceTargetPort.findById(targetId)
+                .filterWhen(target -> priceTargetPort.delete(targetId))
+                .switchIfEmpty(Mono.error(new BusinessException(StockPriceErrorCode.STOCK_PRICE_008)))
+                .doOnNext(target -> crossingIndex.remove(targetId));
+    }
+
+    /**
+     * 종목의 목표가 알림 목록 (목표가 오름차순)
+     */
+    public Flux<PriceTarget> findBySymbol(String symbol) {
+        return priceTargetPort.findBySymbol(symbol);
+    }
+
+    /**
+     * 소유 종목의 목표가를 저장소에서 다시 읽어 색인 교체
+     * - 새로 맡은 종목과 다른 인스턴스에서 등록된 목표가는 올리고, 넘겨준 종목과 해제/발송된 목표가는 내림
+     * - 계속 맡는 종목은 직전 체결가를 유지하여 갱신 사이의 돌파도 놓치지 않음
+     * - 저장소를 읽지 못하면 현재 색인을 그대로 유지
+     *
+     * @param symbols 현재 인스턴스가 소유한 종목
+     * @return 색인에 올라간 목표가 수
+     */
+    public Mono<Integer> loadTargets(Collection<String> symbols) {
+        return Mono.defer(() -> {
+                    // 조회 중에 이 인스턴스에서 새로 등록된 목표가는 조회 결과에 없어도 내리지 않음
+                    Set<String> indexedBefore = new HashSet<>();
+                    crossingIndex.all().forEach(target -> indexedBefore.add(target.id()));
+                    return priceTargetPort.findBySymbols(symbols)
+                            .collectList()
+                            .map(loaded -> replaceIndex(loaded, indexedBefore));
+                })
+                .onErrorResume(error -> {
+                    log.error("Failed to load price targets, keeping {} indexed targets: {}",
+                            crossingIndex.size(), error.getMessage());
+                    return Mono.just(crossingIndex.size());
+                });
+    }
+
+    /**
+     * 체결가로 목표가 돌파 확인 및 발송
+     * @param tick 수신한 체결 (돌파 판단용)
+     * @param stockPrice 저장된 시세 (발송용)
+     */
+    public Mono<Void> checkCrossings(Tick tick, StockPrice stockPrice) {
+        List<PriceCrossing> crossings = crossingIndex.advance(tick.symbol(), tick.price());
+        if (crossings.isEmpty()) {
+            return Mono.empty();
+        }
+        return Flux.fromIterable(crossings)
+                .filter(crossing -> crossingIndex.remove(crossing.target().id()) != null)
+                .filterWhen(this::claim)
+                .flatMap(crossing -> send(crossing, stockPrice))
+                .then();
+    }
+
+    // 저장소에서 삭제에 성공해야 발송 (실패하면 저장소에 남은 목표가를 다음 loadTargets 때 다시 올림)
+    private Mono<Boolean> claim(PriceCrossing crossing) {
+        PriceTarget target = crossing.target();
+        return priceTargetPort.delete(target.id())
+                .doOnNext(deleted -> {
+                    if (!deleted) {
+                        log.debug("Price target already released elsewhere: id={}", target.id());
+                    }
+                })
+                .onErrorResume(error -> {
+                    log.error("Failed to release crossed price target, skipping alert: id={}, symbol={}, error={}",
+                            target.id(), target.symbol(), error.getMessage());
+                    return Mono.just(false);
+                });
+    }
+
+    private int replaceIndex(List<PriceTarget> loaded, Set<String> indexedBefore) {
+        Set<String> loadedIds = new HashSet<>();
+        for (PriceTarget target : loaded) {
+            loadedIds.add(target.id());
+            crossingIndex.add(target);
+        }
+        for (String targetId : indexedBefore) {
+            if (!loadedIds.contains(targetId)) {
+                crossingIndex.remove(targetId);
+            }
+        }
+        log.debug("Price targets loaded: {} targets on {} symbols", crossingIndex.size(), crossingIndex.symbolCount());
+        return crossingIndex.size();
+    }
+
+    private Mono<Void> send(PriceCrossing crossing, StockPrice stockPrice) {
+        PriceTarget target = crossing.target();
+        PriceAlertType alertType = crossing.isUpward() ? PriceAlertType.RISE : PriceAlertType.FALL;
+        Map<String, String> metadata = Map.of(
+                "trigger", "TARGET_PRICE",
+                "targetId", target.id(),
+                "userId", target.userId(),
+                "targetPrice", String.valueOf(target.targetPrice()));
+
+        return notificationClient.sendPriceAlert(stockPrice, alertType, metadata)
+                .retryWhen(Retry.backoff(MAX_SEND_RETRIES, SEND_RETRY_MIN_BACKOFF)
+                        .maxBackoff(SEND_RETRY_MAX_BACKOFF)
+                        .doBeforeRetry(signal -> log.warn("Retrying price target alert: id={}, attempt={}, error={}",
+                                target.id(), signal.totalRetries() + 1, signal.failure().getMessage()))
+                        .onRetryExhaustedThrow((spec, signal) -> signal.failure()))
+                .doOnSuccess(unused -> log.info("Price target alert sent: id={}, symbol={}, targetPrice={}, price={}",
+                        target.id(), target.symbol(), target.targetPrice(), crossing.price()))
+                .onErrorResume(error -> {
+                    log.error("Price target alert dropped after {} retries: id={}, userId={}, symbol={}, targetPrice={}, error={}",
+                            MAX_SEND_RETRIES, target.id(), target.userId(), target.symbol(), target.targetPrice(),
+                            error.getMessage());
+                    return Mono.empty();
+                });
+    }
+}
@@ -0,0 +1,189 @@
+package me.rgunny.marketpulse.event.marketdata.application.util;
+
+import me.rgunny.marketpulse.event.marketdata.domain.model.CollectionTarget;
+import me.rgunny.marketpulse.event.marketdata.infrastructure.config.shared.StockCollectionProperties;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Thread-Safe 변동성 기반 수집 주기 정책
+ *
+ * 종목별로 관측 간 수익률의 지수평활 분산과 최근 등락률을 추적해 다음 수집 주기를 정함
+ * - 변동성이 기준보다 크거나 등락률이 알림 임계값에 가까우면 주기 단축 (최소 minFactor 배)
+ * - 가격 변화가 거의 없으면 주기 연장 (최대 maxFactor 배)
+ * - 전체 종목의 계획 호출량(분당)이 수집 예산을 넘으면 모든 주기를 같은 비율로 늘려 예산 안에 맞춤
+ * - 여러 인스턴스가 종목을 나눠 수집하면 예산도 인스턴스 수로 나눈 몫만 사용
+ */
+public class AdaptiveIntervalPolicy {
+
+    // 변동성 추정에 필요한 최소 수익률 관측 수
+    private static final int MIN_RETURN_SAMPLES = 2;
+    private static final double MILLIS_PER_MINUTE = 60_000.0;
+
+    private final StockCollectionProperties.Adaptive config;
+    private final double[] alertThresholds;
+    private final double totalBudgetPerMinute;
+    private double budgetPerMinute;
+
+    private final Map<String, SymbolState> states = new HashMap<>();
+
+    // 종목별 희망 주기 기준 분당 호출량 합계
+    private double plannedRatePerMinute;
+
+    /**
+     * @param config          주기 조정 설정
+     * @param alertThresholds 알림 임계값 (등락률 %)
+     * @param permitsPerMinute 수집에 쓸 수 있는 분당 종목 수 (분당 호출 수 x 호출당 종목 수)
+     */
+    public AdaptiveIntervalPolicy(StockCollectionProperties.Adaptive config,
+                                  List<BigDecimal> alertThresholds,
+                                  int permitsPerMinute) {
+        this.config = config;
+        this.alertThresholds = alertThresholds.stream()
+                .mapToDouble(BigDecimal::doubleValue)
+                .toArray();
+        this.totalBudgetPerMinute = permitsPerMinute * config.budgetUtilization();
+        this.budgetPerMinute = totalBudgetPerMinute;
+    }
+
+    /**
+     * 수집 예산을 인스턴스 수로 나눠 현재 인스턴스 몫만 사용
+     *
+     * @param instances 종목을 나눠 수집하는 인스턴스 수
+     */
+    public synchronized void shareAmong(int instances) {
+        budgetPerMinute = totalBudgetPerMinute / Math.max(1, instances);
+    }
+
+    /**
+     * 수집 대상 동기화
+     * - 신규 종목은 기본 주기로 시작
+     * - 목록에 없는 종목의 상태 제거
+     */
+    public synchronized void sync(Collection<CollectionTarget> targets) {
+        Map<String, SymbolState> retained = new HashMap<>();
+        for (CollectionTarget target : targets) {
+            SymbolState state = states.getOrDefault(target.symbol(), new SymbolState());
+            state.baseIntervalMillis = target.interval().toMillis();
+            retained.put(target.symbol(), state);
+        }
+        states.clear();
+        states.putAll(retained);
+
+        plannedRatePerMinute = 0;
+        for (SymbolState state : states.values()) {
+            state.desiredIntervalMillis = desiredIntervalMillis(state);
+            plannedRatePerMinute += ratePerMinute(state.desiredIntervalMillis);
+        }
+    }
+
+    /**
+     * 수집한 시세 반영
+     *
+     * @param price      현재가
+     * @param changeRate 전일 대비 등락률 (%)
+     */
+    public synchronized void observe(String symbol, BigDecimal price, BigDecimal changeRate) {
+        SymbolState state = states.get(symbol);
+        if (state == null || price == null || price.signum() <= 0) {
+            return;
+        }
+        double currentPrice = price.doubleValue();
+        if (state.lastPrice > 0) {
+            double returnPercent = (currentPrice - state.lastPrice) / state.lastPrice * 100.0;
+            double alpha = config.smoothing();
+            state.variance = state.returnSamples == 0
+                    ? returnPercent * returnPercent
+                    : (1 - alpha) * state.variance + alpha * returnPercent * returnPercent;
+            state.returnSamples++;
+        }
+        state.lastPrice = currentPrice;
+        state.changeRate = changeRate != null ? changeRate.doubleValue() : Double.NaN;
+    }
+
+    /**
+     * 다음 수집 주기 계산
+     *
+     * @return 예산 배율까지 반영한 주기 (대상이 아닌 종목이면 empty)
+     */
+    public synchronized Optional<Duration> nextInterval(String symbol) {
+        SymbolState state = states.get(symbol);
+        if (state == null) {
+            return Optional.empty();
+        }
+        long desired = desiredIntervalMillis(state);
+        plannedRatePerMinute += ratePerMinute(desired) - ratePerMinute(state.desiredIntervalMillis);
+        state.desiredIntervalMillis = desired;
+        return Optional.of(Duration.ofMillis(Math.round(desired * budgetScale())));
+    }
+
+    /**
+     * 희망 주기 기준 분당 계획 호출량
+     */
+    public synchronized double plannedRatePerMinute() {
+        return plannedRatePerMinute;
+    }
+
+    /**
+     * 예산 초과 시 주기에 곱하는 배율 (예산 이내면 1)
+     */
+    public synchronized double budgetScale() {
+        if (!config.enabled() || budgetPerMinute <= 0) {
+            return 1.0;
+        }
+        return Math.max(1.0, plannedRatePerMinute / budgetPerMinute);
+    }
+
+    public boolean isEnabled() {
+        return config.enabled();
+    }
+
+    private long desiredIntervalMillis(SymbolState state) {
+        if (!config.enabled()) {
+            return state.baseIntervalMillis;
+        }
+        return Math.round(state.baseIntervalMillis * intervalFactor(state));
+    }
+
+    private double intervalFactor(SymbolState state) {
+        double factor = 1.0;
+        if (state.returnSamples >= MIN_RETURN_SAMPLES) {
+            double volatility = Math.sqrt(state.variance);
+            factor = volatility > 0 ? config.referenceVolatility() / volatility : config.maxFactor();
+        }
+        if (!Double.isNaN(state.changeRate)) {
+            double distance = nearestThresholdDistance(state.changeRate);
+            if (distance < config.thresholdBand()) {
+                factor = Math.min(factor, distance / config.thresholdBand());
+            }
+        }
+        return Math.max(config.minFactor(), Math.min(config.maxFactor(), factor));
+    }
+
+    private double nearestThresholdDistance(double changeRate) {
+        double nearest = Double.MAX_VALUE;
+        for (double threshold : alertThresholds) {
+            nearest = Math.min(nearest, Math.abs(changeRate - threshold));
+        }
+        return nearest;
+    }
+
+    private static double ratePerMinute(long intervalMillis) {
+        return intervalMillis > 0 ? MILLIS_PER_MINUTE / intervalMillis : 0.0;
+    }
+
+    private static final class SymbolState {
+        private long baseIntervalMillis;
+        private long desiredIntervalMillis;
+        private double lastPrice;
+        private double variance;
+        private int returnSamples;
+        private double changeRate = Double.NaN;
+    }
+}
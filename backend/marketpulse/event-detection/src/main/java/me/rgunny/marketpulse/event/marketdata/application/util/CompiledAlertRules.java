@@ -0,0 +1,434 @@
+package me.rgunny.marketpulse.event.marketdata.application.util;
+
+import me.rgunny.marketpulse.event.marketdata.domain.model.AlertCondition;
+import me.rgunny.marketpulse.event.marketdata.domain.model.AlertRule;
+import me.rgunny.marketpulse.event.marketdata.domain.model.AlertRuleSet;
+import me.rgunny.marketpulse.event.marketdata.domain.model.Tick;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 컴파일된 알림 규칙 집합 (불변)
+ *
+ * 규칙의 조건 트리를 OR-of-AND 절(clause)로 펼쳐, 절마다 (등락률bp, 현재가, 거래량) 하한/상한 6개 long 으로 저장
+ * - 모든 절은 하나의 long 배열에 연속으로 놓이고, 체결 1건 평가는 정수 비교 연산뿐 (할당 없음)
+ * - 절은 전체 규칙 구간과 종목별 구간으로 나뉘고, 각 구간은 우선순위 내림차순이라 번호가 작은 절이 구간 내 최우선 규칙
+ * - 그룹 규칙은 컴파일 시 그룹에 속한 종목의 구간으로 펼침
+ * - 구간마다 등락률 하한(상승형)/상한(하락형) 정렬 색인을 두어, 체결의 등락률을 통과한 절만 비교 (O(log n + k))
+ */
+public final class CompiledAlertRules {
+
+    // 규칙 1개가 펼쳐질 수 있는 최대 절 수 (any 중첩으로 인한 폭증 방지)
+    public static final int MAX_CLAUSES_PER_RULE = 64;
+
+    // 알림 이력(AlertHistory)이 허용하는 쿨다운 범위 (분)
+    private static final int MIN_COOLDOWN_MINUTES = 1;
+    private static final int MAX_COOLDOWN_MINUTES = 2880;
+
+    // 절 1개 = [bp 하한, bp 상한, 가격 하한, 가격 상한, 거래량 하한, 거래량 상한]
+    private static final int STRIDE = 6;
+    private static final int RATE = 0;
+    private static final int PRICE = 2;
+    private static final int VOLUME = 4;
+
+    private static final CompiledAlertRules EMPTY = new CompiledAlertRules(
+            new AlertRule[0], new long[0], new int[0], SegmentIndex.EMPTY, Map.of());
+
+    private final AlertRule[] rules;
+    private final long[] bounds;
+    private final int[] clauseRules;
+    private final SegmentIndex globalSegment;
+    private final Map<String, SegmentIndex> symbolSegments;
+
+    private CompiledAlertRules(AlertRule[] rules, long[] bounds, int[] clauseRules,
+                               SegmentIndex globalSegment, Map<String, SegmentIndex> symbolSegments) {
+        this.rules = rules;
+        this.bounds = bounds;
+        this.clauseRules = clauseRules;
+        this.globalSegment = globalSegment;
+        this.symbolSegments = symbolSegments;
+    }
+
+    public static CompiledAlertRules empty() {
+        return EMPTY;
+    }
+
+    /**
+     * 규칙 집합 컴파일
+     *
+     * @throws IllegalArgumentException ID 중복/누락, 알림 타입 누락, 쿨다운 범위 초과, 조건 없음, 없는 그룹 참조, 절 수 초과 시
+     */
+    public static CompiledAlertRules compile(AlertRuleSet ruleSet) {
+        List<AlertRule> ordered = validate(ruleSet);
+
+        // 우선순위 내림차순 (같으면 선언 순서)
+        ordered.sort(Comparator.comparingInt(AlertRule::priority).reversed());
+
+        List<AlertRule> global = new ArrayList<>();
+        Map<String, List<AlertRule>> bySymbol = new LinkedHashMap<>();
+        for (AlertRule rule : ordered) {
+            if (rule.symbol() != null) {
+                bySymbol.computeIfAbsent(rule.symbol(), symbol -> new ArrayList<>()).add(rule);
+            } else if (rule.group() != null) {
+                for (String symbol : new LinkedHashSet<>(ruleSet.groups().get(rule.group()))) {
+                    bySymbol.computeIfAbsent(symbol, key -> new ArrayList<>()).add(rule);
+                }
+            } else {
+                global.add(rule);
+            }
+        }
+
+        Map<AlertRule, Integer> ruleIds = new HashMap<>();
+        List<AlertRule> ruleTable = new ArrayList<>();
+        Builder builder = new Builder();
+        for (AlertRule rule : global) {
+            builder.add(rule, ruleId(rule, ruleIds, ruleTable));
+        }
+        int globalClauses = builder.size();
+
+        Map<String, int[]> symbolRanges = new LinkedHashMap<>();
+        for (Map.Entry<String, List<AlertRule>> entry : bySymbol.entrySet()) {
+            int start = builder.size();
+            for (AlertRule rule : entry.getValue()) {
+                builder.add(rule, ruleId(rule, ruleIds, ruleTable));
+            }
+            symbolRanges.put(entry.getKey(), new int[]{start, builder.size()});
+        }
+
+        long[] bounds = builder.bounds();
+        Map<String, SegmentIndex> symbolSegments = new HashMap<>();
+        symbolRanges.forEach((symbol, range) ->
+                symbolSegments.put(symbol, SegmentIndex.build(bounds, range[0], range[1])));
+
+        return new CompiledAlertRules(
+                ruleTable.toArray(AlertRule[]::new),
+                bounds,
+                builder.clauseRules(),
+                SegmentIndex.build(bounds, 0, globalClauses),
+                Map.copyOf(symbolSegments));
+    }
+
+    /**
+     * 체결에 해당하는 최우선 규칙
+     *
+     * 종목(그룹 포함) 구간과 전체 구간에서 각각 최우선 일치를 찾고, 우선순위가 높은 쪽을 선택 (같으면 종목 구간)
+     *
+     * @return 일치한 규칙 (없으면 null)
+     */
+    public AlertRule match(Tick tick) {
+        long rate = tick.changeRateBps();
+        long price = tick.price();
+        long volume = tick.volume();
+
+        AlertRule specific = null;
+        SegmentIndex segment = symbolSegments.get(tick.symbol());
+        if (segment != null) {
+            int clause = segment.bestMatch(bounds, rate, price, volume);
+            if (clause >= 0) {
+                specific = rules[clauseRules[clause]];
+            }
+        }
+
+        int clause = globalSegment.bestMatch(bounds, rate, price, volume);
+        AlertRule global = clause >= 0 ? rules[clauseRules[clause]] : null;
+
+        if (specific == null) {
+            return global;
+        }
+        return global != null && global.priority() > specific.priority() ? global : specific;
+    }
+
+    /**
+     * 컴파일된 절 수
+     */
+    public int clauseCount() {
+        return clauseRules.length;
+    }
+
+    /**
+     * 컴파일된 규칙 수
+     */
+    public int ruleCount() {
+        return rules.length;
+    }
+
+    private static int ruleId(AlertRule rule, Map<AlertRule, Integer> ruleIds, List<AlertRule> ruleTable) {
+        return ruleIds.computeIfAbsent(rule, key -> {
+            ruleTable.add(key);
+            return ruleTable.size() - 1;
+        });
+    }
+
+    private static List<AlertRule> validate(AlertRuleSet ruleSet) {
+        Set<String> ids = new HashSet<>();
+        for (AlertRule rule : ruleSet.rules()) {
+            if (rule.id() == null || rule.id().isBlank()) {
+                throw new IllegalArgumentException("Alert rule id is required");
+            }
+            if (!ids.add(rule.id())) {
+                throw new IllegalArgumentException("Duplicate alert rule id: " + rule.id());
+            }
+            if (rule.type() == null) {
+                throw new IllegalArgumentException("Alert type is required: " + rule.id());
+            }
+            if (rule.cooldownMinutes() < MIN_COOLDOWN_MINUTES || rule.cooldownMinutes() > MAX_COOLDOWN_MINUTES) {
+                throw new IllegalArgumentException("Cooldown must be between " + MIN_COOLDOWN_MINUTES
+                        + " and " + MAX_COOLDOWN_MINUTES + " minutes: " + rule.id());
+            }
+            if (rule.when() == null || rule.when().isEmpty()) {
+                throw new IllegalArgumentException("Alert rule must have a condition: " + rule.id());
+            }
+            if (rule.symbol() != null && rule.group() != null) {
+                throw new IllegalArgumentException("Alert rule cannot target both symbol and group: " + rule.id());
+            }
+            if (rule.group() != null && !ruleSet.groups().containsKey(rule.group())) {
+                throw new IllegalArgumentException("Unknown alert group: " + rule.group() + " (" + rule.id() + ")");
+            }
+        }
+        return new ArrayList<>(ruleSet.rules());
+    }
+
+    private static boolean matches(long[] b, int clause, long rate, long price, long volume) {
+        int o = clause * STRIDE;
+        return rate >= b[o] && rate <= b[o + 1]
+                && price >= b[o + 2] && price <= b[o + 3]
+                && volume >= b[o + 4] && volume <= b[o + 5];
+    }
+
+    /**
+     * 절 구간 [start, end) 의 등락률 색인
+     *
+     * - rising: 등락률 하한만 있는 절 (하한 오름차순) -> 체결 등락률 이하인 접두부만 비교
+     * - falling: 등락률 상한만 있는 절 (상한 내림차순) -> 체결 등락률 이상인 접두부만 비교
+     * - others: 양쪽 모두 있거나 없는 절 (절 번호 순) -> 더 나은 일치가 있으면 중단
+     */
+    private static final class SegmentIndex {
+
+        static final SegmentIndex EMPTY = new SegmentIndex(new long[0], new int[0], new long[0], new int[0], new int[0]);
+
+        private final long[] risingKeys;
+        private final int[] risingClauses;
+        // 상한의 부호를 뒤집어 오름차순으로 보관 (-상한 <= -등락률)
+        private final long[] fallingKeys;
+        private final int[] fallingClauses;
+        private final int[] otherClauses;
+
+        private SegmentIndex(long[] risingKeys, int[] risingClauses, long[] fallingKeys, int[] fallingClauses,
+                             int[] otherClauses) {
+            this.risingKeys = risingKeys;
+            this.risingClauses = risingClauses;
+            this.fallingKeys = fallingKeys;
+            this.fallingClauses = fallingClauses;
+            this.otherClauses = otherClauses;
+        }
+
+        static SegmentIndex build(long[] bounds, int start, int end) {
+            List<long[]> rising = new ArrayList<>();
+            List<long[]> falling = new ArrayList<>();
+            List<Integer> others = new ArrayList<>();
+            for (int clause = start; clause < end; clause++) {
+                long low = bounds[clause * STRIDE + RATE];
+                long high = bounds[clause * STRIDE + RATE + 1];
+                if (low != Long.MIN_VALUE && high == Long.MAX_VALUE) {
+                    rising.add(new long[]{low, clause});
+                } else if (low == Long.MIN_VALUE && high != Long.MAX_VALUE) {
+                    falling.add(new long[]{-high, clause});
+                } else {
+                    others.add(clause);
+                }
+            }
+            Comparator<long[]> byKey = Comparator.<long[]>comparingLong(entry -> entry[0])
+                    .thenComparingLong(entry -> entry[1]);
+            rising.sort(byKey);
+            falling.sort(byKey);
+            return new SegmentIndex(
+                    keys(rising), clauses(rising), keys(falling), clauses(falling),
+                    others.stream().mapToInt(Integer::intValue).toArray());
+        }
+
+        /**
+         * 구간 내 최우선(번호가 가장 작은) 일치 절
+         *
+         * @return 절 번호 (없으면 -1)
+         */
+        int bestMatch(long[] bounds, long rate, long price, long volume) {
+            int best = Integer.MAX_VALUE;
+
+            int risingEnd = upperBound(risingKeys, rate);
+            for (int i = 0; i < risingEnd; i++) {
+                int clause = risingClauses[i];
+                if (clause < best && matches(bounds, clause, rate, price, volume)) {
+                    best = clause;
+                }
+            }
+
+            int fallingEnd = upperBound(fallingKeys, -rate);
+            for (int i = 0; i < fallingEnd; i++) {
+                int clause = fallingClauses[i];
+                if (clause < best && matches(bounds, clause, rate, price, volume)) {
+                    best = clause;
+                }
+            }
+
+            for (int clause : otherClauses) {
+                if (clause >= best) {
+                    break;
+                }
+                if (matches(bounds, clause, rate, price, volume)) {
+                    best = clause;
+                    break;
+                }
+            }
+            return best == Integer.MAX_VALUE ? -1 : best;
+        }
+
+        /**
+         * key 이하인 원소 수
+         */
+        private static int upperBound(long[] keys, long key) {
+            int low = 0;
+            int high = keys.length;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (keys[mid] <= key) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+
+        private static long[] keys(List<long[]> entries) {
+            long[] keys = new long[entries.size()];
+            for (int i = 0; i < keys.length; i++) {
+                keys[i] = entries.get(i)[0];
+            }
+            return keys;
+        }
+
+        private static int[] clauses(List<long[]> entries) {
+            int[] clauses = new int[entries.size()];
+            for (int i = 0; i < clauses.length; i++) {
+                clauses[i] = (int) entries.get(i)[1];
+            }
+            return clauses;
+        }
+    }
+
+    /**
+     * 조건 트리를 절 배열로 펼치는 빌더
+     */
+    private static final class Builder {
+
+        private long[] bounds = new long[STRIDE * 64];
+        private int[] clauseRules = new int[64];
+        private int size;
+
+        void add(AlertRule rule, int ruleId) {
+            List<long[]> clauses = expand(rule.when(), List.of(unbounded()), rule.id());
+            for (long[] clause : clauses) {
+                ensureCapacity(size + 1);
+                System.arraycopy(clause, 0, bounds, size * STRIDE, STRIDE);
+                clauseRules[size++] = ruleId;
+            }
+        }
+
+        int size() {
+            return size;
+        }
+
+        long[] bounds() {
+            return Arrays.copyOf(bounds, size * STRIDE);
+        }
+
+        int[] clauseRules() {
+            return Arrays.copyOf(clauseRules, size);
+        }
+
+        /**
+         * 조건을 입력 절 각각에 AND 로 적용한 결과 절 목록 (만족할 수 없는 절은 제외)
+         */
+        private static List<long[]> expand(AlertCondition condition, List<long[]> input, String ruleId) {
+            List<long[]> result = new ArrayList<>(input.size());
+            for (long[] clause : input) {
+                long[] narrowed = clause.clone();
+                if (condition.changeRateAtLeast() != null) {
+                    raise(narrowed, RATE, Tick.toBasisPoints(condition.changeRateAtLeast()));
+                }
+                if (condition.changeRateAtMost() != null) {
+                    lower(narrowed, RATE + 1, Tick.toBasisPoints(condition.changeRateAtMost()));
+                }
+                if (condition.priceAtLeast() != null) {
+                    raise(narrowed, PRICE, condition.priceAtLeast());
+                }
+                if (condition.priceAtMost() != null) {
+                    lower(narrowed, PRICE + 1, condition.priceAtMost());
+                }
+                if (condition.volumeAtLeast() != null) {
+                    raise(narrowed, VOLUME, condition.volumeAtLeast());
+                }
+                if (isSatisfiable(narrowed)) {
+                    result.add(narrowed);
+                }
+            }
+
+            for (AlertCondition child : condition.all()) {
+                result = expand(child, result, ruleId);
+            }
+
+            if (!condition.any().isEmpty()) {
+                List<long[]> alternatives = new ArrayList<>();
+                for (AlertCondition child : condition.any()) {
+                    alternatives.addAll(expand(child, result, ruleId));
+                    checkLimit(alternatives, ruleId);
+                }
+                result = alternatives;
+            }
+            checkLimit(result, ruleId);
+            return result;
+        }
+
+        private static long[] unbounded() {
+            return new long[]{Long.MIN_VALUE, Long.MAX_VALUE, Long.MIN_VALUE, Long.MAX_VALUE, Long.MIN_VALUE, Long.MAX_VALUE};
+        }
+
+        private static void raise(long[] clause, int index, long value) {
+            clause[index] = Math.max(clause[index], value);
+        }
+
+        private static void lower(long[] clause, int index, long value) {
+            clause[index] = Math.min(clause[index], value);
+        }
+
+        private static boolean isSatisfiable(long[] clause) {
+            return clause[RATE] <= clause[RATE + 1]
+                    && clause[PRICE] <= clause[PRICE + 1]
+                    && clause[VOLUME] <= clause[VOLUME + 1];
+        }
+
+        private static void checkLimit(List<long[]> clauses, String ruleId) {
+            if (clauses.size() > MAX_CLAUSES_PER_RULE) {
+                throw new IllegalArgumentException(
+                        "Alert rule expands to more than " + MAX_CLAUSES_PER_RULE + " clauses: " + ruleId);
+            }
+        }
+
+        private void ensureCapacity(int clauses) {
+            if (clauses > clauseRules.length) {
+                int capacity = Math.max(clauses, clauseRules.length * 2);
+                bounds = Arrays.copyOf(bounds, capacity * STRIDE);
+                clauseRules = Arrays.copyOf(clauseRules, capacity);
+            }
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package me.rgunny.marketpulse.event.marketdata.application.util;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * 일관된 해시 링 (불변)
+ *
+ * 인스턴스마다 가상 노드를 링 위에 흩어 두고, 종목코드 해시에서 시계 방향으로 처음 만나는 노드의 인스턴스가 종목을 소유
+ * - 인스턴스가 추가/제거되면 그 인스턴스 몫의 종목만 이동 (나머지 종목의 소유자는 유지)
+ * - 같은 인스턴스 목록이면 어느 인스턴스에서 만들어도 같은 소유자를 계산
+ * - 가상 노드 수가 많을수록 인스턴스 간 종목 수가 고르게 분배
+ */
+public final class ConsistentHashRing {
+
+    private final Set<String> members;
+    private final long[] points;
+    private final String[] owners;
+
+    private ConsistentHashRing(Set<String> members, long[] points, String[] owners) {
+        this.members = members;
+        this.points = points;
+        this.owners = owners;
+    }
+
+    /**
+     * @param members      인스턴스 ID 목록
+     * @param virtualNodes 인스턴스당 가상 노드 수
+     */
+    public static ConsistentHashRing of(Collection<String> members, int virtualNodes) {
+        if (virtualNodes <= 0) {
+            throw new IllegalArgumentException("virtualNodes must be positive");
+        }
+        // 정렬된 순서로 배치해야 해시 충돌 시에도 모든 인스턴스가 같은 링을 만듦
+        Set<String> sorted = new TreeSet<>(members);
+        Node[] nodes = new Node[sorted.size() * virtualNodes];
+        int index = 0;
+        for (String member : sorted) {
+            for (int i = 0; i < virtualNodes; i++) {
+                nodes[index++] = new Node(hash(member + "#" + i), member);
+            }
+        }
+        Arrays.sort(nodes, (a, b) -> Long.compare(a.point(), b.point()));
+
+        long[] points = new long[nodes.length];
+        String[] owners = new String[nodes.length];
+        for (int i = 0; i < nodes.length; i++) {
+            points[i] = nodes[i].point();
+            owners[i] = nodes[i].member();
+        }
+        return new ConsistentHashRing(Set.copyOf(sorted), points, owners);
+    }
+
+    /**
+     * 키를 소유한 인스턴스
+     *
+     * @return 소유 인스턴스 ID (링이 비어 있으면 empty)
+     */
+    public Optional<String> ownerOf(String key) {
+        if (points.length == 0) {
+            return Optional.empty();
+        }
+        int index = Arrays.binarySearch(points, hash(key));
+        if (index < 0) {
+            index = -index - 1;
+        }
+        return Optional.of(owners[index == points.length ? 0 : index]);
+    }
+
+    /**
+     * 인스턴스가 키를 소유하는지 확인
+     */
+    public boolean isOwnedBy(String key, String member) {
+        return ownerOf(key).map(member::equals).orElse(false);
+    }
+
+    public Set<String> members() {
+        return members;
+    }
+
+    public boolean isEmpty() {
+        return members.isEmpty();
+    }
+
+    /**
+     * 64비트 해시 (FNV-1a 후 MurmurHash3 fmix64 로 비트를 섞어 연속된 종목코드도 링 전체로 분산)
+     */
+    static long hash(String key) {
+        long hash = 0xcbf29ce484222325L;
+        for (byte b : key.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b & 0xff;
+            hash *= 0x100000001b3L;
+        }
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+
+    private record Node(long point, String member) {
+    }
+}
@@ -0,0 +1,96 @@
+package me.rgunny.marketpulse.event.marketdata.application.util;
+
+import me.rgunny.marketpulse.event.marketdata.domain.model.AlertType;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 인스턴스 메모리 알림 쿨다운 장부
+ *
+ * (종목 id, 알림 타입) 마다 쿨다운 종료 시각(epoch millis) 하나를 long 배열에 보관
+ * - 종목 id 는 SymbolRegistry 의 촘촘한 id 라 배열 인덱스로 바로 씀 (조회에 해시/객체 할당 없음)
+ * - 읽기/기록은 잠금 없이 수행하고, 배열을 늘릴 때만 잠금 (늘리는 중 기존 배열에 쓴 값은 유실될 수 있음)
+ * - 장부는 Redis 이력 앞의 캐시라 값이 유실되거나 비어 있어도 Redis 를 한 번 더 확인할 뿐 정합성에는 영향 없음
+ */
+public final class CooldownLedger {
+
+    private static final int TYPES = AlertType.values().length;
+
+    private volatile AtomicLongArray untilMillis;
+
+    public CooldownLedger(int initialSymbols) {
+        this.untilMillis = new AtomicLongArray(Math.max(1, initialSymbols) * TYPES);
+    }
+
+    /**
+     * 남은 쿨다운 (ms, 없으면 0)
+     */
+    public long remainingMillis(int symbolId, AlertType alertType, long nowMillis) {
+        AtomicLongArray table = untilMillis;
+        int slot = slot(symbolId, alertType);
+        if (slot >= table.length()) {
+            return 0;
+        }
+        long until = table.get(slot);
+        return until > nowMillis ? until - nowMillis : 0;
+    }
+
+    /**
+     * 쿨다운 종료 시각 기록 (이미 더 늦은 종료 시각이 있으면 유지)
+     */
+    public void extend(int symbolId, AlertType alertType, long until) {
+        int slot = slot(symbolId, alertType);
+        ensureCapacity(slot).accumulateAndGet(slot, until, Math::max);
+    }
+
+    /**
+     * 쿨다운 해제
+     */
+    public void clear(int symbolId, AlertType alertType) {
+        AtomicLongArray table = untilMillis;
+        int slot = slot(symbolId, alertType);
+        if (slot < table.length()) {
+            table.set(slot, 0);
+        }
+    }
+
+    /**
+     * 쿨다운 중인 (종목, 타입) 수
+     */
+    public int activeCount(long nowMillis) {
+        AtomicLongArray table = untilMillis;
+        int count = 0;
+        for (int slot = 0; slot < table.length(); slot++) {
+            if (table.get(slot) > nowMillis) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private static int slot(int symbolId, AlertType alertType) {
+        if (symbolId < 0) {
+            throw new IllegalArgumentException("Symbol id must not be negative: " + symbolId);
+        }
+        return symbolId * TYPES + alertType.ordinal();
+    }
+
+    private AtomicLongArray ensureCapacity(int slot) {
+        AtomicLongArray table = untilMillis;
+        if (slot < table.length()) {
+            return table;
+        }
+        synchronized (this) {
+            table = untilMillis;
+            if (slot >= table.length()) {
+                AtomicLongArray grown = new AtomicLongArray(Math.max(slot + 1, table.length() * 2));
+                for (int i = 0; i < table.length(); i++) {
+                    grown.set(i, table.get(i));
+                }
+                untilMillis = grown;
+                table = grown;
+            }
+            return table;
+        }
+    }
+}
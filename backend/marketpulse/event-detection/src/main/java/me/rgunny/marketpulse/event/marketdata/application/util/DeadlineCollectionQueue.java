@@ -0,0 +1,370 @@
+package me.rgunny.marketpulse.event.marketdata.application.util;
+
+import me.rgunny.marketpulse.event.marketdata.domain.model.CollectionTarget;
+import me.rgunny.marketpulse.event.marketdata.domain.model.CollectionTier;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.function.Predicate;
+
+/**
+ * Thread-Safe 등급별 마감 시각 우선 큐 (EDF, Earliest Deadline First)
+ *
+ * 종목마다 수집 주기 단위로 작업을 발행하고, 발행된 작업 중 마감이 가장 가까운 종목을 먼저 꺼냄
+ * - 작업은 release 시각에 발행되고 release + interval 이 마감
+ * - 발행 전 작업은 타이밍 휠에서 대기하고, 발행되면 등급별 힙으로 이동 (매 실행마다 전체 종목을 훑지 않음)
+ * - 등급별 힙에는 발행된 작업만 있으므로 힙 head 들만 비교하면 전체 EDF 순서가 됨 (종목별 주기가 달라도 무관)
+ * - 보호 등급(CORE, HIGH)은 남은 여유가 주기의 절반 이하가 되면 일반 등급보다 먼저 수집 (기아 방지)
+ * - 신규 종목의 첫 발행 시각은 종목코드 해시로 주기 안에 고르게 분산
+ * - 건너뛸 종목(실시간 수신 중인 종목 등)은 꺼내지 않고 다음 주기로 넘김 (조건이 풀리면 다음 발행부터 다시 수집)
+ * - 시각은 epoch millis 기준
+ */
+public class DeadlineCollectionQueue {
+
+    private static final Duration DEFAULT_TICK = Duration.ofMillis(100);
+    private static final int DEFAULT_WHEEL_SIZE = 1024;
+
+    private static final Comparator<Job> BY_DEADLINE =
+            Comparator.comparingLong(Job::deadlineMillis).thenComparing(Job::symbol);
+
+    private final Duration tick;
+    private final int wheelSize;
+    private final boolean spreadInitialRelease;
+
+    // 발행 전 작업 (첫 사용 시각 기준으로 생성)
+    private HashedTimingWheel<Job> wheel;
+
+    // 발행된 작업
+    private final Map<CollectionTier, PriorityQueue<Job>> ready = new EnumMap<>(CollectionTier.class);
+
+    // 종목별 현재 수집 설정
+    private final Map<String, Registration> targets = new HashMap<>();
+
+    // 종목별 유효한 작업 (휠/힙에 남아 있어도 여기 없는 작업은 무효)
+    private final Map<String, Job> pending = new HashMap<>();
+
+    // 꺼내간 뒤 아직 완료되지 않은 종목
+    private final Set<String> inFlight = new HashSet<>();
+
+    public DeadlineCollectionQueue() {
+        this(DEFAULT_TICK, DEFAULT_WHEEL_SIZE, true);
+    }
+
+    /**
+     * @param tick                 타이밍 휠 슬롯 간격
+     * @param wheelSize            타이밍 휠 슬롯 수
+     * @param spreadInitialRelease 신규 종목 첫 발행을 주기 안에 분산할지 여부 (false 면 등록 즉시 발행)
+     */
+    public DeadlineCollectionQueue(Duration tick, int wheelSize, boolean spreadInitialRelease) {
+        this.tick = tick;
+        this.wheelSize = wheelSize;
+        this.spreadInitialRelease = spreadInitialRelease;
+        for (CollectionTier tier : CollectionTier.values()) {
+            ready.put(tier, new PriorityQueue<>(BY_DEADLINE));
+        }
+    }
+
+    /**
+     * 수집 대상 전체 교체
+     * - 신규 종목은 주기 안의 고정 위치(종목코드 해시)에 첫 발행
+     * - 등급/주기가 바뀐 종목은 기존 발행 시각을 유지한 채 새 주기로 재등록
+     * - 목록에 없는 종목은 제거
+     */
+    public synchronized void sync(Collection<CollectionTarget> newTargets, long nowMillis) {
+        advance(nowMillis);
+        Map<String, CollectionTarget> incoming = new HashMap<>();
+        for (CollectionTarget target : newTargets) {
+            incoming.put(target.symbol(), target);
+        }
+
+        targets.keySet().removeIf(symbol -> !incoming.containsKey(symbol));
+        pending.keySet().removeIf(symbol -> !incoming.containsKey(symbol));
+
+        for (CollectionTarget target : incoming.values()) {
+            Registration previous = targets.put(target.symbol(), new Registration(target, nowMillis));
+            if ((previous != null && target.equals(previous.target())) || inFlight.contains(target.symbol())) {
+                continue;
+            }
+            Job existing = pending.get(target.symbol());
+            long release = existing != null
+                    ? existing.releaseMillis()
+                    : nowMillis + initialOffsetMillis(target);
+            enqueue(Job.of(target, release), nowMillis);
+        }
+        purgeStaleHeads();
+    }
+
+    /**
+     * 발행된 작업이 있는지 확인
+     */
+    public synchronized boolean hasDue(long nowMillis) {
+        return hasDue(nowMillis, symbol -> false);
+    }
+
+    /**
+     * 건너뛸 종목을 제외하고 발행된 작업이 있는지 확인
+     *
+     * @param skip 이번 주기 수집을 건너뛸 종목 (해당 작업은 다음 주기로 넘김)
+     */
+    public synchronized boolean hasDue(long nowMillis, Predicate<String> skip) {
+        advance(nowMillis);
+        return selectCollectable(nowMillis, skip) != null;
+    }
+
+    /**
+     * 발행된 작업 중 가장 먼저 수집할 작업을 꺼냄
+     *
+     * @return 꺼낸 작업 (발행된 작업이 없으면 empty)
+     */
+    public synchronized Optional<Job> pollDue(long nowMillis) {
+        return pollDue(nowMillis, symbol -> false);
+    }
+
+    /**
+     * 건너뛸 종목을 제외하고 가장 먼저 수집할 작업을 꺼냄
+     *
+     * @param skip 이번 주기 수집을 건너뛸 종목 (해당 작업은 다음 주기로 넘김)
+     * @return 꺼낸 작업 (발행된 작업이 없으면 empty)
+     */
+    public synchronized Optional<Job> pollDue(long nowMillis, Predicate<String> skip) {
+        advance(nowMillis);
+        Job job = selectCollectable(nowMillis, skip);
+        if (job == null) {
+            return Optional.empty();
+        }
+        ready.get(job.tier()).poll();
+        pending.remove(job.symbol());
+        inFlight.add(job.symbol());
+        return Optional.of(job);
+    }
+
+    /**
+     * 발행된 작업을 수집 순서대로 최대 maxJobs 개 꺼냄 (여러 종목을 1회 호출로 조회할 때 사용)
+     *
+     * @return 꺼낸 작업 (발행된 작업이 없으면 빈 목록)
+     */
+    public synchronized List<Job> pollDue(long nowMillis, int maxJobs) {
+        return pollDue(nowMillis, maxJobs, symbol -> false);
+    }
+
+    /**
+     * 건너뛸 종목을 제외하고 발행된 작업을 수집 순서대로 최대 maxJobs 개 꺼냄
+     *
+     * @param skip 이번 주기 수집을 건너뛸 종목 (해당 작업은 다음 주기로 넘김)
+     * @return 꺼낸 작업 (발행된 작업이 없으면 빈 목록)
+     */
+    public synchronized List<Job> pollDue(long nowMillis, int maxJobs, Predicate<String> skip) {
+        List<Job> jobs = new ArrayList<>();
+        while (jobs.size() < maxJobs) {
+            Optional<Job> job = pollDue(nowMillis, skip);
+            if (job.isEmpty()) {
+                break;
+            }
+            jobs.add(job.get());
+        }
+        return jobs;
+    }
+
+    /**
+     * 작업 완료 처리 후 다음 주기 작업 발행 예약 (등록된 수집 주기 사용)
+     */
+    public synchronized void complete(Job job, long nowMillis) {
+        Registration registration = targets.get(job.symbol());
+        complete(job, nowMillis, registration != null ? registration.target().interval() : Duration.ZERO);
+    }
+
+    /**
+     * 작업 완료 처리 후 다음 주기 작업 발행 예약
+     * - 이번 발행 시각 + interval 에 다음 작업을 발행하고, 그 시각이 이미 지났으면 완료 시각에 발행
+     *
+     * @param interval 다음 주기 (종목별로 조정된 주기)
+     */
+    public synchronized void complete(Job job, long nowMillis, Duration interval) {
+        inFlight.remove(job.symbol());
+        Registration registration = targets.get(job.symbol());
+        if (registration == null) {
+            return;
+        }
+        long intervalMillis = interval.toMillis();
+        long release = Math.max(job.releaseMillis() + intervalMillis, nowMillis);
+        enqueue(new Job(job.symbol(), registration.target().tier(), release, release + intervalMillis), nowMillis);
+    }
+
+    /**
+     * 메모리 정리
+     * - entryTtl 동안 sync 로 다시 확인되지 않은 종목 제거 (대상 갱신이 계속 실패하는 경우 대비)
+     * - 휠/힙에 남은 무효 작업 제거
+     *
+     * @return 제거된 종목 수
+     */
+    public synchronized int cleanup(long nowMillis, Duration entryTtl) {
+        long expireBefore = nowMillis - entryTtl.toMillis();
+        Set<String> expired = new HashSet<>();
+        targets.forEach((symbol, registration) -> {
+            if (registration.confirmedMillis() < expireBefore) {
+                expired.add(symbol);
+            }
+        });
+        targets.keySet().removeAll(expired);
+        pending.keySet().removeAll(expired);
+
+        if (wheel != null) {
+            wheel.removeIf(job -> pending.get(job.symbol()) != job);
+        }
+        ready.values().forEach(queue -> queue.removeIf(job -> pending.get(job.symbol()) != job));
+        return expired.size();
+    }
+
+    /**
+     * 등급별 수집 대상 수
+     */
+    public synchronized int size(CollectionTier tier) {
+        return (int) targets.values().stream()
+                .filter(registration -> registration.target().tier() == tier)
+                .count();
+    }
+
+    public synchronized int size() {
+        return targets.size();
+    }
+
+    /**
+     * 신규 종목의 첫 발행 지연 (종목코드 해시를 주기 안에 고르게 매핑)
+     */
+    public static long initialOffsetMillis(String symbol, long intervalMillis) {
+        if (intervalMillis <= 0) {
+            return 0L;
+        }
+        // 연속된 종목코드가 인접한 값으로 몰리지 않도록 비트를 섞음 (MurmurHash3 fmix64)
+        long hash = symbol.hashCode();
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return Math.floorMod(hash, intervalMillis);
+    }
+
+    private long initialOffsetMillis(CollectionTarget target) {
+        return spreadInitialRelease ? initialOffsetMillis(target.symbol(), target.interval().toMillis()) : 0L;
+    }
+
+    private void enqueue(Job job, long nowMillis) {
+        pending.put(job.symbol(), job);
+        if (job.releaseMillis() <= nowMillis) {
+            ready.get(job.tier()).add(job);
+        } else {
+            wheel(nowMillis).schedule(job, job.releaseMillis());
+        }
+    }
+
+    // 발행 시각이 지난 유효 작업을 등급별 힙으로 이동
+    private void advance(long nowMillis) {
+        wheel(nowMillis).advance(nowMillis, job -> {
+            if (pending.get(job.symbol()) == job) {
+                ready.get(job.tier()).add(job);
+            }
+        });
+    }
+
+    private HashedTimingWheel<Job> wheel(long nowMillis) {
+        if (wheel == null) {
+            wheel = new HashedTimingWheel<>(tick, wheelSize, nowMillis);
+        }
+        return wheel;
+    }
+
+    // 건너뛸 종목은 꺼내지 않고 다음 주기(now + interval)로 넘기면서 수집할 작업을 고름
+    private Job selectCollectable(long nowMillis, Predicate<String> skip) {
+        while (true) {
+            purgeStaleHeads();
+            Job job = select(nowMillis);
+            if (job == null || !skip.test(job.symbol())) {
+                return job;
+            }
+            ready.get(job.tier()).poll();
+            Registration registration = targets.get(job.symbol());
+            if (registration == null) {
+                pending.remove(job.symbol());
+                continue;
+            }
+            long intervalMillis = Math.max(1L, registration.target().interval().toMillis());
+            long release = nowMillis + intervalMillis;
+            enqueue(new Job(job.symbol(), job.tier(), release, release + intervalMillis), nowMillis);
+        }
+    }
+
+    private Job select(long nowMillis) {
+        Job urgent = null;
+        Job earliest = null;
+        for (PriorityQueue<Job> queue : ready.values()) {
+            Job head = queue.peek();
+            if (head == null) {
+                continue;
+            }
+            if (head.tier().isProtectedTier() && head.isUrgent(nowMillis)
+                    && (urgent == null || BY_DEADLINE.compare(head, urgent) < 0)) {
+                urgent = head;
+            }
+            if (earliest == null || BY_DEADLINE.compare(head, earliest) < 0) {
+                earliest = head;
+            }
+        }
+        return urgent != null ? urgent : earliest;
+    }
+
+    // 무효가 된 작업을 head 에서 제거해 head 가 항상 유효한 작업이 되도록 유지
+    private void purgeStaleHeads() {
+        for (PriorityQueue<Job> queue : ready.values()) {
+            while (!queue.isEmpty() && pending.get(queue.peek().symbol()) != queue.peek()) {
+                queue.poll();
+            }
+        }
+    }
+
+    private record Registration(CollectionTarget target, long confirmedMillis) {
+    }
+
+    /**
+     * 수집 작업
+     *
+     * @param releaseMillis  수집 가능 시작 시각
+     * @param deadlineMillis 수집 마감 시각
+     */
+    public record Job(
+            String symbol,
+            CollectionTier tier,
+            long releaseMillis,
+            long deadlineMillis
+    ) {
+
+        static Job of(CollectionTarget target, long releaseMillis) {
+            return new Job(target.symbol(), target.tier(), releaseMillis,
+                    releaseMillis + target.interval().toMillis());
+        }
+
+        /**
+         * 마감까지 남은 여유가 주기의 절반 이하인지 확인
+         */
+        public boolean isUrgent(long nowMillis) {
+            return deadlineMillis - nowMillis <= (deadlineMillis - releaseMillis) / 2;
+        }
+
+        /**
+         * 마감을 넘긴 시간 (마감 전이면 0)
+         */
+        public long latenessMillis(long nowMillis) {
+            return Math.max(0L, nowMillis - deadlineMillis);
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package me.rgunny.marketpulse.event.marketdata.application.util;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Thread-Safe 크기 제한 LRU 캐시 (항목별 만료 시각 지원)
+ *
+ * - 항목 수가 maxSize 를 넘으면 가장 오래 사용하지 않은 항목부터 제거
+ * - 만료된 항목은 조회 시 제거
+ * - 시각은 epoch millis 기준
+ */
+public class ExpiringLruCache<K, V> {
+
+    private final int maxSize;
+    private final Map<K, Entry<V>> entries;
+    private long evictions;
+
+    public ExpiringLruCache(int maxSize) {
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("maxSize must be positive: " + maxSize);
+        }
+        this.maxSize = maxSize;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, Entry<V>> eldest) {
+                if (size() > ExpiringLruCache.this.maxSize) {
+                    evictions++;
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    /**
+     * 유효한 항목 조회 (없거나 만료됐으면 null)
+     */
+    public synchronized V get(K key, long nowMillis) {
+        Entry<V> entry = entries.get(key);
+        if (entry == null) {
+            return null;
+        }
+        if (entry.expiresAt() <= nowMillis) {
+            entries.remove(key);
+            return null;
+        }
+        return entry.value();
+    }
+
+    /**
+     * 항목 저장 (expiresAtMillis 까지 유효)
+     */
+    public synchronized void put(K key, V value, long expiresAtMillis) {
+        entries.put(key, new Entry<>(value, expiresAtMillis));
+    }
+
+    public synchronized void invalidate(K key) {
+        entries.remove(key);
+    }
+
+    public synchronized void invalidateAll() {
+        entries.clear();
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    /**
+     * 크기 제한으로 제거된 누적 항목 수
+     */
+    public synchronized long evictionCount() {
+        return evictions;
+    }
+
+    private record Entry<V>(V value, long expiresAt) {
+    }
+}
@@ -0,0 +1,135 @@
+package me.rgunny.marketpulse.event.marketdata.application.util;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+/**
+ * 해시 타이밍 휠 (Thread-Safe 하지 않음, 호출자가 동기화)
+ *
+ * 만료 시각(epoch millis)을 tick 단위 슬롯에 나눠 담고, 시간이 흐른 만큼의 슬롯만 확인해 만료 원소를 꺼냄
+ * - 등록/만료 처리는 원소당 O(1), 만료 확인은 지나간 tick 수에 비례 (전체 원소를 훑지 않음)
+ * - 한 바퀴(tick * wheelSize)보다 먼 만료 시각은 같은 슬롯에 남아 있다가 해당 바퀴에서 만료
+ * - 슬롯 수는 고정이므로 메모리는 등록된 원소 수에만 비례
+ */
+public class HashedTimingWheel<E> {
+
+    private final long tickMillis;
+    private final int mask;
+    private final List<List<Slot<E>>> buckets;
+
+    // 이미 지나간 tick 으로 등록된 원소 (다음 advance 에서 바로 만료)
+    private final List<Slot<E>> overdue = new ArrayList<>();
+
+    // 마지막으로 처리한 tick
+    private long currentTick;
+    private int size;
+
+    /**
+     * @param tick        슬롯 하나가 담당하는 시간
+     * @param wheelSize   슬롯 수 (2의 거듭제곱으로 올림)
+     * @param startMillis 휠 시작 시각
+     */
+    public HashedTimingWheel(Duration tick, int wheelSize, long startMillis) {
+        if (tick.toMillis() <= 0) {
+            throw new IllegalArgumentException("tick must be at least 1ms");
+        }
+        if (wheelSize <= 0) {
+            throw new IllegalArgumentException("wheelSize must be positive");
+        }
+        int normalizedSize = wheelSize == 1 ? 1 : Integer.highestOneBit(wheelSize - 1) << 1;
+        this.tickMillis = tick.toMillis();
+        this.mask = normalizedSize - 1;
+        this.buckets = new ArrayList<>(normalizedSize);
+        for (int i = 0; i < normalizedSize; i++) {
+            buckets.add(new ArrayList<>());
+        }
+        this.currentTick = startMillis / tickMillis;
+    }
+
+    /**
+     * 원소 등록
+     *
+     * @param deadlineMillis 만료 시각 (이미 지났으면 다음 advance 에서 만료)
+     */
+    public void schedule(E element, long deadlineMillis) {
+        long deadlineTick = deadlineMillis / tickMillis;
+        Slot<E> slot = new Slot<>(element, deadlineTick);
+        if (deadlineTick <= currentTick) {
+            overdue.add(slot);
+        } else {
+            buckets.get((int) (deadlineTick & mask)).add(slot);
+        }
+        size++;
+    }
+
+    /**
+     * 현재 시각까지 휠을 돌려 만료된 원소를 전달
+     */
+    public void advance(long nowMillis, Consumer<E> onExpired) {
+        if (!overdue.isEmpty()) {
+            List<Slot<E>> expired = new ArrayList<>(overdue);
+            overdue.clear();
+            size -= expired.size();
+            expired.forEach(slot -> onExpired.accept(slot.element()));
+        }
+
+        long nowTick = nowMillis / tickMillis;
+        if (nowTick <= currentTick) {
+            return;
+        }
+        // 한 바퀴 이상 지났으면 모든 슬롯을 한 번씩만 확인
+        int steps = (int) Math.min(nowTick - currentTick, buckets.size());
+        for (int i = 1; i <= steps; i++) {
+            expireBucket(buckets.get((int) ((currentTick + i) & mask)), nowTick, onExpired);
+        }
+        currentTick = nowTick;
+    }
+
+    /**
+     * 조건에 맞는 원소 제거 (무효 원소 정리용, 전체 순회)
+     *
+     * @return 제거된 원소 수
+     */
+    public int removeIf(Predicate<E> filter) {
+        int removed = 0;
+        for (List<Slot<E>> bucket : buckets) {
+            removed += removeFrom(bucket, filter);
+        }
+        removed += removeFrom(overdue, filter);
+        size -= removed;
+        return removed;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    private void expireBucket(List<Slot<E>> bucket, long nowTick, Consumer<E> onExpired) {
+        // 순서가 의미 없으므로 마지막 원소와 교체하여 O(1) 삭제
+        int i = 0;
+        while (i < bucket.size()) {
+            Slot<E> slot = bucket.get(i);
+            if (slot.deadlineTick() <= nowTick) {
+                int last = bucket.size() - 1;
+                bucket.set(i, bucket.get(last));
+                bucket.remove(last);
+                size--;
+                onExpired.accept(slot.element());
+            } else {
+                i++;
+            }
+        }
+    }
+
+    private int removeFrom(List<Slot<E>> bucket, Predicate<E> filter) {
+        int before = bucket.size();
+        bucket.removeIf(slot -> filter.test(slot.element()));
+        return before - bucket.size();
+    }
+
+    private record Slot<E>(E element, long deadlineTick) {
+    }
+}
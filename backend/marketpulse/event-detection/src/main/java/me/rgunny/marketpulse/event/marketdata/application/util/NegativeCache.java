@@ -0,0 +1,66 @@
+package me.rgunny.marketpulse.event.marketdata.application.util;
+
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Thread-Safe 부정 캐시 (조회가 거부된 키를 짧게 기억해 같은 요청 반복 방지)
+ *
+ * - 만료된 항목은 조회 시 제거
+ * - 항목 수가 maxSize 에 도달하면 만료된 항목을 정리하고, 그래도 가득 차 있으면 새 항목은 기록하지 않음
+ * - 시각은 epoch millis 기준
+ */
+public class NegativeCache<K> {
+
+    private final ConcurrentMap<K, Long> expiries = new ConcurrentHashMap<>();
+    private final long ttlMillis;
+    private final int maxSize;
+
+    public NegativeCache(Duration ttl, int maxSize) {
+        if (ttl.isNegative() || ttl.isZero()) {
+            throw new IllegalArgumentException("ttl must be positive: " + ttl);
+        }
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("maxSize must be positive: " + maxSize);
+        }
+        this.ttlMillis = ttl.toMillis();
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * 거부된 키 기록 (ttl 동안 유효)
+     */
+    public void put(K key, long nowMillis) {
+        if (expiries.size() >= maxSize && !expiries.containsKey(key)) {
+            expiries.values().removeIf(expiresAt -> expiresAt <= nowMillis);
+            if (expiries.size() >= maxSize) {
+                return;
+            }
+        }
+        expiries.put(key, nowMillis + ttlMillis);
+    }
+
+    /**
+     * 거부 기록이 유효한지 확인
+     */
+    public boolean contains(K key, long nowMillis) {
+        Long expiresAt = expiries.get(key);
+        if (expiresAt == null) {
+            return false;
+        }
+        if (expiresAt <= nowMillis) {
+            expiries.remove(key, expiresAt);
+            return false;
+        }
+        return true;
+    }
+
+    public void invalidate(K key) {
+        expiries.remove(key);
+    }
+
+    public int size() {
+        return expiries.size();
+    }
+}
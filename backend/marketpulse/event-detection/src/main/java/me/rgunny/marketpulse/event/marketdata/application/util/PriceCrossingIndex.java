@@ -0,0 +1,155 @@
+package me.rgunny.marketpulse.event.marketdata.application.util;
+
+import me.rgunny.marketpulse.event.marketdata.domain.model.PriceCrossing;
+import me.rgunny.marketpulse.event.marketdata.domain.model.PriceTarget;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 종목별 목표가 돌파 색인
+ *
+ * 종목마다 목표가를 키로 정렬한 skip list 와 직전 체결가를 두고, 체결이 오면 직전가와 현재가 사이의 목표가만 꺼냄
+ * - 체결 1건 처리는 O(log n + k) (n: 종목의 목표가 수, k: 돌파한 목표가 수), 목표가가 없는 종목은 조회 1회
+ * - 직전가는 getAndSet 으로 교체하므로 같은 종목 체결이 동시에 와도 구간이 겹치지 않음
+ * - 목표가를 처음 등록한 종목은 다음 체결가를 직전가로 삼고, 그 이후 체결부터 돌파를 판단
+ * - 목표가가 모두 해제된 종목은 색인에서 제거 (다시 등록하면 처음 등록한 종목과 같음)
+ * - 등록/해제는 종목 단위 ConcurrentHashMap.compute 안에서 수행하여 종목 제거와 겹치지 않고, 체결 처리는 잠금 없이 수행
+ */
+public final class PriceCrossingIndex {
+
+    private static final long NO_PRICE = Long.MIN_VALUE;
+
+    private final Map<String, SymbolTargets> bySymbol = new ConcurrentHashMap<>();
+    private final Map<String, PriceTarget> byId = new ConcurrentHashMap<>();
+
+    /**
+     * 목표가 등록
+     *
+     * @return 같은 ID 가 이미 있으면 false
+     */
+    public boolean add(PriceTarget target) {
+        if (byId.putIfAbsent(target.id(), target) != null) {
+            return false;
+        }
+        bySymbol.compute(target.symbol(), (symbol, targets) -> {
+            SymbolTargets current = targets == null ? new SymbolTargets() : targets;
+            current.prices.merge(target.targetPrice(), List.of(target), PriceCrossingIndex::concat);
+            return current;
+        });
+        return true;
+    }
+
+    /**
+     * 목표가 해제
+     *
+     * @return 해제한 목표가 (없으면 null)
+     */
+    public PriceTarget remove(String targetId) {
+        PriceTarget target = byId.remove(targetId);
+        if (target == null) {
+            return null;
+        }
+        bySymbol.computeIfPresent(target.symbol(), (symbol, targets) -> {
+            targets.prices.computeIfPresent(target.targetPrice(), (price, atPrice) -> without(atPrice, targetId));
+            return targets.prices.isEmpty() ? null : targets;
+        });
+        return target;
+    }
+
+    /**
+     * 체결가 반영 후 직전 체결가와 현재가 사이에서 돌파한 목표가 목록 (목표가 오름차순)
+     */
+    public List<PriceCrossing> advance(String symbol, long price) {
+        SymbolTargets targets = bySymbol.get(symbol);
+        if (targets == null) {
+            return List.of();
+        }
+        long previous = targets.lastPrice.getAndSet(price);
+        if (previous == NO_PRICE || previous == price) {
+            return List.of();
+        }
+
+        NavigableMap<Long, List<PriceTarget>> crossed = price > previous
+                ? targets.prices.subMap(previous, false, price, true)
+                : targets.prices.subMap(price, true, previous, false);
+        if (crossed.isEmpty()) {
+            return List.of();
+        }
+
+        List<PriceCrossing> crossings = new ArrayList<>();
+        for (List<PriceTarget> atPrice : crossed.values()) {
+            for (PriceTarget target : atPrice) {
+                crossings.add(new PriceCrossing(target, previous, price));
+            }
+        }
+        return crossings;
+    }
+
+    /**
+     * 종목의 등록된 목표가 목록 (목표가 오름차순)
+     */
+    public List<PriceTarget> targets(String symbol) {
+        SymbolTargets targets = bySymbol.get(symbol);
+        if (targets == null) {
+            return List.of();
+        }
+        List<PriceTarget> result = new ArrayList<>();
+        for (List<PriceTarget> atPrice : targets.prices.values()) {
+            result.addAll(atPrice);
+        }
+        return result;
+    }
+
+    /**
+     * 전체 목표가 목록
+     */
+    public Collection<PriceTarget> all() {
+        return List.copyOf(byId.values());
+    }
+
+    public PriceTarget find(String targetId) {
+        return byId.get(targetId);
+    }
+
+    public int size() {
+        return byId.size();
+    }
+
+    /**
+     * 목표가가 등록된 종목 수
+     */
+    public int symbolCount() {
+        return bySymbol.size();
+    }
+
+    // 같은 목표가의 목록은 불변으로 두고 통째로 교체 (merge/compute 함수가 재시도되어도 안전)
+    private static List<PriceTarget> concat(List<PriceTarget> existing, List<PriceTarget> added) {
+        List<PriceTarget> merged = new ArrayList<>(existing.size() + added.size());
+        merged.addAll(existing);
+        merged.addAll(added);
+        return List.copyOf(merged);
+    }
+
+    private static List<PriceTarget> without(List<PriceTarget> existing, String targetId) {
+        List<PriceTarget> remaining = existing.stream()
+                .filter(target -> !target.id().equals(targetId))
+                .toList();
+        return remaining.isEmpty() ? null : remaining;
+    }
+
+    /**
+     * 종목별 목표가 (목표가 -> 같은 목표가의 알림 목록) 와 직전 체결가
+     */
+    private static final class SymbolTargets {
+
+        private final ConcurrentSkipListMap<Long, List<PriceTarget>> prices = new ConcurrentSkipListMap<>();
+        private final AtomicLong lastPrice = new AtomicLong(NO_PRICE);
+    }
+}
@@ -0,0 +1,87 @@
+package me.rgunny.marketpulse.event.marketdata.application.util;
+
+import me.rgunny.marketpulse.event.marketdata.infrastructure.config.shared.MarketDataCacheProperties;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 캐시 만료 전 백그라운드 갱신(stale-while-revalidate) 정책
+ *
+ * - 시세가 softTtl 보다 오래되면 캐시 값을 응답하면서 갱신 1회를 예약
+ * - 같은 종목은 갱신이 끝날 때까지 다시 예약하지 않고, 전체 갱신 횟수는 속도 제한기로 제한
+ * - 예약하지 못한 종목은 hardTtl 만료 후 조회 요청이 직접 갱신
+ * - 사용자 조회 경로 전용 (주기 수집은 캐시를 거치지 않고 항상 API 에서 조회)
+ */
+public class RefreshAheadPolicy {
+
+    private final boolean enabled;
+    private final Duration softTtl;
+    private final Duration hardTtl;
+    private final TokenBucketRateLimiter rateLimiter;
+    private final Clock clock;
+    private final Set<String> refreshing = ConcurrentHashMap.newKeySet();
+
+    public RefreshAheadPolicy(MarketDataCacheProperties.RefreshAhead config, Clock clock) {
+        this(config, new TokenBucketRateLimiter(config.permitsPerMinute(), config.burstCapacity()), clock);
+    }
+
+    public RefreshAheadPolicy(MarketDataCacheProperties.RefreshAhead config,
+                              TokenBucketRateLimiter rateLimiter,
+                              Clock clock) {
+        this.enabled = config.enabled();
+        this.softTtl = config.softTtl();
+        this.hardTtl = config.hardTtl();
+        this.rateLimiter = rateLimiter;
+        // StockPrice 수집 시각은 시스템 기본 시간대 기준
+        this.clock = clock.withZone(ZoneId.systemDefault());
+    }
+
+    /**
+     * 캐시 보관 시간
+     */
+    public Duration hardTtl() {
+        return hardTtl;
+    }
+
+    /**
+     * 수집 시각 기준으로 softTtl 이 지났는지 확인 (수집 시각을 모르면 지난 것으로 간주)
+     */
+    public boolean isStale(LocalDateTime collectedAt) {
+        if (!enabled) {
+            return false;
+        }
+        if (collectedAt == null) {
+            return true;
+        }
+        return Duration.between(collectedAt, LocalDateTime.now(clock)).compareTo(softTtl) >= 0;
+    }
+
+    /**
+     * 종목 갱신 예약 시도
+     *
+     * @return 이미 갱신 중이 아니고 허용량이 남아 있어 예약했으면 true (끝나면 complete 호출)
+     */
+    public boolean tryBegin(String symbol) {
+        if (!enabled || !refreshing.add(symbol)) {
+            return false;
+        }
+        if (!rateLimiter.tryAcquire()) {
+            refreshing.remove(symbol);
+            return false;
+        }
+        return true;
+    }
+
+    public void complete(String symbol) {
+        refreshing.remove(symbol);
+    }
+
+    public int inFlight() {
+        return refreshing.size();
+    }
+}
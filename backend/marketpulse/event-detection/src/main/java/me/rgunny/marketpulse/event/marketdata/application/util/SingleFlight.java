@@ -0,0 +1,47 @@
+package me.rgunny.marketpulse.event.marketdata.application.util;
+
+import reactor.core.publisher.Mono;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+
+/**
+ * Thread-Safe 키별 요청 병합 (single-flight)
+ *
+ * 같은 키로 진행 중인 호출이 있으면 새로 호출하지 않고 진행 중인 호출의 결과를 함께 받음
+ * - 호출이 끝나면(값/빈 값/에러) 바로 제거하므로 결과를 캐시하지 않음
+ * - 먼저 요청한 구독자가 취소하거나 타임아웃돼도 호출은 끝까지 진행되어 나머지 구독자가 결과를 받음
+ */
+public class SingleFlight<K, V> {
+
+    private final ConcurrentMap<K, Mono<V>> calls = new ConcurrentHashMap<>();
+
+    /**
+     * @param key      병합 기준 키
+     * @param call     진행 중인 호출이 없을 때 실행할 호출
+     * @param onShared 진행 중인 호출에 합류했을 때 실행 (메트릭 기록 등)
+     */
+    public Mono<V> execute(K key, Supplier<Mono<V>> call, Runnable onShared) {
+        return Mono.defer(() -> {
+            boolean[] leader = new boolean[1];
+            Mono<V> shared = calls.computeIfAbsent(key, k -> {
+                leader[0] = true;
+                return Mono.defer(call)
+                        .doFinally(signal -> calls.remove(k))
+                        .cache();
+            });
+            if (!leader[0]) {
+                onShared.run();
+            }
+            return shared;
+        });
+    }
+
+    /**
+     * 진행 중인 호출 수
+     */
+    public int inFlight() {
+        return calls.size();
+    }
+}
@@ -0,0 +1,103 @@
+package me.rgunny.marketpulse.event.marketdata.application.util;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * Thread-Safe 토큰 버킷 속도 제한기
+ *
+ * GCRA(Generic Cell Rate Algorithm) 방식으로 토큰을 예약
+ * - 호출자는 reserve()가 반환한 시간만큼 대기 후 요청 실행
+ * - burstCapacity 이내의 요청만 즉시 허용하고, 나머지는 균등 간격으로 분산
+ * - 여러 인스턴스가 같은 외부 API 허용량을 나눠 쓰면 shareAmong 으로 인스턴스 수만큼 나눈 몫만 사용
+ */
+public class TokenBucketRateLimiter {
+
+    private final int basePermitsPerMinute;
+    private final int baseBurstCapacity;
+    private final LongSupplier nanoTimeSource;
+
+    private int permitsPerMinute;
+    private int burstCapacity;
+    private long nanosPerPermit;
+    private long burstToleranceNanos;
+    private int shares = 1;
+
+    // 다음 토큰이 이론적으로 도착하는 시각 (nanoTime 기준)
+    private long theoreticalArrivalNanos;
+
+    public TokenBucketRateLimiter(int permitsPerMinute, int burstCapacity) {
+        this(permitsPerMinute, burstCapacity, System::nanoTime);
+    }
+
+    public TokenBucketRateLimiter(int permitsPerMinute, int burstCapacity, LongSupplier nanoTimeSource) {
+        if (permitsPerMinute <= 0) {
+            throw new IllegalArgumentException("permitsPerMinute must be positive");
+        }
+        if (burstCapacity <= 0) {
+            throw new IllegalArgumentException("burstCapacity must be positive");
+        }
+        this.basePermitsPerMinute = permitsPerMinute;
+        this.baseBurstCapacity = burstCapacity;
+        this.nanoTimeSource = nanoTimeSource;
+        this.theoreticalArrivalNanos = nanoTimeSource.getAsLong();
+        configure(permitsPerMinute, burstCapacity);
+    }
+
+    /**
+     * 허용량을 인스턴스 수로 나눠 현재 인스턴스 몫만 사용 (분당 허용량과 버스트 모두 최소 1)
+     *
+     * @param instances 같은 외부 API 허용량을 나눠 쓰는 인스턴스 수
+     */
+    public synchronized void shareAmong(int instances) {
+        int divisor = Math.max(1, instances);
+        if (divisor == shares) {
+            return;
+        }
+        shares = divisor;
+        configure(Math.max(1, basePermitsPerMinute / divisor), Math.max(1, baseBurstCapacity / divisor));
+    }
+
+    /**
+     * 토큰 1개 예약
+     *
+     * @return 요청 실행 전 대기해야 하는 시간 (나노초, 즉시 실행 가능하면 0)
+     */
+    public synchronized long reserve() {
+        long now = nanoTimeSource.getAsLong();
+        long arrival = Math.max(theoreticalArrivalNanos, now);
+        long waitNanos = Math.max(0L, arrival - burstToleranceNanos - now);
+        theoreticalArrivalNanos = arrival + nanosPerPermit;
+        return waitNanos;
+    }
+
+    /**
+     * 대기 없이 토큰 획득 시도
+     *
+     * @return 즉시 사용 가능한 토큰이 있어 예약했으면 true
+     */
+    public synchronized boolean tryAcquire() {
+        long now = nanoTimeSource.getAsLong();
+        long arrival = Math.max(theoreticalArrivalNanos, now);
+        if (arrival - burstToleranceNanos > now) {
+            return false;
+        }
+        theoreticalArrivalNanos = arrival + nanosPerPermit;
+        return true;
+    }
+
+    public synchronized int getPermitsPerMinute() {
+        return permitsPerMinute;
+    }
+
+    public synchronized int getBurstCapacity() {
+        return burstCapacity;
+    }
+
+    private void configure(int permitsPerMinute, int burstCapacity) {
+        this.permitsPerMinute = permitsPerMinute;
+        this.burstCapacity = burstCapacity;
+        this.nanosPerPermit = TimeUnit.MINUTES.toNanos(1) / permitsPerMinute;
+        this.burstToleranceNanos = nanosPerPermit * (burstCapacity - 1);
+    }
+}
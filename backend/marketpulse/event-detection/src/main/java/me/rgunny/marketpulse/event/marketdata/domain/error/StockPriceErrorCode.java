@@ -10,6 +10,9 @@ public enum StockPriceErrorCode implements ErrorCode {
     STOCK_PRICE_003("STOCK_PRICE_003", "주식 현재가 저장에 실패했습니다", HttpStatus.INTERNAL_SERVER_ERROR),
     STOCK_PRICE_004("STOCK_PRICE_004", "올바르지 않은 종목코드입니다", HttpStatus.BAD_REQUEST),
     STOCK_PRICE_005("STOCK_PRICE_005", "KIS API 호출에 실패했습니다", HttpStatus.INTERNAL_SERVER_ERROR),
+    STOCK_PRICE_006("STOCK_PRICE_006", "조회할 종목코드가 없거나 허용 개수를 초과했습니다", HttpStatus.BAD_REQUEST),
+    STOCK_PRICE_007("STOCK_PRICE_007", "목표가 알림 요청이 올바르지 않습니다", HttpStatus.BAD_REQUEST),
+    STOCK_PRICE_008("STOCK_PRICE_008", "목표가 알림을 찾을 수 없습니다", HttpStatus.NOT_FOUND),
 
     STOCK_PRICE_999("STOCK_PRICE_999", "StockPrice 클래스가 아닙니다.", HttpStatus.BAD_REQUEST)
     ;
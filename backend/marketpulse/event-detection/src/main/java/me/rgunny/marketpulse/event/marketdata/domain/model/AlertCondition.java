@@ -0,0 +1,70 @@
+package me.rgunny.marketpulse.event.marketdata.domain.model;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * 알림 조건
+ *
+ * 한 조건 안에 지정한 값들은 모두 만족해야 하고(AND), all 은 하위 조건을 모두, any 는 하위 조건 중 하나를 만족해야 함
+ * 지정하지 않은(null) 값은 검사하지 않음
+ *
+ * @param changeRateAtLeast 전일대비율 하한 (%, 이상)
+ * @param changeRateAtMost  전일대비율 상한 (%, 이하)
+ * @param volumeAtLeast     누적거래량 하한 (이상)
+ * @param priceAtLeast      현재가 하한 (이상)
+ * @param priceAtMost       현재가 상한 (이하)
+ * @param all               모두 만족해야 하는 하위 조건
+ * @param any               하나 이상 만족해야 하는 하위 조건
+ */
+public record AlertCondition(
+        BigDecimal changeRateAtLeast,
+        BigDecimal changeRateAtMost,
+        Long volumeAtLeast,
+        Long priceAtLeast,
+        Long priceAtMost,
+        List<AlertCondition> all,
+        List<AlertCondition> any
+) {
+
+    public AlertCondition {
+        all = all == null ? List.of() : List.copyOf(all);
+        any = any == null ? List.of() : List.copyOf(any);
+    }
+
+    public static AlertCondition changeRateAtLeast(BigDecimal percent) {
+        return new AlertCondition(percent, null, null, null, null, null, null);
+    }
+
+    public static AlertCondition changeRateAtMost(BigDecimal percent) {
+        return new AlertCondition(null, percent, null, null, null, null, null);
+    }
+
+    public static AlertCondition volumeAtLeast(long volume) {
+        return new AlertCondition(null, null, volume, null, null, null, null);
+    }
+
+    public static AlertCondition priceAtLeast(long price) {
+        return new AlertCondition(null, null, null, price, null, null, null);
+    }
+
+    public static AlertCondition priceAtMost(long price) {
+        return new AlertCondition(null, null, null, null, price, null, null);
+    }
+
+    public static AlertCondition allOf(AlertCondition... conditions) {
+        return new AlertCondition(null, null, null, null, null, List.of(conditions), null);
+    }
+
+    public static AlertCondition anyOf(AlertCondition... conditions) {
+        return new AlertCondition(null, null, null, null, null, null, List.of(conditions));
+    }
+
+    /**
+     * 검사할 값이 하나도 없는 조건 여부 (항상 참)
+     */
+    public boolean isEmpty() {
+        return changeRateAtLeast == null && changeRateAtMost == null && volumeAtLeast == null
+                && priceAtLeast == null && priceAtMost == null && all.isEmpty() && any.isEmpty();
+    }
+}
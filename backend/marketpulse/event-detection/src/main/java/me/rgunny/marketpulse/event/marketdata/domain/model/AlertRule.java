@@ -0,0 +1,61 @@
+package me.rgunny.marketpulse.event.marketdata.domain.model;
+
+/**
+ * 알림 규칙
+ *
+ * 적용 범위는 symbol(종목) > group(종목 그룹) > 전체 순으로 하나만 지정
+ * 한 체결에 여러 규칙이 맞으면 priority 가 높은 규칙 하나만 발송 (같으면 종목/그룹 규칙, 그다음 선언 순서)
+ *
+ * @param id              규칙 ID (규칙 집합 안에서 유일)
+ * @param symbol          적용 종목코드 (null 이면 종목 지정 없음)
+ * @param group           적용 종목 그룹 (null 이면 그룹 지정 없음)
+ * @param type            발송할 알림 타입
+ * @param priority        우선순위 (높을수록 먼저)
+ * @param cooldownMinutes 같은 종목/알림 타입 재발송 대기 시간 (분, 기본 30)
+ * @param when            발송 조건
+ */
+public record AlertRule(
+        String id,
+        String symbol,
+        String group,
+        AlertType type,
+        int priority,
+        Integer cooldownMinutes,
+        AlertCondition when
+) {
+
+    public static final int DEFAULT_COOLDOWN_MINUTES = 30;
+
+    public AlertRule {
+        if (cooldownMinutes == null) {
+            cooldownMinutes = DEFAULT_COOLDOWN_MINUTES;
+        }
+    }
+
+    /**
+     * 전체 종목 규칙
+     */
+    public static AlertRule global(String id, AlertType type, int priority, int cooldownMinutes, AlertCondition when) {
+        return new AlertRule(id, null, null, type, priority, cooldownMinutes, when);
+    }
+
+    /**
+     * 종목 규칙
+     */
+    public static AlertRule forSymbol(String id, String symbol, AlertType type, int priority, int cooldownMinutes,
+                                      AlertCondition when) {
+        return new AlertRule(id, symbol, null, type, priority, cooldownMinutes, when);
+    }
+
+    /**
+     * 종목 그룹 규칙
+     */
+    public static AlertRule forGroup(String id, String group, AlertType type, int priority, int cooldownMinutes,
+                                     AlertCondition when) {
+        return new AlertRule(id, null, group, type, priority, cooldownMinutes, when);
+    }
+
+    public boolean isGlobal() {
+        return symbol == null && group == null;
+    }
+}
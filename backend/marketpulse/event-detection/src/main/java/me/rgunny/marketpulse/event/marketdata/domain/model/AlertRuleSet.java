@@ -0,0 +1,21 @@
+package me.rgunny.marketpulse.event.marketdata.domain.model;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 알림 규칙 집합 (교체 단위)
+ *
+ * @param rules  알림 규칙
+ * @param groups 종목 그룹 (그룹명 -> 종목코드 목록)
+ */
+public record AlertRuleSet(
+        List<AlertRule> rules,
+        Map<String, List<String>> groups
+) {
+
+    public AlertRuleSet {
+        rules = rules == null ? List.of() : List.copyOf(rules);
+        groups = groups == null ? Map.of() : Map.copyOf(groups);
+    }
+}
@@ -0,0 +1,63 @@
+package me.rgunny.marketpulse.event.marketdata.domain.model;
+
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * 시세 수집 1회 실행 결과
+ */
+public record CollectionRunResult(
+        Instant startTime,
+        Instant endTime,
+        int totalCount,
+        int successCount,
+        int errorCount,
+        Duration pacingWait,
+        Duration lag
+) {
+
+    /**
+     * 수집 결과 생성
+     *
+     * @param targetInterval 목표 수집 주기 (실행 시간이 이를 넘으면 lag로 기록)
+     */
+    public static CollectionRunResult of(
+            Instant startTime,
+            Instant endTime,
+            int totalCount,
+            int successCount,
+            int errorCount,
+            Duration pacingWait,
+            Duration targetInterval
+    ) {
+        Duration elapsed = Duration.between(startTime, endTime);
+        Duration lag = elapsed.compareTo(targetInterval) > 0 ? elapsed.minus(targetInterval) : Duration.ZERO;
+        return new CollectionRunResult(
+                startTime, endTime, totalCount, successCount, errorCount, pacingWait, lag);
+    }
+
+    /**
+     * 수집 소요 시간
+     */
+    public Duration getDuration() {
+        return Duration.between(startTime, endTime);
+    }
+
+    /**
+     * 초당 처리 종목 수
+     */
+    public double getThroughputPerSecond() {
+        long millis = getDuration().toMillis();
+        if (millis <= 0) return 0.0;
+        return (successCount + errorCount) * 1000.0 / millis;
+    }
+
+    /**
+     * 에러율 (%)
+     */
+    public double getErrorRate() {
+        int processed = successCount + errorCount;
+        if (processed == 0) return 0.0;
+        return (double) errorCount / processed * 100;
+    }
+}
@@ -0,0 +1,21 @@
+package me.rgunny.marketpulse.event.marketdata.domain.model;
+
+import java.time.Duration;
+
+/**
+ * 시세 수집 대상
+ *
+ * @param symbol   종목코드
+ * @param tier     수집 등급
+ * @param interval 수집 주기 (다음 마감까지의 시간)
+ */
+public record CollectionTarget(
+        String symbol,
+        CollectionTier tier,
+        Duration interval
+) {
+
+    public static CollectionTarget of(String symbol, CollectionTier tier, Duration interval) {
+        return new CollectionTarget(symbol, tier, interval);
+    }
+}
@@ -0,0 +1,26 @@
+package me.rgunny.marketpulse.event.marketdata.domain.model;
+
+import lombok.Getter;
+
+/**
+ * 시세 수집 등급
+ * 등급별로 수집 주기와 마감 시각을 따로 관리
+ */
+@Getter
+public enum CollectionTier {
+    CORE("코어 종목", true),
+    HIGH("높은 우선순위", true),
+    NORMAL("일반 종목", false)
+    ;
+
+    private final String description;
+
+    // 일반 등급 적체가 길어져도 마감 임박 시 먼저 수집되는 등급
+    private final boolean protectedTier;
+
+    CollectionTier(String description, boolean protectedTier) {
+        this.description = description;
+        this.protectedTier = protectedTier;
+    }
+
+}
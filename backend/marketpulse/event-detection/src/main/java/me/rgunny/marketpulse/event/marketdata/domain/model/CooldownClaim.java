@@ -0,0 +1,25 @@
+package me.rgunny.marketpulse.event.marketdata.domain.model;
+
+import java.time.Duration;
+
+/**
+ * 알림 쿨다운 선점 결과
+ *
+ * @param acquired  이번 요청이 쿨다운을 선점했으면 true (알림 발송 가능)
+ * @param remaining 선점하지 못했을 때 남은 쿨다운 (선점했거나 알 수 없으면 Duration.ZERO)
+ */
+public record CooldownClaim(
+        boolean acquired,
+        Duration remaining
+) {
+
+    private static final CooldownClaim GRANTED = new CooldownClaim(true, Duration.ZERO);
+
+    public static CooldownClaim granted() {
+        return GRANTED;
+    }
+
+    public static CooldownClaim blocked(Duration remaining) {
+        return new CooldownClaim(false, remaining.isNegative() ? Duration.ZERO : remaining);
+    }
+}
@@ -0,0 +1,24 @@
+package me.rgunny.marketpulse.event.marketdata.domain.model;
+
+/**
+ * 목표가 돌파 (직전 체결가 -> 현재 체결가 사이에 목표가가 있음)
+ *
+ * 상승 돌파는 직전가 < 목표가 <= 현재가, 하락 돌파는 현재가 <= 목표가 < 직전가
+ *
+ * @param target        돌파한 목표가 알림
+ * @param previousPrice 직전 체결가
+ * @param price         현재 체결가
+ */
+public record PriceCrossing(
+        PriceTarget target,
+        long previousPrice,
+        long price
+) {
+
+    /**
+     * 상승 돌파 여부
+     */
+    public boolean isUpward() {
+        return price > previousPrice;
+    }
+}
@@ -0,0 +1,24 @@
+package me.rgunny.marketpulse.event.marketdata.domain.model;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.Indexed;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+/**
+ * 사용자 목표가 알림 ("005930 이 80,000 원을 지나면 알림")
+ *
+ * 가격이 목표가를 위/아래 어느 방향으로든 지나면 한 번 발송되고 해제됨
+ *
+ * @param id          목표가 알림 ID
+ * @param userId      등록한 사용자 ID
+ * @param symbol      종목코드
+ * @param targetPrice 목표가 (원)
+ */
+@Document(collection = "price_targets")
+public record PriceTarget(
+        @Id String id,
+        String userId,
+        @Indexed String symbol,
+        long targetPrice
+) {
+}
@@ -0,0 +1,24 @@
+package me.rgunny.marketpulse.event.marketdata.domain.model;
+
+/**
+ * 수신 시세 (실시간 체결 또는 REST 현재가 조회 결과)
+ *
+ * @param tick 수신한 체결 (수신 시각 = tick.epochMillis, 수신부터 알림 분석까지의 지연 측정 기준)
+ * @param name 종목명 (저장/응답용 StockPrice 변환 시 사용)
+ */
+public record RealtimeQuote(
+        Tick tick,
+        String name
+) {
+
+    public String symbol() {
+        return tick.symbol();
+    }
+
+    /**
+     * 저장/응답 경계에서 사용할 시세로 변환
+     */
+    public StockPrice toStockPrice() {
+        return tick.toStockPrice(name);
+    }
+}
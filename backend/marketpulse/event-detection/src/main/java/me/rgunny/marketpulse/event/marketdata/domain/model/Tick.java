@@ -0,0 +1,116 @@
+package me.rgunny.marketpulse.event.marketdata.domain.model;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+/**
+ * 체결 1건 (수집/알림 분석용 원시 타입 시세)
+ *
+ * 원화 가격은 정수이므로 BigDecimal 대신 long 으로 보관하고, 등락률은 basis point(0.01%) 정수로 미리 계산
+ * - 수집부터 알림 판단까지는 Tick 만 사용하고, 저장(캐시/MongoDB)과 API 응답 경계에서만 StockPrice 로 변환
+ * - 등락률은 StockPrice 와 같은 규칙(전일대비 / 전일종가, 소수 4자리 HALF_UP)으로 계산하여 두 경로의 알림 판단이 같음
+ *
+ * @param changeRateBps 전일대비율 (basis point, 1bp = 0.01%, 전일종가가 0 이면 0)
+ * @param epochMillis   수집시간 (epoch millis)
+ */
+public record Tick(
+        String symbol,
+        long price,
+        long previousClose,
+        long open,
+        long high,
+        long low,
+        long askPrice1,
+        long bidPrice1,
+        long volume,
+        int changeRateBps,
+        long epochMillis
+) {
+
+    public static final int BASIS_POINTS_PER_UNIT = 10_000;
+
+    private static final ZoneId ZONE = ZoneId.systemDefault();
+
+    /**
+     * 체결 생성 (등락률 계산)
+     */
+    public static Tick of(String symbol, long price, long previousClose, long open, long high, long low,
+                          long askPrice1, long bidPrice1, long volume, long epochMillis) {
+        return new Tick(symbol, price, previousClose, open, high, low, askPrice1, bidPrice1, volume,
+                changeRateBps(price, previousClose), epochMillis);
+    }
+
+    /**
+     * 저장/조회한 시세를 체결로 변환 (폴링 경로의 알림 판단용, 소수 가격은 버림)
+     */
+    public static Tick from(StockPrice stockPrice) {
+        LocalDateTime timestamp = stockPrice.getTimestamp();
+        return new Tick(
+                stockPrice.getSymbol(),
+                toLong(stockPrice.getCurrentPrice()),
+                toLong(stockPrice.getPreviousClose()),
+                toLong(stockPrice.getOpen()),
+                toLong(stockPrice.getHigh()),
+                toLong(stockPrice.getLow()),
+                toLong(stockPrice.getAskPrice1()),
+                toLong(stockPrice.getBidPrice1()),
+                stockPrice.getVolume() == null ? 0L : stockPrice.getVolume(),
+                toBasisPoints(stockPrice.getChangeRate()),
+                timestamp == null ? 0L : timestamp.atZone(ZONE).toInstant().toEpochMilli()
+        );
+    }
+
+    /**
+     * 전일대비
+     */
+    public long change() {
+        return price - previousClose;
+    }
+
+    /**
+     * 저장/응답용 시세로 변환
+     */
+    public StockPrice toStockPrice(String name) {
+        LocalDateTime timestamp = LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMillis), ZONE);
+        return new StockPrice(
+                null,  // MongoDB가 ObjectId 자동 생성
+                symbol, name,
+                BigDecimal.valueOf(price), BigDecimal.valueOf(previousClose),
+                BigDecimal.valueOf(change()), BigDecimal.valueOf(changeRateBps, 2),
+                BigDecimal.valueOf(high), BigDecimal.valueOf(low), BigDecimal.valueOf(open),
+                volume, null, null,  // amount, marketCap은 null로 설정
+                BigDecimal.valueOf(askPrice1), BigDecimal.valueOf(bidPrice1),
+                timestamp, timestamp
+        );
+    }
+
+    /**
+     * 퍼센트 등락률을 basis point 로 변환 (예: 5.0 -> 500, 소수 2자리 아래는 HALF_UP)
+     */
+    public static int toBasisPoints(BigDecimal percent) {
+        if (percent == null) {
+            return 0;
+        }
+        return percent.movePointRight(2).setScale(0, RoundingMode.HALF_UP).intValueExact();
+    }
+
+    /**
+     * (현재가 - 전일종가) / 전일종가 를 basis point 로 HALF_UP 반올림 (0 에서 먼 쪽)
+     */
+    private static int changeRateBps(long price, long previousClose) {
+        if (previousClose == 0) {
+            return 0;
+        }
+        long numerator = (price - previousClose) * BASIS_POINTS_PER_UNIT;
+        long divisor = Math.abs(previousClose);
+        long rounded = (Math.abs(numerator) * 2 + divisor) / (divisor * 2);
+        return (int) ((numerator < 0) == (previousClose < 0) ? rounded : -rounded);
+    }
+
+    private static long toLong(BigDecimal value) {
+        return value == null ? 0L : value.longValue();
+    }
+}
@@ -0,0 +1,64 @@
+package me.rgunny.marketpulse.event.marketdata.infrastructure.adapter.in.rest;
+
+import me.rgunny.marketpulse.common.core.response.Result;
+import me.rgunny.marketpulse.event.marketdata.application.usecase.PriceTargetAlertService;
+import me.rgunny.marketpulse.event.marketdata.domain.model.PriceTarget;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+/**
+ * 사용자 목표가 알림 REST Controller
+ */
+@RestController
+@RequestMapping("/api/v1/price-targets")
+public class PriceTargetController {
+    
+    private final PriceTargetAlertService priceTargetAlertService;
+    
+    public PriceTargetController(PriceTargetAlertService priceTargetAlertService) {
+        this.priceTargetAlertService = priceTargetAlertService;
+    }
+    
+    /**
+     * 목표가 알림 등록 (가격이 목표가를 지나면 1회 발송)
+     * @param request 사용자 ID, 종목코드, 목표가
+     * @return 등록된 목표가 알림
+     */
+    @PostMapping(produces = MediaType.APPLICATION_JSON_VALUE)
+    public Mono<Result<PriceTarget>> register(@RequestBody RegisterRequest request) {
+        return priceTargetAlertService.register(request.userId(), request.symbol(), request.targetPrice())
+                .map(Result::success);
+    }
+    
+    /**
+     * 종목의 목표가 알림 목록
+     * @param symbol 종목코드 (예: 005930)
+     * @return 목표가 오름차순 목록
+     */
+    @GetMapping(produces = MediaType.APPLICATION_JSON_VALUE)
+    public Mono<Result<List<PriceTarget>>> findBySymbol(@RequestParam String symbol) {
+        return priceTargetAlertService.findBySymbol(symbol)
+                .collectList()
+                .map(Result::success);
+    }
+    
+    /**
+     * 목표가 알림 해제
+     * @param targetId 목표가 알림 ID
+     * @return 해제된 목표가 알림
+     */
+    @DeleteMapping(value = "/{targetId}", produces = MediaType.APPLICATION_JSON_VALUE)
+    public Mono<Result<PriceTarget>> cancel(@PathVariable String targetId) {
+        return priceTargetAlertService.cancel(targetId)
+                .map(Result::success);
+    }
+    
+    /**
+     * 목표가 알림 등록 요청
+     */
+    public record RegisterRequest(String userId, String symbol, long targetPrice) {
+    }
+}
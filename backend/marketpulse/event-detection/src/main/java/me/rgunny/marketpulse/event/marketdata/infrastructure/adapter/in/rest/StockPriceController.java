@@ -1,17 +1,25 @@
 package me.rgunny.marketpulse.event.marketdata.infrastructure.adapter.in.rest;
 
+import me.rgunny.marketpulse.common.core.exception.BusinessException;
 import me.rgunny.marketpulse.common.core.response.Result;
 import me.rgunny.marketpulse.event.marketdata.domain.error.StockPriceErrorCode;
 import me.rgunny.marketpulse.event.marketdata.application.port.in.GetStockPriceUseCase;
 import me.rgunny.marketpulse.event.marketdata.domain.model.StockPrice;
 import org.springframework.http.MediaType;
 import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.util.List;
+
 @RestController
 @RequestMapping("/api/v1/stocks")
 public class StockPriceController {
     
+    // 한 번에 조회할 수 있는 종목 수 (JSON 응답은 한 번에 직렬화하므로 스트리밍보다 작게 제한)
+    private static final int MAX_BULK_SYMBOLS = 100;
+    private static final int MAX_STREAM_SYMBOLS = 2000;
+    
     private final GetStockPriceUseCase getStockPriceUseCase;
     
     public StockPriceController(GetStockPriceUseCase getStockPriceUseCase) {
@@ -53,4 +61,43 @@ public class StockPriceController {
                 .map(Result::success)
                 .onErrorResume(error -> Mono.just(Result.failure(StockPriceErrorCode.STOCK_PRICE_003)));
     }
-}
\ No newline at end of file
+    
+    /**
+     * 여러 종목 현재가 일괄 조회 (캐시 우선, 캐시에 없는 종목은 한 번에 조회)
+     * @param symbols 종목코드 목록 (예: 005930,000660)
+     * @return 조회된 현재가 목록 (조회되지 않은 종목은 제외)
+     */
+    @GetMapping(value = "/prices", produces = MediaType.APPLICATION_JSON_VALUE)
+    public Mono<Result<List<StockPrice>>> getCurrentPrices(@RequestParam List<String> symbols) {
+        List<String> normalized = normalizeSymbols(symbols);
+        if (normalized.isEmpty() || normalized.size() > MAX_BULK_SYMBOLS) {
+            return Mono.just(Result.failure(StockPriceErrorCode.STOCK_PRICE_006));
+        }
+        return getStockPriceUseCase.getCurrentPrices(normalized)
+                .collectList()
+                .map(Result::success)
+                .onErrorResume(error -> Mono.just(Result.failure(StockPriceErrorCode.STOCK_PRICE_001)));
+    }
+    
+    /**
+     * 여러 종목 현재가 스트리밍 조회 (NDJSON, 조회되는 대로 한 줄씩 전송)
+     * @param symbols 종목코드 목록 (예: 005930,000660)
+     * @return 조회된 현재가 스트림
+     */
+    @GetMapping(value = "/prices", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<StockPrice> streamCurrentPrices(@RequestParam List<String> symbols) {
+        List<String> normalized = normalizeSymbols(symbols);
+        if (normalized.isEmpty() || normalized.size() > MAX_STREAM_SYMBOLS) {
+            return Flux.error(new BusinessException(StockPriceErrorCode.STOCK_PRICE_006));
+        }
+        return getStockPriceUseCase.getCurrentPrices(normalized);
+    }
+    
+    private List<String> normalizeSymbols(List<String> symbols) {
+        return symbols.stream()
+                .map(String::trim)
+                .filter(symbol -> !symbol.isEmpty())
+                .distinct()
+                .toList();
+    }
+}
@@ -3,35 +3,86 @@ package me.rgunny.marketpulse.event.marketdata.infrastructure.adapter.in.schedul
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import me.rgunny.marketpulse.event.marketdata.application.port.in.CollectStockPriceUseCase;
+import me.rgunny.marketpulse.event.marketdata.application.port.in.CollectionShardUseCase;
+import me.rgunny.marketpulse.event.marketdata.application.port.in.CollectionTargetUseCase;
 import me.rgunny.marketpulse.event.marketdata.application.port.in.MarketHoursUseCase;
+import me.rgunny.marketpulse.event.marketdata.application.port.out.CollectionMetricsPort;
+import me.rgunny.marketpulse.event.marketdata.application.port.out.RealtimeQuotePort;
+import me.rgunny.marketpulse.event.marketdata.application.usecase.PriceTargetAlertService;
+import me.rgunny.marketpulse.event.marketdata.application.util.AdaptiveIntervalPolicy;
+import me.rgunny.marketpulse.event.marketdata.application.util.DeadlineCollectionQueue;
+import me.rgunny.marketpulse.event.marketdata.application.util.TokenBucketRateLimiter;
+import me.rgunny.marketpulse.event.marketdata.domain.model.CollectionRunResult;
+import me.rgunny.marketpulse.event.marketdata.domain.model.CollectionTarget;
+import me.rgunny.marketpulse.event.marketdata.domain.model.CollectionTier;
+import me.rgunny.marketpulse.event.marketdata.domain.model.StockPrice;
 import me.rgunny.marketpulse.event.marketdata.infrastructure.config.shared.StockCollectionProperties;
+import me.rgunny.marketpulse.event.shared.domain.value.BusinessConstants;
 import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.ContextClosedEvent;
 import org.springframework.context.event.EventListener;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.time.Clock;
 import java.time.Duration;
-import java.time.LocalDateTime;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
 
 /**
  * 주식 시세 수집 스케줄러
- * 
- * 주기적으로 감시 대상 종목들의 현재가를 수집하여 저장합니다.
+ *
+ * 종목을 등급(CORE, HIGH, NORMAL)별 큐에 넣고 갱신 마감이 가장 가까운 종목부터 수집합니다. (EDF)
+ * 외부 API 호출은 토큰 버킷으로 분당 허용량 이내로 분산하고, 여러 종목 조회를 지원하면 마감이 가까운 종목끼리 묶어 1회 호출로 수집합니다.
+ * 여러 인스턴스가 떠 있으면 일관된 해시로 나눠 받은 종목만 수집합니다.
+ * 소유 종목 중 등급이 높은 종목부터 실시간 체결가를 구독하고, 체결을 받고 있는 종목은 폴링하지 않고 다음 주기로 넘깁니다.
+ * (체결마다 저장/알림이 처리되므로 토큰을 쓰거나 다시 저장하지 않음, 연결이 끊기면 다음 주기부터 다시 폴링)
+ * 소유 종목이 정해질 때마다(대상 갱신, 재분배) 그 종목의 사용자 목표가를 저장소에서 다시 읽어 돌파 색인에 올립니다.
  */
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class StockPriceCollectionScheduler {
 
+    private static final Duration COLLECT_TIMEOUT = Duration.ofSeconds(BusinessConstants.DEFAULT_TIMEOUT_SECONDS);
+    private static final Duration LEAVE_TIMEOUT = Duration.ofSeconds(3);
+
+    // 실시간 구독 우선순위 (등급 순, 같은 등급은 주기가 짧은 순)
+    private static final Comparator<CollectionTarget> SUBSCRIPTION_PRIORITY =
+            Comparator.comparing(CollectionTarget::tier)
+                    .thenComparing(CollectionTarget::interval)
+                    .thenComparing(CollectionTarget::symbol);
+
     private final CollectStockPriceUseCase collectStockPriceUseCase;
     private final MarketHoursUseCase marketHoursUseCase;
+    private final CollectionTargetUseCase collectionTargetUseCase;
+    private final CollectionShardUseCase collectionShardUseCase;
+    private final RealtimeQuotePort realtimeQuotePort;
+    private final PriceTargetAlertService priceTargetAlertService;
+    private final TokenBucketRateLimiter collectionRateLimiter;
+    private final DeadlineCollectionQueue collectionQueue;
+    private final AdaptiveIntervalPolicy intervalPolicy;
+    private final CollectionMetricsPort collectionMetricsPort;
     private final StockCollectionProperties properties;
-    
-    // 마지막 수집 시간 추적을 위한 맵
-    private final ConcurrentHashMap<String, LocalDateTime> lastCollectionTimes = new ConcurrentHashMap<>();
+    private final Clock clock;
+
+    // 이전 수집이 끝나지 않았으면 다음 주기는 건너뜀 (중복 실행 시 API 허용량 초과 방지)
+    private final AtomicBoolean collecting = new AtomicBoolean(false);
+
+    // 마지막으로 조회한 전체 수집 대상 (인스턴스 목록이 바뀌면 다시 조회하지 않고 소유 종목만 재계산)
+    private final AtomicReference<List<CollectionTarget>> resolvedTargets = new AtomicReference<>(List.of());
 
     /**
      * 애플리케이션 시작 시 스케줄러 정보 로깅
@@ -40,69 +91,343 @@ public class StockPriceCollectionScheduler {
     public void onApplicationReady() {
         log.info("===============================================================");
         log.info("Stock price collection scheduler started with configuration:");
-        log.info("- Active stocks collection interval: {}", properties.schedule().activeStocks());
-        log.info("- High priority collection interval: {}", properties.schedule().highPriority());
-        log.info("- Core stocks cron: {}", properties.schedule().coreStocks());
-        log.info("- Concurrency limits - default: {}, high priority: {}",
-                properties.concurrency().defaultLimit(),
-                properties.concurrency().highPriority());
+        log.info("- Normal tier collection interval: {}", properties.schedule().activeStocks());
+        log.info("- High tier collection interval: {} (priority {}~{})",
+                properties.schedule().highPriority(),
+                properties.priority().highMin(),
+                properties.priority().highMax());
+        log.info("- Core tier cron: {} ({} symbols, category {})",
+                properties.schedule().coreStocks(),
+                properties.priority().coreSymbols().size(),
+                properties.priority().coreCategory());
+        log.info("- Dispatch interval: {}, target refresh: {}",
+                properties.schedule().dispatchInterval(),
+                properties.schedule().targetRefresh());
+        log.info("- Concurrency limit: {}", properties.concurrency().defaultLimit());
+        log.info("- Adaptive interval: {} (factor {}~{})",
+                intervalPolicy.isEnabled() ? "enabled" : "disabled",
+                properties.adaptive().minFactor(),
+                properties.adaptive().maxFactor());
+        log.info("- Queue cleanup interval: {}, entry TTL: {}",
+                properties.memory().cleanupInterval(),
+                properties.memory().entryTtl());
+        log.info("- Sharding: {} (lease {}, heartbeat {}, virtual nodes {})",
+                properties.sharding().enabled() ? "enabled" : "disabled",
+                properties.sharding().leaseTtl(),
+                properties.sharding().heartbeatInterval(),
+                properties.sharding().virtualNodes());
+        log.info("- Rate limit: {}/min, burst: {}, symbols per call: {}",
+                collectionRateLimiter.getPermitsPerMinute(),
+                collectionRateLimiter.getBurstCapacity(),
+                collectStockPriceUseCase.maxBatchSize());
         log.info("===============================================================");
     }
 
     /**
-     * 전체 활성 종목 주기적 수집
-     * 
-     * 30초마다 실행되며, 모든 활성 종목의 현재가를 수집
+     * 수집 대상 등급 주기적 갱신
+     *
+     * 활성 종목과 자동 감시 후보를 다시 읽어 큐의 등급/주기를 갱신
+     */
+    @Scheduled(fixedDelayString = "#{T(java.time.Duration).parse('${app.stock-collection.schedule.target-refresh:PT1M}').toMillis()}",
+              initialDelayString = "#{T(java.time.Duration).parse('${app.stock-collection.schedule.initial-delay:PT10S}').toMillis()}")
+    public void refreshTargets() {
+        refreshTargetsReactive()
+                .doOnError(error -> log.error("Collection target refresh failed", error))
+                .onErrorResume(error -> Mono.empty())
+                .subscribe();
+    }
+
+    /**
+     * 수집 대상 등급 갱신
+     *
+     * @return 현재 인스턴스가 수집하는 대상 수
+     */
+    public Mono<Integer> refreshTargetsReactive() {
+        return collectionTargetUseCase.resolveTargets()
+                .collectList()
+                .doOnNext(resolvedTargets::set)
+                .flatMap(this::applyTargets);
+    }
+
+    /**
+     * 수집 인스턴스 임대 주기적 갱신
+     *
+     * 인스턴스가 추가되거나 사라지면 다음 확인에서 바로 소유 종목을 재분배
+     */
+    @Scheduled(fixedDelayString = "#{T(java.time.Duration).parse('${app.stock-collection.sharding.heartbeat-interval:PT3S}').toMillis()}")
+    public void refreshShard() {
+        refreshShardReactive()
+                .doOnError(error -> log.error("Collection shard refresh failed", error))
+                .onErrorResume(error -> Mono.empty())
+                .subscribe();
+    }
+
+    /**
+     * 수집 인스턴스 임대 갱신 및 소유 종목 재분배
+     *
+     * @return 재분배된 경우 현재 인스턴스가 수집하는 대상 수 (변화가 없으면 empty)
+     */
+    public Mono<Integer> refreshShardReactive() {
+        return collectionShardUseCase.refreshMembership()
+                .filter(Boolean::booleanValue)
+                .flatMap(rebalanced -> applyTargets(resolvedTargets.get()));
+    }
+
+    /**
+     * 종료 시 임대를 반납하여 다른 인스턴스가 임대 만료를 기다리지 않고 종목을 인계받도록 함
+     */
+    @EventListener(ContextClosedEvent.class)
+    public void onShutdown() {
+        collectionShardUseCase.leave()
+                .timeout(LEAVE_TIMEOUT)
+                .onErrorResume(error -> {
+                    log.warn("Failed to leave collection shard: {}", error.getMessage());
+                    return Mono.empty();
+                })
+                .block();
+    }
+
+    /**
+     * 마감이 도래한 종목 주기적 수집
+     *
      * 장시간이 아닌 경우 실행하지 않음.
      */
-    @Scheduled(fixedDelayString = "#{T(java.time.Duration).parse('${app.stock-collection.schedule.active-stocks:PT30S}').toMillis()}",
+    @Scheduled(fixedDelayString = "#{T(java.time.Duration).parse('${app.stock-collection.schedule.dispatch-interval:PT1S}').toMillis()}",
               initialDelayString = "#{T(java.time.Duration).parse('${app.stock-collection.schedule.initial-delay:PT10S}').toMillis()}")
-    public void collectActiveStocks() {
+    public void collectDueStocks() {
         if (!marketHoursUseCase.isMarketOpen()) {
-            log.debug("Market is closed. Skipping active stocks collection.");
+            log.debug("Market is closed. Skipping due stocks collection.");
             return;
         }
-        collectActiveStocksReactive().subscribe();
+        collectDueStocksReactive()
+                .doOnError(error -> log.error("Due stocks collection failed", error))
+                .onErrorResume(error -> Mono.empty())
+                .subscribe();
     }
 
     /**
-     * 전체 활성 종목 수집
+     * 마감이 도래한 종목 수집
+     *
+     * 수집할 종목이 없거나 이전 수집이 진행 중이면 아무것도 하지 않고 완료
+     * 한 번의 실행은 activeStocks 주기 안에서만 새 종목을 꺼내고, 남은 종목은 다음 실행에서 이어서 수집
+     *
+     * @return 수집 실행 결과
      */
-    public Mono<Void> collectActiveStocksReactive() {
-        log.debug("Starting active stocks collection at {}", LocalDateTime.now());
+    public Mono<CollectionRunResult> collectDueStocksReactive() {
+        return Mono.defer(() -> {
+            if (!collectionQueue.hasDue(nowMillis(), realtimeQuotePort::isStreaming)) {
+                return Mono.empty();
+            }
+            if (!collecting.compareAndSet(false, true)) {
+                log.debug("Previous collection is still running. Skipping this cycle.");
+                return Mono.empty();
+            }
+            return runDueCollection()
+                    .doFinally(signal -> collecting.set(false));
+        });
+    }
 
-        AtomicInteger successCount = new AtomicInteger(0);
-        AtomicInteger errorCount = new AtomicInteger(0);
+    /**
+     * 수집 큐 메모리 정리
+     *
+     * entryTtl 동안 갱신되지 않은 종목과 큐에 남은 무효 작업을 제거
+     */
+    @Scheduled(fixedDelayString = "#{T(java.time.Duration).parse('${app.stock-collection.memory.cleanup-interval:PT1H}').toMillis()}",
+              initialDelayString = "#{T(java.time.Duration).parse('${app.stock-collection.memory.cleanup-interval:PT1H}').toMillis()}")
+    public void cleanupQueue() {
+        int removed = collectionQueue.cleanup(nowMillis(), properties.memory().entryTtl());
+        if (removed > 0) {
+            log.info("Removed {} expired collection targets", removed);
+        }
+    }
 
-        return null;
-//        return watchTargetPort.findActiveTargets()
-//            .filter(target -> target.shouldCollectNow(lastCollectionTimes.get(target.getSymbol())))
-//            .flatMap(target -> collectAndSaveStockPrice(target)
-//                    .doOnSuccess(price -> {
-//                        successCount.incrementAndGet();
-//                        lastCollectionTimes.put(target.getSymbol(), LocalDateTime.now());
-//                        log.debug("Collected price for {}: {}", target.getSymbol(), price.getCurrentPrice());
-//                    })
-//                    .doOnError(error -> {
-//                        errorCount.incrementAndGet();
-//                        log.warn("Failed to collect price for {}: {}", target.getSymbol(), error.getMessage());
-//                    })
-//                    .onErrorResume(error -> Mono.empty()),
-//                properties.concurrency().defaultLimit()
-//            )
-//            .then()
-//            .doOnSuccess(unused ->
-//                log.info("Active stocks collection completed. Success: {}, Errors: {}",
-//                        successCount.get(), errorCount.get())
-//            );
+    /**
+     * 현재 인스턴스가 소유한 종목만 큐와 주기 정책에 반영
+     * 외부 API 허용량은 클러스터 전체 기준이므로 속도 제한과 주기 예산도 인스턴스 수로 나눈 몫만 사용
+     * 소유 종목의 목표가 알림도 다시 읽어 색인에 반영
+     *
+     * @return 소유 종목 수
+     */
+    private Mono<Integer> applyTargets(List<CollectionTarget> targets) {
+        int members = collectionShardUseCase.memberCount();
+        collectionRateLimiter.shareAmong(members);
+        intervalPolicy.shareAmong(members);
+        List<CollectionTarget> owned = targets.stream()
+                .filter(target -> collectionShardUseCase.owns(target.symbol()))
+                .toList();
+        collectionQueue.sync(owned, nowMillis());
+        intervalPolicy.sync(owned);
+        realtimeQuotePort.updateSubscriptions(owned.stream()
+                .sorted(SUBSCRIPTION_PRIORITY)
+                .map(CollectionTarget::symbol)
+                .toList());
+        collectionMetricsPort.recordIntervalPlan(intervalPolicy.plannedRatePerMinute(), intervalPolicy.budgetScale());
+        collectionMetricsPort.recordShardOwnership(members, owned.size());
+        for (CollectionTier tier : CollectionTier.values()) {
+            collectionMetricsPort.recordTargets(tier, collectionQueue.size(tier));
+        }
+        log.debug("Collection targets refreshed. Owned: {}/{} ({} instances), Core: {}, High: {}, Normal: {}",
+                owned.size(), targets.size(), members,
+                collectionQueue.size(CollectionTier.CORE),
+                collectionQueue.size(CollectionTier.HIGH),
+                collectionQueue.size(CollectionTier.NORMAL));
+        return priceTargetAlertService.loadTargets(owned.stream().map(CollectionTarget::symbol).toList())
+                .thenReturn(owned.size());
+    }
+
+    private Mono<CollectionRunResult> runDueCollection() {
+        Instant startTime = Instant.now(clock);
+        long runEndMillis = startTime.plus(properties.schedule().activeStocks()).toEpochMilli();
+        int batchSize = Math.max(1, collectStockPriceUseCase.maxBatchSize());
+        RunCounters counters = new RunCounters();
+
+        return Mono.defer(() -> nextDueBatch(runEndMillis, batchSize, counters))
+                .repeat()
+                .takeWhile(Optional::isPresent)
+                .map(Optional::get)
+                .flatMap(jobs -> collectBatch(jobs, counters), properties.concurrency().defaultLimit())
+                .then(Mono.fromCallable(() -> CollectionRunResult.of(
+                        startTime,
+                        Instant.now(clock),
+                        counters.total.get(),
+                        counters.success.get(),
+                        counters.error.get(),
+                        Duration.ofNanos(counters.pacingWaitNanos.get()),
+                        properties.schedule().activeStocks()
+                )))
+                .doOnNext(this::reportRun);
+    }
+
+    /**
+     * 속도 제한 토큰을 예약한 뒤 그 시점에 마감이 가까운 작업을 최대 batchSize 개 꺼냄
+     *
+     * 토큰을 먼저 기다리고 나서 작업을 고르므로, 대기 중에 마감이 임박한 종목이 생겨도 그 종목이 먼저 수집됨
+     * 토큰 1개는 외부 API 1회 호출이므로, 대기하는 동안 발행된 종목이 쌓일수록 묶음이 채워짐
+     * 실시간으로 수신 중인 종목만 남았으면 토큰을 예약하지 않음
+     */
+    private Mono<Optional<List<DeadlineCollectionQueue.Job>>> nextDueBatch(long runEndMillis, int batchSize,
+                                                                          RunCounters counters) {
+        long now = nowMillis();
+        if (now >= runEndMillis || !collectionQueue.hasDue(now, realtimeQuotePort::isStreaming)) {
+            return Mono.just(Optional.empty());
+        }
+        long waitNanos = collectionRateLimiter.reserve();
+        Mono<Optional<List<DeadlineCollectionQueue.Job>>> poll = Mono.fromSupplier(() -> {
+            List<DeadlineCollectionQueue.Job> jobs =
+                    collectionQueue.pollDue(nowMillis(), batchSize, realtimeQuotePort::isStreaming);
+            return jobs.isEmpty() ? Optional.empty() : Optional.of(jobs);
+        });
+        if (waitNanos <= 0) {
+            return poll;
+        }
+        counters.pacingWaitNanos.addAndGet(waitNanos);
+        return Mono.delay(Duration.ofNanos(waitNanos)).then(poll);
+    }
+
+    /**
+     * 묶음 수집 후 종목별로 다음 주기 작업 예약 (1건이면 단건 조회)
+     */
+    private Flux<StockPrice> collectBatch(List<DeadlineCollectionQueue.Job> jobs, RunCounters counters) {
+        collectionMetricsPort.recordBatch(jobs.size());
+        if (jobs.size() == 1) {
+            return collectJob(jobs.get(0), counters).flux();
+        }
+
+        long now = nowMillis();
+        Map<String, DeadlineCollectionQueue.Job> bySymbol = new LinkedHashMap<>();
+        for (DeadlineCollectionQueue.Job job : jobs) {
+            collectionMetricsPort.recordDispatch(job.tier(), job.latenessMillis(now));
+            bySymbol.put(job.symbol(), job);
+        }
+        counters.total.addAndGet(jobs.size());
+        Set<String> collected = ConcurrentHashMap.newKeySet();
+
+        return collectStockPriceUseCase.collectCurrentPrices(bySymbol.keySet())
+                .timeout(COLLECT_TIMEOUT)
+                .filter(price -> bySymbol.containsKey(price.getSymbol()) && collected.add(price.getSymbol()))
+                .doOnNext(price -> {
+                    counters.success.incrementAndGet();
+                    intervalPolicy.observe(price.getSymbol(), price.getCurrentPrice(), price.getChangeRate());
+                    scheduleNext(bySymbol.get(price.getSymbol()));
+                })
+                .onErrorResume(error -> {
+                    log.warn("Failed to collect batch of {} symbols: {}", jobs.size(), error.getMessage());
+                    return Mono.empty();
+                })
+                .doFinally(signal -> bySymbol.values().stream()
+                        .filter(job -> !collected.contains(job.symbol()))
+                        .forEach(job -> {
+                            counters.error.incrementAndGet();
+                            scheduleNext(job);
+                        }));
+    }
+
+    /**
+     * 작업 1건 수집 후 다음 주기 작업 예약
+     */
+    private Mono<StockPrice> collectJob(DeadlineCollectionQueue.Job job, RunCounters counters) {
+        collectionMetricsPort.recordDispatch(job.tier(), job.latenessMillis(nowMillis()));
+        counters.total.incrementAndGet();
+        return collectAndSaveStockPrice(job.symbol())
+                .doOnNext(price -> {
+                    counters.success.incrementAndGet();
+                    intervalPolicy.observe(job.symbol(), price.getCurrentPrice(), price.getChangeRate());
+                    log.debug("Collected price for {} ({}): {}", job.symbol(), job.tier(), price.getCurrentPrice());
+                })
+                .doOnError(error -> {
+                    counters.error.incrementAndGet();
+                    log.warn("Failed to collect price for {}: {}", job.symbol(), error.getMessage());
+                })
+                .onErrorResume(error -> Mono.empty())
+                .doFinally(signal -> scheduleNext(job));
+    }
+
+    /**
+     * 종목별로 조정된 주기로 다음 작업 예약
+     */
+    private void scheduleNext(DeadlineCollectionQueue.Job job) {
+        intervalPolicy.nextInterval(job.symbol()).ifPresentOrElse(
+                interval -> {
+                    collectionQueue.complete(job, nowMillis(), interval);
+                    collectionMetricsPort.recordInterval(job.tier(), interval);
+                },
+                () -> collectionQueue.complete(job, nowMillis()));
     }
 
     /**
      * 종목 시세 수집 및 저장
      */
-//    private Mono<me.rgunny.marketpulse.event.marketdata.domain.model.StockPrice> collectAndSaveStockPrice(WatchTarget target) {
-//        return collectStockPriceUseCase.getCurrentPriceAndSave(target.getSymbol())
-//            .timeout(Duration.ofSeconds(30))
-//            .publishOn(Schedulers.boundedElastic());
-//    }
-}
\ No newline at end of file
+    private Mono<StockPrice> collectAndSaveStockPrice(String symbol) {
+        return collectStockPriceUseCase.collectCurrentPrice(symbol)
+            .timeout(COLLECT_TIMEOUT);
+    }
+
+    /**
+     * 수집 결과 로깅 및 메트릭 기록
+     */
+    private void reportRun(CollectionRunResult result) {
+        collectionMetricsPort.recordRun(result);
+        collectionMetricsPort.recordIntervalPlan(intervalPolicy.plannedRatePerMinute(), intervalPolicy.budgetScale());
+        log.debug("Due stocks collection completed. Targets: {}, Success: {}, Errors: {}, " +
+                        "Elapsed: {}ms, Throughput: {}/s, Pacing wait: {}ms, Lag: {}ms",
+                result.totalCount(), result.successCount(), result.errorCount(),
+                result.getDuration().toMillis(),
+                String.format("%.2f", result.getThroughputPerSecond()),
+                result.pacingWait().toMillis(),
+                result.lag().toMillis());
+    }
+
+    private long nowMillis() {
+        return clock.millis();
+    }
+
+    /**
+     * 수집 1회 실행 동안의 집계 값
+     */
+    private static final class RunCounters {
+        private final AtomicInteger total = new AtomicInteger(0);
+        private final AtomicInteger success = new AtomicInteger(0);
+        private final AtomicInteger error = new AtomicInteger(0);
+        private final AtomicLong pacingWaitNanos = new AtomicLong(0);
+    }
+}
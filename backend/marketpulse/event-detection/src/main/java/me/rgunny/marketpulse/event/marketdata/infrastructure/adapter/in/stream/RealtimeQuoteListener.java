@@ -0,0 +1,77 @@
+package me.rgunny.marketpulse.event.marketdata.infrastructure.adapter.in.stream;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import me.rgunny.marketpulse.event.marketdata.application.port.in.CollectStockPriceUseCase;
+import me.rgunny.marketpulse.event.marketdata.application.port.out.CollectionMetricsPort;
+import me.rgunny.marketpulse.event.marketdata.application.port.out.RealtimeQuotePort;
+import me.rgunny.marketpulse.event.marketdata.domain.model.RealtimeQuote;
+import me.rgunny.marketpulse.event.marketdata.domain.model.StockPrice;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.ContextClosedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Clock;
+import java.time.Duration;
+
+/**
+ * 실시간 시세 수신 리스너
+ *
+ * 수신한 시세를 폴링과 같은 저장/알림 파이프라인으로 전달
+ * 종목별로 한 번에 하나씩 처리하고, 처리 중에 들어온 시세는 가장 최근 것만 남김 (체결 폭주 시 저장소 보호)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RealtimeQuoteListener {
+
+    private final RealtimeQuotePort realtimeQuotePort;
+    private final CollectStockPriceUseCase collectStockPriceUseCase;
+    private final CollectionMetricsPort collectionMetricsPort;
+    private final Clock clock;
+
+    private volatile Disposable subscription;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (subscription == null) {
+            subscription = ingest().subscribe();
+        }
+    }
+
+    @EventListener(ContextClosedEvent.class)
+    public void stop() {
+        Disposable current = subscription;
+        subscription = null;
+        if (current != null) {
+            current.dispose();
+        }
+    }
+
+    /**
+     * 실시간 시세 처리 스트림
+     *
+     * @return 저장/알림 분석까지 끝난 시세
+     */
+    public Flux<StockPrice> ingest() {
+        return realtimeQuotePort.quotes()
+                .groupBy(RealtimeQuote::symbol)
+                .flatMap(quotes -> quotes
+                        .onBackpressureLatest()
+                        .flatMap(this::ingestQuote, 1, 1), Integer.MAX_VALUE);
+    }
+
+    private Mono<StockPrice> ingestQuote(RealtimeQuote quote) {
+        return collectStockPriceUseCase.ingestTick(quote.tick(), quote.name())
+                .doOnNext(saved -> collectionMetricsPort.recordStreamQuote(
+                        Duration.ofMillis(clock.millis() - quote.tick().epochMillis())))
+                .onErrorResume(error -> {
+                    log.warn("Failed to ingest realtime quote for {}: {}", quote.symbol(), error.getMessage());
+                    return Mono.empty();
+                });
+    }
+}
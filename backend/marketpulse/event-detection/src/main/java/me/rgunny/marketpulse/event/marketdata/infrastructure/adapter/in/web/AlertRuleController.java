@@ -0,0 +1,62 @@
+package me.rgunny.marketpulse.event.marketdata.infrastructure.adapter.in.web;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import me.rgunny.marketpulse.event.marketdata.application.service.AlertRuleEngine;
+import me.rgunny.marketpulse.event.marketdata.domain.model.AlertRuleSet;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Mono;
+
+import java.util.Map;
+
+/**
+ * 알림 규칙 관리 컨트롤러
+ *
+ * 규칙 집합 전체를 교체하며, 컴파일에 실패하면 기존 규칙을 유지
+ */
+@Slf4j
+@RestController
+@RequestMapping("/api/admin/alert/rules")
+@RequiredArgsConstructor
+public class AlertRuleController {
+
+    private final AlertRuleEngine alertRuleEngine;
+
+    /**
+     * 현재 적용 중인 규칙 집합
+     */
+    @GetMapping
+    public Mono<AlertRuleSet> getRules() {
+        return Mono.fromSupplier(alertRuleEngine::currentRules);
+    }
+
+    /**
+     * 규칙 집합 교체
+     */
+    @PutMapping
+    public Mono<ResponseEntity<Map<String, Object>>> replaceRules(@RequestBody AlertRuleSet ruleSet) {
+        return Mono.fromCallable(() -> {
+                    alertRuleEngine.replace(ruleSet);
+                    Map<String, Object> response = Map.of(
+                        "status", "success",
+                        "message", "Alert rules replaced",
+                        "ruleCount", ruleSet.rules().size()
+                    );
+                    return ResponseEntity.ok(response);
+                })
+                .onErrorResume(IllegalArgumentException.class, error -> {
+                    log.warn("Alert rule replacement rejected: {}", error.getMessage());
+                    Map<String, Object> errorResponse = Map.of(
+                        "status", "error",
+                        "message", "Invalid alert rules",
+                        "error", error.getMessage()
+                    );
+                    return Mono.just(ResponseEntity.badRequest().body(errorResponse));
+                });
+    }
+}
@@ -0,0 +1,114 @@
+package me.rgunny.marketpulse.event.marketdata.infrastructure.adapter.out;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import me.rgunny.marketpulse.event.marketdata.application.port.out.ClusterMembershipPort;
+import me.rgunny.marketpulse.event.marketdata.application.port.out.SyncLockPort;
+import org.springframework.data.redis.core.ReactiveRedisTemplate;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Redis 기반 수집 인스턴스 멤버십 구현
+ *
+ * - 인스턴스별 임대는 전용 키(stock_collection:member:{instanceId})를 PX 만료로 저장하고 heartbeat 마다 다시 씀
+ *   (만료 판단을 Redis 가 하므로 인스턴스 간 시계 차이에 영향받지 않음)
+ * - 멤버 목록은 인스턴스 ID 집합으로 관리하고, 조회 시 임대 키가 사라진 멤버는 집합에서 제거
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RedisClusterMembershipAdapter implements ClusterMembershipPort {
+
+    private static final String MEMBER_KEY_PREFIX = "stock_collection:member:";
+    private static final String MEMBERS_KEY = "stock_collection:member_ids";
+
+    private final SyncLockPort syncLockPort;
+    private final ReactiveRedisTemplate<String, String> reactiveRedisTemplate;
+
+    @Override
+    public String getInstanceId() {
+        return syncLockPort.getInstanceId();
+    }
+
+    @Override
+    public Mono<Boolean> heartbeat(Duration leaseTtl) {
+        String instanceId = getInstanceId();
+
+        // 임대가 만료됐어도(GC 정지, 네트워크 단절 등) 같은 키를 다시 쓰면 재등록
+        return reactiveRedisTemplate.opsForValue()
+                .set(memberKey(instanceId), instanceId, leaseTtl)
+                .flatMap(leased -> {
+                    if (!leased) {
+                        return Mono.just(false);
+                    }
+                    return reactiveRedisTemplate.opsForSet()
+                            .add(MEMBERS_KEY, instanceId)
+                            .thenReturn(true);
+                })
+                .onErrorResume(error -> {
+                    log.error("수집 인스턴스 임대 갱신 중 오류: instanceId={}", instanceId, error);
+                    return Mono.just(false);
+                });
+    }
+
+    @Override
+    public Mono<Set<String>> findActiveMembers() {
+        return reactiveRedisTemplate.opsForSet()
+                .members(MEMBERS_KEY)
+                .collectList()
+                .flatMap(candidates -> {
+                    if (candidates.isEmpty()) {
+                        return Mono.just(Set.<String>of());
+                    }
+                    return reactiveRedisTemplate.opsForValue()
+                            .multiGet(candidates.stream().map(this::memberKey).toList())
+                            .flatMap(leases -> retainLeased(candidates, leases));
+                });
+    }
+
+    @Override
+    public Mono<Void> leave() {
+        String instanceId = getInstanceId();
+        return reactiveRedisTemplate.opsForSet()
+                .remove(MEMBERS_KEY, instanceId)
+                .then(reactiveRedisTemplate.delete(memberKey(instanceId)))
+                .then()
+                .doOnSuccess(ignored -> log.info("수집 인스턴스 임대 반납: instanceId={}", instanceId))
+                .onErrorResume(error -> {
+                    log.error("수집 인스턴스 임대 반납 중 오류: instanceId={}", instanceId, error);
+                    return Mono.empty();
+                });
+    }
+
+    /**
+     * 임대 키가 남아 있는 멤버만 반환하고, 만료된 멤버는 집합에서 제거
+     */
+    private Mono<Set<String>> retainLeased(List<String> candidates, List<String> leases) {
+        Set<String> active = new HashSet<>();
+        List<Object> expired = new ArrayList<>();
+        for (int i = 0; i < candidates.size(); i++) {
+            if (i < leases.size() && leases.get(i) != null) {
+                active.add(candidates.get(i));
+            } else {
+                expired.add(candidates.get(i));
+            }
+        }
+        if (expired.isEmpty()) {
+            return Mono.just(Set.copyOf(active));
+        }
+        return reactiveRedisTemplate.opsForSet()
+                .remove(MEMBERS_KEY, expired.toArray())
+                .thenReturn(Set.copyOf(active));
+    }
+
+    private String memberKey(String instanceId) {
+        return MEMBER_KEY_PREFIX + instanceId;
+    }
+}
@@ -23,6 +23,11 @@ public class RedisSyncLockAdapter implements SyncLockPort {
     private static final String LOCK_PREFIX = "stock_master_sync:lock:";
     private final String instanceId = UUID.randomUUID().toString();
     
+    @Override
+    public String getInstanceId() {
+        return instanceId;
+    }
+    
     @Override
     public Mono<Boolean> tryLock(String key, Duration ttl) {
         String lockKey = LOCK_PREFIX + key;
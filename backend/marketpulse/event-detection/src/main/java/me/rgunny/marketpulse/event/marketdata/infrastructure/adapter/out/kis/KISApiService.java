@@ -2,59 +2,82 @@ package me.rgunny.marketpulse.event.marketdata.infrastructure.adapter.out.kis;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import me.rgunny.marketpulse.event.marketdata.application.port.out.kis.KISCredentialPort;
+import me.rgunny.marketpulse.event.marketdata.application.port.out.StockQuotePort;
 import me.rgunny.marketpulse.event.marketdata.application.port.out.kis.KISTokenPort;
 import me.rgunny.marketpulse.event.marketdata.application.port.out.shared.StockPort;
+import me.rgunny.marketpulse.event.marketdata.application.service.SymbolRegistry;
+import me.rgunny.marketpulse.event.marketdata.domain.error.StockPriceErrorCode;
 import me.rgunny.marketpulse.event.marketdata.domain.exception.kis.KisApiException;
+import me.rgunny.marketpulse.event.marketdata.domain.model.RealtimeQuote;
 import me.rgunny.marketpulse.event.marketdata.domain.model.StockPrice;
+import me.rgunny.marketpulse.event.marketdata.domain.model.Tick;
 import me.rgunny.marketpulse.event.marketdata.infrastructure.config.kis.KISApiProperties;
 import me.rgunny.marketpulse.event.marketdata.infrastructure.dto.kis.KISCurrentPriceResponse;
 import me.rgunny.marketpulse.event.marketdata.infrastructure.dto.kis.KISCurrentPriceResponseOutput;
+import me.rgunny.marketpulse.event.marketdata.infrastructure.dto.kis.KISMultiPriceResponse;
+import me.rgunny.marketpulse.event.marketdata.infrastructure.dto.kis.KISMultiPriceResponseOutput;
 import me.rgunny.marketpulse.event.marketdata.infrastructure.resilience.KISApiCircuitBreakerService;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Service;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
-import java.math.BigDecimal;
+import java.time.Clock;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Function;
 
-import static me.rgunny.marketpulse.event.marketdata.infrastructure.util.KISFieldParser.toBigDecimal;
-import static me.rgunny.marketpulse.event.marketdata.infrastructure.util.KISFieldParser.toLong;
+import static me.rgunny.marketpulse.event.marketdata.infrastructure.util.KISFieldParser.parseLong;
 
 /**
  * KIS API 서비스
  * 
  * KIS API를 통한 시장 데이터 조회 서비스
  * 주가 조회 기능 제공 (토큰 관리는 KISTokenService에 위임)
+ * 응답은 원시 타입 체결(Tick)로 변환하고, StockPrice 는 조회 API(fetchCurrentPrice/fetchCurrentPrices)에서만 만듦
  */
 @Slf4j
 @Service
-public class KISApiService {
+public class KISApiService implements StockQuotePort {
     
     private final WebClient webClient;
-    private final KISCredentialPort credentialPort;
+    private final KISRequestTemplates requestTemplates;
     private final KISTokenPort tokenPort;
     private final StockPort stockPort;
+    private final SymbolRegistry symbolRegistry;
     private final KISApiProperties kisApiProperties;
     private final KISApiCircuitBreakerService circuitBreakerService;
     private final KISApiRetryService retryService;
+    private final Clock clock;
+    private final KISRequestTemplates.Endpoint stockPriceEndpoint;
+    private final KISRequestTemplates.Endpoint multiPriceEndpoint;
     
     public KISApiService(
             @Qualifier("kisWebClient") WebClient kisWebClient,
-            KISCredentialPort credentialPort,
+            KISRequestTemplates requestTemplates,
             KISTokenPort tokenPort,
             StockPort stockPort,
+            SymbolRegistry symbolRegistry,
             KISApiProperties kisApiProperties,
             KISApiCircuitBreakerService circuitBreakerService,
-            KISApiRetryService retryService) {
+            KISApiRetryService retryService,
+            Clock clock) {
         this.webClient = kisWebClient;
-        this.credentialPort = credentialPort;
+        this.requestTemplates = requestTemplates;
         this.tokenPort = tokenPort;
         this.stockPort = stockPort;
+        this.symbolRegistry = symbolRegistry;
         this.kisApiProperties = kisApiProperties;
         this.circuitBreakerService = circuitBreakerService;
         this.retryService = retryService;
+        this.clock = clock;
+        this.stockPriceEndpoint = requestTemplates.endpoint(kisApiProperties.stockPricePath(),
+                "fid_cond_mrkt_div_code", "fid_input_iscd");
+        this.multiPriceEndpoint = requestTemplates.endpoint(kisApiProperties.multiPrice().path(),
+                multiPriceParamNames(kisApiProperties.multiPrice().maxSymbols()));
         
         log.info("##### KISApiService Constructor #####");
         log.info("WebClient class: {}", kisWebClient.getClass().getName());
@@ -71,36 +94,68 @@ public class KISApiService {
      * @return 주가 정보
      */
     public Mono<StockPrice> fetchCurrentPrice(String symbol) {
-        return getCurrentPrice(symbol);
+        return fetchQuote(symbol).map(RealtimeQuote::toStockPrice);
+    }
+    
+    /**
+     * 여러 종목 현재가 일괄 조회 (공개 메서드)
+     * 
+     * @param symbols 종목 코드 목록
+     * @return 주가 정보 (응답에 없는 종목은 제외)
+     */
+    public Flux<StockPrice> fetchCurrentPrices(Collection<String> symbols) {
+        return fetchQuotes(symbols).map(RealtimeQuote::toStockPrice);
+    }
+    
+    @Override
+    public Mono<RealtimeQuote> fetchQuote(String symbol) {
+        return getCurrentQuote(symbol);
+    }
+    
+    /**
+     * 관심종목(멀티종목) 시세 API 로 maxSymbols 개씩 묶어 1회 호출당 여러 종목을 조회
+     */
+    @Override
+    public Flux<RealtimeQuote> fetchQuotes(Collection<String> symbols) {
+        List<String> distinct = symbols.stream().distinct().toList();
+        if (distinct.isEmpty()) {
+            return Flux.empty();
+        }
+        if (distinct.size() == 1) {
+            return getCurrentQuote(distinct.get(0)).flux();
+        }
+        int batchSize = getMaxBatchSize();
+        return Flux.fromIterable(distinct)
+                .buffer(batchSize)
+                .concatMap(batch -> getCurrentQuotes(batch).flatMapIterable(Function.identity()));
+    }
+    
+    /**
+     * 1회 호출로 조회할 수 있는 최대 종목 수
+     */
+    public int getMaxBatchSize() {
+        return kisApiProperties.multiPrice().maxSymbols();
     }
     
     /**
      * 현재가 조회 (내부 메서드)
      */
-    private Mono<StockPrice> getCurrentPrice(String symbol) {
+    private Mono<RealtimeQuote> getCurrentQuote(String symbol) {
         log.debug("Fetching current price for symbol: {}", symbol);
         
-        Mono<StockPrice> apiCall = tokenPort.getAccessToken()
+        Mono<RealtimeQuote> apiCall = tokenPort.getAccessToken()
                 .flatMap(token -> webClient.get()
-                        .uri(uriBuilder -> uriBuilder
-                                .path(kisApiProperties.stockPricePath())
-                                .queryParam("fid_cond_mrkt_div_code", "J")
-                                .queryParam("fid_input_iscd", symbol)
-                                .build())
-                        .header("Content-Type", kisApiProperties.headers().contentType())
-                        .header("authorization", "Bearer " + token)
-                        .header("appkey", credentialPort.getDecryptedAppKey())
-                        .header("appsecret", credentialPort.getDecryptedAppSecret())
-                        .header(kisApiProperties.headers().transactionId(), 
-                                kisApiProperties.stockPriceTransactionId())
+                        .uri(stockPriceEndpoint.uri("J", symbol))
+                        .headers(headers -> headers.putAll(
+                                requestTemplates.headers(token, kisApiProperties.stockPriceTransactionId())))
                         .retrieve()
                         .bodyToMono(KISCurrentPriceResponse.class)
-                        .flatMap(response -> mapToStockPriceWithName(symbol, response))
+                        .flatMap(response -> mapToQuoteWithName(symbol, response))
                         .timeout(Duration.ofSeconds(
                                 kisApiProperties.timeouts().responseTimeoutSeconds())));
         
         // 재시도 로직
-        Mono<StockPrice> apiCallWithRetry = retryService.withRetry(
+        Mono<RealtimeQuote> apiCallWithRetry = retryService.withRetry(
                 apiCall, 
                 String.format("getCurrentPrice(%s)", symbol)
         );
@@ -109,12 +164,146 @@ public class KISApiService {
         return circuitBreakerService.executeGetCurrentPrice(symbol, apiCallWithRetry);
     }
     
+    /**
+     * 여러 종목 현재가 조회 (내부 메서드, 최대 maxSymbols 개)
+     */
+    private Mono<List<RealtimeQuote>> getCurrentQuotes(List<String> symbols) {
+        log.debug("Fetching current prices for {} symbols", symbols.size());
+        
+        Mono<List<RealtimeQuote>> apiCall = tokenPort.getAccessToken()
+                .flatMap(token -> webClient.get()
+                        .uri(multiPriceEndpoint.uri(multiPriceParamValues(symbols)))
+                        .headers(headers -> headers.putAll(
+                                requestTemplates.customerHeaders(token, kisApiProperties.multiPrice().transactionId())))
+                        .retrieve()
+                        .bodyToMono(KISMultiPriceResponse.class)
+                        .map(response -> mapToQuotes(symbols, response))
+                        .timeout(Duration.ofSeconds(
+                                kisApiProperties.timeouts().responseTimeoutSeconds())));
+        
+        // 재시도 로직
+        Mono<List<RealtimeQuote>> apiCallWithRetry = retryService.withRetry(
+                apiCall,
+                String.format("getCurrentPrices(%d symbols)", symbols.size())
+        );
+        
+        // 서킷브레이커 적용
+        return circuitBreakerService.executeGetCurrentPrices(symbols, apiCallWithRetry);
+    }
     
     /**
-     * KIS API 응답을 StockPrice 도메인 객체로 변환
+     * 관심종목(멀티종목) 시세 쿼리 파라미터 이름 (FID_COND_MRKT_DIV_CODE_n, FID_INPUT_ISCD_n 순서)
      */
-    private Mono<StockPrice> mapToStockPriceWithName(String symbol, KISCurrentPriceResponse response) {
-        if (response == null || response.output() == null) {
+    private static String[] multiPriceParamNames(int maxSymbols) {
+        String[] names = new String[maxSymbols * 2];
+        for (int i = 0; i < maxSymbols; i++) {
+            names[i * 2] = "FID_COND_MRKT_DIV_CODE_" + (i + 1);
+            names[i * 2 + 1] = "FID_INPUT_ISCD_" + (i + 1);
+        }
+        return names;
+    }
+    
+    private static String[] multiPriceParamValues(List<String> symbols) {
+        String[] values = new String[symbols.size() * 2];
+        for (int i = 0; i < symbols.size(); i++) {
+            values[i * 2] = "J";
+            values[i * 2 + 1] = symbols.get(i);
+        }
+        return values;
+    }
+    
+    /**
+     * 관심종목(멀티종목) 시세 응답을 시세 목록으로 변환
+     * 
+     * 응답에 종목명이 포함되어 있어 종목별 이름 조회는 하지 않음
+     * KIS 가 종목코드 오류로 거부하면 묶음 종목코드(쉼표 구분)를 담은 거부 예외로, 그 외 거부는 일시적 오류로 실패
+     * (묶음 중 어느 종목이 거부됐는지는 알 수 없으므로 호출한 쪽에서 종목별로 다시 조회)
+     */
+    private List<RealtimeQuote> mapToQuotes(List<String> symbols, KISMultiPriceResponse response) {
+        if (response == null) {
+            log.error("Invalid multi price response for symbols: {}", symbols);
+            throw new KisApiException(StockPriceErrorCode.STOCK_PRICE_005, "Empty multi price response");
+        }
+        if (response.rt_cd() != null && !"0".equals(response.rt_cd())) {
+            log.warn("KIS rejected multi price request for {} symbols: {} (msg_cd={}, msg={})",
+                    symbols.size(), symbols, response.msg_cd(), response.msg1());
+            throw rejection(String.join(",", symbols), response.msg_cd(), response.msg1());
+        }
+        if (response.output() == null) {
+            log.error("Invalid multi price response for symbols: {}", symbols);
+            throw new KisApiException(StockPriceErrorCode.STOCK_PRICE_005, "Empty multi price response");
+        }
+        
+        long receivedAt = clock.millis();
+        List<RealtimeQuote> quotes = new ArrayList<>(response.output().size());
+        for (KISMultiPriceResponseOutput output : response.output()) {
+            if (output.inter_shrn_iscd() == null || output.inter_shrn_iscd().isBlank()) {
+                continue;
+            }
+            String name = output.inter_kor_isnm() == null || output.inter_kor_isnm().isBlank()
+                    ? output.inter_shrn_iscd()
+                    : output.inter_kor_isnm().trim();
+            Tick tick = Tick.of(
+                    output.inter_shrn_iscd(),
+                    parseLong(output.inter2_prpr()),            // 현재가
+                    parseLong(output.inter2_prdy_clpr()),       // 전일종가
+                    parseLong(output.inter2_oprc()),            // 시가
+                    parseLong(output.inter2_hgpr()),            // 고가
+                    parseLong(output.inter2_lwpr()),            // 저가
+                    parseLong(output.inter2_askp()),            // 매도호가
+                    parseLong(output.inter2_bidp()),            // 매수호가
+                    parseLong(output.acml_vol()),               // 누적거래량
+                    receivedAt
+            );
+            quotes.add(new RealtimeQuote(tick, name));
+        }
+        
+        if (quotes.size() < symbols.size()) {
+            log.warn("Multi price response missing {} of {} symbols", symbols.size() - quotes.size(), symbols.size());
+        }
+        return quotes;
+    }
+    
+    /**
+     * KIS 거부 응답 예외 (종목코드 오류면 종목을 담은 거부 예외, 초당 거래건수 초과 등 그 외는 일시적 오류)
+     */
+    private KisApiException rejection(String symbols, String messageCode, String message) {
+        if (kisApiProperties.isInvalidSymbolMessage(messageCode)) {
+            return new KisApiException(symbols);
+        }
+        return new KisApiException(StockPriceErrorCode.STOCK_PRICE_005, messageCode + ": " + message);
+    }
+    
+    /**
+     * 종목명 조회 (레지스트리 우선, 시작 시 적재 전에만 저장소 조회, 없으면 종목코드)
+     */
+    private Mono<String> resolveName(String symbol) {
+        String name = symbolRegistry.nameOf(symbol);
+        if (name != null) {
+            return Mono.just(name);
+        }
+        if (symbolRegistry.isLoaded()) {
+            return Mono.just(symbol);
+        }
+        return stockPort.findBySymbol(symbol)
+                .map(stock -> stock.getName())
+                .defaultIfEmpty(symbol);
+    }
+    
+    /**
+     * KIS API 응답을 시세(체결 + 종목명)로 변환
+     */
+    private Mono<RealtimeQuote> mapToQuoteWithName(String symbol, KISCurrentPriceResponse response) {
+        if (response == null) {
+            log.error("Invalid response for symbol: {}", symbol);
+            throw new KisApiException(StockPriceErrorCode.STOCK_PRICE_005, "Empty price response");
+        }
+        // 거부 응답은 output 이 비어 있으므로 응답 코드를 먼저 확인
+        if (response.rt_cd() != null && !"0".equals(response.rt_cd())) {
+            log.warn("KIS rejected symbol: {} (msg_cd={}, msg={})", symbol, response.msg_cd(), response.msg1());
+            throw rejection(symbol, response.msg_cd(), response.msg1());
+        }
+        if (response.output() == null) {
             log.error("Invalid response for symbol: {}", symbol);
             throw new KisApiException(symbol);
         }
@@ -124,28 +313,23 @@ public class KISApiService {
         log.debug("KIS API Response for {}: currentPrice={}, basePrice={}, change={}", 
                 symbol, output.stck_prpr(), output.stck_sdpr(), output.prdy_vrss());
         
-        // Stock 엔티티에서 종목명 조회
-        return stockPort.findBySymbol(symbol)
-                .map(stock -> stock.getName())
-                .defaultIfEmpty(symbol)
-                .map(name -> {
-                    StockPrice price = StockPrice.createWithTTL(
-                            symbol,
-                            name,
-                            toBigDecimal(output.stck_prpr()),           // 현재가
-                            toBigDecimal(output.stck_sdpr()),           // 기준가 (전일종가)
-                            toBigDecimal(output.stck_hgpr()),           // 고가
-                            toBigDecimal(output.stck_lwpr()),           // 저가
-                            toBigDecimal(output.stck_oprc()),           // 시가
-                            toLong(output.acml_vol()),                  // 누적거래량
-                            toBigDecimal(output.askp1()),               // 매도호가1
-                            toBigDecimal(output.bidp1())                // 매수호가1
-                    );
-                    
-                    log.debug("Price data mapped for {}: current={}, change={}%", 
-                            symbol, price.getCurrentPrice(), price.getChangeRate());
-                    
-                    return price;
-                });
+        Tick tick = Tick.of(
+                symbol,
+                parseLong(output.stck_prpr()),              // 현재가
+                parseLong(output.stck_sdpr()),              // 기준가 (전일종가)
+                parseLong(output.stck_oprc()),              // 시가
+                parseLong(output.stck_hgpr()),              // 고가
+                parseLong(output.stck_lwpr()),              // 저가
+                parseLong(output.askp1()),                  // 매도호가1
+                parseLong(output.bidp1()),                  // 매수호가1
+                parseLong(output.acml_vol()),               // 누적거래량
+                clock.millis()
+        );
+        
+        log.debug("Price data mapped for {}: current={}, changeRateBps={}", 
+                symbol, tick.price(), tick.changeRateBps());
+        
+        return resolveName(symbol)
+                .map(name -> new RealtimeQuote(tick, name));
     }
 }
\ No newline at end of file
@@ -0,0 +1,110 @@
+package me.rgunny.marketpulse.event.marketdata.infrastructure.adapter.out.kis;
+
+import lombok.extern.slf4j.Slf4j;
+import me.rgunny.marketpulse.event.marketdata.application.port.out.kis.KISApprovalKeyPort;
+import me.rgunny.marketpulse.event.marketdata.application.port.out.kis.KISCredentialPort;
+import me.rgunny.marketpulse.event.marketdata.domain.error.StockPriceErrorCode;
+import me.rgunny.marketpulse.event.marketdata.domain.exception.kis.KisApiException;
+import me.rgunny.marketpulse.event.marketdata.infrastructure.config.kis.KISApiProperties;
+import me.rgunny.marketpulse.event.marketdata.infrastructure.dto.kis.KISApprovalRequest;
+import me.rgunny.marketpulse.event.marketdata.infrastructure.dto.kis.KISApprovalResponse;
+import me.rgunny.marketpulse.event.marketdata.infrastructure.resilience.KISApiCircuitBreakerService;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Service;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * KIS 웹소켓 접속키 발급 서비스
+ *
+ * 접속키는 재접속할 때마다 필요하므로 메모리에 보관하고 유효시간이 지나거나 접속이 거부되면 재발급
+ */
+@Slf4j
+@Service
+public class KISApprovalKeyService implements KISApprovalKeyPort {
+
+    // KIS 웹소켓 접속키 유효시간은 24시간, 만료 전에 여유를 두고 재발급
+    private static final Duration APPROVAL_KEY_TTL = Duration.ofHours(12);
+
+    // API 호출 타임아웃 (10초)
+    private static final Duration API_TIMEOUT = Duration.ofSeconds(10);
+
+    private final WebClient webClient;
+    private final KISCredentialPort credentialPort;
+    private final KISApiProperties kisApiProperties;
+    private final KISApiCircuitBreakerService circuitBreakerService;
+    private final Clock clock;
+
+    private final AtomicReference<IssuedKey> issuedKey = new AtomicReference<>();
+
+    public KISApprovalKeyService(
+            @Qualifier("kisWebClient") WebClient kisWebClient,
+            KISCredentialPort credentialPort,
+            KISApiProperties kisApiProperties,
+            KISApiCircuitBreakerService circuitBreakerService,
+            Clock clock) {
+        this.webClient = kisWebClient;
+        this.credentialPort = credentialPort;
+        this.kisApiProperties = kisApiProperties;
+        this.circuitBreakerService = circuitBreakerService;
+        this.clock = clock;
+    }
+
+    @Override
+    public Mono<String> getApprovalKey() {
+        return Mono.defer(() -> {
+            IssuedKey current = issuedKey.get();
+            if (current != null && current.expiresAt().isAfter(Instant.now(clock))) {
+                return Mono.just(current.value());
+            }
+            return requestApprovalKey()
+                    .doOnNext(key -> issuedKey.set(new IssuedKey(key, Instant.now(clock).plus(APPROVAL_KEY_TTL))));
+        });
+    }
+
+    @Override
+    public void invalidate() {
+        issuedKey.set(null);
+    }
+
+    /**
+     * KIS 웹소켓 접속키 발급 API 호출
+     */
+    private Mono<String> requestApprovalKey() {
+        KISApprovalRequest request = new KISApprovalRequest(
+                kisApiProperties.grantType(),
+                credentialPort.getDecryptedAppKey(),
+                credentialPort.getDecryptedAppSecret()
+        );
+
+        Mono<String> apiCall = webClient.post()
+                .uri(uriBuilder -> uriBuilder
+                        .path(kisApiProperties.webSocket().approvalPath())
+                        .build())
+                .header("Content-Type", kisApiProperties.headers().contentType())
+                .bodyValue(request)
+                .retrieve()
+                .onStatus(
+                    status -> status.is4xxClientError() || status.is5xxServerError(),
+                    response -> Mono.error(new KisApiException(
+                            StockPriceErrorCode.STOCK_PRICE_005,
+                            "Approval Key Request Failed: " + response.statusCode()))
+                )
+                .bodyToMono(KISApprovalResponse.class)
+                .map(KISApprovalResponse::getApprovalKey)
+                .timeout(API_TIMEOUT)
+                .doOnError(error -> log.error("KIS WebSocket Approval Key Request Failed", error))
+                .doOnSuccess(key -> log.debug("KIS WebSocket Approval Key received successfully"));
+
+        // 서킷브레이커 적용
+        return circuitBreakerService.executeGetAccessToken(apiCall);
+    }
+
+    private record IssuedKey(String value, Instant expiresAt) {
+    }
+}
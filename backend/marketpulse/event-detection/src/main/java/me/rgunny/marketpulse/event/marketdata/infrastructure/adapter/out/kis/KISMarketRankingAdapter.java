@@ -3,7 +3,6 @@ package me.rgunny.marketpulse.event.marketdata.infrastructure.adapter.out.kis;
 import lombok.extern.slf4j.Slf4j;
 import me.rgunny.marketpulse.event.marketdata.domain.model.MarketRanking;
 import me.rgunny.marketpulse.event.marketdata.domain.model.MarketType;
-import me.rgunny.marketpulse.event.marketdata.infrastructure.config.kis.KISApiProperties;
 import me.rgunny.marketpulse.event.marketdata.infrastructure.dto.kis.KISRankingResponse;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Component;
@@ -11,7 +10,10 @@ import org.springframework.web.reactive.function.client.WebClient;
 import reactor.core.publisher.Flux;
 
 import java.math.BigDecimal;
+import java.net.URI;
 import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * KIS API 시장 순위 조회 어댑터
@@ -22,15 +24,23 @@ public class KISMarketRankingAdapter {
     
     private final WebClient kisWebClient;
     private final KISTokenService tokenService;
-    private final KISApiProperties apiProperties;
+    private final KISRequestTemplates requestTemplates;
+    private final KISRequestTemplates.Endpoint rankingEndpoint;
+    
+    // 순위 조회 쿼리는 (정렬 구분, 가격 구분) 조합별로 고정이므로 URI 를 만들어 두고 재사용
+    private final Map<String, URI> rankingUris = new ConcurrentHashMap<>();
     
     public KISMarketRankingAdapter(
             @Qualifier("kisWebClient") WebClient kisWebClient,
             KISTokenService tokenService,
-            KISApiProperties apiProperties) {
+            KISRequestTemplates requestTemplates) {
         this.kisWebClient = kisWebClient;
         this.tokenService = tokenService;
-        this.apiProperties = apiProperties;
+        this.requestTemplates = requestTemplates;
+        this.rankingEndpoint = requestTemplates.endpoint(RANKING_URI,
+                "fid_rank_sort_cls_code", "fid_prc_cls_code", "fid_cond_mrkt_div_code", "fid_cond_scr_div_code",
+                "fid_input_iscd", "fid_div_cls_code", "fid_input_price_1", "fid_input_price_2",
+                "fid_vol_cnt", "fid_input_date_1");
     }
     
     private static final String RANKING_URI = "/uapi/domestic-stock/v1/ranking/fluctuation";
@@ -79,11 +89,9 @@ public class KISMarketRankingAdapter {
         
         return tokenService.getAccessToken()
                 .flatMapMany(token -> kisWebClient.get()
-                        .uri(uriBuilder -> uriBuilder
-                                .path(RANKING_URI)
-                                .queryParams(buildRankingQueryParams(marketType, sortCode, priceCode))
-                                .build())
-                        .headers(headers -> buildRankingHeaders(headers, token, sortCode, priceCode))
+                        .uri(rankingUri(sortCode, priceCode))
+                        .headers(headers -> headers.putAll(
+                                requestTemplates.customerHeaders(token, getRankingTransactionId(sortCode, priceCode))))
                         .retrieve()
                         .bodyToMono(KISRankingResponse.class)
                         .timeout(TIMEOUT)
@@ -101,38 +109,21 @@ public class KISMarketRankingAdapter {
     }
     
     /**
-     * 순위 조회 Query Parameters 생성
+     * 순위 조회 URI (조합별로 한 번만 생성)
      */
-    private org.springframework.util.MultiValueMap<String, String> buildRankingQueryParams(
-            MarketType marketType, String sortCode, String priceCode) {
-        
-        var params = new org.springframework.util.LinkedMultiValueMap<String, String>();
-        params.add("fid_rank_sort_cls_code", sortCode);
-        params.add("fid_prc_cls_code", priceCode);
-        params.add("fid_cond_mrkt_div_code", "J");      // KIS API는 시장 구분 없이 "J"(주식 전체)만 지원
-        params.add("fid_cond_scr_div_code", "20174");   // 국내주식 고정
-        params.add("fid_input_iscd", "0000");           // 전체종목
-        params.add("fid_div_cls_code", "0");            // 일반
-        params.add("fid_input_price_1", "");            // 가격 하한 (미사용)
-        params.add("fid_input_price_2", "");            // 가격 상한 (미사용)
-        params.add("fid_vol_cnt", "");                  // 거래량 조건 (미사용)
-        params.add("fid_input_date_1", "");             // 날짜 조건 (미사용)
-        
-        return params;
-    }
-    
-    /**
-     * 순위 조회 Headers 설정
-     */
-    private void buildRankingHeaders(
-            org.springframework.http.HttpHeaders headers, 
-            String token, String sortCode, String priceCode) {
-        
-        headers.setBearerAuth(token);
-        headers.set("appkey", apiProperties.appKey());
-        headers.set("appsecret", apiProperties.appSecret());
-        headers.set("tr_id", getRankingTransactionId(sortCode, priceCode));
-        headers.set("custtype", apiProperties.headers().personalCustomerType());
+    private URI rankingUri(String sortCode, String priceCode) {
+        return rankingUris.computeIfAbsent(sortCode + ":" + priceCode, key -> rankingEndpoint.uri(
+                sortCode,
+                priceCode,
+                "J",        // KIS API는 시장 구분 없이 "J"(주식 전체)만 지원
+                "20174",    // 국내주식 고정
+                "0000",     // 전체종목
+                "0",        // 일반
+                "",         // 가격 하한 (미사용)
+                "",         // 가격 상한 (미사용)
+                "",         // 거래량 조건 (미사용)
+                ""          // 날짜 조건 (미사용)
+        ));
     }
     
     /**
@@ -0,0 +1,156 @@
+package me.rgunny.marketpulse.event.marketdata.infrastructure.adapter.out.kis;
+
+import me.rgunny.marketpulse.event.marketdata.application.port.out.kis.KISCredentialPort;
+import me.rgunny.marketpulse.event.marketdata.infrastructure.config.kis.KISApiProperties;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+import org.springframework.web.util.UriUtils;
+
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * KIS API 요청 템플릿
+ *
+ * 요청마다 반복하던 자격증명 조회, 헤더 조립, UriBuilder 실행을 미리 계산해 재사용
+ * - 헤더는 (토큰, 트랜잭션 ID, 고객유형 포함 여부) 조합별 읽기 전용 HttpHeaders 로 보관하고, 토큰이 바뀌면 새로 만듦
+ * - 자격증명은 한 번만 읽어 두고 refreshCredentials 호출 시에만 다시 읽음
+ * - 쿼리 파라미터는 엔드포인트별로 "base + path?name=" 접두어를 만들어 두고 값만 이어 붙임
+ */
+@Component
+public class KISRequestTemplates {
+
+    private final KISCredentialPort credentialPort;
+    private final KISApiProperties properties;
+
+    private volatile HeaderSet headerSet;
+
+    public KISRequestTemplates(KISCredentialPort credentialPort, KISApiProperties properties) {
+        this.credentialPort = credentialPort;
+        this.properties = properties;
+        this.headerSet = new HeaderSet(null, credentialPort.getDecryptedAppKey(), credentialPort.getDecryptedAppSecret());
+    }
+
+    /**
+     * 인증 헤더 + 트랜잭션 ID 헤더
+     */
+    public HttpHeaders headers(String token, String transactionId) {
+        return headerSetFor(token).headers(transactionId, false);
+    }
+
+    /**
+     * 인증 헤더 + 트랜잭션 ID 헤더 + 고객유형(개인) 헤더
+     */
+    public HttpHeaders customerHeaders(String token, String transactionId) {
+        return headerSetFor(token).headers(transactionId, true);
+    }
+
+    /**
+     * 자격증명이 바뀌었을 때 호출 (만들어 둔 헤더를 모두 버림)
+     */
+    public void refreshCredentials() {
+        headerSet = new HeaderSet(null, credentialPort.getDecryptedAppKey(), credentialPort.getDecryptedAppSecret());
+    }
+
+    /**
+     * 엔드포인트 쿼리 템플릿 생성 (어댑터 생성 시 한 번 만들어 보관)
+     *
+     * @param path       API 경로
+     * @param paramNames 쿼리 파라미터 이름 (값은 같은 순서로 전달)
+     */
+    public Endpoint endpoint(String path, String... paramNames) {
+        return new Endpoint(properties.baseUrl() + path, paramNames);
+    }
+
+    private HeaderSet headerSetFor(String token) {
+        HeaderSet current = headerSet;
+        // 토큰은 KISTokenService 가 메모리에 보관한 같은 인스턴스를 돌려주므로 대부분 참조 비교로 끝남
+        if (current.token == token || (current.token != null && current.token.equals(token))) {
+            return current;
+        }
+        HeaderSet next = new HeaderSet(token, current.appKey, current.appSecret);
+        headerSet = next;
+        return next;
+    }
+
+    /**
+     * 토큰 1개에 대한 헤더 모음 (트랜잭션 ID 별로 한 번만 조립)
+     */
+    private final class HeaderSet {
+
+        private final String token;
+        private final String appKey;
+        private final String appSecret;
+        private final Map<String, HttpHeaders> plain = new ConcurrentHashMap<>();
+        private final Map<String, HttpHeaders> customer = new ConcurrentHashMap<>();
+
+        private HeaderSet(String token, String appKey, String appSecret) {
+            this.token = token;
+            this.appKey = appKey;
+            this.appSecret = appSecret;
+        }
+
+        private HttpHeaders headers(String transactionId, boolean includeCustomerType) {
+            Map<String, HttpHeaders> cache = includeCustomerType ? customer : plain;
+            HttpHeaders cached = cache.get(transactionId);
+            if (cached != null) {
+                return cached;
+            }
+            return cache.computeIfAbsent(transactionId, id -> build(id, includeCustomerType));
+        }
+
+        private HttpHeaders build(String transactionId, boolean includeCustomerType) {
+            KISApiProperties.Headers names = properties.headers();
+            HttpHeaders headers = new HttpHeaders();
+            headers.set(HttpHeaders.CONTENT_TYPE, names.contentType());
+            headers.set("authorization", "Bearer " + token);
+            headers.set("appkey", appKey);
+            headers.set("appsecret", appSecret);
+            headers.set(names.transactionId(), transactionId);
+            if (includeCustomerType) {
+                headers.set(names.custType(), names.personalCustomerType());
+            }
+            return HttpHeaders.readOnlyHttpHeaders(headers);
+        }
+    }
+
+    /**
+     * 엔드포인트별 쿼리 접두어 ("base + path?name1=", "&name2=", ...)
+     */
+    public static final class Endpoint {
+
+        private final String url;
+        private final String[] prefixes;
+        private final int prefixLength;
+
+        private Endpoint(String url, String[] paramNames) {
+            this.url = url;
+            this.prefixes = new String[paramNames.length];
+            int length = 0;
+            for (int i = 0; i < paramNames.length; i++) {
+                prefixes[i] = (i == 0 ? url + "?" : "&") + paramNames[i] + "=";
+                length += prefixes[i].length();
+            }
+            this.prefixLength = length;
+        }
+
+        /**
+         * 값을 파라미터 순서대로 이어 붙인 요청 URI (값 개수가 이름보다 적으면 앞쪽 파라미터만 사용)
+         */
+        public URI uri(String... values) {
+            if (values.length > prefixes.length) {
+                throw new IllegalArgumentException("Too many query values: " + values.length + " > " + prefixes.length);
+            }
+            if (values.length == 0) {
+                return URI.create(url);
+            }
+            StringBuilder builder = new StringBuilder(prefixLength + values.length * 8);
+            for (int i = 0; i < values.length; i++) {
+                builder.append(prefixes[i]).append(UriUtils.encodeQueryParam(values[i], StandardCharsets.UTF_8));
+            }
+            return URI.create(builder.toString());
+        }
+    }
+}
@@ -1,9 +1,7 @@
 package me.rgunny.marketpulse.event.marketdata.infrastructure.adapter.out.kis;
 
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import me.rgunny.marketpulse.event.marketdata.application.port.out.StockMasterPort;
-import me.rgunny.marketpulse.event.marketdata.application.port.out.kis.KISCredentialPort;
 import me.rgunny.marketpulse.event.marketdata.application.port.out.kis.KISTokenPort;
 import me.rgunny.marketpulse.event.marketdata.domain.model.MarketType;
 import me.rgunny.marketpulse.event.marketdata.domain.model.Stock;
@@ -30,18 +28,33 @@ import java.time.format.DateTimeFormatter;
  */
 @Slf4j
 @Component
-@RequiredArgsConstructor
 public class KISStockMasterAdapter implements StockMasterPort {
     
     private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
     private static final int MAX_RETRY_ATTEMPTS = 3;
     
-    @Qualifier("kisWebClient")
     private final WebClient webClient;
     private final KISApiProperties kisApiProperties;
     private final KISApiCircuitBreakerService circuitBreakerService;
-    private final KISCredentialPort credentialPort;
+    private final KISRequestTemplates requestTemplates;
     private final KISTokenPort tokenPort; // 토큰 관리 포트
+    private final KISRequestTemplates.Endpoint marketEndpoint;
+    private final KISRequestTemplates.Endpoint detailEndpoint;
+    
+    public KISStockMasterAdapter(
+            @Qualifier("kisWebClient") WebClient webClient,
+            KISApiProperties kisApiProperties,
+            KISApiCircuitBreakerService circuitBreakerService,
+            KISRequestTemplates requestTemplates,
+            KISTokenPort tokenPort) {
+        this.webClient = webClient;
+        this.kisApiProperties = kisApiProperties;
+        this.circuitBreakerService = circuitBreakerService;
+        this.requestTemplates = requestTemplates;
+        this.tokenPort = tokenPort;
+        this.marketEndpoint = requestTemplates.endpoint(kisApiProperties.stockMasterPath(), "PRDT_TYPE_CD");
+        this.detailEndpoint = requestTemplates.endpoint(kisApiProperties.stockMasterPath(), "PDNO");
+    }
     
     @Override
     public Flux<Stock> fetchAllStocks() {
@@ -93,16 +106,9 @@ public class KISStockMasterAdapter implements StockMasterPort {
         return tokenPort.getAccessToken()
                 .flatMapMany(token -> 
                     webClient.get()
-                            .uri(uriBuilder -> uriBuilder
-                                    .path(kisApiProperties.stockMasterPath())
-                                    .queryParam("PRDT_TYPE_CD", getProductTypeCode(market))
-                                    .build())
-                            .header("Content-Type", kisApiProperties.headers().contentType())
-                            .header("authorization", "Bearer " + token)
-                            .header("appkey", credentialPort.getDecryptedAppKey())
-                            .header("appsecret", credentialPort.getDecryptedAppSecret())
-                            .header(kisApiProperties.headers().transactionId(), 
-                                    kisApiProperties.stockMasterTransactionId())
+                            .uri(marketEndpoint.uri(getProductTypeCode(market)))
+                            .headers(headers -> headers.putAll(
+                                    requestTemplates.headers(token, kisApiProperties.stockMasterTransactionId())))
                             .retrieve()
                             .bodyToMono(KISStockMasterResponse.class)
                             .timeout(REQUEST_TIMEOUT)
@@ -129,16 +135,9 @@ public class KISStockMasterAdapter implements StockMasterPort {
         return tokenPort.getAccessToken()
                 .flatMap(token -> 
                     webClient.get()
-                            .uri(uriBuilder -> uriBuilder
-                                    .path(kisApiProperties.stockMasterPath())
-                                    .queryParam("PDNO", symbol)
-                                    .build())
-                            .header("Content-Type", kisApiProperties.headers().contentType())
-                            .header("authorization", "Bearer " + token)
-                            .header("appkey", credentialPort.getDecryptedAppKey())
-                            .header("appsecret", credentialPort.getDecryptedAppSecret())
-                            .header(kisApiProperties.headers().transactionId(),
-                                    kisApiProperties.stockMasterTransactionId())
+                            .uri(detailEndpoint.uri(symbol))
+                            .headers(headers -> headers.putAll(
+                                    requestTemplates.headers(token, kisApiProperties.stockMasterTransactionId())))
                             .retrieve()
                             .bodyToMono(KISStockMasterResponse.class)
                             .timeout(REQUEST_TIMEOUT)
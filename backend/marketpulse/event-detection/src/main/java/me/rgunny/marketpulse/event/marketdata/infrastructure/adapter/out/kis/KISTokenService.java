@@ -1,10 +1,11 @@
 package me.rgunny.marketpulse.event.marketdata.infrastructure.adapter.out.kis;
 
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import me.rgunny.marketpulse.event.marketdata.application.port.out.SyncLockPort;
 import me.rgunny.marketpulse.event.marketdata.application.port.out.kis.KISCredentialPort;
 import me.rgunny.marketpulse.event.marketdata.application.port.out.kis.KISTokenCachePort;
 import me.rgunny.marketpulse.event.marketdata.application.port.out.kis.KISTokenPort;
+import me.rgunny.marketpulse.event.marketdata.application.util.SingleFlight;
 import me.rgunny.marketpulse.event.marketdata.domain.error.StockPriceErrorCode;
 import me.rgunny.marketpulse.event.marketdata.domain.exception.kis.KisApiException;
 import me.rgunny.marketpulse.event.marketdata.infrastructure.config.kis.KISApiProperties;
@@ -14,77 +15,227 @@ import me.rgunny.marketpulse.event.marketdata.infrastructure.resilience.KISApiCi
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Service;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.time.Clock;
 import java.time.Duration;
+import java.time.Instant;
+import java.util.Objects;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 
 /**
  * KIS API 토큰 관리 서비스
  * 
  * 토큰 발급, 캐싱, 갱신을 전담
  * 다른 Infrastructure 컴포넌트들이 이 서비스를 통해 토큰 획득
+ * 
+ * - 토큰은 발급 응답의 expires_in 기준 만료 시각과 함께 메모리에 보관하여 호출마다 Redis 를 읽지 않음
+ * - 만료가 가까워지면 현재 토큰으로 응답하면서 백그라운드에서 갱신
+ * - 백그라운드 갱신이 실패하면 지수 백오프로 다음 시도 시각까지 갱신하지 않음 (조회마다 재시도하지 않음)
+ * - 발급은 Redis 임대를 잡은 인스턴스 하나만 하고, 나머지는 Redis 에 저장된 새 토큰을 가져감
+ * - 인스턴스 안에서 동시에 들어온 조회/갱신은 하나의 호출로 병합
  */
 @Slf4j
 @Service
 public class KISTokenService implements KISTokenPort {
     
+    // 발급 응답에 expires_in 이 없을 때 사용할 유효시간 (KIS OAuth 토큰 24시간)
+    private static final Duration DEFAULT_TOKEN_TTL = Duration.ofHours(24);
+    
+    // API 호출 타임아웃 (10초)
+    private static final Duration API_TIMEOUT = Duration.ofSeconds(10);
+    
+    // 백그라운드 갱신 실패 시 재시도 간격 (실패할 때마다 두 배, 최대 5분)
+    private static final Duration REFRESH_RETRY_INITIAL_BACKOFF = Duration.ofSeconds(10);
+    private static final Duration REFRESH_RETRY_MAX_BACKOFF = Duration.ofMinutes(5);
+    
+    private static final String ISSUE_LEASE_KEY = "kis_token_issue";
+    private static final String FLIGHT_KEY = "access_token";
+    
     private final WebClient webClient;
     private final KISCredentialPort credentialPort;
     private final KISTokenCachePort tokenCachePort;
     private final KISApiProperties kisApiProperties;
     private final KISApiCircuitBreakerService circuitBreakerService;
+    private final SyncLockPort syncLockPort;
+    private final Clock clock;
+    private final Duration refreshBefore;
+    private final Duration leaseTtl;
+    private final Duration waitTimeout;
+    private final Duration pollInterval;
+    
+    private final AtomicReference<HeldToken> heldToken = new AtomicReference<>();
+    private final SingleFlight<String, HeldToken> flights = new SingleFlight<>();
+    private final AtomicInteger refreshFailures = new AtomicInteger();
+    private volatile Instant nextRefreshAttempt = Instant.MIN;
     
     public KISTokenService(
             @Qualifier("kisWebClient") WebClient kisWebClient,
             KISCredentialPort credentialPort,
             KISTokenCachePort tokenCachePort,
             KISApiProperties kisApiProperties,
-            KISApiCircuitBreakerService circuitBreakerService) {
+            KISApiCircuitBreakerService circuitBreakerService,
+            SyncLockPort syncLockPort,
+            Clock clock) {
         this.webClient = kisWebClient;
         this.credentialPort = credentialPort;
         this.tokenCachePort = tokenCachePort;
         this.kisApiProperties = kisApiProperties;
         this.circuitBreakerService = circuitBreakerService;
+        this.syncLockPort = syncLockPort;
+        this.clock = clock;
+        KISApiProperties.Token config = kisApiProperties.token();
+        this.refreshBefore = Duration.ofMinutes(config.refreshBeforeMinutes());
+        this.leaseTtl = Duration.ofSeconds(config.leaseSeconds());
+        this.waitTimeout = Duration.ofSeconds(config.waitTimeoutSeconds());
+        this.pollInterval = Duration.ofMillis(config.pollIntervalMillis());
     }
     
-    // KIS OAuth 토큰 유효시간 (24시간)
-    private static final Duration TOKEN_TTL = Duration.ofHours(24);
-    
-    // API 호출 타임아웃 (10초)
-    private static final Duration API_TIMEOUT = Duration.ofSeconds(10);
-    
     @Override
     public Mono<String> getAccessToken() {
-        return tokenCachePort.getToken()
-                .filter(token -> token != null && !token.isEmpty())
-                .switchIfEmpty(refreshToken())
-                .onErrorResume(error -> {
-                    log.warn("Token cache error, fetching new token", error);
-                    return refreshToken();
-                });
+        return Mono.defer(() -> {
+            Instant now = clock.instant();
+            HeldToken current = heldToken.get();
+            if (current != null && current.isUsable(now)) {
+                if (current.needsRefresh(now, refreshBefore) && !now.isBefore(nextRefreshAttempt)) {
+                    refreshInBackground(current);
+                }
+                return Mono.just(current.value());
+            }
+            // 메모리에 없으면 다른 인스턴스가 발급한 토큰부터 확인 (곧 만료될 토큰이어도 우선 사용)
+            return flights.execute(FLIGHT_KEY, () -> acquire(null, false), () -> { })
+                    .map(HeldToken::value);
+        });
     }
     
     @Override
     public Mono<String> refreshToken() {
-        return requestNewToken()
-                .flatMap(token ->
-                    tokenCachePort.saveToken(token, TOKEN_TTL)
-                        .thenReturn(token)
-                        .doOnSuccess(t -> log.debug("Token cached successfully"))
-                );
+        return Mono.defer(() -> {
+            HeldToken rejected = heldToken.getAndSet(null);
+            String previous = rejected != null ? rejected.value() : null;
+            return flights.execute(FLIGHT_KEY, () -> acquire(previous, false), () -> { })
+                    .map(HeldToken::value);
+        });
     }
     
     @Override
     public Mono<Boolean> isTokenValid() {
+        HeldToken current = heldToken.get();
+        if (current != null && current.isUsable(clock.instant())) {
+            return Mono.just(true);
+        }
         return tokenCachePort.getToken()
-                .map(token -> token != null && !token.isEmpty())
+                .map(token -> !token.isEmpty())
                 .defaultIfEmpty(false);
     }
     
+    /**
+     * 만료 전 갱신 (실패해도 현재 토큰이 유효하므로 백오프 후 다음 조회 때 다시 시도)
+     */
+    private void refreshInBackground(HeldToken current) {
+        flights.execute(FLIGHT_KEY, () -> acquire(current.value(), true), () -> { })
+                .subscribe(
+                        renewed -> {
+                            refreshFailures.set(0);
+                            nextRefreshAttempt = Instant.MIN;
+                            log.debug("KIS API Token refreshed ahead of expiry, expiresAt={}", renewed.expiresAt());
+                        },
+                        error -> {
+                            Duration backoff = refreshBackoff(refreshFailures.incrementAndGet());
+                            nextRefreshAttempt = clock.instant().plus(backoff);
+                            log.warn("KIS API Token background refresh failed, retrying in {}: {}",
+                                    backoff, error.getMessage());
+                        });
+    }
+    
+    /**
+     * 연속 실패 횟수에 따른 갱신 재시도 간격
+     */
+    private static Duration refreshBackoff(int failures) {
+        Duration backoff = REFRESH_RETRY_INITIAL_BACKOFF.multipliedBy(1L << Math.min(failures - 1, 10));
+        return backoff.compareTo(REFRESH_RETRY_MAX_BACKOFF) > 0 ? REFRESH_RETRY_MAX_BACKOFF : backoff;
+    }
+    
+    /**
+     * 토큰 확보: Redis 공유 토큰 → (임대 획득 시) 직접 발급 → (임대 실패 시) 다른 인스턴스 발급 대기
+     * 
+     * @param previous     쓰지 않을 토큰 (거부됐거나 갱신 대상인 토큰)
+     * @param requireFresh 갱신 시점이 지나지 않은 토큰만 사용할지 여부
+     */
+    private Mono<HeldToken> acquire(String previous, boolean requireFresh) {
+        return findShared(previous, requireFresh)
+                .switchIfEmpty(Mono.defer(() -> syncLockPort.tryLock(ISSUE_LEASE_KEY, leaseTtl)
+                        .flatMap(leased -> leased
+                                ? issueUnderLease(previous, requireFresh)
+                                : awaitShared(previous, requireFresh))))
+                .doOnNext(heldToken::set);
+    }
+    
+    private Mono<HeldToken> issueUnderLease(String previous, boolean requireFresh) {
+        // 임대를 잡기 직전에 다른 인스턴스가 발급을 마쳤을 수 있으므로 한 번 더 확인
+        return findShared(previous, requireFresh)
+                .switchIfEmpty(Mono.defer(this::issue))
+                .flatMap(token -> syncLockPort.unlock(ISSUE_LEASE_KEY).thenReturn(token))
+                .onErrorResume(error -> syncLockPort.unlock(ISSUE_LEASE_KEY).then(Mono.error(error)));
+    }
+    
+    /**
+     * 다른 인스턴스가 발급해 Redis 에 저장하기를 대기 (임대 보유자가 응답하지 않으면 직접 발급)
+     */
+    private Mono<HeldToken> awaitShared(String previous, boolean requireFresh) {
+        log.debug("KIS API Token is being issued by another instance, waiting up to {}", waitTimeout);
+        return Flux.interval(pollInterval)
+                .concatMap(tick -> findShared(previous, requireFresh))
+                .next()
+                .timeout(waitTimeout)
+                .onErrorResume(TimeoutException.class, error -> {
+                    log.warn("Timed out waiting for KIS API Token from another instance, issuing directly");
+                    return issue();
+                });
+    }
+    
+    /**
+     * Redis 에 공유된 토큰 조회 (남은 TTL 로 만료 시각 계산)
+     */
+    private Mono<HeldToken> findShared(String previous, boolean requireFresh) {
+        return Mono.zip(tokenCachePort.getToken(), tokenCachePort.getTokenTtl())
+                .filter(shared -> !shared.getT1().isEmpty() && shared.getT2() > 0)
+                .map(shared -> new HeldToken(shared.getT1(), clock.instant().plusSeconds(shared.getT2())))
+                .filter(token -> !Objects.equals(token.value(), previous))
+                .filter(token -> !requireFresh || !token.needsRefresh(clock.instant(), refreshBefore))
+                .onErrorResume(error -> {
+                    log.warn("Token cache error, ignoring shared token: {}", error.getMessage());
+                    return Mono.empty();
+                });
+    }
+    
+    /**
+     * 신규 발급 후 Redis 에 expires_in 만큼 저장 (저장 실패해도 발급한 토큰은 사용)
+     */
+    private Mono<HeldToken> issue() {
+        return requestNewToken()
+                .flatMap(response -> {
+                    Duration ttl = response.expires_in() > 0
+                            ? Duration.ofSeconds(response.expires_in())
+                            : DEFAULT_TOKEN_TTL;
+                    HeldToken token = new HeldToken(response.getAccessToken(), clock.instant().plus(ttl));
+                    return tokenCachePort.saveToken(token.value(), ttl)
+                            .doOnSuccess(ignored -> log.debug("Token cached successfully, ttl={}", ttl))
+                            .onErrorResume(error -> {
+                                log.warn("Failed to share KIS API Token via cache: {}", error.getMessage());
+                                return Mono.empty();
+                            })
+                            .thenReturn(token);
+                });
+    }
+    
     /**
      * KIS OAuth 토큰 발급 API 호출
      */
-    private Mono<String> requestNewToken() {
+    private Mono<KISTokenResponse> requestNewToken() {
         KISTokenRequest request = new KISTokenRequest(
                 kisApiProperties.grantType(),
                 credentialPort.getDecryptedAppKey(),
@@ -95,7 +246,7 @@ public class KISTokenService implements KISTokenPort {
         log.debug("Token API Path: {}", kisApiProperties.tokenPath());
         log.debug("Base URL from properties: {}", kisApiProperties.baseUrl());
         
-        Mono<String> apiCall = webClient.post()
+        Mono<KISTokenResponse> apiCall = webClient.post()
                 .uri(uriBuilder -> uriBuilder
                         .path(kisApiProperties.tokenPath())
                         .build())
@@ -114,7 +265,6 @@ public class KISTokenService implements KISTokenPort {
                         })
                 )
                 .bodyToMono(KISTokenResponse.class)
-                .map(KISTokenResponse::getAccessToken)
                 .timeout(API_TIMEOUT)
                 .doOnError(error -> log.error("KIS API Token Request Failed", error))
                 .doOnSuccess(token -> log.debug("KIS API Token received successfully"));
@@ -122,4 +272,18 @@ public class KISTokenService implements KISTokenPort {
         // 서킷브레이커 적용
         return circuitBreakerService.executeGetAccessToken(apiCall);
     }
+    
+    /**
+     * 메모리에 보관하는 토큰과 만료 시각
+     */
+    private record HeldToken(String value, Instant expiresAt) {
+        
+        boolean isUsable(Instant now) {
+            return now.isBefore(expiresAt);
+        }
+        
+        boolean needsRefresh(Instant now, Duration refreshBefore) {
+            return !now.isBefore(expiresAt.minus(refreshBefore));
+        }
+    }
 }
\ No newline at end of file
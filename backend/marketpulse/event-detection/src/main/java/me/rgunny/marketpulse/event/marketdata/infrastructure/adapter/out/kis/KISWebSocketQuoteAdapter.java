@@ -0,0 +1,290 @@
+package me.rgunny.marketpulse.event.marketdata.infrastructure.adapter.out.kis;
+
+import lombok.extern.slf4j.Slf4j;
+import me.rgunny.marketpulse.event.marketdata.application.port.out.RealtimeQuotePort;
+import me.rgunny.marketpulse.event.marketdata.application.port.out.kis.KISApprovalKeyPort;
+import me.rgunny.marketpulse.event.marketdata.application.port.out.shared.StockPort;
+import me.rgunny.marketpulse.event.marketdata.domain.model.RealtimeQuote;
+import me.rgunny.marketpulse.event.marketdata.domain.model.Stock;
+import me.rgunny.marketpulse.event.marketdata.domain.model.StockPrice;
+import me.rgunny.marketpulse.event.marketdata.domain.model.Tick;
+import me.rgunny.marketpulse.event.marketdata.infrastructure.config.kis.KISApiProperties;
+import me.rgunny.marketpulse.event.marketdata.infrastructure.dto.kis.KISRealtimeTrade;
+import me.rgunny.marketpulse.event.marketdata.infrastructure.util.KISRealtimeMessageParser;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.ContextClosedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.socket.WebSocketMessage;
+import org.springframework.web.reactive.socket.WebSocketSession;
+import org.springframework.web.reactive.socket.client.ReactorNettyWebSocketClient;
+import org.springframework.web.reactive.socket.client.WebSocketClient;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.util.retry.Retry;
+
+import java.net.URI;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * KIS 실시간 체결가 웹소켓 어댑터
+ *
+ * - 세션당 구독 상한(maxSubscriptions)까지 우선순위가 높은 종목만 구독하고, 목록이 바뀌면 차이만 구독/해지
+ * - 연결이 끊기면 최근 시세를 비워 폴링으로 넘기고, 지수 백오프로 재접속한 뒤 전체 종목을 다시 구독
+ * - PINGPONG 은 받은 그대로 돌려보내 세션 유지
+ */
+@Slf4j
+@Component
+public class KISWebSocketQuoteAdapter implements RealtimeQuotePort {
+
+    private final KISApiProperties kisApiProperties;
+    private final KISApiProperties.WebSocket config;
+    private final KISApprovalKeyPort approvalKeyPort;
+    private final StockPort stockPort;
+    private final Clock clock;
+    private final WebSocketClient webSocketClient = new ReactorNettyWebSocketClient();
+
+    private final Sinks.Many<RealtimeQuote> quotes = Sinks.many().multicast().directBestEffort();
+    private final Map<String, RealtimeQuote> latestQuotes = new ConcurrentHashMap<>();
+    private final Map<String, String> names = new ConcurrentHashMap<>();
+
+    // 구독 상태 변경과 메시지 전송은 lock 으로 직렬화
+    private final Object lock = new Object();
+    private Set<String> desired = new LinkedHashSet<>();
+    private final Set<String> subscribed = new HashSet<>();
+    private Session session;
+
+    private volatile Disposable connection;
+
+    public KISWebSocketQuoteAdapter(KISApiProperties kisApiProperties,
+                                    KISApprovalKeyPort approvalKeyPort,
+                                    StockPort stockPort,
+                                    Clock clock) {
+        this.kisApiProperties = kisApiProperties;
+        this.config = kisApiProperties.webSocket();
+        this.approvalKeyPort = approvalKeyPort;
+        this.stockPort = stockPort;
+        this.clock = clock;
+    }
+
+    /**
+     * 실시간 세션 시작 (설정이 꺼져 있으면 폴링만 사용)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!config.enabled() || connection != null) {
+            return;
+        }
+        log.info("KIS realtime quote session starting: url={}, maxSubscriptions={}", config.url(), config.maxSubscriptions());
+        connection = Flux.defer(this::connectOnce)
+                .retryWhen(Retry.backoff(Long.MAX_VALUE, Duration.ofSeconds(config.reconnectDelaySeconds()))
+                        .maxBackoff(Duration.ofSeconds(config.maxReconnectDelaySeconds()))
+                        .transientErrors(true)
+                        .doBeforeRetry(signal -> log.warn("KIS realtime session lost, reconnecting (attempt {}): {}",
+                                signal.totalRetriesInARow() + 1, signal.failure().getMessage())))
+                .subscribe();
+    }
+
+    /**
+     * 실시간 세션 종료
+     */
+    @EventListener(ContextClosedEvent.class)
+    public void stop() {
+        Disposable current = connection;
+        connection = null;
+        if (current != null) {
+            current.dispose();
+        }
+    }
+
+    @Override
+    public Flux<RealtimeQuote> quotes() {
+        return quotes.asFlux();
+    }
+
+    @Override
+    public void updateSubscriptions(List<String> symbols) {
+        Set<String> next = new LinkedHashSet<>();
+        for (String symbol : symbols) {
+            if (next.size() >= config.maxSubscriptions()) {
+                break;
+            }
+            next.add(symbol);
+        }
+
+        Set<String> added = new LinkedHashSet<>(next);
+        synchronized (lock) {
+            added.removeAll(desired);
+            Set<String> removed = new LinkedHashSet<>(desired);
+            removed.removeAll(next);
+            desired = next;
+            latestQuotes.keySet().retainAll(next);
+
+            if (session != null) {
+                removed.forEach(symbol -> sendSubscription(session, symbol, false));
+                added.forEach(symbol -> sendSubscription(session, symbol, true));
+            }
+        }
+        if (symbols.size() > config.maxSubscriptions()) {
+            log.debug("Realtime subscriptions capped at {} of {} symbols", config.maxSubscriptions(), symbols.size());
+        }
+        resolveNames(added);
+    }
+
+    @Override
+    public Optional<StockPrice> findLatestPrice(String symbol) {
+        if (!isConnected()) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(latestQuotes.get(symbol)).map(RealtimeQuote::toStockPrice);
+    }
+
+    @Override
+    public boolean isStreaming(String symbol) {
+        return isConnected() && latestQuotes.containsKey(symbol);
+    }
+
+    @Override
+    public boolean isConnected() {
+        synchronized (lock) {
+            return session != null;
+        }
+    }
+
+    /**
+     * 세션 1회 연결 (연결되면 true 발행, 세션이 끝나면 에러로 종료하여 재접속)
+     */
+    private Flux<Boolean> connectOnce() {
+        return approvalKeyPort.getApprovalKey()
+                .flatMapMany(approvalKey -> {
+                    Sinks.One<Boolean> opened = Sinks.one();
+                    Mono<Boolean> closed = webSocketClient
+                            .execute(URI.create(config.url()), webSocketSession ->
+                                    handleSession(webSocketSession, approvalKey, opened))
+                            .then(Mono.error(new IllegalStateException("KIS realtime session closed")));
+                    return opened.asMono().mergeWith(closed);
+                });
+    }
+
+    private Mono<Void> handleSession(WebSocketSession webSocketSession, String approvalKey, Sinks.One<Boolean> opened) {
+        Session current = new Session(approvalKey, Sinks.many().unicast().onBackpressureBuffer());
+        onConnected(current);
+        opened.tryEmitValue(true);
+
+        Mono<Void> send = webSocketSession.send(current.outbound().asFlux().map(webSocketSession::textMessage));
+        Mono<Void> receive = webSocketSession.receive()
+                .map(WebSocketMessage::getPayloadAsText)
+                .doOnNext(message -> handleMessage(current, message))
+                .then();
+        return Mono.firstWithSignal(send, receive)
+                .doFinally(signal -> onDisconnected(current));
+    }
+
+    private void onConnected(Session current) {
+        int subscriptions;
+        synchronized (lock) {
+            session = current;
+            subscribed.clear();
+            desired.forEach(symbol -> sendSubscription(current, symbol, true));
+            subscriptions = desired.size();
+        }
+        log.info("KIS realtime session connected: {} subscriptions", subscriptions);
+    }
+
+    private void onDisconnected(Session current) {
+        synchronized (lock) {
+            if (session != current) {
+                return;
+            }
+            session = null;
+            subscribed.clear();
+        }
+        // 끊긴 동안의 시세는 신뢰할 수 없으므로 폴링으로 넘김
+        latestQuotes.clear();
+        log.warn("KIS realtime session disconnected. Falling back to polling.");
+    }
+
+    private void handleMessage(Session current, String message) {
+        try {
+            if (KISRealtimeMessageParser.isDataMessage(message)) {
+                long receivedAt = clock.millis();
+                for (KISRealtimeTrade trade : KISRealtimeMessageParser.parseTrades(message, config.tradeTransactionId())) {
+                    onTrade(trade, receivedAt);
+                }
+                return;
+            }
+            KISRealtimeMessageParser.ControlMessage control = KISRealtimeMessageParser.parseControl(message);
+            if (control.isPingPong()) {
+                send(current, message);
+            } else if (!control.isSuccess()) {
+                log.warn("KIS realtime request rejected: trId={}, symbol={}, message={}",
+                        control.transactionId(), control.symbol(), control.message());
+            } else {
+                log.debug("KIS realtime request accepted: trId={}, symbol={}, message={}",
+                        control.transactionId(), control.symbol(), control.message());
+            }
+        } catch (RuntimeException e) {
+            log.warn("Failed to handle KIS realtime message: {}", e.getMessage());
+        }
+    }
+
+    private void onTrade(KISRealtimeTrade trade, long receivedAt) {
+        synchronized (lock) {
+            if (!subscribed.contains(trade.symbol())) {
+                return;
+            }
+        }
+        // 체결마다 BigDecimal 시세를 만들지 않고 원시 타입 체결로 전달 (StockPrice 변환은 저장/조회 시점)
+        Tick tick = trade.toTick(receivedAt);
+        RealtimeQuote quote = new RealtimeQuote(tick, names.getOrDefault(trade.symbol(), trade.symbol()));
+        latestQuotes.put(trade.symbol(), quote);
+        quotes.tryEmitNext(quote);
+    }
+
+    // lock 보유 상태에서 호출
+    private void sendSubscription(Session current, String symbol, boolean subscribe) {
+        send(current, KISRealtimeMessageParser.subscriptionMessage(
+                current.approvalKey(),
+                kisApiProperties.headers().personalCustomerType(),
+                config.tradeTransactionId(),
+                symbol,
+                subscribe));
+        if (subscribe) {
+            subscribed.add(symbol);
+        } else {
+            subscribed.remove(symbol);
+        }
+    }
+
+    private void send(Session current, String message) {
+        synchronized (lock) {
+            current.outbound().tryEmitNext(message);
+        }
+    }
+
+    /**
+     * 신규 구독 종목의 종목명 조회 (체결마다 조회하지 않도록 보관)
+     */
+    private void resolveNames(Set<String> symbols) {
+        Flux.fromIterable(symbols)
+                .filter(symbol -> !names.containsKey(symbol))
+                .flatMap(symbol -> Mono.defer(() -> stockPort.findBySymbol(symbol))
+                        .map(Stock::getName)
+                        .doOnNext(name -> names.put(symbol, name))
+                        .onErrorResume(error -> Mono.empty()))
+                .subscribe();
+    }
+
+    private record Session(String approvalKey, Sinks.Many<String> outbound) {
+    }
+}
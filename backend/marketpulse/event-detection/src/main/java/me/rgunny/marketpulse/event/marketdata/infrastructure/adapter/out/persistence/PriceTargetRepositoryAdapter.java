@@ -0,0 +1,55 @@
+package me.rgunny.marketpulse.event.marketdata.infrastructure.adapter.out.persistence;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import me.rgunny.marketpulse.event.marketdata.application.port.out.PriceTargetPort;
+import me.rgunny.marketpulse.event.marketdata.domain.model.PriceTarget;
+import me.rgunny.marketpulse.event.marketdata.infrastructure.repository.PriceTargetRepository;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Collection;
+
+/**
+ * PriceTarget 데이터 접근 어댑터
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PriceTargetRepositoryAdapter implements PriceTargetPort {
+    
+    private final PriceTargetRepository priceTargetRepository;
+    
+    @Override
+    public Mono<PriceTarget> save(PriceTarget target) {
+        return priceTargetRepository.save(target)
+                .doOnNext(saved -> log.debug("PriceTarget saved: {} - {} ({})",
+                        saved.id(), saved.symbol(), saved.targetPrice()));
+    }
+    
+    @Override
+    public Mono<PriceTarget> findById(String targetId) {
+        return priceTargetRepository.findById(targetId);
+    }
+    
+    @Override
+    public Flux<PriceTarget> findBySymbol(String symbol) {
+        return priceTargetRepository.findBySymbolOrderByTargetPriceAsc(symbol);
+    }
+    
+    @Override
+    public Flux<PriceTarget> findBySymbols(Collection<String> symbols) {
+        if (symbols.isEmpty()) {
+            return Flux.empty();
+        }
+        return priceTargetRepository.findBySymbolIn(symbols);
+    }
+    
+    @Override
+    public Mono<Boolean> delete(String targetId) {
+        return priceTargetRepository.removeById(targetId)
+                .map(deleted -> deleted > 0)
+                .defaultIfEmpty(false);
+    }
+}
@@ -0,0 +1,331 @@
+package me.rgunny.marketpulse.event.marketdata.infrastructure.adapter.out.shared;
+
+import lombok.extern.slf4j.Slf4j;
+import me.rgunny.marketpulse.event.marketdata.application.port.out.AlertHistoryPort;
+import me.rgunny.marketpulse.event.marketdata.application.service.SymbolRegistry;
+import me.rgunny.marketpulse.event.marketdata.application.util.CooldownLedger;
+import me.rgunny.marketpulse.event.marketdata.domain.model.AlertHistory;
+import me.rgunny.marketpulse.event.marketdata.domain.model.AlertType;
+import me.rgunny.marketpulse.event.marketdata.domain.model.CooldownClaim;
+import me.rgunny.marketpulse.event.marketdata.infrastructure.config.PriceAlertProperties;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.event.ContextClosedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
+
+/**
+ * 알림 쿨다운 2계층 관리 (L1: 인스턴스 메모리 장부, L2: Redis 이력)
+ *
+ * - 장부에 쿨다운이 남아 있으면 Redis 를 호출하지 않고 바로 차단 (쿨다운 중 종목의 반복 체결이 Redis 를 읽지 않음)
+ * - 장부가 비어 있으면 Redis 원자적 선점을 호출하고, 선점/차단 결과의 종료 시각을 장부에 기록
+ * - 선점은 인스턴스 간 중복 발송을 막는 판단이라 Redis 로 바로 보내고, 판단과 무관한 이력 저장(save)만
+ *   장부에 먼저 반영한 뒤 주기적으로 모아 Redis 에 반영 (write-behind)
+ * - 반영에 실패하면 실패가 이어질수록 다음 반영을 늦추고(최대 1분), 대기 이력이 상한을 넘으면 오래된 이력부터 버림
+ * - 시작 시 Redis 의 쿨다운 이력으로 장부를 복원 (종목 레지스트리 적재 후)
+ * - 종목 레지스트리에 없는 종목은 장부를 거치지 않고 Redis 로만 처리
+ */
+@Slf4j
+@Primary
+@Component
+public class LedgerAlertHistoryAdapter implements AlertHistoryPort {
+
+    // 종목 레지스트리 적재를 기다리는 최대 횟수와 간격
+    private static final int REHYDRATE_ATTEMPTS = 60;
+    private static final Duration REHYDRATE_POLL_INTERVAL = Duration.ofSeconds(1);
+    private static final int INITIAL_SYMBOLS = 4096;
+    private static final Duration MAX_FLUSH_BACKOFF = Duration.ofMinutes(1);
+
+    private final RedisAlertHistoryAdapter redisHistory;
+    private final SymbolRegistry symbolRegistry;
+    private final PriceAlertProperties.Ledger config;
+    private final Clock clock;
+
+    private final CooldownLedger ledger = new CooldownLedger(INITIAL_SYMBOLS);
+    private final ConcurrentLinkedDeque<AlertHistory> pendingWrites = new ConcurrentLinkedDeque<>();
+    private final AtomicInteger pendingSize = new AtomicInteger();
+    private final AtomicLong droppedWrites = new AtomicLong();
+    private final AtomicBoolean flushing = new AtomicBoolean();
+
+    // 연속 반영 실패 횟수와 다음 반영 가능 시각 (flushing 을 잡은 쪽만 변경)
+    private int consecutiveFailures;
+    private volatile long nextFlushAtMillis;
+
+    private volatile Disposable flusher;
+
+    public LedgerAlertHistoryAdapter(RedisAlertHistoryAdapter redisHistory,
+                                     SymbolRegistry symbolRegistry,
+                                     PriceAlertProperties properties,
+                                     Clock clock) {
+        this.redisHistory = redisHistory;
+        this.symbolRegistry = symbolRegistry;
+        this.config = properties.ledger();
+        this.clock = clock;
+    }
+
+    /**
+     * 장부 복원 후 write-behind 반영 시작
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!config.enabled() || flusher != null) {
+            return;
+        }
+        rehydrate().subscribe(
+                count -> log.info("Alert cooldown ledger rehydrated: {} entries", count),
+                error -> log.warn("Alert cooldown ledger rehydration failed, falling back to Redis lookups: {}",
+                        error.getMessage()));
+        flusher = Flux.interval(config.flushInterval())
+                .onBackpressureDrop()
+                .concatMap(tick -> flush())
+                .subscribe();
+    }
+
+    /**
+     * 반영 중지 (남은 이력은 마지막으로 한 번 반영)
+     */
+    @EventListener(ContextClosedEvent.class)
+    public void stop() {
+        Disposable current = flusher;
+        flusher = null;
+        if (current != null) {
+            current.dispose();
+        }
+        if (pendingSize.get() > 0) {
+            flushPending().block(Duration.ofSeconds(5));
+        }
+    }
+
+    /**
+     * Redis 의 쿨다운 이력을 장부에 반영
+     *
+     * @return 반영한 이력 수
+     */
+    public Mono<Long> rehydrate() {
+        return Mono.fromCallable(symbolRegistry::isLoaded)
+                .filter(Boolean::booleanValue)
+                .repeatWhenEmpty(REHYDRATE_ATTEMPTS, attempts -> attempts.delayElements(REHYDRATE_POLL_INTERVAL))
+                .switchIfEmpty(Mono.error(new IllegalStateException("Symbol registry not loaded")))
+                .thenMany(redisHistory.findAll())
+                .filter(this::record)
+                .count();
+    }
+
+    /**
+     * 쌓인 이력을 배치 단위로 Redis 에 반영 (실패한 이력은 다시 쌓고, 백오프 중이면 건너뜀)
+     *
+     * @return 반영한 이력 수
+     */
+    public Mono<Long> flush() {
+        return Mono.defer(() -> clock.millis() < nextFlushAtMillis ? Mono.just(0L) : flushPending());
+    }
+
+    private Mono<Long> flushPending() {
+        return Mono.defer(() -> {
+            if (!flushing.compareAndSet(false, true)) {
+                return Mono.just(0L);
+            }
+            // 배치를 하나씩 꺼내 반영 (앞 배치가 끝난 뒤에 다음 배치를 꺼냄)
+            return flushBatch()
+                    .expand(saved -> flushBatch())
+                    .reduce(0L, Long::sum)
+                    .doOnNext(saved -> {
+                        consecutiveFailures = 0;
+                        nextFlushAtMillis = 0;
+                    })
+                    .onErrorResume(error -> {
+                        onFlushFailure(error);
+                        return Mono.just(0L);
+                    })
+                    .doFinally(signal -> flushing.set(false));
+        });
+    }
+
+    private Mono<Long> flushBatch() {
+        return Mono.defer(() -> {
+            List<AlertHistory> batch = drain(config.flushBatchSize());
+            if (batch.isEmpty()) {
+                return Mono.empty();
+            }
+            return redisHistory.saveAll(batch)
+                    .doOnError(error -> requeue(batch));
+        });
+    }
+
+    private void onFlushFailure(Throwable error) {
+        Duration backoff = flushBackoff(++consecutiveFailures);
+        nextFlushAtMillis = clock.millis() + backoff.toMillis();
+        log.warn("Alert history write-behind failed {} times in a row, retrying in {} ({} pending, {} dropped): {}",
+                consecutiveFailures, backoff, pendingSize.get(), droppedWrites.get(), error.getMessage());
+    }
+
+    /**
+     * 연속 실패 횟수에 따른 다음 반영까지의 대기 시간 (반영 주기의 2배부터 두 배씩, 최대 1분)
+     */
+    private Duration flushBackoff(int failures) {
+        Duration backoff = config.flushInterval().multipliedBy(1L << Math.min(failures, 10));
+        return backoff.compareTo(MAX_FLUSH_BACKOFF) > 0 ? MAX_FLUSH_BACKOFF : backoff;
+    }
+
+    /**
+     * 반영 대기 중인 이력 수
+     */
+    public int pendingCount() {
+        return pendingSize.get();
+    }
+
+    /**
+     * 대기 이력 상한을 넘어 버린 이력 수
+     */
+    public long droppedCount() {
+        return droppedWrites.get();
+    }
+
+    @Override
+    public Mono<AlertHistory> save(AlertHistory alertHistory) {
+        if (!config.enabled() || !record(alertHistory)) {
+            return redisHistory.save(alertHistory);
+        }
+        enqueue(alertHistory);
+        return Mono.just(alertHistory);
+    }
+
+    @Override
+    public Mono<AlertHistory> findBySymbolAndType(String symbol, AlertType alertType) {
+        return redisHistory.findBySymbolAndType(symbol, alertType);
+    }
+
+    @Override
+    public Mono<Boolean> canSendAlert(String symbol, AlertType alertType) {
+        int symbolId = ledgerId(symbol);
+        if (symbolId >= 0 && ledger.remainingMillis(symbolId, alertType, clock.millis()) > 0) {
+            return Mono.just(false);
+        }
+        return redisHistory.canSendAlert(symbol, alertType);
+    }
+
+    @Override
+    public Mono<CooldownClaim> tryAcquireCooldown(AlertHistory alertHistory) {
+        int symbolId = ledgerId(alertHistory.symbol());
+        if (symbolId < 0) {
+            return redisHistory.tryAcquireCooldown(alertHistory);
+        }
+        return Mono.defer(() -> {
+            long now = clock.millis();
+            long remaining = ledger.remainingMillis(symbolId, alertHistory.alertType(), now);
+            if (remaining > 0) {
+                return Mono.just(CooldownClaim.blocked(Duration.ofMillis(remaining)));
+            }
+            return redisHistory.tryAcquireCooldown(alertHistory)
+                    .doOnNext(claim -> ledger.extend(symbolId, alertHistory.alertType(), claim.acquired()
+                            ? alertHistory.cooldownUntil().toEpochMilli()
+                            : now + claim.remaining().toMillis()));
+        });
+    }
+
+    @Override
+    public Mono<Boolean> delete(String symbol, AlertType alertType) {
+        int symbolId = ledgerId(symbol);
+        if (symbolId >= 0) {
+            ledger.clear(symbolId, alertType);
+            removePending(history -> history.matches(symbol, alertType));
+        }
+        return redisHistory.delete(symbol, alertType);
+    }
+
+    @Override
+    public Mono<Long> deleteAllBySymbol(String symbol) {
+        int symbolId = ledgerId(symbol);
+        if (symbolId >= 0) {
+            for (AlertType alertType : AlertType.values()) {
+                ledger.clear(symbolId, alertType);
+            }
+            removePending(history -> history.symbol().equals(symbol));
+        }
+        return redisHistory.deleteAllBySymbol(symbol);
+    }
+
+    /**
+     * 이력의 쿨다운 종료 시각을 장부에 기록
+     *
+     * @return 장부에 기록했으면 true (장부를 쓰지 않는 종목이면 false)
+     */
+    private boolean record(AlertHistory history) {
+        int symbolId = ledgerId(history.symbol());
+        if (symbolId < 0) {
+            return false;
+        }
+        ledger.extend(symbolId, history.alertType(), history.cooldownUntil().toEpochMilli());
+        return true;
+    }
+
+    private int ledgerId(String symbol) {
+        return config.enabled() ? symbolRegistry.idOf(symbol) : SymbolRegistry.UNKNOWN_ID;
+    }
+
+    private void enqueue(AlertHistory history) {
+        pendingSize.incrementAndGet();
+        pendingWrites.offerLast(history);
+        trimOverflow();
+    }
+
+    /**
+     * 반영에 실패한 배치를 순서대로 맨 앞에 되돌림 (그사이 쿨다운이 끝난 이력은 버림)
+     */
+    private void requeue(List<AlertHistory> batch) {
+        long now = clock.millis();
+        for (int i = batch.size() - 1; i >= 0; i--) {
+            AlertHistory history = batch.get(i);
+            if (history.cooldownUntil().toEpochMilli() > now) {
+                pendingSize.incrementAndGet();
+                pendingWrites.offerFirst(history);
+            }
+        }
+        trimOverflow();
+    }
+
+    /**
+     * 대기 이력이 상한을 넘으면 오래된 이력부터 버림 (장부에는 남아 있어 이 인스턴스의 차단에는 영향 없음)
+     */
+    private void trimOverflow() {
+        while (pendingSize.get() > config.maxPendingWrites()) {
+            if (pendingWrites.pollFirst() == null) {
+                return;
+            }
+            pendingSize.decrementAndGet();
+            droppedWrites.incrementAndGet();
+        }
+    }
+
+    private void removePending(Predicate<AlertHistory> filter) {
+        List<AlertHistory> matched = pendingWrites.stream().filter(filter).toList();
+        for (AlertHistory history : matched) {
+            if (pendingWrites.removeFirstOccurrence(history)) {
+                pendingSize.decrementAndGet();
+            }
+        }
+    }
+
+    private List<AlertHistory> drain(int max) {
+        List<AlertHistory> batch = new ArrayList<>(Math.min(max, pendingSize.get()));
+        AlertHistory history;
+        while (batch.size() < max && (history = pendingWrites.pollFirst()) != null) {
+            pendingSize.decrementAndGet();
+            batch.add(history);
+        }
+        return batch;
+    }
+}
@@ -0,0 +1,288 @@
+package me.rgunny.marketpulse.event.marketdata.infrastructure.adapter.out.shared;
+
+import lombok.extern.slf4j.Slf4j;
+import me.rgunny.marketpulse.event.marketdata.application.port.out.shared.MarketDataCachePort;
+import me.rgunny.marketpulse.event.marketdata.application.util.ExpiringLruCache;
+import me.rgunny.marketpulse.event.marketdata.domain.model.StockPrice;
+import me.rgunny.marketpulse.event.marketdata.infrastructure.config.StockPriceCacheMetrics;
+import me.rgunny.marketpulse.event.marketdata.infrastructure.config.shared.MarketDataCacheProperties;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.event.ContextClosedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.ReactiveSubscription;
+import org.springframework.data.redis.core.ReactiveRedisTemplate;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 현재가 2계층 캐시 (L1: 인스턴스 메모리, L2: Redis)
+ *
+ * - 조회는 L1 을 먼저 보고, 미스면 Redis 에서 읽어 L1 에 채움 (역직렬화는 L1 미스일 때만 발생)
+ * - 여러 종목 조회는 L1 미스 종목만 모아 Redis MGET 으로 읽음
+ * - 저장/삭제는 Redis 에 반영한 뒤 무효화 메시지를 발행하고, 다른 인스턴스는 받은 종목을 L1 에서 제거
+ * - 무효화 채널 구독이 끊긴 동안에는 메시지를 놓칠 수 있으므로 L1 을 비우고 Redis 로만 조회
+ * - 메시지를 놓쳐도 L1 항목은 maxAge 뒤 만료되어 오래된 시세가 남지 않음
+ */
+@Slf4j
+@Primary
+@Component
+public class NearCacheMarketDataCacheAdapter implements MarketDataCachePort {
+
+    private static final String MESSAGE_DELIMITER = "|";
+
+    private final RedisMarketDataCacheAdapter redisCache;
+    private final ReactiveRedisTemplate<String, String> redisTemplate;
+    private final MarketDataCacheProperties.NearCache config;
+    private final StockPriceCacheMetrics metrics;
+    private final Clock clock;
+
+    private final String instanceId = UUID.randomUUID().toString();
+    private final ExpiringLruCache<String, StockPrice> l1;
+
+    // 종목별 L1 변경 버전 (l1 잠금 보유 상태에서만 변경). Redis 조회 중 같은 종목이 저장/무효화되면 조회 결과를 L1 에 채우지 않음
+    // 항목 수는 종목 수로 제한되며, 구독이 끊겨 L1 을 비울 때 함께 비움
+    private final Map<String, Long> versions = new HashMap<>();
+    // L1 전체를 비운 횟수 (버전 표를 비운 뒤 이전 조회가 채우지 않도록)
+    private long epoch;
+
+    private volatile boolean listening;
+    private volatile Disposable subscription;
+
+    public NearCacheMarketDataCacheAdapter(RedisMarketDataCacheAdapter redisCache,
+                                           @Qualifier("reactiveStringRedisTemplate") ReactiveRedisTemplate<String, String> redisTemplate,
+                                           MarketDataCacheProperties properties,
+                                           StockPriceCacheMetrics metrics,
+                                           Clock clock) {
+        this.redisCache = redisCache;
+        this.redisTemplate = redisTemplate;
+        this.config = properties.nearCache();
+        this.metrics = metrics;
+        this.clock = clock;
+        this.l1 = new ExpiringLruCache<>(config.maxSize());
+        metrics.bindL1Size(l1::size);
+    }
+
+    /**
+     * 무효화 채널 구독 시작 (구독이 확인된 뒤부터 L1 사용)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!config.enabled() || subscription != null) {
+            return;
+        }
+        subscription = Flux.defer(this::listen)
+                .retryWhen(Retry.backoff(Long.MAX_VALUE, Duration.ofSeconds(1))
+                        .maxBackoff(Duration.ofSeconds(30))
+                        .transientErrors(true)
+                        .doBeforeRetry(signal -> log.warn("Price cache invalidation channel lost, resubscribing (attempt {}): {}",
+                                signal.totalRetriesInARow() + 1, signal.failure().getMessage())))
+                .subscribe();
+    }
+
+    /**
+     * 무효화 채널 구독 종료
+     */
+    @EventListener(ContextClosedEvent.class)
+    public void stop() {
+        Disposable current = subscription;
+        subscription = null;
+        if (current != null) {
+            current.dispose();
+        }
+    }
+
+    @Override
+    public Mono<StockPrice> getStockPrice(String symbol) {
+        if (!listening) {
+            return redisCache.getStockPrice(symbol);
+        }
+        return Mono.defer(() -> {
+            StockPrice cached = l1.get(symbol, clock.millis());
+            if (cached != null) {
+                metrics.recordL1Hit();
+                return Mono.just(cached);
+            }
+            metrics.recordL1Miss();
+
+            long observedEpoch;
+            long observed;
+            synchronized (l1) {
+                observedEpoch = epoch;
+                observed = versionOf(symbol);
+            }
+            return redisCache.getStockPrice(symbol)
+                    .doOnNext(price -> {
+                        metrics.recordL2Hit();
+                        fill(symbol, price, observedEpoch, observed);
+                    })
+                    .switchIfEmpty(Mono.fromRunnable(metrics::recordL2Miss));
+        });
+    }
+
+    @Override
+    public Flux<StockPrice> getStockPrices(Collection<String> symbols) {
+        if (!listening) {
+            return redisCache.getStockPrices(symbols);
+        }
+        return Flux.defer(() -> {
+            long now = clock.millis();
+            List<StockPrice> hits = new ArrayList<>();
+            List<String> misses = new ArrayList<>();
+            for (String symbol : new LinkedHashSet<>(symbols)) {
+                StockPrice cached = l1.get(symbol, now);
+                if (cached != null) {
+                    hits.add(cached);
+                } else {
+                    misses.add(symbol);
+                }
+            }
+            hits.forEach(hit -> metrics.recordL1Hit());
+            misses.forEach(miss -> metrics.recordL1Miss());
+            if (misses.isEmpty()) {
+                return Flux.fromIterable(hits);
+            }
+
+            long observedEpoch;
+            Map<String, Long> observed = new HashMap<>(misses.size() * 2);
+            synchronized (l1) {
+                observedEpoch = epoch;
+                for (String miss : misses) {
+                    observed.put(miss, versionOf(miss));
+                }
+            }
+            AtomicInteger found = new AtomicInteger();
+            Flux<StockPrice> fromRedis = redisCache.getStockPrices(misses)
+                    .doOnNext(price -> {
+                        found.incrementAndGet();
+                        metrics.recordL2Hit();
+                        fill(price.getSymbol(), price, observedEpoch, observed.getOrDefault(price.getSymbol(), -1L));
+                    })
+                    .doOnComplete(() -> {
+                        for (int i = found.get(); i < misses.size(); i++) {
+                            metrics.recordL2Miss();
+                        }
+                    });
+            return Flux.fromIterable(hits).concatWith(fromRedis);
+        });
+    }
+
+    @Override
+    public Mono<Void> saveStockPrice(StockPrice stockPrice, Duration ttl) {
+        String symbol = stockPrice.getSymbol();
+        return redisCache.saveStockPrice(stockPrice, ttl)
+                .then(publishInvalidation(symbol))
+                .doOnSuccess(ignored -> {
+                    if (listening) {
+                        storeLocally(symbol, stockPrice, ttl);
+                    }
+                });
+    }
+
+    @Override
+    public Mono<Void> deleteStockPrice(String symbol) {
+        return Mono.fromRunnable(() -> invalidateLocally(symbol))
+                .then(redisCache.deleteStockPrice(symbol))
+                .then(publishInvalidation(symbol));
+    }
+
+    @Override
+    public Mono<Long> getStockPriceTtl(String symbol) {
+        return redisCache.getStockPriceTtl(symbol);
+    }
+
+    /**
+     * 무효화 채널 1회 구독 (구독이 끝나면 에러로 종료하여 재구독)
+     */
+    private Flux<String> listen() {
+        return redisTemplate.listenToChannelLater(config.invalidationChannel())
+                .doOnNext(ignored -> {
+                    listening = true;
+                    log.info("Price cache invalidation channel subscribed: {}", config.invalidationChannel());
+                })
+                .flatMapMany(messages -> messages.map(ReactiveSubscription.Message::getMessage))
+                .doOnNext(this::onInvalidation)
+                .doFinally(signal -> onListenerLost())
+                .concatWith(Mono.error(new IllegalStateException("Price cache invalidation channel closed")));
+    }
+
+    private void onInvalidation(String message) {
+        int delimiter = message.indexOf(MESSAGE_DELIMITER);
+        if (delimiter < 0) {
+            log.warn("Malformed price cache invalidation message: {}", message);
+            return;
+        }
+        // 자신이 발행한 메시지는 이미 L1 에 반영됨
+        if (message.startsWith(instanceId + MESSAGE_DELIMITER)) {
+            return;
+        }
+        invalidateLocally(message.substring(delimiter + 1));
+        metrics.recordRemoteInvalidation();
+    }
+
+    private void onListenerLost() {
+        listening = false;
+        synchronized (l1) {
+            epoch++;
+            versions.clear();
+            l1.invalidateAll();
+        }
+    }
+
+    private Mono<Void> publishInvalidation(String symbol) {
+        return redisTemplate.convertAndSend(config.invalidationChannel(), instanceId + MESSAGE_DELIMITER + symbol)
+                .onErrorResume(error -> {
+                    log.warn("Failed to publish price cache invalidation for symbol: {}", symbol, error);
+                    return Mono.empty();
+                })
+                .then();
+    }
+
+    private void fill(String symbol, StockPrice price, long observedEpoch, long observed) {
+        synchronized (l1) {
+            if (epoch == observedEpoch && versionOf(symbol) == observed) {
+                l1.put(symbol, price, clock.millis() + config.maxAge().toMillis());
+            }
+        }
+    }
+
+    private void storeLocally(String symbol, StockPrice price, Duration ttl) {
+        long maxAgeMillis = Math.min(ttl.toMillis(), config.maxAge().toMillis());
+        synchronized (l1) {
+            bumpVersion(symbol);
+            l1.put(symbol, price, clock.millis() + maxAgeMillis);
+        }
+    }
+
+    private void invalidateLocally(String symbol) {
+        synchronized (l1) {
+            bumpVersion(symbol);
+            l1.invalidate(symbol);
+        }
+    }
+
+    // l1 잠금 보유 상태에서만 호출
+    private long versionOf(String symbol) {
+        return versions.getOrDefault(symbol, 0L);
+    }
+
+    // l1 잠금 보유 상태에서만 호출
+    private void bumpVersion(String symbol) {
+        versions.merge(symbol, 1L, Long::sum);
+    }
+}
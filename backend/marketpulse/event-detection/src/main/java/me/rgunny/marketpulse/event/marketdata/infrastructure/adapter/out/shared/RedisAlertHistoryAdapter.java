@@ -4,14 +4,24 @@ import lombok.extern.slf4j.Slf4j;
 import me.rgunny.marketpulse.event.marketdata.application.port.out.AlertHistoryPort;
 import me.rgunny.marketpulse.event.marketdata.domain.model.AlertHistory;
 import me.rgunny.marketpulse.event.marketdata.domain.model.AlertType;
+import me.rgunny.marketpulse.event.marketdata.domain.model.CooldownClaim;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.data.redis.core.ReactiveRedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.serializer.RedisElementReader;
+import org.springframework.data.redis.serializer.RedisSerializationContext;
 import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.time.Clock;
 import java.time.Duration;
 import java.time.Instant;
+import java.util.List;
+import java.util.Objects;
 
 /**
  * Redis 기반 알림 이력 관리 어댑터
@@ -23,6 +33,22 @@ public class RedisAlertHistoryAdapter implements AlertHistoryPort {
     private final ReactiveRedisTemplate<String, AlertHistory> redisTemplate;
     private final Clock clock;
     private static final String KEY_PREFIX = "alert:history:";
+    private static final int SCAN_BATCH_SIZE = 500;
+    
+    /**
+     * 쿨다운 선점 스크립트 (1회 왕복)
+     * KEYS[1]: 이력 키, ARGV[1]: 이력(JSON), ARGV[2]: 쿨다운(ms)
+     * 반환: 선점하면 0, 이미 쿨다운 중이면 남은 ms (만료 없는 키면 -1)
+     */
+    private static final RedisScript<Long> ACQUIRE_COOLDOWN_SCRIPT = RedisScript.of("""
+            if redis.call('SET', KEYS[1], ARGV[1], 'NX', 'PX', ARGV[2]) then
+                return 0
+            end
+            return redis.call('PTTL', KEYS[1])
+            """, Long.class);
+    
+    private static final RedisElementReader<Long> LONG_READER =
+            buffer -> Long.parseLong(StandardCharsets.UTF_8.decode(buffer).toString());
     
     public RedisAlertHistoryAdapter(
             @Qualifier("alertHistoryRedisTemplate") ReactiveRedisTemplate<String, AlertHistory> redisTemplate,
@@ -74,6 +100,61 @@ public class RedisAlertHistoryAdapter implements AlertHistoryPort {
                 });
     }
     
+    /**
+     * 알림 이력 일괄 저장 (명령을 동시에 보내 한 연결에서 파이프라인으로 처리)
+     *
+     * @return 저장한 개수
+     */
+    public Mono<Long> saveAll(List<AlertHistory> alertHistories) {
+        return Flux.fromIterable(alertHistories)
+                .flatMap(this::save)
+                .count();
+    }
+    
+    /**
+     * 쿨다운 중인 전체 알림 이력 (SCAN + MGET, 시작 시 복원용)
+     */
+    public Flux<AlertHistory> findAll() {
+        ScanOptions options = ScanOptions.scanOptions().match(KEY_PREFIX + "*").count(SCAN_BATCH_SIZE).build();
+        return redisTemplate.scan(options)
+                .buffer(SCAN_BATCH_SIZE)
+                .concatMap(keys -> redisTemplate.opsForValue().multiGet(keys))
+                .flatMapIterable(histories -> histories)
+                .filter(Objects::nonNull)
+                .doOnError(error -> log.error("Failed to scan alert histories", error));
+    }
+    
+    @Override
+    public Mono<CooldownClaim> tryAcquireCooldown(AlertHistory alertHistory) {
+        String key = generateKey(alertHistory.symbol(), alertHistory.alertType());
+        long ttlMillis = Duration.between(Instant.now(clock), alertHistory.cooldownUntil()).toMillis();
+        
+        // 이미 지난 쿨다운은 기록할 필요 없이 발송 가능
+        if (ttlMillis <= 0) {
+            log.warn("Attempting to acquire expired alert cooldown: {}, skipping", key);
+            return Mono.just(CooldownClaim.granted());
+        }
+        
+        // 값은 save 와 같은 직렬화로 기록하여 findBySymbolAndType 으로 그대로 조회
+        ByteBuffer value = redisTemplate.getSerializationContext().getValueSerializationPair().write(alertHistory);
+        ByteBuffer ttl = StandardCharsets.UTF_8.encode(Long.toString(ttlMillis));
+        
+        return redisTemplate.execute(ACQUIRE_COOLDOWN_SCRIPT, List.of(key), List.of(value, ttl),
+                        RedisSerializationContext.SerializationPair.byteBuffer().getWriter(), LONG_READER)
+                .next()
+                .map(result -> result == 0
+                        ? CooldownClaim.granted()
+                        : CooldownClaim.blocked(Duration.ofMillis(Math.max(result, 0))))
+                .doOnNext(claim -> {
+                    if (claim.acquired()) {
+                        log.debug("Acquired alert cooldown: {} for {}ms", key, ttlMillis);
+                    } else {
+                        log.info("Alert blocked by cooldown: {} - remaining {}ms", key, claim.remaining().toMillis());
+                    }
+                })
+                .doOnError(error -> log.error("Failed to acquire alert cooldown: {}", key, error));
+    }
+    
     @Override
     public Mono<Boolean> delete(String symbol, AlertType alertType) {
         String key = generateKey(symbol, alertType);
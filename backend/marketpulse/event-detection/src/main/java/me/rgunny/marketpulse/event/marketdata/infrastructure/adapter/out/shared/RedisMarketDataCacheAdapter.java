@@ -1,29 +1,32 @@
 package me.rgunny.marketpulse.event.marketdata.infrastructure.adapter.out.shared;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.extern.slf4j.Slf4j;
 import me.rgunny.marketpulse.event.marketdata.application.port.out.shared.MarketDataCachePort;
 import me.rgunny.marketpulse.event.marketdata.domain.model.StockPrice;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.data.redis.core.ReactiveRedisTemplate;
 import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
 
 @Slf4j
 @Component
 public class RedisMarketDataCacheAdapter implements MarketDataCachePort {
     private static final String STOCK_PRICE_KEY_PREFIX = "stock:price:";
     
-    private final ReactiveRedisTemplate<String, String> redisTemplate;
-    private final ObjectMapper objectMapper;
+    // MGET 1회당 최대 키 수 (큰 요청이 Redis 를 오래 점유하지 않도록 분할)
+    private static final int MGET_CHUNK_SIZE = 100;
     
-    public RedisMarketDataCacheAdapter(@Qualifier("reactiveStringRedisTemplate") ReactiveRedisTemplate<String, String> redisTemplate,
-                                     ObjectMapper objectMapper) {
+    // 값 직렬화는 템플릿의 바이너리 코덱(StockPriceBinaryCodec)이 담당
+    private final ReactiveRedisTemplate<String, StockPrice> redisTemplate;
+    
+    public RedisMarketDataCacheAdapter(@Qualifier("stockPriceRedisTemplate") ReactiveRedisTemplate<String, StockPrice> redisTemplate) {
         this.redisTemplate = redisTemplate;
-        this.objectMapper = objectMapper;
     }
     
     @Override
@@ -31,7 +34,6 @@ public class RedisMarketDataCacheAdapter implements MarketDataCachePort {
         String key = STOCK_PRICE_KEY_PREFIX + symbol;
         
         return redisTemplate.opsForValue().get(key)
-                .flatMap(this::deserializeStockPrice)
                 .doOnNext(stockPrice -> log.debug("Cache hit for symbol: {}", symbol))
                 .doOnSuccess(result -> {
                     if (result == null) {
@@ -44,12 +46,23 @@ public class RedisMarketDataCacheAdapter implements MarketDataCachePort {
                 });
     }
     
+    @Override
+    public Flux<StockPrice> getStockPrices(Collection<String> symbols) {
+        List<String> distinct = symbols.stream().distinct().toList();
+        if (distinct.isEmpty()) {
+            return Flux.empty();
+        }
+        
+        return Flux.fromIterable(distinct)
+                .buffer(MGET_CHUNK_SIZE)
+                .concatMap(this::multiGet);
+    }
+    
     @Override
     public Mono<Void> saveStockPrice(StockPrice stockPrice, Duration ttl) {
         String key = STOCK_PRICE_KEY_PREFIX + stockPrice.getSymbol();
         
-        return serializeStockPrice(stockPrice)
-                .flatMap(serialized -> redisTemplate.opsForValue().set(key, serialized, ttl))
+        return redisTemplate.opsForValue().set(key, stockPrice, ttl)
                 .doOnSuccess(success -> log.debug("Cached StockPrice for symbol: {} with TTL: {}", 
                         stockPrice.getSymbol(), ttl))
                 .onErrorResume(error -> {
@@ -86,23 +99,21 @@ public class RedisMarketDataCacheAdapter implements MarketDataCachePort {
                 });
     }
     
-    private Mono<String> serializeStockPrice(StockPrice stockPrice) {
-        return Mono.fromCallable(() -> {
-            try {
-                return objectMapper.writeValueAsString(stockPrice);
-            } catch (JsonProcessingException e) {
-                throw new RuntimeException("Failed to serialize StockPrice", e);
-            }
-        });
-    }
-    
-    private Mono<StockPrice> deserializeStockPrice(String json) {
-        return Mono.fromCallable(() -> {
-            try {
-                return objectMapper.readValue(json, StockPrice.class);
-            } catch (JsonProcessingException e) {
-                throw new RuntimeException("Failed to deserialize StockPrice", e);
-            }
-        });
+    /**
+     * 종목 묶음을 MGET 1회로 조회 (값 하나라도 읽지 못하면 해당 묶음만 단건 조회로 대체)
+     */
+    private Flux<StockPrice> multiGet(List<String> symbols) {
+        List<String> keys = symbols.stream()
+                .map(symbol -> STOCK_PRICE_KEY_PREFIX + symbol)
+                .toList();
+        
+        return redisTemplate.opsForValue().multiGet(keys)
+                .map(values -> values.stream().filter(Objects::nonNull).toList())
+                .doOnNext(hits -> log.debug("Cache MGET {} keys, {} hits", keys.size(), hits.size()))
+                .flatMapMany(Flux::fromIterable)
+                .onErrorResume(error -> {
+                    log.warn("Failed to MGET {} StockPrices from cache, falling back to single reads", keys.size(), error);
+                    return Flux.fromIterable(symbols).concatMap(this::getStockPrice);
+                });
     }
 }
\ No newline at end of file
@@ -1,14 +1,20 @@
 package me.rgunny.marketpulse.event.marketdata.infrastructure.config;
 
 import jakarta.validation.constraints.NotNull;
+import me.rgunny.marketpulse.event.marketdata.domain.model.AlertRule;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.boot.context.properties.bind.DefaultValue;
 import org.springframework.validation.annotation.Validated;
 
 import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
 
 /**
  * 가격 알림 임계값 설정
+ *
+ * rules 를 지정하지 않으면 임계값 4개와 쿨다운으로 기본 규칙을 만듦
  */
 @ConfigurationProperties(prefix = "marketpulse.alert.price")
 @Validated
@@ -30,6 +36,51 @@ public record PriceAlertProperties(
     Integer cooldownMinutes,
 
     @DefaultValue("60")
-    Integer limitCooldownMinutes
+    Integer limitCooldownMinutes,
 
-) {}
\ No newline at end of file
+    // 종목/그룹별 알림 규칙
+    List<AlertRule> rules,
+
+    // 종목 그룹 (그룹명 -> 종목코드 목록)
+    Map<String, List<String>> groups,
+
+    // 인스턴스 메모리 쿨다운 장부
+    Ledger ledger
+
+) {
+
+    public PriceAlertProperties {
+        rules = rules == null ? List.of() : rules;
+        groups = groups == null ? Map.of() : groups;
+        ledger = ledger == null ? new Ledger(true, null, 0, 0) : ledger;
+    }
+
+    public record Ledger(
+            /**
+             * 장부 사용 여부 (끄면 모든 쿨다운 판단을 Redis 로 함)
+             */
+            @DefaultValue("true")
+            boolean enabled,
+
+            /**
+             * 이력 저장(write-behind) 반영 주기
+             */
+            Duration flushInterval,
+
+            /**
+             * 한 번에 Redis 로 반영할 최대 이력 수
+             */
+            int flushBatchSize,
+
+            /**
+             * 반영 대기 이력 최대 수 (Redis 장애로 넘치면 오래된 이력부터 버림)
+             */
+            int maxPendingWrites
+    ) {
+        public Ledger {
+            if (flushInterval == null || flushInterval.isNegative() || flushInterval.isZero()) flushInterval = Duration.ofSeconds(1);
+            if (flushBatchSize <= 0) flushBatchSize = 256;
+            if (maxPendingWrites <= 0) maxPendingWrites = 10_000;
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package me.rgunny.marketpulse.event.marketdata.infrastructure.config;
+
+import me.rgunny.marketpulse.common.infrastructure.config.redis.RedisTemplateBuilder;
+import me.rgunny.marketpulse.event.marketdata.domain.model.StockPrice;
+import me.rgunny.marketpulse.event.marketdata.infrastructure.util.StockPriceBinaryCodec;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.ReactiveRedisConnectionFactory;
+import org.springframework.data.redis.core.ReactiveRedisTemplate;
+
+/**
+ * 현재가 캐시용 Redis 설정
+ * 
+ * 현재가는 조회마다 직렬화/역직렬화가 일어나므로 JSON 대신 바이너리 코덱으로 저장
+ */
+@Configuration
+public class RedisMarketDataConfig {
+    
+    /**
+     * StockPrice 전용 ReactiveRedisTemplate
+     * 
+     * @param connectionFactory Redis 연결 팩토리
+     * @return ReactiveRedisTemplate<String, StockPrice>
+     */
+    @Bean
+    public ReactiveRedisTemplate<String, StockPrice> stockPriceRedisTemplate(
+            ReactiveRedisConnectionFactory connectionFactory) {
+        return RedisTemplateBuilder.binaryTemplate(connectionFactory, new StockPriceBinaryCodec(), StockPrice.class);
+    }
+}
@@ -0,0 +1,177 @@
+package me.rgunny.marketpulse.event.marketdata.infrastructure.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import me.rgunny.marketpulse.event.marketdata.application.port.out.CollectionMetricsPort;
+import me.rgunny.marketpulse.event.marketdata.domain.model.CollectionRunResult;
+import me.rgunny.marketpulse.event.marketdata.domain.model.CollectionTier;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 시세 수집 메트릭 수집기
+ * - 미터는 생성 시 한 번만 등록하고 수집 경로에서는 값만 갱신
+ */
+@Component
+public class StockCollectionMetrics implements CollectionMetricsPort {
+    
+    private final Counter successCounter;
+    private final Counter failureCounter;
+    private final Timer runTimer;
+    private final Timer pacingTimer;
+    private final Counter streamQuoteCounter;
+    private final Timer streamLatencyTimer;
+    private final DistributionSummary batchSizeSummary;
+    private final Map<CollectionTier, Counter> dispatchCounters = new EnumMap<>(CollectionTier.class);
+    private final Map<CollectionTier, Counter> deadlineMissCounters = new EnumMap<>(CollectionTier.class);
+    private final Map<CollectionTier, Timer> latenessTimers = new EnumMap<>(CollectionTier.class);
+    private final Map<CollectionTier, AtomicInteger> tierTargetCounts = new EnumMap<>(CollectionTier.class);
+    private final Map<CollectionTier, DistributionSummary> intervalSummaries = new EnumMap<>(CollectionTier.class);
+    
+    // 마지막 실행 기준 게이지 값
+    private volatile double lastThroughput;
+    private volatile double lastLagSeconds;
+    private volatile double lastTargetCount;
+    private volatile double plannedCallsPerMinute;
+    private volatile double budgetScale = 1.0;
+    private volatile int shardMembers = 1;
+    private volatile int shardOwnedTargets;
+    
+    public StockCollectionMetrics(MeterRegistry meterRegistry) {
+        this.successCounter = Counter.builder("stock.collection.requests")
+                .tag("result", "success")
+                .description("Total successful stock price collections")
+                .register(meterRegistry);
+        this.failureCounter = Counter.builder("stock.collection.requests")
+                .tag("result", "failure")
+                .description("Total failed stock price collections")
+                .register(meterRegistry);
+        this.runTimer = Timer.builder("stock.collection.run.duration")
+                .description("Duration of one active stocks collection run")
+                .register(meterRegistry);
+        this.pacingTimer = Timer.builder("stock.collection.pacing.wait")
+                .description("Total time spent waiting for rate limiter permits per run")
+                .register(meterRegistry);
+        this.streamQuoteCounter = Counter.builder("stock.collection.stream.quotes")
+                .description("Total realtime quotes ingested from the streaming feed")
+                .register(meterRegistry);
+        this.streamLatencyTimer = Timer.builder("stock.collection.stream.latency")
+                .description("Time from realtime quote receipt to stored and alert-analyzed")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+        this.batchSizeSummary = DistributionSummary.builder("stock.collection.batch.size")
+                .description("Symbols collected per external API call")
+                .publishPercentiles(0.5, 0.9)
+                .register(meterRegistry);
+        Gauge.builder("stock.collection.throughput", this, metrics -> metrics.lastThroughput)
+                .description("Symbols collected per second in the last run")
+                .register(meterRegistry);
+        Gauge.builder("stock.collection.lag.seconds", this, metrics -> metrics.lastLagSeconds)
+                .description("How far the last run exceeded the target collection interval")
+                .register(meterRegistry);
+        Gauge.builder("stock.collection.targets", this, metrics -> metrics.lastTargetCount)
+                .description("Number of symbols targeted in the last run")
+                .register(meterRegistry);
+        
+        for (CollectionTier tier : CollectionTier.values()) {
+            String tierTag = tier.name().toLowerCase();
+            dispatchCounters.put(tier, Counter.builder("stock.collection.dispatch")
+                    .tag("tier", tierTag)
+                    .description("Total symbols dispatched for collection per tier")
+                    .register(meterRegistry));
+            deadlineMissCounters.put(tier, Counter.builder("stock.collection.deadline.miss")
+                    .tag("tier", tierTag)
+                    .description("Total collections dispatched after their refresh deadline per tier")
+                    .register(meterRegistry));
+            latenessTimers.put(tier, Timer.builder("stock.collection.deadline.lateness")
+                    .tag("tier", tierTag)
+                    .description("How far missed collections overran their refresh deadline")
+                    .register(meterRegistry));
+            AtomicInteger targetCount = new AtomicInteger(0);
+            tierTargetCounts.put(tier, targetCount);
+            Gauge.builder("stock.collection.tier.targets", targetCount, AtomicInteger::get)
+                    .tag("tier", tierTag)
+                    .description("Number of symbols scheduled per tier")
+                    .register(meterRegistry);
+            intervalSummaries.put(tier, DistributionSummary.builder("stock.collection.interval")
+                    .tag("tier", tierTag)
+                    .baseUnit("seconds")
+                    .description("Effective per-symbol collection interval")
+                    .publishPercentiles(0.1, 0.5, 0.9)
+                    .register(meterRegistry));
+        }
+        Gauge.builder("stock.collection.planned.rate", this, metrics -> metrics.plannedCallsPerMinute)
+                .description("Planned collection calls per minute from per-symbol intervals")
+                .register(meterRegistry);
+        Gauge.builder("stock.collection.budget.scale", this, metrics -> metrics.budgetScale)
+                .description("Factor applied to intervals to keep planned calls within the budget")
+                .register(meterRegistry);
+        Gauge.builder("stock.collection.shard.members", this, metrics -> metrics.shardMembers)
+                .description("Number of live collection instances sharing the symbols")
+                .register(meterRegistry);
+        Gauge.builder("stock.collection.shard.owned", this, metrics -> metrics.shardOwnedTargets)
+                .description("Number of symbols owned by this collection instance")
+                .register(meterRegistry);
+    }
+    
+    @Override
+    public void recordRun(CollectionRunResult result) {
+        successCounter.increment(result.successCount());
+        failureCounter.increment(result.errorCount());
+        runTimer.record(result.getDuration());
+        pacingTimer.record(result.pacingWait());
+        lastThroughput = result.getThroughputPerSecond();
+        lastLagSeconds = result.lag().toMillis() / 1000.0;
+        lastTargetCount = result.totalCount();
+    }
+    
+    @Override
+    public void recordDispatch(CollectionTier tier, long latenessMillis) {
+        dispatchCounters.get(tier).increment();
+        if (latenessMillis > 0) {
+            deadlineMissCounters.get(tier).increment();
+            latenessTimers.get(tier).record(latenessMillis, TimeUnit.MILLISECONDS);
+        }
+    }
+    
+    @Override
+    public void recordTargets(CollectionTier tier, int count) {
+        tierTargetCounts.get(tier).set(count);
+    }
+    
+    @Override
+    public void recordInterval(CollectionTier tier, Duration interval) {
+        intervalSummaries.get(tier).record(interval.toMillis() / 1000.0);
+    }
+    
+    @Override
+    public void recordIntervalPlan(double plannedCallsPerMinute, double budgetScale) {
+        this.plannedCallsPerMinute = plannedCallsPerMinute;
+        this.budgetScale = budgetScale;
+    }
+    
+    @Override
+    public void recordShardOwnership(int memberCount, int ownedTargets) {
+        this.shardMembers = memberCount;
+        this.shardOwnedTargets = ownedTargets;
+    }
+    
+    @Override
+    public void recordStreamQuote(Duration tickToAlert) {
+        streamQuoteCounter.increment();
+        streamLatencyTimer.record(tickToAlert);
+    }
+    
+    @Override
+    public void recordBatch(int symbolCount) {
+        batchSizeSummary.record(symbolCount);
+    }
+}
@@ -0,0 +1,72 @@
+package me.rgunny.marketpulse.event.marketdata.infrastructure.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+import java.util.function.Supplier;
+
+/**
+ * 현재가 캐시 계층 메트릭 수집기
+ * - L1(인스턴스 메모리)과 L2(Redis) 적중/미스를 tier, result 태그로 구분하여 계층별 적중률 산출
+ * - L2 조회는 L1 미스일 때만 발생하므로 L2 적중률은 L1 미스 중 Redis 에서 찾은 비율
+ */
+@Component
+public class StockPriceCacheMetrics {
+    
+    private final MeterRegistry meterRegistry;
+    private final Counter l1HitCounter;
+    private final Counter l1MissCounter;
+    private final Counter l2HitCounter;
+    private final Counter l2MissCounter;
+    private final Counter remoteInvalidationCounter;
+    
+    public StockPriceCacheMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+        this.l1HitCounter = lookupCounter("l1", "hit");
+        this.l1MissCounter = lookupCounter("l1", "miss");
+        this.l2HitCounter = lookupCounter("l2", "hit");
+        this.l2MissCounter = lookupCounter("l2", "miss");
+        this.remoteInvalidationCounter = Counter.builder("stock.price.cache.invalidation")
+                .description("L1 entries invalidated by other instances")
+                .register(meterRegistry);
+    }
+    
+    public void recordL1Hit() {
+        l1HitCounter.increment();
+    }
+    
+    public void recordL1Miss() {
+        l1MissCounter.increment();
+    }
+    
+    public void recordL2Hit() {
+        l2HitCounter.increment();
+    }
+    
+    public void recordL2Miss() {
+        l2MissCounter.increment();
+    }
+    
+    public void recordRemoteInvalidation() {
+        remoteInvalidationCounter.increment();
+    }
+    
+    /**
+     * L1 보관 항목 수 게이지 등록
+     */
+    public void bindL1Size(Supplier<Number> size) {
+        Gauge.builder("stock.price.cache.l1.size", size)
+                .description("Stock prices held in the in-process cache")
+                .register(meterRegistry);
+    }
+    
+    private Counter lookupCounter(String tier, String result) {
+        return Counter.builder("stock.price.cache.lookup")
+                .tag("tier", tier)
+                .tag("result", result)
+                .description("Stock price cache lookups by tier")
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,75 @@
+package me.rgunny.marketpulse.event.marketdata.infrastructure.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import me.rgunny.marketpulse.event.marketdata.application.port.out.PriceLookupMetricsPort;
+import org.springframework.stereotype.Component;
+
+/**
+ * 현재가 조회 메트릭 수집기
+ * - 외부 API 호출, 진행 중인 호출 합류, 부정 캐시 적중, softTtl 경과 캐시 응답, 백그라운드 갱신,
+ *   허용량 부족으로 빠진 종목을 source 태그로 구분
+ * - 미터는 생성 시 한 번만 등록하고 조회 경로에서는 값만 갱신
+ */
+@Component
+public class StockPriceLookupMetrics implements PriceLookupMetricsPort {
+    
+    private final Counter upstreamCounter;
+    private final Counter coalescedCounter;
+    private final Counter negativeCounter;
+    private final Counter staleCounter;
+    private final Counter refreshCounter;
+    private final Counter throttledCounter;
+    
+    public StockPriceLookupMetrics(MeterRegistry meterRegistry) {
+        this.upstreamCounter = lookupCounter(meterRegistry, "upstream",
+                "Lookups that called the external API");
+        this.coalescedCounter = lookupCounter(meterRegistry, "coalesced",
+                "Cache misses that joined an in-flight external API call");
+        this.negativeCounter = lookupCounter(meterRegistry, "negative",
+                "Cache misses short-circuited by a recent rejection");
+        this.staleCounter = lookupCounter(meterRegistry, "stale",
+                "Cache hits served past the soft TTL");
+        this.refreshCounter = lookupCounter(meterRegistry, "refresh",
+                "Background refreshes scheduled ahead of the hard TTL");
+        this.throttledCounter = lookupCounter(meterRegistry, "throttled",
+                "Uncached symbols left out of a bulk read for lack of API budget");
+    }
+    
+    @Override
+    public void recordUpstreamCall() {
+        upstreamCounter.increment();
+    }
+    
+    @Override
+    public void recordCoalescedCall() {
+        coalescedCounter.increment();
+    }
+    
+    @Override
+    public void recordNegativeCacheHit() {
+        negativeCounter.increment();
+    }
+    
+    @Override
+    public void recordStaleHit() {
+        staleCounter.increment();
+    }
+    
+    @Override
+    public void recordBackgroundRefresh() {
+        refreshCounter.increment();
+    }
+    
+    @Override
+    public void recordThrottledSymbols(int count) {
+        throttledCounter.increment(count);
+    }
+    
+    private static Counter lookupCounter(MeterRegistry meterRegistry, String source, String description) {
+        return Counter.builder("stock.price.lookup")
+                .tag("source", source)
+                .description(description)
+                .register(meterRegistry);
+    }
+}
@@ -5,6 +5,8 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 
+import java.util.List;
+
 /**
  * KIS API 관련 설정 외부화
  */
@@ -78,7 +80,27 @@ public record KISApiProperties(
         /**
          * 시장별 상품 유형 코드
          */
-        @NotNull MarketProductCodes marketProductCodes
+        @NotNull MarketProductCodes marketProductCodes,
+        
+        /**
+         * 실시간 체결가 웹소켓 설정
+         */
+        WebSocket webSocket,
+        
+        /**
+         * 관심종목(멀티종목) 시세 조회 설정
+         */
+        MultiPrice multiPrice,
+        
+        /**
+         * OAuth 토큰 보관/갱신 설정
+         */
+        Token token,
+        
+        /**
+         * 종목코드 오류를 뜻하는 KIS 응답 코드(msg_cd) 목록 (이 코드로 거부된 종목만 거부 종목으로 처리, 그 외는 일시적 오류)
+         */
+        List<String> invalidSymbolMessageCodes
 ) {
     
     public KISApiProperties {
@@ -121,6 +143,23 @@ public record KISApiProperties(
         if (marketProductCodes == null) {
             marketProductCodes = new MarketProductCodes(null, null, null);
         }
+        if (webSocket == null) {
+            webSocket = new WebSocket(false, null, null, null, 0, 0, 0);
+        }
+        if (multiPrice == null) {
+            multiPrice = new MultiPrice(null, null, 0);
+        }
+        if (token == null) {
+            token = new Token(0, 0, 0, 0);
+        }
+        invalidSymbolMessageCodes = invalidSymbolMessageCodes == null ? List.of() : List.copyOf(invalidSymbolMessageCodes);
+    }
+    
+    /**
+     * 종목코드 오류 응답인지 확인
+     */
+    public boolean isInvalidSymbolMessage(String messageCode) {
+        return messageCode != null && invalidSymbolMessageCodes.contains(messageCode);
     }
     
     public record Headers(
@@ -219,4 +258,102 @@ public record KISApiProperties(
             if (konex == null || konex.isBlank()) konex = "302";
         }
     }
-}
\ No newline at end of file
+    
+    public record WebSocket(
+            /**
+             * 실시간 체결가 수신 사용 여부 (끄면 REST 폴링만 사용)
+             */
+            boolean enabled,
+            
+            /**
+             * 웹소켓 접속 URL
+             */
+            String url,
+            
+            /**
+             * 웹소켓 접속키 발급 API 경로
+             */
+            String approvalPath,
+            
+            /**
+             * 실시간 체결가 트랜잭션 ID
+             */
+            String tradeTransactionId,
+            
+            /**
+             * 세션당 최대 구독 종목 수
+             */
+            int maxSubscriptions,
+            
+            /**
+             * 재접속 최초 대기 시간 (초, 실패할수록 2배씩 증가)
+             */
+            int reconnectDelaySeconds,
+            
+            /**
+             * 재접속 최대 대기 시간 (초)
+             */
+            int maxReconnectDelaySeconds
+    ) {
+        public WebSocket {
+            if (url == null || url.isBlank()) url = "ws://ops.koreainvestment.com:21000";
+            if (approvalPath == null || approvalPath.isBlank()) approvalPath = "/oauth2/Approval";
+            if (tradeTransactionId == null || tradeTransactionId.isBlank()) tradeTransactionId = "H0STCNT0";
+            if (maxSubscriptions <= 0) maxSubscriptions = 41;
+            if (reconnectDelaySeconds <= 0) reconnectDelaySeconds = 1;
+            if (maxReconnectDelaySeconds <= 0) maxReconnectDelaySeconds = 30;
+        }
+    }
+    
+    public record MultiPrice(
+            /**
+             * 관심종목(멀티종목) 시세 조회 API 경로
+             */
+            String path,
+            
+            /**
+             * 관심종목(멀티종목) 시세 조회 트랜잭션 ID
+             */
+            String transactionId,
+            
+            /**
+             * 1회 호출로 조회할 최대 종목 수 (KIS 제한 30)
+             */
+            int maxSymbols
+    ) {
+        public MultiPrice {
+            if (path == null || path.isBlank()) path = "/uapi/domestic-stock/v1/quotations/intstock-multprice";
+            if (transactionId == null || transactionId.isBlank()) transactionId = "FHKST11300006";
+            if (maxSymbols <= 0 || maxSymbols > 30) maxSymbols = 30;
+        }
+    }
+    
+    public record Token(
+            /**
+             * 만료 전 미리 갱신을 시작하는 시점 (분, 만료까지 남은 시간이 이보다 짧으면 백그라운드 갱신)
+             */
+            int refreshBeforeMinutes,
+            
+            /**
+             * 토큰 발급 임대 유지 시간 (초, 클러스터에서 한 인스턴스만 발급)
+             */
+            int leaseSeconds,
+            
+            /**
+             * 다른 인스턴스의 발급을 기다리는 최대 시간 (초, 넘으면 직접 발급)
+             */
+            int waitTimeoutSeconds,
+            
+            /**
+             * 다른 인스턴스가 발급한 토큰 확인 주기 (밀리초)
+             */
+            int pollIntervalMillis
+    ) {
+        public Token {
+            if (refreshBeforeMinutes <= 0) refreshBeforeMinutes = 60;
+            if (leaseSeconds <= 0) leaseSeconds = 30;
+            if (waitTimeoutSeconds <= 0) waitTimeoutSeconds = 20;
+            if (pollIntervalMillis <= 0) pollIntervalMillis = 200;
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package me.rgunny.marketpulse.event.marketdata.infrastructure.config.shared;
+
+import lombok.extern.slf4j.Slf4j;
+import me.rgunny.marketpulse.event.marketdata.application.util.RefreshAheadPolicy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Clock;
+
+/**
+ * 현재가 캐시 설정
+ */
+@Slf4j
+@Configuration
+public class MarketDataCacheConfig {
+
+    /**
+     * 캐시 만료 전 백그라운드 갱신 정책
+     * 
+     * softTtl 이 지난 시세는 그대로 응답하면서 갱신하여 hardTtl 만료 시점의 조회 지연을 없애고,
+     * hardTtl 은 갱신이 계속 실패할 때 오래된 시세가 남지 않도록 하는 안전장치로만 사용
+     */
+    @Bean
+    public RefreshAheadPolicy refreshAheadPolicy(MarketDataCacheProperties properties, Clock clock) {
+        MarketDataCacheProperties.RefreshAhead config = properties.refreshAhead();
+        
+        log.info("Price refresh-ahead initialized: enabled={}, softTtl={}, hardTtl={}, budget={}/min, burst={}",
+                config.enabled(), config.softTtl(), config.hardTtl(), config.permitsPerMinute(), config.burstCapacity());
+        
+        return new RefreshAheadPolicy(config, clock);
+    }
+}
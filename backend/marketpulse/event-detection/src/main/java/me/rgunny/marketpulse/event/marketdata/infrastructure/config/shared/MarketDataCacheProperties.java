@@ -0,0 +1,96 @@
+package me.rgunny.marketpulse.event.marketdata.infrastructure.config.shared;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 현재가 캐시 설정 프로퍼티
+ */
+@ConfigurationProperties(prefix = "app.market-data-cache")
+public record MarketDataCacheProperties(
+        /**
+         * 인스턴스 내 L1 캐시 설정 (Redis 앞단)
+         */
+        NearCache nearCache,
+        
+        /**
+         * 만료 전 백그라운드 갱신 설정
+         */
+        RefreshAhead refreshAhead
+) {
+    
+    public MarketDataCacheProperties {
+        if (nearCache == null) {
+            nearCache = new NearCache(false, 0, null, null);
+        }
+        if (refreshAhead == null) {
+            refreshAhead = new RefreshAhead(false, null, null, 0, 0);
+        }
+    }
+    
+    public record NearCache(
+            /**
+             * L1 캐시 사용 여부 (끄면 모든 조회가 Redis 로 감)
+             */
+            boolean enabled,
+            
+            /**
+             * 최대 보관 종목 수 (넘으면 가장 오래 사용하지 않은 종목부터 제거)
+             */
+            int maxSize,
+            
+            /**
+             * L1 최대 보관 시간 (무효화 메시지를 놓쳐도 이 시간 뒤에는 Redis 에서 다시 읽음)
+             */
+            Duration maxAge,
+            
+            /**
+             * 인스턴스 간 무효화 메시지 채널
+             */
+            String invalidationChannel
+    ) {
+        public NearCache {
+            if (maxSize <= 0) maxSize = 10_000;
+            if (maxAge == null || maxAge.isNegative() || maxAge.isZero()) maxAge = Duration.ofSeconds(5);
+            if (invalidationChannel == null || invalidationChannel.isBlank()) invalidationChannel = "stock:price:invalidation";
+        }
+    }
+    
+    public record RefreshAhead(
+            /**
+             * 만료 전 백그라운드 갱신 사용 여부 (끄면 hardTtl 만료 시 조회 요청이 직접 외부 API 호출)
+             */
+            boolean enabled,
+            
+            /**
+             * 시세가 이 시간보다 오래되면 캐시 값을 그대로 응답하면서 백그라운드로 갱신
+             */
+            Duration softTtl,
+            
+            /**
+             * 캐시 보관 시간 (갱신이 계속 실패해도 이 시간이 지나면 캐시에서 제거)
+             */
+            Duration hardTtl,
+            
+            /**
+             * 백그라운드 갱신 분당 허용량 (수집 예산과 별도)
+             */
+            int permitsPerMinute,
+            
+            /**
+             * 백그라운드 갱신 순간 허용 버스트 크기
+             */
+            int burstCapacity
+    ) {
+        public RefreshAhead {
+            if (softTtl == null) softTtl = Duration.ofSeconds(30);
+            if (hardTtl == null) hardTtl = Duration.ofMinutes(1);
+            if (permitsPerMinute <= 0) permitsPerMinute = 30;
+            if (burstCapacity <= 0) burstCapacity = 3;
+            if (softTtl.isNegative() || softTtl.compareTo(hardTtl) >= 0) {
+                throw new IllegalArgumentException("refreshAhead.softTtl must be shorter than refreshAhead.hardTtl");
+            }
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package me.rgunny.marketpulse.event.marketdata.infrastructure.config.shared;
+
+import lombok.extern.slf4j.Slf4j;
+import me.rgunny.marketpulse.event.marketdata.application.port.out.ExternalApiPort;
+import me.rgunny.marketpulse.event.marketdata.application.util.AdaptiveIntervalPolicy;
+import me.rgunny.marketpulse.event.marketdata.application.util.DeadlineCollectionQueue;
+import me.rgunny.marketpulse.event.marketdata.application.util.TokenBucketRateLimiter;
+import me.rgunny.marketpulse.event.marketdata.infrastructure.config.PriceAlertProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.List;
+
+/**
+ * 주식 시세 수집 설정
+ */
+@Slf4j
+@Configuration
+public class StockCollectionConfig {
+
+    /**
+     * 시세 수집용 속도 제한기
+     * 
+     * 외부 API 분당 허용량에 budgetRatio를 적용한 만큼만 수집에 사용하여
+     * 수동 조회/토큰 발급 등 다른 호출을 위한 여유분 확보
+     * 허용량은 클러스터 전체 기준이며, 종목 분할 시 스케줄러가 살아 있는 인스턴스 수로 나눈 몫만 사용하도록 조정
+     */
+    @Bean
+    public TokenBucketRateLimiter collectionRateLimiter(
+            ExternalApiPort externalApiPort,
+            StockCollectionProperties properties) {
+        StockCollectionProperties.RateLimit rateLimit = properties.rateLimit();
+        int permitsPerMinute = rateLimit.permitsPerMinute(externalApiPort.getRateLimitPerMinute());
+        
+        log.info("Collection rate limiter initialized: provider={}, apiLimit={}/min, collectionBudget={}/min, burst={}",
+                externalApiPort.getProviderName(),
+                externalApiPort.getRateLimitPerMinute(),
+                permitsPerMinute,
+                rateLimit.burstCapacity());
+        
+        return new TokenBucketRateLimiter(permitsPerMinute, rateLimit.burstCapacity());
+    }
+    
+    /**
+     * 시세 수집 마감 시각 큐
+     * 
+     * 신규 종목의 첫 수집은 주기 안에 고르게 분산하여 시작 직후 호출이 몰리지 않도록 함
+     */
+    @Bean
+    public DeadlineCollectionQueue collectionQueue() {
+        return new DeadlineCollectionQueue();
+    }
+    
+    /**
+     * 변동성 기반 수집 주기 정책
+     * 
+     * 알림 임계값 근처 종목은 자주, 변화 없는 종목은 드물게 수집하되
+     * 전체 계획 수집량은 수집 속도 제한기의 분당 허용량 안에서 유지
+     * (여러 종목을 1회 호출로 조회할 수 있으면 호출당 종목 수만큼 수집량이 늘어남)
+     */
+    @Bean
+    public AdaptiveIntervalPolicy adaptiveIntervalPolicy(
+            TokenBucketRateLimiter collectionRateLimiter,
+            ExternalApiPort externalApiPort,
+            StockCollectionProperties properties,
+            PriceAlertProperties alertProperties) {
+        return new AdaptiveIntervalPolicy(
+                properties.adaptive(),
+                List.of(alertProperties.riseThreshold(),
+                        alertProperties.fallThreshold(),
+                        alertProperties.limitUpThreshold(),
+                        alertProperties.limitDownThreshold()),
+                collectionRateLimiter.getPermitsPerMinute() * Math.max(1, externalApiPort.getMaxBatchSize()));
+    }
+}
@@ -3,6 +3,7 @@ package me.rgunny.marketpulse.event.marketdata.infrastructure.config.shared;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 import java.time.Duration;
+import java.util.List;
 
 /**
  * 주식 시세 수집 관련 설정 프로퍼티
@@ -32,7 +33,22 @@ public record StockCollectionProperties(
         /**
          * 메모리 관리 설정
          */
-        Memory memory
+        Memory memory,
+        
+        /**
+         * 외부 API 호출 속도 제한 설정
+         */
+        RateLimit rateLimit,
+        
+        /**
+         * 변동성 기반 수집 주기 조정 설정
+         */
+        Adaptive adaptive,
+        
+        /**
+         * 인스턴스 간 수집 종목 분할 설정
+         */
+        Sharding sharding
 ) {
     
     public StockCollectionProperties {
@@ -40,17 +56,26 @@ public record StockCollectionProperties(
             concurrency = new Concurrency(0, 0, 0);
         }
         if (schedule == null) {
-            schedule = new Schedule(null, null, null, null, null);
+            schedule = new Schedule(null, null, null, null, null, null, null);
         }
         if (timeout == null) {
             timeout = new Timeout(null, null, null);
         }
         if (priority == null) {
-            priority = new Priority(0, 0, null);
+            priority = new Priority(0, 0, null, null);
         }
         if (memory == null) {
             memory = new Memory(null, null);
         }
+        if (rateLimit == null) {
+            rateLimit = new RateLimit(0, 0);
+        }
+        if (adaptive == null) {
+            adaptive = new Adaptive(false, 0, 0, 0, 0, 0, 0);
+        }
+        if (sharding == null) {
+            sharding = new Sharding(false, null, null, 0);
+        }
     }
     
     public record Concurrency(
@@ -100,7 +125,17 @@ public record StockCollectionProperties(
             /**
              * 높은 우선순위 초기 지연
              */
-            Duration highPriorityDelay
+            Duration highPriorityDelay,
+            
+            /**
+             * 마감 임박 종목 수집 실행 간격
+             */
+            Duration dispatchInterval,
+            
+            /**
+             * 수집 대상 등급 갱신 주기
+             */
+            Duration targetRefresh
     ) {
         public Schedule {
             if (activeStocks == null) activeStocks = Duration.ofSeconds(30);
@@ -108,6 +143,8 @@ public record StockCollectionProperties(
             if (coreStocks == null || coreStocks.isBlank()) coreStocks = "0 * * * * *";
             if (initialDelay == null) initialDelay = Duration.ofSeconds(10);
             if (highPriorityDelay == null) highPriorityDelay = Duration.ofSeconds(5);
+            if (dispatchInterval == null) dispatchInterval = Duration.ofSeconds(1);
+            if (targetRefresh == null) targetRefresh = Duration.ofMinutes(1);
         }
     }
     
@@ -148,12 +185,18 @@ public record StockCollectionProperties(
             /**
              * 코어 카테고리명
              */
-            String coreCategory
+            String coreCategory,
+            
+            /**
+             * 코어 카테고리 종목코드 목록
+             */
+            List<String> coreSymbols
     ) {
         public Priority {
             if (highMin <= 0) highMin = 1;
             if (highMax <= 0) highMax = 3;
             if (coreCategory == null || coreCategory.isBlank()) coreCategory = "CORE";
+            coreSymbols = coreSymbols == null ? List.of() : List.copyOf(coreSymbols);
         }
     }
     
@@ -174,6 +217,106 @@ public record StockCollectionProperties(
         }
     }
     
+    public record RateLimit(
+            /**
+             * 외부 API 분당 허용량 중 수집에 사용할 비율 (0 < ratio <= 1)
+             */
+            double budgetRatio,
+            
+            /**
+             * 순간 허용 버스트 크기
+             */
+            int burstCapacity
+    ) {
+        public RateLimit {
+            if (budgetRatio <= 0 || budgetRatio > 1) budgetRatio = 0.9;
+            if (burstCapacity <= 0) burstCapacity = 3;
+        }
+        
+        /**
+         * 수집에 사용할 분당 호출 수
+         * 
+         * @param apiRateLimitPerMinute 외부 API 분당 최대 요청 수
+         */
+        public int permitsPerMinute(int apiRateLimitPerMinute) {
+            return Math.max(1, (int) Math.floor(apiRateLimitPerMinute * budgetRatio));
+        }
+    }
+    
+    public record Adaptive(
+            /**
+             * 변동성 기반 주기 조정 사용 여부
+             */
+            boolean enabled,
+            
+            /**
+             * 기본 주기 대비 최소 배율 (변동성이 크거나 알림 임계값에 가까울 때)
+             */
+            double minFactor,
+            
+            /**
+             * 기본 주기 대비 최대 배율 (가격 변화가 거의 없을 때)
+             */
+            double maxFactor,
+            
+            /**
+             * 기본 주기를 유지하는 기준 변동성 (관측 간 수익률 표준편차, %)
+             */
+            double referenceVolatility,
+            
+            /**
+             * 알림 임계값 근접 구간 (등락률 %p, 이 안에 들어오면 주기 단축)
+             */
+            double thresholdBand,
+            
+            /**
+             * 변동성 지수평활 계수 (0 < alpha <= 1)
+             */
+            double smoothing,
+            
+            /**
+             * 수집 예산 중 계획 호출량에 사용할 비율 (0 < ratio <= 1)
+             */
+            double budgetUtilization
+    ) {
+        public Adaptive {
+            if (minFactor <= 0 || minFactor > 1) minFactor = 0.5;
+            if (maxFactor < 1) maxFactor = 4.0;
+            if (referenceVolatility <= 0) referenceVolatility = 0.3;
+            if (thresholdBand <= 0) thresholdBand = 0.5;
+            if (smoothing <= 0 || smoothing > 1) smoothing = 0.2;
+            if (budgetUtilization <= 0 || budgetUtilization > 1) budgetUtilization = 0.9;
+        }
+    }
+    
+    public record Sharding(
+            /**
+             * 인스턴스 간 종목 분할 사용 여부 (끄면 모든 종목을 이 인스턴스가 수집)
+             */
+            boolean enabled,
+            
+            /**
+             * 인스턴스 임대 유지 시간 (갱신이 끊긴 인스턴스는 이 시간 뒤 제외되고 종목이 재분배됨)
+             */
+            Duration leaseTtl,
+            
+            /**
+             * 임대 갱신 및 멤버 확인 주기
+             */
+            Duration heartbeatInterval,
+            
+            /**
+             * 인스턴스당 해시 링 가상 노드 수
+             */
+            int virtualNodes
+    ) {
+        public Sharding {
+            if (leaseTtl == null) leaseTtl = Duration.ofSeconds(10);
+            if (heartbeatInterval == null) heartbeatInterval = Duration.ofSeconds(3);
+            if (virtualNodes <= 0) virtualNodes = 128;
+        }
+    }
+    
     /**
      * 설정 값 검증
      */
@@ -184,6 +327,12 @@ public record StockCollectionProperties(
         if (schedule.activeStocks().isNegative() || schedule.activeStocks().isZero()) {
             throw new IllegalArgumentException("schedule.activeStocks must be positive");
         }
+        if (schedule.dispatchInterval().isNegative() || schedule.dispatchInterval().isZero()) {
+            throw new IllegalArgumentException("schedule.dispatchInterval must be positive");
+        }
+        if (sharding.heartbeatInterval().compareTo(sharding.leaseTtl()) >= 0) {
+            throw new IllegalArgumentException("sharding.heartbeatInterval must be shorter than sharding.leaseTtl");
+        }
         if (priority.highMin() > priority.highMax()) {
             throw new IllegalArgumentException("priority.highMin must be <= priority.highMax");
         }
@@ -0,0 +1,7 @@
+package me.rgunny.marketpulse.event.marketdata.infrastructure.dto.kis;
+
+public record KISApprovalRequest(
+        String grant_type,
+        String appkey,
+        String secretkey
+) {}
@@ -0,0 +1,9 @@
+package me.rgunny.marketpulse.event.marketdata.infrastructure.dto.kis;
+
+public record KISApprovalResponse(
+        String approval_key
+) {
+    public String getApprovalKey() {
+        return approval_key;
+    }
+}
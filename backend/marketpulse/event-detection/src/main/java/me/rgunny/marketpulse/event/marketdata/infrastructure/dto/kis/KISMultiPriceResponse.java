@@ -0,0 +1,13 @@
+package me.rgunny.marketpulse.event.marketdata.infrastructure.dto.kis;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+
+import java.util.List;
+
+@JsonIgnoreProperties(ignoreUnknown = true)
+public record KISMultiPriceResponse(
+        String rt_cd,        // 성공실패 구분코드 (0: 성공)
+        String msg_cd,       // 응답코드
+        String msg1,         // 응답메시지
+        List<KISMultiPriceResponseOutput> output        // 종목별 응답 상세
+) {}
@@ -0,0 +1,30 @@
+package me.rgunny.marketpulse.event.marketdata.infrastructure.dto.kis;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+
+@JsonIgnoreProperties(ignoreUnknown = true)
+public record KISMultiPriceResponseOutput(
+        String kospi_kosdaq_cls_name, // 코스피 코스닥 구분 명
+        String mrkt_trtm_cls_name,    // 시장 조치 구분 명
+        String hour_cls_code,         // 시간 구분 코드
+        String inter_shrn_iscd,       // 관심 단축 종목코드
+        String inter_kor_isnm,        // 관심 한글 종목명
+        String inter2_prpr,           // 관심2 현재가
+        String inter2_prdy_vrss,      // 관심2 전일 대비
+        String prdy_vrss_sign,        // 전일 대비 부호
+        String prdy_ctrt,             // 전일 대비율
+        String acml_vol,              // 누적 거래량
+        String inter2_oprc,           // 관심2 시가
+        String inter2_hgpr,           // 관심2 고가
+        String inter2_lwpr,           // 관심2 저가
+        String inter2_llam,           // 관심2 하한가
+        String inter2_mxpr,           // 관심2 상한가
+        String inter2_askp,           // 관심2 매도호가
+        String inter2_bidp,           // 관심2 매수호가
+        String seln_rsqn,             // 매도 잔량
+        String shnu_rsqn,             // 매수 잔량
+        String total_askp_rsqn,       // 총 매도호가 잔량
+        String total_bidp_rsqn,       // 총 매수호가 잔량
+        String acml_tr_pbmn,          // 누적 거래 대금
+        String inter2_prdy_clpr       // 관심2 전일 종가
+) {}
@@ -0,0 +1,42 @@
+package me.rgunny.marketpulse.event.marketdata.infrastructure.dto.kis;
+
+import me.rgunny.marketpulse.event.marketdata.domain.model.Tick;
+
+/**
+ * KIS 실시간 체결가 (H0STCNT0) 1건
+ *
+ * @param change 전일 대비 (하락이면 음수)
+ */
+public record KISRealtimeTrade(
+        String symbol,
+        String tradeTime,
+        long price,
+        long change,
+        long open,
+        long high,
+        long low,
+        long askPrice1,
+        long bidPrice1,
+        long accumulatedVolume
+) {
+
+    /**
+     * 체결로 변환 (전일종가 = 현재가 - 전일 대비)
+     *
+     * @param receivedAtMillis 수신 시각 (epoch millis)
+     */
+    public Tick toTick(long receivedAtMillis) {
+        return Tick.of(
+                symbol,
+                price,
+                price - change,
+                open,
+                high,
+                low,
+                askPrice1,
+                bidPrice1,
+                accumulatedVolume,
+                receivedAtMillis
+        );
+    }
+}
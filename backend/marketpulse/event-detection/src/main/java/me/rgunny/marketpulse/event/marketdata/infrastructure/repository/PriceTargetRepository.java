@@ -0,0 +1,30 @@
+package me.rgunny.marketpulse.event.marketdata.infrastructure.repository;
+
+import me.rgunny.marketpulse.event.marketdata.domain.model.PriceTarget;
+import org.springframework.data.mongodb.repository.ReactiveMongoRepository;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Collection;
+
+@Repository
+public interface PriceTargetRepository extends ReactiveMongoRepository<PriceTarget, String> {
+    
+    /**
+     * 종목의 목표가 알림 (목표가 오름차순)
+     */
+    Flux<PriceTarget> findBySymbolOrderByTargetPriceAsc(String symbol);
+    
+    /**
+     * 여러 종목의 목표가 알림
+     */
+    Flux<PriceTarget> findBySymbolIn(Collection<String> symbols);
+    
+    /**
+     * 목표가 알림 삭제
+     *
+     * @return 삭제된 문서 수
+     */
+    Mono<Long> removeById(String id);
+}
@@ -8,11 +8,15 @@ import lombok.extern.slf4j.Slf4j;
 import me.rgunny.marketpulse.common.resilience.service.FallbackStrategy;
 import me.rgunny.marketpulse.common.resilience.service.ReactiveCircuitBreakerService;
 import me.rgunny.marketpulse.event.marketdata.application.port.out.shared.MarketDataCachePort;
+import me.rgunny.marketpulse.event.marketdata.domain.model.RealtimeQuote;
 import me.rgunny.marketpulse.event.marketdata.domain.model.StockPrice;
+import me.rgunny.marketpulse.event.marketdata.domain.model.Tick;
 import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import java.time.Duration;
+import java.util.List;
 
 /**
  * KIS API 전용 서킷브레이커 서비스
@@ -87,15 +91,16 @@ public class KISApiCircuitBreakerService {
     /**
      * 주가 조회에 서킷브레이커 적용
      */
-    public Mono<StockPrice> executeGetCurrentPrice(
+    public Mono<RealtimeQuote> executeGetCurrentPrice(
             String symbol, 
-            Mono<StockPrice> apiCall) {
+            Mono<RealtimeQuote> apiCall) {
         
         // 캐시 기반 Fallback 전략
-        FallbackStrategy<StockPrice> cacheOnlyFallback = (throwable, context) -> {
+        FallbackStrategy<RealtimeQuote> cacheOnlyFallback = (throwable, context) -> {
             log.warn("Circuit breaker OPEN for symbol: {}, using cache fallback", symbol);
             return cachePort.getStockPrice(symbol)
                     .doOnNext(price -> log.info("Cache hit for symbol: {} during circuit breaker OPEN", symbol))
+                    .map(KISApiCircuitBreakerService::toQuote)
                     .switchIfEmpty(Mono.defer(() -> {
                         log.error("Cache miss for symbol: {} during circuit breaker OPEN", symbol);
                         return Mono.error(new KISApiCircuitBreakerException(
@@ -107,12 +112,49 @@ public class KISApiCircuitBreakerService {
         
         return circuitBreakerService.executeMono(apiCall, cacheOnlyFallback);
     }
-    
+
+    /**
+     * 여러 종목 주가 조회에 서킷브레이커 적용
+     *
+     * 회로가 열리면 캐시에 남아 있는 종목만 반환
+     */
+    public Mono<List<RealtimeQuote>> executeGetCurrentPrices(
+            List<String> symbols,
+            Mono<List<RealtimeQuote>> apiCall) {
+
+        FallbackStrategy<List<RealtimeQuote>> cacheOnlyFallback = (throwable, context) -> {
+            log.warn("Circuit breaker OPEN for {} symbols, using cache fallback", symbols.size());
+            return Flux.fromIterable(symbols)
+                    .concatMap(cachePort::getStockPrice)
+                    .map(KISApiCircuitBreakerService::toQuote)
+                    .collectList()
+                    .flatMap(cached -> {
+                        if (cached.isEmpty()) {
+                            return Mono.error(new KISApiCircuitBreakerException(
+                                    "Circuit breaker OPEN and no cached data available for: " + symbols,
+                                    throwable
+                            ));
+                        }
+                        log.info("Cache hit for {}/{} symbols during circuit breaker OPEN", cached.size(), symbols.size());
+                        return Mono.just(cached);
+                    });
+        };
+
+        return circuitBreakerService.executeMono(apiCall, cacheOnlyFallback);
+    }
+
+    /**
+     * 캐시에 저장된 시세를 조회 결과 형식으로 변환 (회로가 열렸을 때만 사용)
+     */
+    private static RealtimeQuote toQuote(StockPrice cached) {
+        return new RealtimeQuote(Tick.from(cached), cached.getName());
+    }
+
     /**
      * 토큰 발급에 서킷브레이커 적용
      * 토큰은 캐시 불가능하므로 에러 전파
      */
-    public Mono<String> executeGetAccessToken(Mono<String> apiCall) {
+    public <T> Mono<T> executeGetAccessToken(Mono<T> apiCall) {
         return circuitBreakerService.executeMono(apiCall);
     }
     
@@ -25,6 +25,13 @@ public class KISFieldParser {
                 .orElse(0L);
     }
 
+    /**
+     * String to long 변환 (박싱 없이 파싱, 빈 값은 0)
+     */
+    public static long parseLong(String str) {
+        return str == null || str.isBlank() ? 0L : Long.parseLong(str);
+    }
+
     /**
      * String to Integer 변환
      */
@@ -0,0 +1,159 @@
+package me.rgunny.marketpulse.event.marketdata.infrastructure.util;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import me.rgunny.marketpulse.event.marketdata.infrastructure.dto.kis.KISRealtimeTrade;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static me.rgunny.marketpulse.event.marketdata.infrastructure.util.KISFieldParser.parseLong;
+import static me.rgunny.marketpulse.event.marketdata.infrastructure.util.KISFieldParser.toInteger;
+
+/**
+ * KIS 실시간 웹소켓 메시지 변환
+ *
+ * - 데이터 메시지: "암호화여부|TR_ID|건수|필드^필드^..." (건수만큼 레코드가 이어 붙음)
+ * - 제어 메시지: JSON (구독 응답, PINGPONG)
+ */
+public class KISRealtimeMessageParser {
+
+    public static final String PINGPONG = "PINGPONG";
+
+    // H0STCNT0 레코드당 필드 수
+    static final int TRADE_FIELD_COUNT = 46;
+
+    // H0STCNT0 필드 위치
+    private static final int SYMBOL = 0;
+    private static final int TRADE_TIME = 1;
+    private static final int PRICE = 2;
+    private static final int CHANGE_SIGN = 3;
+    private static final int CHANGE = 4;
+    private static final int OPEN = 7;
+    private static final int HIGH = 8;
+    private static final int LOW = 9;
+    private static final int ASK_PRICE_1 = 10;
+    private static final int BID_PRICE_1 = 11;
+    private static final int ACCUMULATED_VOLUME = 13;
+
+    // 전일 대비 부호 (4: 하한, 5: 하락)
+    private static final String LIMIT_DOWN_SIGN = "4";
+    private static final String DOWN_SIGN = "5";
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private KISRealtimeMessageParser() {
+    }
+
+    /**
+     * 데이터 메시지 여부 (제어 메시지는 JSON)
+     */
+    public static boolean isDataMessage(String message) {
+        return !message.isEmpty() && (message.charAt(0) == '0' || message.charAt(0) == '1');
+    }
+
+    /**
+     * 체결가 데이터 메시지 변환
+     *
+     * @return 체결 목록 (다른 TR 이거나 암호화된 메시지면 빈 목록)
+     */
+    public static List<KISRealtimeTrade> parseTrades(String message, String tradeTransactionId) {
+        String[] parts = message.split("\\|", 4);
+        if (parts.length < 4 || !"0".equals(parts[0]) || !tradeTransactionId.equals(parts[1])) {
+            return List.of();
+        }
+        int count = toInteger(parts[2]);
+        String[] fields = parts[3].split("\\^", -1);
+        if (fields.length < count * TRADE_FIELD_COUNT) {
+            throw new IllegalArgumentException(
+                    "Truncated realtime trade message: expected " + count * TRADE_FIELD_COUNT + " fields but was " + fields.length);
+        }
+
+        List<KISRealtimeTrade> trades = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            int offset = i * TRADE_FIELD_COUNT;
+            long change = parseLong(fields[offset + CHANGE]);
+            String sign = fields[offset + CHANGE_SIGN];
+            if ((LIMIT_DOWN_SIGN.equals(sign) || DOWN_SIGN.equals(sign)) && change > 0) {
+                change = -change;
+            }
+            trades.add(new KISRealtimeTrade(
+                    fields[offset + SYMBOL],
+                    fields[offset + TRADE_TIME],
+                    parseLong(fields[offset + PRICE]),
+                    change,
+                    parseLong(fields[offset + OPEN]),
+                    parseLong(fields[offset + HIGH]),
+                    parseLong(fields[offset + LOW]),
+                    parseLong(fields[offset + ASK_PRICE_1]),
+                    parseLong(fields[offset + BID_PRICE_1]),
+                    parseLong(fields[offset + ACCUMULATED_VOLUME])
+            ));
+        }
+        return trades;
+    }
+
+    /**
+     * 제어 메시지 변환
+     */
+    public static ControlMessage parseControl(String message) {
+        try {
+            JsonNode root = OBJECT_MAPPER.readTree(message);
+            JsonNode header = root.path("header");
+            JsonNode body = root.path("body");
+            return new ControlMessage(
+                    header.path("tr_id").asText(""),
+                    header.path("tr_key").asText(""),
+                    body.path("rt_cd").asText(""),
+                    body.path("msg1").asText(""));
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Invalid realtime control message: " + message, e);
+        }
+    }
+
+    /**
+     * 구독/해지 요청 메시지 생성
+     *
+     * @param subscribe true 면 구독, false 면 해지
+     */
+    public static String subscriptionMessage(String approvalKey, String custType, String transactionId,
+                                             String symbol, boolean subscribe) {
+        Map<String, Object> header = new LinkedHashMap<>();
+        header.put("approval_key", approvalKey);
+        header.put("custtype", custType);
+        header.put("tr_type", subscribe ? "1" : "2");
+        header.put("content-type", "utf-8");
+        Map<String, Object> input = new LinkedHashMap<>();
+        input.put("tr_id", transactionId);
+        input.put("tr_key", symbol);
+        try {
+            return OBJECT_MAPPER.writeValueAsString(Map.of("header", header, "body", Map.of("input", input)));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to build realtime subscription message", e);
+        }
+    }
+
+    /**
+     * 제어 메시지
+     *
+     * @param resultCode 처리 결과 코드 ("0" 이면 성공, PINGPONG 은 빈 값)
+     */
+    public record ControlMessage(
+            String transactionId,
+            String symbol,
+            String resultCode,
+            String message
+    ) {
+
+        public boolean isPingPong() {
+            return PINGPONG.equals(transactionId);
+        }
+
+        public boolean isSuccess() {
+            return "0".equals(resultCode);
+        }
+    }
+}
@@ -0,0 +1,160 @@
+package me.rgunny.marketpulse.event.marketdata.infrastructure.util;
+
+import me.rgunny.marketpulse.common.infrastructure.config.redis.BinaryCodec;
+import me.rgunny.marketpulse.event.marketdata.domain.model.StockPrice;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+/**
+ * StockPrice 바이너리 코덱 (Redis 현재가 캐시용)
+ *
+ * v1 본문: [값 존재 비트마스크][존재하는 필드만 선언 순서대로]
+ * - 문자열: 수정 UTF-8 (DataOutput.writeUTF)
+ * - 가격/비율: 소수 자릿수 1바이트 + 스케일된 정수 (원화 가격은 자릿수 0)
+ * - 거래량: 정수
+ * - 시각: epoch millis (LocalDateTime 벽시계 값을 UTC 로 간주하여 JSON 과 같이 시간대 변환 없음, 밀리초 미만 절사)
+ * - ttl: 수집시각이 있으면 수집시각과의 차이
+ * 정수는 모두 zigzag 가변 길이
+ */
+public class StockPriceBinaryCodec implements BinaryCodec<StockPrice> {
+
+    public static final byte VERSION_1 = 1;
+
+    private static final int ID = 1;
+    private static final int SYMBOL = 1 << 1;
+    private static final int NAME = 1 << 2;
+    private static final int CURRENT_PRICE = 1 << 3;
+    private static final int PREVIOUS_CLOSE = 1 << 4;
+    private static final int CHANGE = 1 << 5;
+    private static final int CHANGE_RATE = 1 << 6;
+    private static final int HIGH = 1 << 7;
+    private static final int LOW = 1 << 8;
+    private static final int OPEN = 1 << 9;
+    private static final int VOLUME = 1 << 10;
+    private static final int AMOUNT = 1 << 11;
+    private static final int MARKET_CAP = 1 << 12;
+    private static final int ASK_PRICE_1 = 1 << 13;
+    private static final int BID_PRICE_1 = 1 << 14;
+    private static final int TIMESTAMP = 1 << 15;
+    private static final int TTL = 1 << 16;
+
+    private static final int MAX_LONG_BITS = 63;
+
+    @Override
+    public byte version() {
+        return VERSION_1;
+    }
+
+    @Override
+    public void write(StockPrice price, DataOutput out) throws IOException {
+        int present = presence(price);
+        BinaryCodec.writeVarLong(out, present);
+
+        if ((present & ID) != 0) out.writeUTF(price.getId());
+        if ((present & SYMBOL) != 0) out.writeUTF(price.getSymbol());
+        if ((present & NAME) != 0) out.writeUTF(price.getName());
+        if ((present & CURRENT_PRICE) != 0) writeDecimal(out, price.getCurrentPrice());
+        if ((present & PREVIOUS_CLOSE) != 0) writeDecimal(out, price.getPreviousClose());
+        if ((present & CHANGE) != 0) writeDecimal(out, price.getChange());
+        if ((present & CHANGE_RATE) != 0) writeDecimal(out, price.getChangeRate());
+        if ((present & HIGH) != 0) writeDecimal(out, price.getHigh());
+        if ((present & LOW) != 0) writeDecimal(out, price.getLow());
+        if ((present & OPEN) != 0) writeDecimal(out, price.getOpen());
+        if ((present & VOLUME) != 0) BinaryCodec.writeVarLong(out, price.getVolume());
+        if ((present & AMOUNT) != 0) writeDecimal(out, price.getAmount());
+        if ((present & MARKET_CAP) != 0) writeDecimal(out, price.getMarketCap());
+        if ((present & ASK_PRICE_1) != 0) writeDecimal(out, price.getAskPrice1());
+        if ((present & BID_PRICE_1) != 0) writeDecimal(out, price.getBidPrice1());
+
+        long timestampMillis = 0L;
+        if ((present & TIMESTAMP) != 0) {
+            timestampMillis = toEpochMillis(price.getTimestamp());
+            BinaryCodec.writeVarLong(out, timestampMillis);
+        }
+        if ((present & TTL) != 0) {
+            BinaryCodec.writeVarLong(out, toEpochMillis(price.getTtl()) - timestampMillis);
+        }
+    }
+
+    @Override
+    public StockPrice read(byte version, DataInput in) throws IOException {
+        if (version != VERSION_1) {
+            throw new IOException("Unsupported StockPrice format version: " + version);
+        }
+        int present = (int) BinaryCodec.readVarLong(in);
+
+        String id = (present & ID) != 0 ? in.readUTF() : null;
+        String symbol = (present & SYMBOL) != 0 ? in.readUTF() : null;
+        String name = (present & NAME) != 0 ? in.readUTF() : null;
+        BigDecimal currentPrice = (present & CURRENT_PRICE) != 0 ? readDecimal(in) : null;
+        BigDecimal previousClose = (present & PREVIOUS_CLOSE) != 0 ? readDecimal(in) : null;
+        BigDecimal change = (present & CHANGE) != 0 ? readDecimal(in) : null;
+        BigDecimal changeRate = (present & CHANGE_RATE) != 0 ? readDecimal(in) : null;
+        BigDecimal high = (present & HIGH) != 0 ? readDecimal(in) : null;
+        BigDecimal low = (present & LOW) != 0 ? readDecimal(in) : null;
+        BigDecimal open = (present & OPEN) != 0 ? readDecimal(in) : null;
+        Long volume = (present & VOLUME) != 0 ? BinaryCodec.readVarLong(in) : null;
+        BigDecimal amount = (present & AMOUNT) != 0 ? readDecimal(in) : null;
+        BigDecimal marketCap = (present & MARKET_CAP) != 0 ? readDecimal(in) : null;
+        BigDecimal askPrice1 = (present & ASK_PRICE_1) != 0 ? readDecimal(in) : null;
+        BigDecimal bidPrice1 = (present & BID_PRICE_1) != 0 ? readDecimal(in) : null;
+
+        long timestampMillis = (present & TIMESTAMP) != 0 ? BinaryCodec.readVarLong(in) : 0L;
+        LocalDateTime timestamp = (present & TIMESTAMP) != 0 ? fromEpochMillis(timestampMillis) : null;
+        LocalDateTime ttl = (present & TTL) != 0 ? fromEpochMillis(timestampMillis + BinaryCodec.readVarLong(in)) : null;
+
+        return new StockPrice(id, symbol, name, currentPrice, previousClose, change, changeRate,
+                high, low, open, volume, amount, marketCap, askPrice1, bidPrice1, timestamp, ttl);
+    }
+
+    private static int presence(StockPrice price) {
+        int present = 0;
+        if (price.getId() != null) present |= ID;
+        if (price.getSymbol() != null) present |= SYMBOL;
+        if (price.getName() != null) present |= NAME;
+        if (price.getCurrentPrice() != null) present |= CURRENT_PRICE;
+        if (price.getPreviousClose() != null) present |= PREVIOUS_CLOSE;
+        if (price.getChange() != null) present |= CHANGE;
+        if (price.getChangeRate() != null) present |= CHANGE_RATE;
+        if (price.getHigh() != null) present |= HIGH;
+        if (price.getLow() != null) present |= LOW;
+        if (price.getOpen() != null) present |= OPEN;
+        if (price.getVolume() != null) present |= VOLUME;
+        if (price.getAmount() != null) present |= AMOUNT;
+        if (price.getMarketCap() != null) present |= MARKET_CAP;
+        if (price.getAskPrice1() != null) present |= ASK_PRICE_1;
+        if (price.getBidPrice1() != null) present |= BID_PRICE_1;
+        if (price.getTimestamp() != null) present |= TIMESTAMP;
+        if (price.getTtl() != null) present |= TTL;
+        return present;
+    }
+
+    private static void writeDecimal(DataOutput out, BigDecimal value) throws IOException {
+        BigInteger unscaled = value.unscaledValue();
+        if (unscaled.bitLength() > MAX_LONG_BITS || value.scale() < Byte.MIN_VALUE || value.scale() > Byte.MAX_VALUE) {
+            throw new IOException("Decimal out of range for binary format: " + value);
+        }
+        out.writeByte(value.scale());
+        BinaryCodec.writeVarLong(out, unscaled.longValue());
+    }
+
+    private static BigDecimal readDecimal(DataInput in) throws IOException {
+        int scale = in.readByte();
+        return BigDecimal.valueOf(BinaryCodec.readVarLong(in), scale);
+    }
+
+    private static long toEpochMillis(LocalDateTime dateTime) {
+        return dateTime.toInstant(ZoneOffset.UTC).toEpochMilli();
+    }
+
+    private static LocalDateTime fromEpochMillis(long epochMillis) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMillis), ZoneOffset.UTC);
+    }
+}
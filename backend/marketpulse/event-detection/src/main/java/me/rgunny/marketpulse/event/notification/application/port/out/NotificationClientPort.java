@@ -4,6 +4,8 @@ import me.rgunny.marketpulse.event.marketdata.domain.model.StockPrice;
 import me.rgunny.marketpulse.notification.grpc.NotificationServiceProto.PriceAlertType;
 import reactor.core.publisher.Mono;
 
+import java.util.Map;
+
 /**
  * 알림 발송 클라이언트 포트
  */
@@ -17,6 +19,15 @@ public interface NotificationClientPort {
      */
     Mono<Void> sendPriceAlert(StockPrice stockPrice, PriceAlertType alertType);
     
+    /**
+     * 가격 알림 발송 (추가 메타데이터 포함, 예: 목표가 알림의 사용자/목표가)
+     * @param stockPrice 주식 가격 정보
+     * @param alertType 알림 유형
+     * @param metadata 요청 metadata 에 더할 값
+     * @return 발송 결과 (비동기, 다시 구독하면 같은 eventId 로 재발송)
+     */
+    Mono<Void> sendPriceAlert(StockPrice stockPrice, PriceAlertType alertType, Map<String, String> metadata);
+    
     /**
      * 알림 서비스 상태 확인
      * @return 서비스 상태
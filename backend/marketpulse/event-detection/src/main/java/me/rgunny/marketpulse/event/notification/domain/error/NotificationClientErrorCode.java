@@ -0,0 +1,38 @@
+package me.rgunny.marketpulse.event.notification.domain.error;
+
+import me.rgunny.marketpulse.common.core.error.ErrorCode;
+import org.springframework.http.HttpStatus;
+
+/**
+ * 알림 서비스 호출 관련 에러 코드
+ */
+public enum NotificationClientErrorCode implements ErrorCode {
+    
+    NOTIFICATION_CLIENT_001("NOTIFICATION_CLIENT_001", "알림 서비스 동시 호출 한도를 초과했습니다", HttpStatus.SERVICE_UNAVAILABLE),
+    ;
+    
+    private final String code;
+    private final String message;
+    private final HttpStatus httpStatus;
+    
+    NotificationClientErrorCode(String code, String message, HttpStatus httpStatus) {
+        this.code = code;
+        this.message = message;
+        this.httpStatus = httpStatus;
+    }
+    
+    @Override
+    public String code() {
+        return code;
+    }
+    
+    @Override
+    public String message() {
+        return message;
+    }
+    
+    @Override
+    public HttpStatus httpStatus() {
+        return httpStatus;
+    }
+}
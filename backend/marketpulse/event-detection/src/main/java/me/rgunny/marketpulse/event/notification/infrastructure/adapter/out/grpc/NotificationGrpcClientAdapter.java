@@ -1,9 +1,16 @@
 package me.rgunny.marketpulse.event.notification.infrastructure.adapter.out.grpc;
 
+import io.grpc.Status;
 import io.grpc.StatusRuntimeException;
+import io.grpc.stub.ClientCallStreamObserver;
+import io.grpc.stub.ClientResponseObserver;
+import me.rgunny.marketpulse.common.core.exception.BusinessException;
 import me.rgunny.marketpulse.event.marketdata.domain.model.StockPrice;
 import me.rgunny.marketpulse.event.notification.application.port.out.NotificationClientPort;
+import me.rgunny.marketpulse.event.notification.domain.error.NotificationClientErrorCode;
+import me.rgunny.marketpulse.event.notification.infrastructure.config.NotificationClientProperties;
 import me.rgunny.marketpulse.notification.grpc.NotificationServiceGrpc;
+import me.rgunny.marketpulse.notification.grpc.NotificationServiceProto.PriceAlert;
 import me.rgunny.marketpulse.notification.grpc.NotificationServiceProto.PriceAlertRequest;
 import me.rgunny.marketpulse.notification.grpc.NotificationServiceProto.NotificationResponse;
 import me.rgunny.marketpulse.notification.grpc.NotificationServiceProto.Empty;
@@ -11,16 +18,29 @@ import me.rgunny.marketpulse.notification.grpc.NotificationServiceProto.Notifica
 import net.devh.boot.grpc.client.inject.GrpcClient;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.context.event.ContextClosedEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Component;
 import reactor.core.publisher.Mono;
+import reactor.core.publisher.MonoSink;
 
 import java.math.BigDecimal;
-import java.time.LocalDateTime;
-import java.time.ZoneOffset;
+import java.time.Instant;
+import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
 
 /**
  * Notification gRPC 클라이언트 어댑터
+ *
+ * - 비동기 stub 으로 호출하고 응답 콜백을 Mono 로 연결하여 호출 스레드(수집/이벤트 루프)를 막지 않음
+ * - 호출마다 deadline 을 두고, 구독이 취소되면 진행 중인 RPC 도 취소
+ * - 동시에 진행 중인 발송 호출 수를 제한하고, 한도에 닿으면 기다리지 않고 바로 실패 (알림 폭주 시 수집이 밀리지 않음)
+ * - 가격 알림은 양방향 스트림 하나로 보내고 알림마다 ack 로 완료 (상한가 몰림 때도 호출마다 RPC 를 열지 않음)
+ *   서버가 스트림을 지원하지 않으면 unary 호출로 전환
+ * - eventId 는 알림마다 한 번만 만들어 재시도/unary 전환 때도 같은 값을 보냄 (수신 측 중복 제거 기준)
  */
 @Component
 public class NotificationGrpcClientAdapter implements NotificationClientPort {
@@ -28,64 +48,201 @@ public class NotificationGrpcClientAdapter implements NotificationClientPort {
     private static final Logger log = LoggerFactory.getLogger(NotificationGrpcClientAdapter.class);
     
     @GrpcClient("notification")
-    private NotificationServiceGrpc.NotificationServiceBlockingStub notificationStub;
+    private NotificationServiceGrpc.NotificationServiceStub notificationStub;
+    
+    private final NotificationClientProperties properties;
+    private final Semaphore inFlight;
+    private PriceAlertStream stream;
+    private volatile boolean streamUnsupported;
+    
+    public NotificationGrpcClientAdapter(NotificationClientProperties properties) {
+        this.properties = properties;
+        this.inFlight = new Semaphore(properties.maxInFlight());
+    }
     
     @Override
     public Mono<Void> sendPriceAlert(StockPrice stockPrice, me.rgunny.marketpulse.notification.grpc.NotificationServiceProto.PriceAlertType alertType) {
-        return Mono.fromCallable(() -> {
-            try {
-                PriceAlertRequest request = buildPriceAlertRequest(stockPrice, alertType);
-                
-                log.info("Sending price alert via gRPC: symbol={}, alertType={}", 
-                        stockPrice.getSymbol(), alertType);
-                
-                NotificationResponse response = notificationStub.sendPriceAlert(request);
-                
-                if (response.getSuccess()) {
-                    log.info("Price alert sent successfully: notificationId={}, message={}", 
-                            response.getNotificationId(), response.getMessage());
-                } else {
-                    log.warn("Price alert failed: message={}", response.getMessage());
-                    throw new RuntimeException("Failed to send price alert: " + response.getMessage());
-                }
-                
-                return null;
-            } catch (StatusRuntimeException e) {
-                log.error("gRPC call failed: code={}, description={}", 
-                        e.getStatus().getCode(), e.getStatus().getDescription());
-                throw new RuntimeException("gRPC communication failed: " + e.getMessage(), e);
+        return sendPriceAlert(stockPrice, alertType, Map.of());
+    }
+    
+    @Override
+    public Mono<Void> sendPriceAlert(StockPrice stockPrice, me.rgunny.marketpulse.notification.grpc.NotificationServiceProto.PriceAlertType alertType,
+                                     Map<String, String> metadata) {
+        // 재구독(재시도)해도 같은 알림으로 식별되도록 구독 전에 고정
+        String eventId = UUID.randomUUID().toString();
+        long timestamp = Instant.now().toEpochMilli();
+        return Mono.defer(() -> {
+            if (!inFlight.tryAcquire()) {
+                log.warn("Price alert rejected, {} calls already in flight: symbol={}, alertType={}",
+                        properties.maxInFlight(), stockPrice.getSymbol(), alertType);
+                return Mono.error(new BusinessException(
+                        "Notification client saturated: " + properties.maxInFlight() + " calls in flight",
+                        NotificationClientErrorCode.NOTIFICATION_CLIENT_001));
             }
+            
+            log.info("Sending price alert via gRPC: symbol={}, alertType={}", 
+                    stockPrice.getSymbol(), alertType);
+            
+            return deliver(eventId, timestamp, stockPrice, alertType, metadata)
+                    .doFinally(signal -> inFlight.release());
+        })
+        .onErrorMap(StatusRuntimeException.class, e -> {
+            log.error("gRPC call failed: code={}, description={}", 
+                    e.getStatus().getCode(), e.getStatus().getDescription());
+            return new RuntimeException("gRPC communication failed: " + e.getMessage(), e);
         });
     }
     
+    /**
+     * 스트림으로 발송 (꺼져 있거나 서버가 지원하지 않으면 unary 호출)
+     */
+    private Mono<Void> deliver(String eventId, long timestamp, StockPrice stockPrice,
+                               me.rgunny.marketpulse.notification.grpc.NotificationServiceProto.PriceAlertType alertType,
+                               Map<String, String> metadata) {
+        if (!properties.streamEnabled() || streamUnsupported) {
+            return sendUnary(buildPriceAlertRequest(eventId, timestamp, stockPrice, alertType, metadata));
+        }
+        
+        return currentStream().send(buildPriceAlert(eventId, timestamp, stockPrice, alertType, metadata))
+                .timeout(properties.deadline())
+                .flatMap(ack -> {
+                    if (ack.getSuccess()) {
+                        log.info("Price alert sent successfully: notificationId={}, message={}", 
+                                ack.getNotificationId(), ack.getMessage());
+                        return Mono.<Void>empty();
+                    }
+                    log.warn("Price alert failed: message={}", ack.getMessage());
+                    return Mono.<Void>error(new RuntimeException("Failed to send price alert: " + ack.getMessage()));
+                })
+                .onErrorResume(NotificationGrpcClientAdapter::isUnimplemented, e -> {
+                    log.warn("Notification server does not support price alert streaming, falling back to unary calls");
+                    streamUnsupported = true;
+                    return sendUnary(buildPriceAlertRequest(eventId, timestamp, stockPrice, alertType, metadata));
+                });
+    }
+    
+    private Mono<Void> sendUnary(PriceAlertRequest request) {
+        return this.<PriceAlertRequest, NotificationResponse>unaryCall(request,
+                        (req, observer) -> notificationStub
+                                .withDeadlineAfter(properties.deadline().toMillis(), TimeUnit.MILLISECONDS)
+                                .sendPriceAlert(req, observer))
+                .flatMap(response -> {
+                    if (response.getSuccess()) {
+                        log.info("Price alert sent successfully: notificationId={}, message={}", 
+                                response.getNotificationId(), response.getMessage());
+                        return Mono.<Void>empty();
+                    }
+                    log.warn("Price alert failed: message={}", response.getMessage());
+                    return Mono.<Void>error(new RuntimeException("Failed to send price alert: " + response.getMessage()));
+                });
+    }
+    
+    /**
+     * 열린 스트림을 반환하고, 없거나 끊겼으면 새로 염
+     */
+    private synchronized PriceAlertStream currentStream() {
+        if (stream == null || !stream.isOpen()) {
+            stream = PriceAlertStream.open(notificationStub);
+        }
+        return stream;
+    }
+    
+    /**
+     * 종료 시 스트림 보내기를 마침
+     */
+    @EventListener(ContextClosedEvent.class)
+    public synchronized void closeStream() {
+        if (stream != null) {
+            stream.close();
+            stream = null;
+        }
+    }
+    
+    private static boolean isUnimplemented(Throwable error) {
+        return error instanceof StatusRuntimeException e
+                && e.getStatus().getCode() == Status.Code.UNIMPLEMENTED;
+    }
+    
     @Override
     public Mono<String> checkNotificationStatus() {
-        return Mono.fromCallable(() -> {
-            try {
-                NotificationStatusResponse response = notificationStub.getNotificationStatus(Empty.newBuilder().build());
-                log.info("Notification service status: {}, version: {}", 
-                        response.getStatus(), response.getVersion());
-                return response.getStatus().name();
-            } catch (StatusRuntimeException e) {
-                log.error("Failed to check notification status: {}", e.getMessage());
-                return "UNKNOWN";
+        return this.<Empty, NotificationStatusResponse>unaryCall(Empty.newBuilder().build(),
+                        (req, observer) -> notificationStub
+                                .withDeadlineAfter(properties.statusDeadline().toMillis(), TimeUnit.MILLISECONDS)
+                                .getNotificationStatus(req, observer))
+                .map(response -> {
+                    log.info("Notification service status: {}, version: {}", 
+                            response.getStatus(), response.getVersion());
+                    return response.getStatus().name();
+                })
+                .onErrorResume(StatusRuntimeException.class, e -> {
+                    log.error("Failed to check notification status: {}", e.getMessage());
+                    return Mono.just("UNKNOWN");
+                });
+    }
+    
+    /**
+     * 비동기 unary 호출을 Mono 로 연결 (구독 취소 시 RPC 취소)
+     */
+    private <Q, R> Mono<R> unaryCall(Q request, BiConsumer<Q, ClientResponseObserver<Q, R>> call) {
+        return Mono.create((MonoSink<R> sink) -> call.accept(request, new ClientResponseObserver<Q, R>() {
+            
+            @Override
+            public void beforeStart(ClientCallStreamObserver<Q> requestStream) {
+                sink.onCancel(() -> requestStream.cancel("Subscriber cancelled", null));
             }
-        });
+            
+            @Override
+            public void onNext(R value) {
+                sink.success(value);
+            }
+            
+            @Override
+            public void onError(Throwable t) {
+                sink.error(t);
+            }
+            
+            @Override
+            public void onCompleted() {
+                sink.success();
+            }
+        }));
     }
     
-    private PriceAlertRequest buildPriceAlertRequest(StockPrice stockPrice, me.rgunny.marketpulse.notification.grpc.NotificationServiceProto.PriceAlertType alertType) {
+    private PriceAlertRequest buildPriceAlertRequest(String eventId, long timestamp, StockPrice stockPrice,
+                                                     me.rgunny.marketpulse.notification.grpc.NotificationServiceProto.PriceAlertType alertType,
+                                                     Map<String, String> metadata) {
         return PriceAlertRequest.newBuilder()
-                .setEventId(UUID.randomUUID().toString())
+                .setEventId(eventId)
                 .setSymbol(stockPrice.getSymbol())
                 .setSymbolName(stockPrice.getName())
                 .setCurrentPrice(stockPrice.getCurrentPrice().doubleValue())
                 .setPreviousPrice(stockPrice.getPreviousClose().doubleValue())
                 .setChangeRate(calculateChangeRate(stockPrice).doubleValue())
                 .setAlertType(alertType)
-                .setTimestamp(LocalDateTime.now().toEpochSecond(ZoneOffset.UTC) * 1000)
+                .setTimestamp(timestamp)
                 .putMetadata("high", stockPrice.getHigh().toString())
                 .putMetadata("low", stockPrice.getLow().toString())
                 .putMetadata("volume", String.valueOf(stockPrice.getVolume()))
+                .putAllMetadata(metadata)
+                .build();
+    }
+    
+    private PriceAlert buildPriceAlert(String eventId, long timestamp, StockPrice stockPrice,
+                                       me.rgunny.marketpulse.notification.grpc.NotificationServiceProto.PriceAlertType alertType,
+                                       Map<String, String> metadata) {
+        return PriceAlert.newBuilder()
+                .setEventId(eventId)
+                .setSymbol(stockPrice.getSymbol())
+                .setSymbolName(stockPrice.getName())
+                .setCurrentPrice(stockPrice.getCurrentPrice().doubleValue())
+                .setPreviousPrice(stockPrice.getPreviousClose().doubleValue())
+                .setChangeRate(calculateChangeRate(stockPrice).doubleValue())
+                .setAlertType(alertType)
+                .setTimestamp(timestamp)
+                .setHigh(stockPrice.getHigh().doubleValue())
+                .setLow(stockPrice.getLow().doubleValue())
+                .setVolume(stockPrice.getVolume() != null ? stockPrice.getVolume() : 0L)
+                .putAllMetadata(metadata)
                 .build();
     }
     
@@ -98,4 +255,4 @@ public class NotificationGrpcClientAdapter implements NotificationClientPort {
                 .divide(stockPrice.getPreviousClose(), 4, BigDecimal.ROUND_HALF_UP)
                 .multiply(new BigDecimal("100"));
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,180 @@
+package me.rgunny.marketpulse.event.notification.infrastructure.adapter.out.grpc;
+
+import io.grpc.stub.ClientCallStreamObserver;
+import io.grpc.stub.ClientResponseObserver;
+import me.rgunny.marketpulse.notification.grpc.NotificationServiceGrpc;
+import me.rgunny.marketpulse.notification.grpc.NotificationServiceProto.PriceAlert;
+import me.rgunny.marketpulse.notification.grpc.NotificationServiceProto.PriceAlertAck;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.MonoSink;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 가격 알림 양방향 스트림 하나
+ *
+ * - 여러 알림을 하나의 스트림으로 보내고 eventId 가 같은 ack 를 받으면 해당 호출을 완료
+ * - 전송 가능(isReady)할 때만 보내고 나머지는 대기열에 두었다가 onReady 에서 이어서 보냄
+ *   (타임아웃/취소된 알림은 대기열에서도 빼므로 대기열 크기는 어댑터의 동시 호출 한도로 제한됨)
+ * - 보낸 알림이 ack 없이 연속으로 만료되면 스트림이 멈춘 것으로 보고 취소 (어댑터가 다음 호출에서 새 스트림을 염)
+ * - 스트림이 끊기면 대기 중인 호출을 모두 실패시키고, 어댑터가 다음 호출에서 새 스트림을 염
+ */
+final class PriceAlertStream implements ClientResponseObserver<PriceAlert, PriceAlertAck> {
+
+    private static final Logger log = LoggerFactory.getLogger(PriceAlertStream.class);
+
+    // ack 없이 연속으로 만료된 알림이 이만큼 쌓이면 스트림이 멈춘 것으로 판단
+    private static final int STALL_THRESHOLD = 3;
+
+    private final Map<String, MonoSink<PriceAlertAck>> pending = new ConcurrentHashMap<>();
+    // 아직 보내지 못한 알림 (eventId 순서 유지, 타임아웃/취소 시 제거)
+    private final Map<String, PriceAlert> outbound = new LinkedHashMap<>();
+    private final AtomicInteger unackedExpirations = new AtomicInteger();
+    private ClientCallStreamObserver<PriceAlert> requestStream;
+    private volatile boolean closed;
+
+    private PriceAlertStream() {
+    }
+
+    static PriceAlertStream open(NotificationServiceGrpc.NotificationServiceStub stub) {
+        PriceAlertStream stream = new PriceAlertStream();
+        stub.streamPriceAlerts(stream);
+        return stream;
+    }
+
+    /**
+     * 알림을 보내고 ack 를 기다림 (구독이 취소되거나 타임아웃되면 대기 목록과 아직 보내지 않은 대기열에서 제거)
+     */
+    Mono<PriceAlertAck> send(PriceAlert alert) {
+        return Mono.create(sink -> {
+            if (closed) {
+                sink.error(new IllegalStateException("Price alert stream closed"));
+                return;
+            }
+            String eventId = alert.getEventId();
+            pending.put(eventId, sink);
+            sink.onDispose(() -> expire(eventId, sink));
+            synchronized (this) {
+                if (closed) {
+                    pending.remove(eventId, sink);
+                    sink.error(new IllegalStateException("Price alert stream closed"));
+                    return;
+                }
+                outbound.put(eventId, alert);
+            }
+            drain();
+        });
+    }
+
+    boolean isOpen() {
+        return !closed;
+    }
+
+    int pendingCount() {
+        return pending.size();
+    }
+
+    /**
+     * 보내기를 마침 (아직 보내지 못한 알림은 실패 처리, 서버는 받은 알림을 처리하고 ack 를 보낸 뒤 스트림을 닫음)
+     */
+    synchronized void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        for (String eventId : outbound.keySet()) {
+            MonoSink<PriceAlertAck> sink = pending.remove(eventId);
+            if (sink != null) {
+                sink.error(new IllegalStateException("Price alert stream closed"));
+            }
+        }
+        outbound.clear();
+        if (requestStream != null) {
+            requestStream.onCompleted();
+        }
+    }
+
+    @Override
+    public void beforeStart(ClientCallStreamObserver<PriceAlert> requestStream) {
+        this.requestStream = requestStream;
+        requestStream.setOnReadyHandler(this::drain);
+    }
+
+    @Override
+    public void onNext(PriceAlertAck ack) {
+        unackedExpirations.set(0);
+        MonoSink<PriceAlertAck> sink = pending.remove(ack.getEventId());
+        if (sink != null) {
+            sink.success(ack);
+        }
+    }
+
+    @Override
+    public void onError(Throwable t) {
+        log.warn("Price alert stream failed: {}", t.getMessage());
+        terminate(t);
+    }
+
+    @Override
+    public void onCompleted() {
+        terminate(new IllegalStateException("Price alert stream completed by server"));
+    }
+
+    private void drain() {
+        synchronized (this) {
+            Iterator<PriceAlert> queued = outbound.values().iterator();
+            while (!closed && requestStream != null && requestStream.isReady() && queued.hasNext()) {
+                PriceAlert alert = queued.next();
+                queued.remove();
+                requestStream.onNext(alert);
+            }
+        }
+    }
+
+    /**
+     * ack 전에 끝난 호출 정리 (보내기 전이면 대기열에서 빼서 나중에 중복 발송되지 않게 하고,
+     * 이미 보냈는데 ack 가 오지 않은 호출이 연속되면 스트림을 취소)
+     */
+    private void expire(String eventId, MonoSink<PriceAlertAck> sink) {
+        if (!pending.remove(eventId, sink)) {
+            return;
+        }
+        boolean sent;
+        synchronized (this) {
+            sent = outbound.remove(eventId) == null;
+        }
+        if (sent && !closed && unackedExpirations.incrementAndGet() >= STALL_THRESHOLD) {
+            log.warn("Price alert stream stalled, {} alerts expired without ack; reopening", STALL_THRESHOLD);
+            abort();
+        }
+    }
+
+    /**
+     * 멈춘 스트림 취소 (대기 중인 호출은 실패, 어댑터가 다음 호출에서 새 스트림을 염)
+     */
+    private void abort() {
+        ClientCallStreamObserver<PriceAlert> stream;
+        synchronized (this) {
+            stream = requestStream;
+        }
+        terminate(new IllegalStateException("Price alert stream stalled"));
+        if (stream != null) {
+            stream.cancel("Price alert acks stalled", null);
+        }
+    }
+
+    private void terminate(Throwable cause) {
+        synchronized (this) {
+            closed = true;
+            outbound.clear();
+        }
+        pending.values().forEach(sink -> sink.error(cause));
+        pending.clear();
+    }
+}
@@ -0,0 +1,41 @@
+package me.rgunny.marketpulse.event.notification.infrastructure.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Notification gRPC 클라이언트 설정 프로퍼티
+ *
+ * 채널 주소/keepalive 는 grpc.client.notification 에서 설정
+ */
+@ConfigurationProperties(prefix = "marketpulse.notification.client")
+public record NotificationClientProperties(
+        /**
+         * 가격 알림 발송 호출 deadline (지나면 DEADLINE_EXCEEDED 로 실패)
+         */
+        Duration deadline,
+        
+        /**
+         * 상태 확인 호출 deadline
+         */
+        Duration statusDeadline,
+        
+        /**
+         * 동시에 진행할 수 있는 최대 발송 호출 수 (넘으면 기다리지 않고 바로 실패)
+         */
+        int maxInFlight,
+        
+        /**
+         * 가격 알림을 양방향 스트림 하나로 발송할지 여부 (끄면 알림마다 unary 호출)
+         */
+        @DefaultValue("true") boolean streamEnabled
+) {
+    
+    public NotificationClientProperties {
+        if (deadline == null || deadline.isNegative() || deadline.isZero()) deadline = Duration.ofSeconds(3);
+        if (statusDeadline == null || statusDeadline.isNegative() || statusDeadline.isZero()) statusDeadline = Duration.ofSeconds(2);
+        if (maxInFlight <= 0) maxInFlight = 256;
+    }
+}
@@ -0,0 +1,175 @@
+package me.rgunny.marketpulse.event.medium.infrastructure.adapter.output;
+
+import me.rgunny.marketpulse.event.marketdata.application.port.out.kis.KISApprovalKeyPort;
+import me.rgunny.marketpulse.event.marketdata.application.port.out.shared.StockPort;
+import me.rgunny.marketpulse.event.marketdata.domain.model.RealtimeQuote;
+import me.rgunny.marketpulse.event.marketdata.infrastructure.adapter.out.kis.KISWebSocketQuoteAdapter;
+import me.rgunny.marketpulse.event.marketdata.infrastructure.config.kis.KISApiProperties;
+import me.rgunny.marketpulse.event.support.KISWebSocketStubServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.IntStream;
+
+import static me.rgunny.marketpulse.event.support.KISWebSocketStubServer.await;
+import static me.rgunny.marketpulse.event.support.KISWebSocketStubServer.tradeFrame;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+/**
+ * KIS 실시간 웹소켓 어댑터 Medium 테스트
+ *
+ * - 로컬 웹소켓 대역 서버(KISWebSocketStubServer)에 실제로 접속
+ * - 구독, 체결 수신, 구독 상한, 끊김 시 폴링 전환과 재접속 후 재구독 검증
+ */
+@DisplayName("Event Detection - KIS 실시간 웹소켓 어댑터 테스트 (medium)")
+class KISWebSocketQuoteAdapterTest {
+
+    private static final long TIMEOUT_MILLIS = 5_000L;
+
+    private KISWebSocketStubServer server;
+    private KISWebSocketQuoteAdapter adapter;
+    private final List<RealtimeQuote> received = new CopyOnWriteArrayList<>();
+    private Disposable subscription;
+
+    @BeforeEach
+    void setUp() {
+        server = KISWebSocketStubServer.start();
+
+        KISApprovalKeyPort approvalKeyPort = mock(KISApprovalKeyPort.class);
+        given(approvalKeyPort.getApprovalKey()).willReturn(Mono.just("test-approval-key"));
+        StockPort stockPort = mock(StockPort.class);
+        given(stockPort.findBySymbol(anyString())).willReturn(Mono.empty());
+
+        KISApiProperties properties = new KISApiProperties(
+                true, "http://localhost", "app-key", "app-secret",
+                null, null, null, null, null, null, null, null, null, null,
+                new KISApiProperties.WebSocket(true, server.url(), null, null, 41, 1, 1), null, null, null);
+
+        adapter = new KISWebSocketQuoteAdapter(properties, approvalKeyPort, stockPort, Clock.systemUTC());
+        subscription = adapter.quotes().subscribe(received::add);
+    }
+
+    @AfterEach
+    void tearDown() {
+        subscription.dispose();
+        adapter.stop();
+        server.close();
+    }
+
+    @Test
+    @DisplayName("구독한 종목의 체결가를 받아 최근 시세로 제공한다")
+    void givenSubscribed_whenTradePushed_thenQuoteReceived() {
+        // given
+        adapter.updateSubscriptions(List.of("005930"));
+        adapter.start();
+        await(() -> server.subscribeCount() == 1, TIMEOUT_MILLIS);
+
+        // when
+        Instant pushedAt = Instant.now();
+        server.push(tradeFrame("005930", 71000L, 500L, "0.71", 1000L));
+        await(() -> received.size() == 1, TIMEOUT_MILLIS);
+
+        // then
+        RealtimeQuote quote = received.get(0);
+        assertThat(quote.symbol()).isEqualTo("005930");
+        assertThat(quote.tick().price()).isEqualTo(71000L);
+        assertThat(quote.tick().changeRateBps()).isEqualTo(71);
+        assertThat(Duration.between(pushedAt, Instant.ofEpochMilli(quote.tick().epochMillis()))).isLessThan(Duration.ofSeconds(1));
+        assertThat(adapter.findLatestPrice("005930"))
+                .hasValueSatisfying(price -> assertThat(price.getCurrentPrice()).isEqualByComparingTo("71000"));
+    }
+
+    @Test
+    @DisplayName("구독하지 않은 종목의 체결은 무시한다")
+    void givenNotSubscribed_whenTradePushed_thenIgnored() {
+        // given
+        adapter.updateSubscriptions(List.of("005930"));
+        adapter.start();
+        await(() -> server.subscribeCount() == 1, TIMEOUT_MILLIS);
+
+        // when
+        server.push(tradeFrame("000660", 120000L, 1000L, "0.84", 1000L));
+        server.push(tradeFrame("005930", 71000L, 500L, "0.71", 1000L));
+        await(() -> !received.isEmpty(), TIMEOUT_MILLIS);
+
+        // then
+        assertThat(received).extracting(RealtimeQuote::symbol).containsOnly("005930");
+        assertThat(adapter.findLatestPrice("000660")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("세션당 구독 상한을 넘는 종목은 구독하지 않는다")
+    void givenMoreSymbolsThanLimit_whenSubscribe_thenCapped() throws InterruptedException {
+        // given
+        List<String> symbols = IntStream.range(0, 50)
+                .mapToObj(i -> String.format("%06d", i))
+                .toList();
+
+        // when
+        adapter.updateSubscriptions(symbols);
+        adapter.start();
+        await(() -> server.subscribeCount() == 41, TIMEOUT_MILLIS);
+        Thread.sleep(100);
+
+        // then
+        assertThat(server.subscribeCount()).isEqualTo(41);
+        assertThat(server.receivedMessages()).noneMatch(message -> message.contains("\"tr_key\":\"000041\""));
+    }
+
+    @Test
+    @DisplayName("구독 목록이 바뀌면 빠진 종목만 해지하고 새 종목만 구독한다")
+    void givenSubscriptionChange_whenUpdate_thenSendsDiffOnly() {
+        // given
+        adapter.updateSubscriptions(List.of("005930", "000660"));
+        adapter.start();
+        await(() -> server.subscribeCount() == 2, TIMEOUT_MILLIS);
+
+        // when
+        adapter.updateSubscriptions(List.of("005930", "035720"));
+        await(() -> server.receivedMessages().size() == 4, TIMEOUT_MILLIS);
+
+        // then
+        List<String> changes = server.receivedMessages().subList(2, 4);
+        assertThat(changes.get(0)).contains("\"tr_type\":\"2\"").contains("\"tr_key\":\"000660\"");
+        assertThat(changes.get(1)).contains("\"tr_type\":\"1\"").contains("\"tr_key\":\"035720\"");
+    }
+
+    @Test
+    @DisplayName("연결이 끊기면 폴링으로 넘기고, 재접속 후 전체 종목을 다시 구독한다")
+    void givenConnectionDropped_whenReconnected_thenResubscribes() {
+        // given
+        adapter.updateSubscriptions(List.of("005930", "000660"));
+        adapter.start();
+        await(() -> server.subscribeCount() == 2, TIMEOUT_MILLIS);
+        server.push(tradeFrame("005930", 71000L, 500L, "0.71", 1000L));
+        await(() -> adapter.findLatestPrice("005930").isPresent(), TIMEOUT_MILLIS);
+        assertThat(adapter.isStreaming("005930")).isTrue();
+        assertThat(adapter.isStreaming("000660")).isFalse();
+
+        // when
+        server.dropConnection();
+        await(() -> !adapter.isConnected(), TIMEOUT_MILLIS);
+
+        // then - 끊긴 동안에는 최근 시세를 내주지 않아 폴링 전략이 사용됨
+        assertThat(adapter.findLatestPrice("005930")).isEmpty();
+        assertThat(adapter.isStreaming("005930")).isFalse();
+
+        // then - 재접속 후 두 종목을 다시 구독하고 체결을 다시 받음
+        await(() -> server.connectionCount() == 2 && server.subscribeCount() == 4, TIMEOUT_MILLIS);
+        await(adapter::isConnected, TIMEOUT_MILLIS);
+        server.push(tradeFrame("000660", 120000L, 1000L, "0.84", 1000L));
+        await(() -> adapter.findLatestPrice("000660").isPresent(), TIMEOUT_MILLIS);
+    }
+}
@@ -0,0 +1,140 @@
+package me.rgunny.marketpulse.event.medium.infrastructure.adapter.output;
+
+import me.rgunny.marketpulse.event.marketdata.domain.model.AlertHistory;
+import me.rgunny.marketpulse.event.marketdata.domain.model.AlertType;
+import me.rgunny.marketpulse.event.marketdata.domain.model.CooldownClaim;
+import me.rgunny.marketpulse.event.marketdata.infrastructure.adapter.out.shared.RedisAlertHistoryAdapter;
+import me.rgunny.marketpulse.event.marketdata.infrastructure.config.RedisAlertConfig;
+import me.rgunny.marketpulse.event.support.RedisTestcontainersTest;
+import me.rgunny.marketpulse.event.support.TestClockFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.redis.core.ReactiveRedisTemplate;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 알림 쿨다운 선점(SET NX PX 스크립트) Medium 테스트
+ *
+ * - 실제 Redis 에서 스크립트의 선점/차단/만료 동작 검증
+ */
+@Import(RedisAlertConfig.class)
+@DisplayName("Event Detection - Redis 알림 쿨다운 선점 테스트 (medium)")
+class RedisAlertHistoryAdapterTest extends RedisTestcontainersTest {
+
+    private static final String SYMBOL = "005930";
+    private static final AlertType ALERT_TYPE = AlertType.PRICE_RISE;
+
+    @Autowired
+    @Qualifier("alertHistoryRedisTemplate")
+    private ReactiveRedisTemplate<String, AlertHistory> alertHistoryRedisTemplate;
+
+    private final Clock clock = TestClockFactory.marketMiddle();
+
+    private RedisAlertHistoryAdapter adapter;
+
+    @BeforeEach
+    void setUp() {
+        adapter = new RedisAlertHistoryAdapter(alertHistoryRedisTemplate, clock);
+    }
+
+    @AfterEach
+    void tearDown() {
+        adapter.delete(SYMBOL, ALERT_TYPE).block();
+    }
+
+    @Test
+    @DisplayName("쿨다운이 없으면 첫 선점은 허용되고 이력이 기록된다")
+    void givenNoCooldown_whenTryAcquire_thenGrantedAndRecorded() {
+        // given
+        AlertHistory history = history(Duration.ofMinutes(5));
+
+        // when & then
+        StepVerifier.create(adapter.tryAcquireCooldown(history))
+                .expectNext(CooldownClaim.granted())
+                .verifyComplete();
+        StepVerifier.create(adapter.findBySymbolAndType(SYMBOL, ALERT_TYPE))
+                .expectNext(history)
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("동시에 선점하면 하나만 허용되고 나머지는 남은 쿨다운과 함께 차단된다")
+    void givenConcurrentClaims_whenTryAcquire_thenOnlyOneGranted() {
+        // given
+        Duration cooldown = Duration.ofMinutes(5);
+        AlertHistory history = history(cooldown);
+
+        // when
+        Mono<CooldownClaim[]> claims = Mono.zip(
+                adapter.tryAcquireCooldown(history),
+                adapter.tryAcquireCooldown(history),
+                (first, second) -> new CooldownClaim[]{first, second});
+
+        // then
+        StepVerifier.create(claims)
+                .assertNext(result -> {
+                    assertThat(result).filteredOn(CooldownClaim::acquired).hasSize(1);
+                    CooldownClaim blocked = result[0].acquired() ? result[1] : result[0];
+                    assertThat(blocked.acquired()).isFalse();
+                    assertThat(blocked.remaining()).isPositive().isLessThanOrEqualTo(cooldown);
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("쿨다운 중에 다시 선점하면 Redis PTTL 기준 남은 시간으로 차단된다")
+    void givenActiveCooldown_whenTryAcquireAgain_thenBlockedWithRemainingTtl() {
+        // given
+        Duration cooldown = Duration.ofMinutes(5);
+        adapter.tryAcquireCooldown(history(cooldown)).block();
+
+        // when & then
+        StepVerifier.create(adapter.tryAcquireCooldown(history(cooldown)))
+                .assertNext(claim -> {
+                    assertThat(claim.acquired()).isFalse();
+                    assertThat(claim.remaining())
+                            .isGreaterThan(cooldown.minusSeconds(5))
+                            .isLessThanOrEqualTo(cooldown);
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("쿨다운이 만료되면 다시 선점할 수 있다")
+    void givenExpiredCooldown_whenTryAcquire_thenGrantedAgain() {
+        // given
+        Duration cooldown = Duration.ofMillis(300);
+        StepVerifier.create(adapter.tryAcquireCooldown(history(cooldown)))
+                .expectNext(CooldownClaim.granted())
+                .verifyComplete();
+        StepVerifier.create(adapter.tryAcquireCooldown(history(cooldown)))
+                .assertNext(claim -> assertThat(claim.acquired()).isFalse())
+                .verifyComplete();
+
+        // when
+        Mono<CooldownClaim> afterExpiry = Mono.delay(cooldown.plusMillis(500))
+                .then(adapter.tryAcquireCooldown(history(cooldown)));
+
+        // then
+        StepVerifier.create(afterExpiry)
+                .expectNext(CooldownClaim.granted())
+                .verifyComplete();
+    }
+
+    private AlertHistory history(Duration cooldown) {
+        Instant now = Instant.now(clock);
+        return new AlertHistory(SYMBOL + ":" + ALERT_TYPE.name(), SYMBOL, ALERT_TYPE, now, now.plus(cooldown));
+    }
+}
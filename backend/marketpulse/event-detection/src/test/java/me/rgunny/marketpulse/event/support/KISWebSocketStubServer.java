@@ -0,0 +1,145 @@
+package me.rgunny.marketpulse.event.support;
+
+import reactor.core.publisher.Sinks;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.server.HttpServer;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+/**
+ * KIS 실시간 웹소켓 대역 서버 (테스트용)
+ *
+ * - 임의 포트에서 웹소켓을 열고, 받은 구독 요청을 기록한 뒤 KIS 형식의 구독 성공 응답을 돌려줌
+ * - push 로 KIS 형식 체결가 메시지를 현재 세션에 보내고, dropConnection 으로 연결을 끊어 재접속을 검증
+ */
+public class KISWebSocketStubServer implements AutoCloseable {
+
+    private static final int TRADE_FIELD_COUNT = 46;
+
+    private final List<String> received = new CopyOnWriteArrayList<>();
+    private final AtomicInteger connections = new AtomicInteger();
+    private final DisposableServer server;
+
+    private volatile Sinks.Many<String> session;
+
+    private KISWebSocketStubServer() {
+        this.server = HttpServer.create()
+                .host("localhost")
+                .port(0)
+                .route(routes -> routes.ws("/", (inbound, outbound) -> {
+                    Sinks.Many<String> current = Sinks.many().unicast().onBackpressureBuffer();
+                    session = current;
+                    connections.incrementAndGet();
+                    inbound.receive().asString().subscribe(message -> {
+                        received.add(message);
+                        current.tryEmitNext(subscribeResponse(message));
+                    });
+                    return outbound.sendString(current.asFlux());
+                }))
+                .bindNow();
+    }
+
+    public static KISWebSocketStubServer start() {
+        return new KISWebSocketStubServer();
+    }
+
+    public String url() {
+        return "ws://localhost:" + server.port();
+    }
+
+    /**
+     * 현재 세션으로 메시지 전송
+     */
+    public void push(String message) {
+        Sinks.Many<String> current = session;
+        if (current == null) {
+            throw new IllegalStateException("No active session");
+        }
+        current.tryEmitNext(message);
+    }
+
+    /**
+     * 현재 세션 종료 (서버는 계속 떠 있어 재접속 가능)
+     */
+    public void dropConnection() {
+        Sinks.Many<String> current = session;
+        session = null;
+        if (current != null) {
+            current.tryEmitComplete();
+        }
+    }
+
+    public int connectionCount() {
+        return connections.get();
+    }
+
+    /**
+     * 받은 구독/해지 요청
+     */
+    public List<String> receivedMessages() {
+        return Collections.unmodifiableList(new ArrayList<>(received));
+    }
+
+    /**
+     * 받은 요청 중 구독(tr_type=1) 요청 수
+     */
+    public long subscribeCount() {
+        return received.stream().filter(message -> message.contains("\"tr_type\":\"1\"")).count();
+    }
+
+    /**
+     * KIS H0STCNT0 형식 체결가 메시지 (필드 46개, 사용하지 않는 필드는 0)
+     */
+    public static String tradeFrame(String symbol, long price, long change, String changeRate, long accumulatedVolume) {
+        String[] fields = new String[TRADE_FIELD_COUNT];
+        java.util.Arrays.fill(fields, "0");
+        fields[0] = symbol;
+        fields[1] = "093000";
+        fields[2] = String.valueOf(price);
+        fields[3] = change >= 0 ? "2" : "5";
+        fields[4] = String.valueOf(change);
+        fields[5] = changeRate;
+        fields[7] = String.valueOf(price - change);
+        fields[8] = String.valueOf(Math.max(price, price - change));
+        fields[9] = String.valueOf(Math.min(price, price - change));
+        fields[10] = String.valueOf(price + 100);
+        fields[11] = String.valueOf(price);
+        fields[13] = String.valueOf(accumulatedVolume);
+        return "0|H0STCNT0|001|" + String.join("^", fields);
+    }
+
+    /**
+     * 조건이 참이 될 때까지 대기
+     */
+    public static void await(BooleanSupplier condition, long timeoutMillis) {
+        long deadline = System.currentTimeMillis() + timeoutMillis;
+        while (!condition.getAsBoolean()) {
+            if (System.currentTimeMillis() > deadline) {
+                throw new AssertionError("Condition not met within " + timeoutMillis + "ms");
+            }
+            try {
+                Thread.sleep(10);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new AssertionError("Interrupted while waiting", e);
+            }
+        }
+    }
+
+    @Override
+    public void close() {
+        dropConnection();
+        server.disposeNow();
+    }
+
+    private static String subscribeResponse(String request) {
+        String symbol = request.replaceAll(".*\"tr_key\":\"([^\"]*)\".*", "$1");
+        return "{\"header\":{\"tr_id\":\"H0STCNT0\",\"tr_key\":\"" + symbol + "\",\"encrypt\":\"N\"},"
+                + "\"body\":{\"rt_cd\":\"0\",\"msg_cd\":\"OPSP0000\",\"msg1\":\"SUBSCRIBE SUCCESS\"}}";
+    }
+}
@@ -0,0 +1,81 @@
+package me.rgunny.marketpulse.event.unit.application.service;
+
+import me.rgunny.marketpulse.event.marketdata.application.service.AlertRuleEngine;
+import me.rgunny.marketpulse.event.marketdata.domain.model.AlertCondition;
+import me.rgunny.marketpulse.event.marketdata.domain.model.AlertRule;
+import me.rgunny.marketpulse.event.marketdata.domain.model.AlertRuleSet;
+import me.rgunny.marketpulse.event.marketdata.domain.model.AlertType;
+import me.rgunny.marketpulse.event.marketdata.domain.model.Tick;
+import me.rgunny.marketpulse.event.marketdata.infrastructure.config.PriceAlertProperties;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * AlertRuleEngine 단위 테스트
+ */
+@DisplayName("AlertRuleEngine 단위 테스트")
+class AlertRuleEngineTest {
+
+    private final AlertRuleEngine engine = new AlertRuleEngine(new PriceAlertProperties(
+            new BigDecimal("5.0"), new BigDecimal("-5.0"),
+            new BigDecimal("29.5"), new BigDecimal("-29.5"),
+            30, 60, null, null, null));
+
+    @Test
+    @DisplayName("규칙을 설정하지 않으면 임계값과 쿨다운으로 기본 규칙을 만든다")
+    void givenNoRules_whenEvaluate_thenUsesThresholdRules() {
+        // when
+        AlertRule limitUp = engine.evaluate(tick(100_000L, 130_000L));
+        AlertRule fall = engine.evaluate(tick(100_000L, 94_000L));
+
+        // then
+        assertThat(limitUp.type()).isEqualTo(AlertType.LIMIT_UP);
+        assertThat(limitUp.cooldownMinutes()).isEqualTo(60);
+        assertThat(fall.type()).isEqualTo(AlertType.PRICE_FALL);
+        assertThat(fall.cooldownMinutes()).isEqualTo(30);
+        assertThat(engine.evaluate(tick(100_000L, 102_000L))).isNull();
+    }
+
+    @Test
+    @DisplayName("규칙 집합을 교체하면 다음 평가부터 새 규칙을 적용한다")
+    void givenNewRuleSet_whenReplace_thenEvaluatesWithNewRules() {
+        // given
+        AlertRuleSet ruleSet = new AlertRuleSet(List.of(
+                AlertRule.forSymbol("samsung-rise", "005930", AlertType.PRICE_RISE, 10, 10,
+                        AlertCondition.changeRateAtLeast(new BigDecimal("1.5")))), Map.of());
+
+        // when
+        engine.replace(ruleSet);
+
+        // then
+        assertThat(engine.evaluate(tick(100_000L, 102_000L)).id()).isEqualTo("samsung-rise");
+        assertThat(engine.evaluate(tick(100_000L, 130_000L)).id()).isEqualTo("samsung-rise");
+        assertThat(engine.currentRules()).isEqualTo(ruleSet);
+    }
+
+    @Test
+    @DisplayName("올바르지 않은 규칙 집합으로 교체하면 기존 규칙을 유지한다")
+    void givenInvalidRuleSet_whenReplace_thenKeepsCurrentRules() {
+        // given
+        AlertRuleSet current = engine.currentRules();
+        AlertRuleSet invalid = new AlertRuleSet(List.of(
+                AlertRule.forGroup("semis", "semis", AlertType.PRICE_RISE, 10, 10,
+                        AlertCondition.changeRateAtLeast(new BigDecimal("1.5")))), Map.of());
+
+        // when & then
+        assertThatThrownBy(() -> engine.replace(invalid)).isInstanceOf(IllegalArgumentException.class);
+        assertThat(engine.currentRules()).isEqualTo(current);
+        assertThat(engine.evaluate(tick(100_000L, 130_000L)).type()).isEqualTo(AlertType.LIMIT_UP);
+    }
+
+    private static Tick tick(long previousClose, long price) {
+        return Tick.of("005930", price, previousClose, previousClose, price, price, price, price, 1000L, 0L);
+    }
+}
@@ -0,0 +1,151 @@
+package me.rgunny.marketpulse.event.unit.application.service;
+
+import me.rgunny.marketpulse.event.marketdata.application.port.out.ClusterMembershipPort;
+import me.rgunny.marketpulse.event.marketdata.application.service.CollectionShardService;
+import me.rgunny.marketpulse.event.marketdata.application.util.ConsistentHashRing;
+import me.rgunny.marketpulse.event.marketdata.infrastructure.config.shared.StockCollectionProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CollectionShardService 단위 테스트")
+class CollectionShardServiceTest {
+
+    private static final String SELF = "instance-a";
+    private static final String OTHER = "instance-b";
+    private static final Duration LEASE_TTL = Duration.ofSeconds(10);
+    private static final List<String> SYMBOLS = List.of("005930", "000660", "035720", "051910", "068270", "105560");
+
+    @Mock
+    private ClusterMembershipPort membershipPort;
+
+    @BeforeEach
+    void setUp() {
+        given(membershipPort.getInstanceId()).willReturn(SELF);
+    }
+
+    @Test
+    @DisplayName("분할을 끄면 임대 없이 모든 종목을 소유한다")
+    void givenShardingDisabled_whenRefresh_thenOwnsEverything() {
+        // given
+        CollectionShardService service = new CollectionShardService(membershipPort, properties(false));
+
+        // when & then
+        StepVerifier.create(service.refreshMembership())
+                .expectNext(false)
+                .verifyComplete();
+
+        assertThat(SYMBOLS).allSatisfy(symbol -> assertThat(service.owns(symbol)).isTrue());
+        assertThat(service.memberCount()).isEqualTo(1);
+        verify(membershipPort).getInstanceId();
+        verifyNoMoreInteractions(membershipPort);
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스가 합류하면 링을 다시 만들고 해시 링 기준 소유 종목만 수집한다")
+    void givenOtherMemberJoined_whenRefresh_thenRebalances() {
+        // given
+        CollectionShardService service = new CollectionShardService(membershipPort, properties(true));
+        given(membershipPort.heartbeat(LEASE_TTL)).willReturn(Mono.just(true));
+        given(membershipPort.findActiveMembers()).willReturn(Mono.just(Set.of(SELF, OTHER)));
+
+        // when & then
+        StepVerifier.create(service.refreshMembership())
+                .expectNext(true)
+                .verifyComplete();
+
+        ConsistentHashRing expected = ConsistentHashRing.of(Set.of(SELF, OTHER), 128);
+        assertThat(service.memberCount()).isEqualTo(2);
+        assertThat(SYMBOLS).allSatisfy(symbol ->
+                assertThat(service.owns(symbol)).isEqualTo(expected.isOwnedBy(symbol, SELF)));
+    }
+
+    @Test
+    @DisplayName("인스턴스 목록이 그대로면 재분배하지 않는다")
+    void givenSameMembers_whenRefreshAgain_thenNoRebalance() {
+        // given
+        CollectionShardService service = new CollectionShardService(membershipPort, properties(true));
+        given(membershipPort.heartbeat(LEASE_TTL)).willReturn(Mono.just(true));
+        given(membershipPort.findActiveMembers()).willReturn(Mono.just(Set.of(SELF, OTHER)));
+        service.refreshMembership().block();
+
+        // when & then
+        StepVerifier.create(service.refreshMembership())
+                .expectNext(false)
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("임대가 만료된 인스턴스가 빠지면 모든 종목을 다시 소유한다")
+    void givenOtherMemberExpired_whenRefresh_thenTakesOver() {
+        // given
+        CollectionShardService service = new CollectionShardService(membershipPort, properties(true));
+        given(membershipPort.heartbeat(LEASE_TTL)).willReturn(Mono.just(true));
+        given(membershipPort.findActiveMembers())
+                .willReturn(Mono.just(Set.of(SELF, OTHER)))
+                .willReturn(Mono.just(Set.of(SELF)));
+        service.refreshMembership().block();
+
+        // when & then
+        StepVerifier.create(service.refreshMembership())
+                .expectNext(true)
+                .verifyComplete();
+
+        assertThat(SYMBOLS).allSatisfy(symbol -> assertThat(service.owns(symbol)).isTrue());
+    }
+
+    @Test
+    @DisplayName("임대를 잡지 못하면 다른 인스턴스와 같은 기준으로 자신을 제외한다")
+    void givenLeaseLost_whenRefresh_thenExcludesSelf() {
+        // given
+        CollectionShardService service = new CollectionShardService(membershipPort, properties(true));
+        given(membershipPort.heartbeat(LEASE_TTL)).willReturn(Mono.just(false));
+        given(membershipPort.findActiveMembers()).willReturn(Mono.just(Set.of(SELF, OTHER)));
+
+        // when & then
+        StepVerifier.create(service.refreshMembership())
+                .expectNext(true)
+                .verifyComplete();
+
+        assertThat(SYMBOLS).allSatisfy(symbol -> assertThat(service.owns(symbol)).isFalse());
+    }
+
+    @Test
+    @DisplayName("멤버 조회에 실패하면 마지막으로 확인한 링을 유지한다")
+    void givenMembershipError_whenRefresh_thenKeepsLastRing() {
+        // given
+        CollectionShardService service = new CollectionShardService(membershipPort, properties(true));
+        given(membershipPort.heartbeat(LEASE_TTL)).willReturn(Mono.just(true));
+        given(membershipPort.findActiveMembers())
+                .willReturn(Mono.just(Set.of(SELF, OTHER)))
+                .willReturn(Mono.error(new RuntimeException("Redis 연결 실패")));
+        service.refreshMembership().block();
+
+        // when & then
+        StepVerifier.create(service.refreshMembership())
+                .expectNext(false)
+                .verifyComplete();
+
+        assertThat(service.memberCount()).isEqualTo(2);
+    }
+
+    private StockCollectionProperties properties(boolean shardingEnabled) {
+        return new StockCollectionProperties(null, null, null, null, null, null, null,
+                new StockCollectionProperties.Sharding(shardingEnabled, LEASE_TTL, Duration.ofSeconds(3), 128));
+    }
+}
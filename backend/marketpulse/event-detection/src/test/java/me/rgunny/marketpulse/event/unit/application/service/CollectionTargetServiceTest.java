@@ -0,0 +1,119 @@
+package me.rgunny.marketpulse.event.unit.application.service;
+
+import me.rgunny.marketpulse.event.marketdata.application.port.out.MarketRankingPort;
+import me.rgunny.marketpulse.event.marketdata.application.port.out.shared.StockPort;
+import me.rgunny.marketpulse.event.marketdata.application.service.CollectionTargetService;
+import me.rgunny.marketpulse.event.marketdata.domain.model.CollectionTarget;
+import me.rgunny.marketpulse.event.marketdata.domain.model.CollectionTier;
+import me.rgunny.marketpulse.event.marketdata.domain.model.MarketRanking;
+import me.rgunny.marketpulse.event.marketdata.domain.model.MarketType;
+import me.rgunny.marketpulse.event.marketdata.domain.model.Stock;
+import me.rgunny.marketpulse.event.marketdata.infrastructure.config.MarketRankingProperties;
+import me.rgunny.marketpulse.event.marketdata.infrastructure.config.shared.StockCollectionProperties;
+import me.rgunny.marketpulse.event.support.TestClockFactory;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+/**
+ * CollectionTargetService 단위 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CollectionTargetService 단위 테스트")
+class CollectionTargetServiceTest {
+
+    @Mock
+    private StockPort stockPort;
+
+    @Mock
+    private MarketRankingPort marketRankingPort;
+
+    private final StockCollectionProperties properties = new StockCollectionProperties(
+            null, null, null,
+            new StockCollectionProperties.Priority(1, 3, "CORE", List.of("005930")),
+            null, null, null, null);
+
+    @Test
+    @DisplayName("코어 지정 종목, 자동 감시 후보, 일반 종목을 등급별 주기로 분류한다")
+    void givenCoreAndAutoWatchSymbols_whenResolveTargets_thenAssignsTiers() {
+        // given
+        CollectionTargetService service = createService(autoWatch(true, 2));
+        given(marketRankingPort.findAutoWatchCandidates(any(LocalDateTime.class)))
+                .willReturn(Flux.just(ranking("000660")));
+        given(stockPort.findAllActiveStocks())
+                .willReturn(Flux.just(stock("005930"), stock("000660"), stock("035720")));
+
+        // when & then
+        StepVerifier.create(service.resolveTargets().collectList())
+                .assertNext(targets -> assertThat(targets).containsExactly(
+                        CollectionTarget.of("005930", CollectionTier.CORE, Duration.ofMinutes(1)),
+                        CollectionTarget.of("000660", CollectionTier.HIGH, Duration.ofSeconds(15)),
+                        CollectionTarget.of("035720", CollectionTier.NORMAL, Duration.ofSeconds(30))))
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("거래정지 종목은 수집 대상에서 제외한다")
+    void givenDelistedStock_whenResolveTargets_thenSkipsIt() {
+        // given
+        CollectionTargetService service = createService(autoWatch(true, 2));
+        given(marketRankingPort.findAutoWatchCandidates(any(LocalDateTime.class))).willReturn(Flux.empty());
+        given(stockPort.findAllActiveStocks())
+                .willReturn(Flux.just(stock("035720"), stock("000660").delist()));
+
+        // when & then
+        StepVerifier.create(service.resolveTargets())
+                .assertNext(target -> assertThat(target.symbol()).isEqualTo("035720"))
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("자동 감시 우선순위가 높은 우선순위 범위 밖이면 후보를 조회하지 않는다")
+    void givenAutoWatchPriorityOutOfRange_whenResolveTargets_thenNoHighTier() {
+        // given
+        CollectionTargetService service = createService(autoWatch(true, 5));
+        given(stockPort.findAllActiveStocks()).willReturn(Flux.just(stock("000660")));
+
+        // when & then
+        StepVerifier.create(service.resolveTargets())
+                .assertNext(target -> assertThat(target.tier()).isEqualTo(CollectionTier.NORMAL))
+                .verifyComplete();
+
+        verifyNoInteractions(marketRankingPort);
+    }
+
+    private CollectionTargetService createService(MarketRankingProperties.AutoWatch autoWatch) {
+        MarketRankingProperties rankingProperties = new MarketRankingProperties(true, autoWatch, null, 7);
+        return new CollectionTargetService(
+                stockPort, marketRankingPort, properties, rankingProperties, TestClockFactory.marketMiddle());
+    }
+
+    private MarketRankingProperties.AutoWatch autoWatch(boolean enabled, int priority) {
+        return new MarketRankingProperties.AutoWatch(enabled, 10, 10, 5, priority, 60);
+    }
+
+    private MarketRanking ranking(String symbol) {
+        return MarketRanking.builder()
+                .symbol(symbol)
+                .rankingType(MarketRanking.RankingType.PRICE_RISE)
+                .rank(1)
+                .build();
+    }
+
+    private Stock stock(String symbol) {
+        return Stock.createStock(symbol, symbol, symbol, MarketType.KOSPI, "01", "전기전자");
+    }
+}
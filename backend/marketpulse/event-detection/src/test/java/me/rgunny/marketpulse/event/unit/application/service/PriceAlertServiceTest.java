@@ -1,10 +1,16 @@
 package me.rgunny.marketpulse.event.unit.application.service;
 
+import me.rgunny.marketpulse.event.marketdata.application.port.in.CollectionShardUseCase;
 import me.rgunny.marketpulse.event.marketdata.application.port.out.AlertHistoryPort;
+import me.rgunny.marketpulse.event.marketdata.application.port.out.PriceTargetPort;
+import me.rgunny.marketpulse.event.marketdata.application.service.AlertRuleEngine;
 import me.rgunny.marketpulse.event.marketdata.application.usecase.PriceAlertService;
+import me.rgunny.marketpulse.event.marketdata.application.usecase.PriceTargetAlertService;
 import me.rgunny.marketpulse.event.marketdata.domain.model.AlertHistory;
 import me.rgunny.marketpulse.event.marketdata.domain.model.AlertType;
+import me.rgunny.marketpulse.event.marketdata.domain.model.CooldownClaim;
 import me.rgunny.marketpulse.event.marketdata.domain.model.StockPrice;
+import me.rgunny.marketpulse.event.marketdata.domain.model.Tick;
 import me.rgunny.marketpulse.event.marketdata.infrastructure.config.PriceAlertProperties;
 import me.rgunny.marketpulse.event.notification.application.port.out.NotificationClientPort;
 import me.rgunny.marketpulse.event.notification.application.port.out.NotificationHistoryPort;
@@ -23,6 +29,7 @@ import me.rgunny.marketpulse.event.support.TestClockFactory;
 
 import java.math.BigDecimal;
 import java.time.Clock;
+import java.time.Duration;
 
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.BDDMockito.given;
@@ -45,6 +52,12 @@ class PriceAlertServiceTest {
     
     @Mock
     private AlertHistoryPort alertHistoryPort;
+    
+    @Mock
+    private PriceTargetPort priceTargetPort;
+    
+    @Mock
+    private CollectionShardUseCase collectionShardUseCase;
 
     @BeforeEach
     void setUp() {
@@ -54,7 +67,10 @@ class PriceAlertServiceTest {
                 new BigDecimal("29.5"),
                 new BigDecimal("-29.5"),
                 30,
-                60
+                60,
+                null,
+                null,
+                null
         );
         
         // TestClockFactory 사용
@@ -68,12 +84,12 @@ class PriceAlertServiceTest {
                 .thenAnswer(invocation -> Mono.just(invocation.getArgument(0)));
         
         // AlertHistoryPort mock 기본 설정 - 쿨다운 없음
-        lenient().when(alertHistoryPort.canSendAlert(anyString(), any(AlertType.class)))
-                .thenReturn(Mono.just(true));
-        lenient().when(alertHistoryPort.save(any(AlertHistory.class)))
-                .thenAnswer(invocation -> Mono.just(invocation.getArgument(0)));
+        lenient().when(alertHistoryPort.tryAcquireCooldown(any(AlertHistory.class)))
+                .thenReturn(Mono.just(CooldownClaim.granted()));
         
-        priceAlertService = new PriceAlertService(notificationClient, notificationHistoryPort, alertHistoryPort, alertProperties, fixedClock);
+        priceAlertService = new PriceAlertService(notificationClient, notificationHistoryPort, alertHistoryPort,
+                new AlertRuleEngine(alertProperties), new PriceTargetAlertService(notificationClient, priceTargetPort, collectionShardUseCase),
+                fixedClock);
     }
     
     @Test
@@ -131,6 +147,9 @@ class PriceAlertServiceTest {
                 .verifyComplete();
         
         verify(notificationClient).sendPriceAlert(stockPrice, PriceAlertType.LIMIT_UP);
+        // 상한가 규칙의 쿨다운(60분)으로 선점
+        verify(alertHistoryPort).tryAcquireCooldown(argThat(history -> history.alertType() == AlertType.LIMIT_UP
+                && Duration.between(history.alertedAt(), history.cooldownUntil()).equals(Duration.ofMinutes(60))));
     }
     
     @Test
@@ -150,6 +169,68 @@ class PriceAlertServiceTest {
         verify(notificationClient, never()).sendPriceAlert(any(), any());
     }
     
+    @Test
+    @DisplayName("실시간 체결은 basis point 등락률로 알림 유형을 판단한다")
+    void givenTickFall_whenAnalyzeAndSendAlert_thenSendsFallAlert() {
+        // given
+        Tick tick = Tick.of("005930", 66500L, 70000L, 70500L, 70500L, 66500L, 66600L, 66400L, 1500000L, 0L); // -5.00%
+        StockPrice stockPrice = tick.toStockPrice("삼성전자");
+        
+        given(notificationClient.sendPriceAlert(any(StockPrice.class), eq(PriceAlertType.FALL)))
+                .willReturn(Mono.empty());
+        
+        // when
+        Mono<Void> result = priceAlertService.analyzeAndSendAlert(tick, stockPrice);
+        
+        // then
+        StepVerifier.create(result)
+                .verifyComplete();
+        
+        verify(notificationClient).sendPriceAlert(stockPrice, PriceAlertType.FALL);
+    }
+    
+    @Test
+    @DisplayName("쿨다운을 선점하지 못하면 알림을 발송하지 않는다")
+    void givenCooldownHeld_whenAnalyzeAndSendAlert_thenSkipsAlert() {
+        // given
+        StockPrice stockPrice = createStockPriceWithChangeRate(new BigDecimal("6.5"));
+        
+        given(alertHistoryPort.tryAcquireCooldown(any(AlertHistory.class)))
+                .willReturn(Mono.just(CooldownClaim.blocked(Duration.ofMinutes(12))));
+        
+        // when
+        Mono<Void> result = priceAlertService.analyzeAndSendAlert(stockPrice);
+        
+        // then
+        StepVerifier.create(result)
+                .verifyComplete();
+        
+        verify(notificationClient, never()).sendPriceAlert(any(), any());
+        verify(notificationHistoryPort, never()).save(any());
+    }
+    
+    @Test
+    @DisplayName("발송에 실패하면 선점한 쿨다운을 해제한다")
+    void givenSendFailure_whenAnalyzeAndSendAlert_thenReleasesCooldown() {
+        // given
+        StockPrice stockPrice = createStockPriceWithChangeRate(new BigDecimal("6.5"));
+        
+        given(notificationClient.sendPriceAlert(any(StockPrice.class), eq(PriceAlertType.RISE)))
+                .willReturn(Mono.error(new RuntimeException("gRPC unavailable")));
+        given(alertHistoryPort.delete("005930", AlertType.PRICE_RISE))
+                .willReturn(Mono.just(true));
+        
+        // when
+        Mono<Void> result = priceAlertService.analyzeAndSendAlert(stockPrice);
+        
+        // then
+        StepVerifier.create(result)
+                .verifyError(RuntimeException.class);
+        
+        verify(alertHistoryPort).delete("005930", AlertType.PRICE_RISE);
+        verify(notificationHistoryPort, never()).save(any());
+    }
+    
     @Test
     @DisplayName("알림 서비스 헬스 체크 성공")
     void whenCheckNotificationServiceHealth_thenReturnsStatus() {
@@ -0,0 +1,229 @@
+package me.rgunny.marketpulse.event.unit.application.service;
+
+import me.rgunny.marketpulse.common.core.exception.BusinessException;
+import me.rgunny.marketpulse.event.marketdata.application.port.in.CollectionShardUseCase;
+import me.rgunny.marketpulse.event.marketdata.application.port.out.PriceTargetPort;
+import me.rgunny.marketpulse.event.marketdata.application.usecase.PriceTargetAlertService;
+import me.rgunny.marketpulse.event.marketdata.domain.model.PriceTarget;
+import me.rgunny.marketpulse.event.marketdata.domain.model.StockPrice;
+import me.rgunny.marketpulse.event.marketdata.domain.model.Tick;
+import me.rgunny.marketpulse.event.notification.application.port.out.NotificationClientPort;
+import me.rgunny.marketpulse.notification.grpc.NotificationServiceProto.PriceAlertType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PriceTargetAlertService 단위 테스트")
+class PriceTargetAlertServiceTest {
+
+    @Mock
+    private NotificationClientPort notificationClient;
+
+    @Mock
+    private PriceTargetPort priceTargetPort;
+
+    @Mock
+    private CollectionShardUseCase collectionShardUseCase;
+
+    private PriceTargetAlertService priceTargetAlertService;
+
+    @BeforeEach
+    void setUp() {
+        priceTargetAlertService = new PriceTargetAlertService(notificationClient, priceTargetPort, collectionShardUseCase);
+        lenient().when(priceTargetPort.save(any(PriceTarget.class)))
+                .thenAnswer(invocation -> Mono.just(invocation.getArgument(0)));
+        lenient().when(priceTargetPort.delete(anyString())).thenReturn(Mono.just(true));
+        lenient().when(collectionShardUseCase.owns(anyString())).thenReturn(true);
+    }
+
+    @Test
+    @DisplayName("목표가를 돌파하면 사용자/목표가 메타데이터로 1회 발송하고 해제한다")
+    void givenTarget_whenPriceCrosses_thenSendsOnceAndReleases() {
+        // given
+        PriceTarget target = register(80_000L);
+        given(notificationClient.sendPriceAlert(any(StockPrice.class), eq(PriceAlertType.RISE), anyMap()))
+                .willReturn(Mono.empty());
+
+        // when
+        StepVerifier.create(check(79_500L)).verifyComplete();
+        StepVerifier.create(check(80_100L)).verifyComplete();
+        StepVerifier.create(check(79_000L)).verifyComplete();
+        StepVerifier.create(check(80_500L)).verifyComplete();
+
+        // then
+        verify(notificationClient, times(1)).sendPriceAlert(any(StockPrice.class), eq(PriceAlertType.RISE),
+                argThat(metadata -> target.id().equals(metadata.get("targetId"))
+                        && "user-1".equals(metadata.get("userId"))
+                        && "80000".equals(metadata.get("targetPrice"))));
+        verify(priceTargetPort).delete(target.id());
+    }
+
+    @Test
+    @DisplayName("발송이 일시적으로 실패하면 백오프 후 재시도하여 발송한다")
+    void givenTransientSendFailure_whenPriceCrosses_thenRetriesAndSends() {
+        // given - 두 번 실패한 뒤 성공
+        register(80_000L);
+        AtomicInteger attempts = new AtomicInteger();
+        given(notificationClient.sendPriceAlert(any(StockPrice.class), eq(PriceAlertType.FALL), anyMap()))
+                .willReturn(Mono.defer(() -> attempts.incrementAndGet() <= 2
+                        ? Mono.error(new RuntimeException("notification down"))
+                        : Mono.empty()));
+        StepVerifier.create(check(80_500L)).verifyComplete();
+
+        // when & then
+        StepVerifier.withVirtualTime(() -> check(79_900L))
+                .thenAwait(Duration.ofSeconds(5))
+                .verifyComplete();
+        assertThat(attempts.get()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("재시도까지 모두 실패하면 더 시도하지 않고, 이미 돌파한 목표가를 다시 등록하지 않는다")
+    void givenPersistentSendFailure_whenPriceCrosses_thenGivesUpWithoutReRegistering() {
+        // given
+        register(80_000L);
+        AtomicInteger attempts = new AtomicInteger();
+        given(notificationClient.sendPriceAlert(any(StockPrice.class), eq(PriceAlertType.FALL), anyMap()))
+                .willReturn(Mono.defer(() -> {
+                    attempts.incrementAndGet();
+                    return Mono.error(new RuntimeException("notification down"));
+                }));
+        StepVerifier.create(check(80_500L)).verifyComplete();
+
+        // when & then - 첫 시도 + 재시도 3회
+        StepVerifier.withVirtualTime(() -> check(79_900L))
+                .thenAwait(Duration.ofSeconds(10))
+                .verifyComplete();
+        assertThat(attempts.get()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스 소유 종목의 목표가는 저장만 하고, 소유 종목이 되어 다시 읽으면 돌파를 확인한다")
+    void givenTargetOnNonOwnedSymbol_whenLoadedAfterRebalance_thenChecksCrossings() {
+        // given - 등록 시점에는 다른 인스턴스 소유
+        given(collectionShardUseCase.owns("005930")).willReturn(false);
+        PriceTarget target = register(80_000L);
+        given(notificationClient.sendPriceAlert(any(StockPrice.class), eq(PriceAlertType.RISE), anyMap()))
+                .willReturn(Mono.empty());
+        StepVerifier.create(check(79_500L)).verifyComplete();
+        StepVerifier.create(check(80_100L)).verifyComplete();
+        verify(notificationClient, never()).sendPriceAlert(any(StockPrice.class), any(PriceAlertType.class), anyMap());
+
+        // when - 재분배로 종목을 넘겨받아 저장소에서 다시 읽음
+        given(priceTargetPort.findBySymbols(List.of("005930"))).willReturn(Flux.just(target));
+        StepVerifier.create(priceTargetAlertService.loadTargets(List.of("005930")))
+                .expectNext(1)
+                .verifyComplete();
+
+        // then
+        StepVerifier.create(check(79_500L)).verifyComplete();
+        StepVerifier.create(check(80_100L)).verifyComplete();
+        verify(notificationClient, times(1)).sendPriceAlert(any(StockPrice.class), eq(PriceAlertType.RISE), anyMap());
+    }
+
+    @Test
+    @DisplayName("넘겨준 종목과 저장소에서 사라진 목표가는 다시 읽을 때 색인에서 내린다")
+    void givenTargetsGoneFromStore_whenLoadTargets_thenUnindexes() {
+        // given
+        register(80_000L);
+        given(priceTargetPort.findBySymbols(anyCollection())).willReturn(Flux.empty());
+
+        // when
+        StepVerifier.create(priceTargetAlertService.loadTargets(List.of()))
+                .expectNext(0)
+                .verifyComplete();
+
+        // then
+        StepVerifier.create(check(79_500L)).verifyComplete();
+        StepVerifier.create(check(80_100L)).verifyComplete();
+        verify(priceTargetPort, never()).delete(anyString());
+        verify(notificationClient, never()).sendPriceAlert(any(StockPrice.class), any(PriceAlertType.class), anyMap());
+    }
+
+    @Test
+    @DisplayName("저장소에서 이미 해제된 목표가는 돌파해도 발송하지 않는다")
+    void givenTargetReleasedElsewhere_whenPriceCrosses_thenDoesNotSend() {
+        // given - 다른 인스턴스에서 해제되어 저장소 삭제가 선점되지 않음
+        PriceTarget target = register(80_000L);
+        given(priceTargetPort.delete(target.id())).willReturn(Mono.just(false));
+
+        // when
+        StepVerifier.create(check(79_500L)).verifyComplete();
+        StepVerifier.create(check(80_100L)).verifyComplete();
+
+        // then
+        verify(notificationClient, never()).sendPriceAlert(any(StockPrice.class), any(PriceAlertType.class), anyMap());
+    }
+
+    @Test
+    @DisplayName("해제하면 저장소와 색인에서 모두 지운다")
+    void givenRegisteredTarget_whenCancel_thenDeletesAndUnindexes() {
+        // given
+        PriceTarget target = register(80_000L);
+        given(priceTargetPort.findById(target.id())).willReturn(Mono.just(target));
+
+        // when
+        StepVerifier.create(priceTargetAlertService.cancel(target.id()))
+                .expectNext(target)
+                .verifyComplete();
+
+        // then
+        StepVerifier.create(check(79_500L)).verifyComplete();
+        StepVerifier.create(check(80_100L)).verifyComplete();
+        verify(priceTargetPort, times(1)).delete(target.id());
+        verify(notificationClient, never()).sendPriceAlert(any(StockPrice.class), any(PriceAlertType.class), anyMap());
+    }
+
+    @Test
+    @DisplayName("요청이 올바르지 않거나 없는 알림을 해제하면 예외가 발생한다")
+    void givenInvalidRequest_whenRegisterOrCancel_thenThrows() {
+        given(priceTargetPort.findById("unknown")).willReturn(Mono.empty());
+
+        StepVerifier.create(priceTargetAlertService.register("user-1", "5930", 80_000L))
+                .expectError(BusinessException.class)
+                .verify();
+        StepVerifier.create(priceTargetAlertService.register("user-1", "005930", 0L))
+                .expectError(BusinessException.class)
+                .verify();
+        StepVerifier.create(priceTargetAlertService.register(" ", "005930", 80_000L))
+                .expectError(BusinessException.class)
+                .verify();
+        StepVerifier.create(priceTargetAlertService.cancel("unknown"))
+                .expectError(BusinessException.class)
+                .verify();
+        verify(priceTargetPort, never()).save(any(PriceTarget.class));
+    }
+
+    private PriceTarget register(long targetPrice) {
+        return priceTargetAlertService.register("user-1", "005930", targetPrice).block();
+    }
+
+    private Mono<Void> check(long price) {
+        Tick tick = Tick.of("005930", price, 78_000L, 78_000L, price, price, price, price, 1_000L, 0L);
+        return priceTargetAlertService.checkCrossings(tick, tick.toStockPrice("삼성전자"));
+    }
+}
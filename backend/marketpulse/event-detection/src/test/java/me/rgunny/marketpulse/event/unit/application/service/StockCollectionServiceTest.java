@@ -1,10 +1,25 @@
 package me.rgunny.marketpulse.event.unit.application.service;
 
+import me.rgunny.marketpulse.event.marketdata.application.port.in.CollectStockPriceUseCase;
+import me.rgunny.marketpulse.event.marketdata.application.port.in.CollectionTargetUseCase;
 import me.rgunny.marketpulse.event.marketdata.application.port.in.MarketHoursUseCase;
+import me.rgunny.marketpulse.event.marketdata.application.port.out.ClusterMembershipPort;
+import me.rgunny.marketpulse.event.marketdata.application.port.out.CollectionMetricsPort;
+import me.rgunny.marketpulse.event.marketdata.application.port.out.RealtimeQuotePort;
+import me.rgunny.marketpulse.event.marketdata.application.service.CollectionShardService;
+import me.rgunny.marketpulse.event.marketdata.application.usecase.PriceTargetAlertService;
+import me.rgunny.marketpulse.event.marketdata.application.util.AdaptiveIntervalPolicy;
+import me.rgunny.marketpulse.event.marketdata.application.util.ConsistentHashRing;
+import me.rgunny.marketpulse.event.marketdata.application.util.DeadlineCollectionQueue;
+import me.rgunny.marketpulse.event.marketdata.application.util.TokenBucketRateLimiter;
+import me.rgunny.marketpulse.event.marketdata.domain.model.CollectionRunResult;
+import me.rgunny.marketpulse.event.marketdata.domain.model.CollectionTarget;
+import me.rgunny.marketpulse.event.marketdata.domain.model.CollectionTier;
 import me.rgunny.marketpulse.event.marketdata.infrastructure.adapter.in.scheduler.StockPriceCollectionScheduler;
 import me.rgunny.marketpulse.event.marketdata.domain.model.StockPrice;
 import me.rgunny.marketpulse.event.fixture.StockPriceTestFixture;
 import me.rgunny.marketpulse.event.marketdata.infrastructure.config.shared.StockCollectionProperties;
+import me.rgunny.marketpulse.event.support.TestClockFactory;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -16,10 +31,22 @@ import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
 
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 
@@ -27,116 +54,377 @@ import static org.mockito.Mockito.verifyNoInteractions;
 @DisplayName("StockPriceCollectionScheduler 단위 테스트")
 class StockPriceCollectionSchedulerTest {
     
-//    @Mock
-//    private WatchTargetPort watchTargetPort;
+    @Mock
+    private CollectionTargetUseCase collectionTargetUseCase;
 
     @Mock
-    private me.rgunny.marketpulse.event.marketdata.application.port.in.CollectStockPriceUseCase stockPriceUseCase;
+    private CollectStockPriceUseCase stockPriceUseCase;
     
     @Mock
     private MarketHoursUseCase marketHoursUseCase;
     
-    @Mock 
-    private StockCollectionProperties properties;
+    @Mock
+    private CollectionMetricsPort collectionMetricsPort;
+    
+    @Mock
+    private ClusterMembershipPort membershipPort;
+    
+    @Mock
+    private RealtimeQuotePort realtimeQuotePort;
+    
+    @Mock
+    private PriceTargetAlertService priceTargetAlertService;
+    
+    private final StockCollectionProperties properties =
+            new StockCollectionProperties(null, null, null, null, null, null, null, null);
     
     private StockPriceCollectionScheduler stockCollectionService;
     
     @BeforeEach
     void setUp() {
-        stockCollectionService = new StockPriceCollectionScheduler(stockPriceUseCase, marketHoursUseCase, properties);
+        given(membershipPort.getInstanceId()).willReturn("instance-a");
+        lenient().when(priceTargetAlertService.loadTargets(anyCollection())).thenReturn(Mono.just(0));
+        // 테스트에서는 대기 없이 바로 토큰이 발급되도록 넉넉한 버스트 설정
+        TokenBucketRateLimiter rateLimiter = new TokenBucketRateLimiter(6000, 100);
+        stockCollectionService = createScheduler(rateLimiter);
     }
     
-//    @Nested
-//    @DisplayName("활성화된 모든 종목 수집")
-//    class CollectActiveStockPricesTests {
-//
-//        @Test
-//        @DisplayName("활성화된 종목들을 성공적으로 수집한다")
-//        void givenActiveTargets_whenCollectActiveStockPrices_thenCollectsSuccessfully() {
-//            // given
-//            StockCollectionProperties.Concurrency concurrency = new StockCollectionProperties.Concurrency(10, 5, 8);
-//            given(properties.concurrency()).willReturn(concurrency);
-//
-//            WatchTarget target1 = createWatchTarget("005930", "삼성전자", 30);
-//            WatchTarget target2 = createWatchTarget("035720", "카카오", 60);
-//            StockPrice stockPrice = StockPriceTestFixture.samsung();
-//
-//            given(watchTargetPort.findActiveTargets()).willReturn(Flux.just(target1, target2));
-//            given(stockPriceUseCase.getCurrentPriceAndSave(anyString())).willReturn(Mono.just(stockPrice));
-//
-//            // when & then
-//            StepVerifier.create(stockCollectionService.collectActiveStocksReactive())
-//                    .verifyComplete();
-//
-//            verify(watchTargetPort).findActiveTargets();
-//            verify(stockPriceUseCase).getCurrentPriceAndSave("005930");
-//            verify(stockPriceUseCase).getCurrentPriceAndSave("035720");
-//        }
-//
-//        @Test
-//        @DisplayName("수집 주기가 안된 종목은 스킵한다")
-//        void givenRecentlyCollectedTarget_whenCollectActiveStockPrices_thenSkipsRecentlyCollected() {
-//            // given - 방금 수집된 종목 (30초 주기)
-//            StockCollectionProperties.Concurrency concurrency = new StockCollectionProperties.Concurrency(10, 5, 8);
-//            given(properties.concurrency()).willReturn(concurrency);
-//
-//            WatchTarget recentTarget = createWatchTarget("005930", "삼성전자", 30);
-//
-//            // 먼저 한 번 수집하여 lastCollectionTimes에 기록
-//            given(watchTargetPort.findActiveTargets()).willReturn(Flux.just(recentTarget));
-//            given(stockPriceUseCase.getCurrentPriceAndSave("005930")).willReturn(Mono.just(StockPriceTestFixture.samsung()));
-//
-//            StepVerifier.create(stockCollectionService.collectActiveStocksReactive()).verifyComplete();
-//
-//            // when - 즉시 다시 수집 시도 (30초가 지나지 않음)
-//            StepVerifier.create(stockCollectionService.collectActiveStocksReactive())
-//                    .verifyComplete();
-//
-//            // then - 두 번째 호출에서는 수집하지 않음 (이미 최근에 수집됨)
-//            verify(stockPriceUseCase).getCurrentPriceAndSave("005930"); // 첫 번째만 호출됨
-//        }
-//
-//        @Test
-//        @DisplayName("일부 종목 수집 실패해도 다른 종목은 계속 수집한다")
-//        void givenFailingTarget_whenCollectActiveStockPrices_thenContinuesWithOthers() {
-//            // given
-//            StockCollectionProperties.Concurrency concurrency = new StockCollectionProperties.Concurrency(10, 5, 8);
-//            given(properties.concurrency()).willReturn(concurrency);
-//
-//            WatchTarget target1 = createWatchTarget("005930", "삼성전자", 30);
-//            WatchTarget target2 = createWatchTarget("035720", "카카오", 60);
-//
-//            given(watchTargetPort.findActiveTargets()).willReturn(Flux.just(target1, target2));
-//            given(stockPriceUseCase.getCurrentPriceAndSave("005930"))
-//                    .willReturn(Mono.error(new RuntimeException("API 호출 실패")));
-//            given(stockPriceUseCase.getCurrentPriceAndSave("035720"))
-//                    .willReturn(Mono.just(StockPriceTestFixture.kakao()));
-//
-//            // when & then
-//            StepVerifier.create(stockCollectionService.collectActiveStocksReactive())
-//                    .verifyComplete();
-//
-//            verify(stockPriceUseCase).getCurrentPriceAndSave("005930");
-//            verify(stockPriceUseCase).getCurrentPriceAndSave("035720");
-//        }
-//
-//        @Test
-//        @DisplayName("활성화된 종목이 없으면 아무것도 수집하지 않는다")
-//        void givenNoActiveTargets_whenCollectActiveStockPrices_thenDoesNothing() {
-//            // given
-//            StockCollectionProperties.Concurrency concurrency = new StockCollectionProperties.Concurrency(10, 5, 8);
-//            given(properties.concurrency()).willReturn(concurrency);
-//
-//            given(watchTargetPort.findActiveTargets()).willReturn(Flux.empty());
-//
-//            // when & then
-//            StepVerifier.create(stockCollectionService.collectActiveStocksReactive())
-//                    .verifyComplete();
-//
-//            verify(watchTargetPort).findActiveTargets();
-//            verifyNoInteractions(stockPriceUseCase);
-//        }
-//    }
+    @Nested
+    @DisplayName("마감 도래 종목 수집")
+    class CollectDueStockPricesTests {
+
+        @Test
+        @DisplayName("등록된 종목들을 성공적으로 수집한다")
+        void givenTargets_whenCollectDueStocks_thenCollectsSuccessfully() {
+            // given
+            StockPrice stockPrice = StockPriceTestFixture.samsung();
+            givenTargets(normal("005930"), normal("035720"));
+            given(stockPriceUseCase.collectCurrentPrice(anyString())).willReturn(Mono.just(stockPrice));
+
+            // when & then
+            StepVerifier.create(stockCollectionService.collectDueStocksReactive())
+                    .assertNext(result -> {
+                        assertThat(result.totalCount()).isEqualTo(2);
+                        assertThat(result.successCount()).isEqualTo(2);
+                        assertThat(result.errorCount()).isZero();
+                    })
+                    .verifyComplete();
+
+            verify(stockPriceUseCase).collectCurrentPrice("005930");
+            verify(stockPriceUseCase).collectCurrentPrice("035720");
+            verify(collectionMetricsPort, times(2)).recordDispatch(eq(CollectionTier.NORMAL), eq(0L));
+            verify(collectionMetricsPort).recordRun(any(CollectionRunResult.class));
+        }
+
+        @Test
+        @DisplayName("일부 종목 수집 실패해도 다른 종목은 계속 수집한다")
+        void givenFailingStock_whenCollectDueStocks_thenContinuesWithOthers() {
+            // given
+            givenTargets(normal("005930"), normal("035720"));
+            given(stockPriceUseCase.collectCurrentPrice("005930"))
+                    .willReturn(Mono.error(new RuntimeException("API 호출 실패")));
+            given(stockPriceUseCase.collectCurrentPrice("035720"))
+                    .willReturn(Mono.just(StockPriceTestFixture.kakao()));
+
+            // when & then
+            StepVerifier.create(stockCollectionService.collectDueStocksReactive())
+                    .assertNext(result -> {
+                        assertThat(result.successCount()).isEqualTo(1);
+                        assertThat(result.errorCount()).isEqualTo(1);
+                        assertThat(result.getErrorRate()).isEqualTo(50.0);
+                    })
+                    .verifyComplete();
+
+            verify(stockPriceUseCase).collectCurrentPrice("005930");
+            verify(stockPriceUseCase).collectCurrentPrice("035720");
+        }
+
+        @Test
+        @DisplayName("이번 주기에 이미 수집한 종목은 다음 마감 전까지 다시 수집하지 않는다")
+        void givenCollectedTargets_whenCollectAgainBeforeDeadline_thenDoesNothing() {
+            // given
+            givenTargets(normal("005930"));
+            given(stockPriceUseCase.collectCurrentPrice("005930"))
+                    .willReturn(Mono.just(StockPriceTestFixture.samsung()));
+            stockCollectionService.collectDueStocksReactive().block();
+
+            // when & then
+            StepVerifier.create(stockCollectionService.collectDueStocksReactive())
+                    .verifyComplete();
+
+            verify(stockPriceUseCase, times(1)).collectCurrentPrice("005930");
+        }
+
+        @Test
+        @DisplayName("수집 대상이 없으면 아무것도 수집하지 않는다")
+        void givenNoTargets_whenCollectDueStocks_thenDoesNothing() {
+            // given
+            givenTargets();
+
+            // when & then
+            StepVerifier.create(stockCollectionService.collectDueStocksReactive())
+                    .verifyComplete();
+
+            verifyNoInteractions(stockPriceUseCase);
+        }
+
+        @Test
+        @DisplayName("등급이 섞여 있어도 모든 등급을 수집하고 등급별로 기록한다")
+        void givenMixedTiers_whenCollectDueStocks_thenCollectsAllTiers() {
+            // given
+            givenTargets(
+                    CollectionTarget.of("005930", CollectionTier.CORE, Duration.ofMinutes(1)),
+                    CollectionTarget.of("000660", CollectionTier.HIGH, Duration.ofSeconds(15)),
+                    normal("035720"));
+            given(stockPriceUseCase.collectCurrentPrice(anyString()))
+                    .willReturn(Mono.just(StockPriceTestFixture.samsung()));
+
+            // when & then
+            StepVerifier.create(stockCollectionService.collectDueStocksReactive())
+                    .assertNext(result -> assertThat(result.successCount()).isEqualTo(3))
+                    .verifyComplete();
+
+            verify(collectionMetricsPort).recordDispatch(CollectionTier.CORE, 0L);
+            verify(collectionMetricsPort).recordDispatch(CollectionTier.HIGH, 0L);
+            verify(collectionMetricsPort).recordDispatch(CollectionTier.NORMAL, 0L);
+            verify(collectionMetricsPort).recordTargets(CollectionTier.CORE, 1);
+            verify(realtimeQuotePort).updateSubscriptions(List.of("005930", "000660", "035720"));
+        }
+    }
+
+    @Nested
+    @DisplayName("수집 속도 제한")
+    class RateLimitTests {
+
+        @Test
+        @DisplayName("이전 수집이 진행 중이면 새 수집을 시작하지 않는다")
+        void givenRunningCollection_whenCollectAgain_thenSkips() {
+            // given - 동시 처리 한도(10)보다 많은 종목이 끝나지 않는 수집에 묶여 일부는 대기 중
+            CollectionTarget[] targets = new CollectionTarget[12];
+            for (int i = 0; i < targets.length; i++) {
+                targets[i] = normal(String.format("%06d", i + 1));
+            }
+            givenTargets(targets);
+            given(stockPriceUseCase.collectCurrentPrice(anyString())).willReturn(Mono.never());
+
+            stockCollectionService.collectDueStocksReactive().subscribe();
+
+            // when & then
+            StepVerifier.create(stockCollectionService.collectDueStocksReactive())
+                    .verifyComplete();
+
+            verify(stockPriceUseCase, times(10)).collectCurrentPrice(anyString());
+        }
+
+        @Test
+        @DisplayName("버스트를 넘는 요청은 토큰 간격만큼 지연된다")
+        void givenBurstExceeded_whenCollect_thenPacesCalls() {
+            // given - 분당 60회(1초 간격), 버스트 1
+            StockPriceCollectionScheduler pacedScheduler = createScheduler(new TokenBucketRateLimiter(60, 1));
+
+            given(collectionTargetUseCase.resolveTargets()).willReturn(Flux.just(normal("005930"), normal("035720")));
+            given(stockPriceUseCase.collectCurrentPrice(anyString()))
+                    .willReturn(Mono.just(StockPriceTestFixture.samsung()));
+            pacedScheduler.refreshTargetsReactive().block();
+
+            // when & then
+            StepVerifier.withVirtualTime(pacedScheduler::collectDueStocksReactive)
+                    .thenAwait(Duration.ofSeconds(2))
+                    .assertNext(result -> {
+                        assertThat(result.successCount()).isEqualTo(2);
+                        assertThat(result.pacingWait()).isPositive();
+                    })
+                    .verifyComplete();
+        }
+    }
+
+    @Nested
+    @DisplayName("여러 종목 일괄 수집")
+    class BatchTests {
+
+        @Test
+        @DisplayName("여러 종목 조회를 지원하면 마감 도래 종목을 묶어 한 번에 수집한다")
+        void givenBatchSupported_whenCollectDueStocks_thenCollectsInOneCall() {
+            // given
+            given(stockPriceUseCase.maxBatchSize()).willReturn(30);
+            givenTargets(normal("005930"), normal("035720"), normal("000660"));
+            given(stockPriceUseCase.collectCurrentPrices(anyCollection()))
+                    .willReturn(Flux.just(StockPriceTestFixture.samsung(), StockPriceTestFixture.kakao()));
+
+            // when & then - 응답에 없는 종목은 실패로 집계
+            StepVerifier.create(stockCollectionService.collectDueStocksReactive())
+                    .assertNext(result -> {
+                        assertThat(result.totalCount()).isEqualTo(3);
+                        assertThat(result.successCount()).isEqualTo(2);
+                        assertThat(result.errorCount()).isEqualTo(1);
+                    })
+                    .verifyComplete();
+
+            verify(stockPriceUseCase).collectCurrentPrices(argThat(symbols ->
+                    symbols.size() == 3 && symbols.containsAll(List.of("005930", "035720", "000660"))));
+            verify(stockPriceUseCase, never()).collectCurrentPrice(anyString());
+            verify(collectionMetricsPort).recordBatch(3);
+            verify(collectionMetricsPort, times(3)).recordDispatch(CollectionTier.NORMAL, 0L);
+        }
+
+        @Test
+        @DisplayName("묶음 1개는 속도 제한 토큰 1개만 사용한다")
+        void givenBurstOfOne_whenCollectBatch_thenNoPacingWait() {
+            // given - 분당 60회(1초 간격), 버스트 1
+            StockPriceCollectionScheduler pacedScheduler = createScheduler(new TokenBucketRateLimiter(60, 1));
+            given(stockPriceUseCase.maxBatchSize()).willReturn(30);
+            given(collectionTargetUseCase.resolveTargets()).willReturn(Flux.just(normal("005930"), normal("035720")));
+            given(stockPriceUseCase.collectCurrentPrices(anyCollection()))
+                    .willReturn(Flux.just(StockPriceTestFixture.samsung(), StockPriceTestFixture.kakao()));
+            pacedScheduler.refreshTargetsReactive().block();
+
+            // when & then
+            StepVerifier.create(pacedScheduler.collectDueStocksReactive())
+                    .assertNext(result -> {
+                        assertThat(result.successCount()).isEqualTo(2);
+                        assertThat(result.pacingWait()).isZero();
+                    })
+                    .verifyComplete();
+        }
+
+        @Test
+        @DisplayName("묶음 수집이 실패하면 묶음 전체를 실패로 집계하고 다음 주기에 다시 수집한다")
+        void givenBatchFailure_whenCollectDueStocks_thenCountsAllAsErrors() {
+            // given
+            given(stockPriceUseCase.maxBatchSize()).willReturn(30);
+            givenTargets(normal("005930"), normal("035720"));
+            given(stockPriceUseCase.collectCurrentPrices(anyCollection()))
+                    .willReturn(Flux.error(new RuntimeException("API 호출 실패")));
+
+            // when & then
+            StepVerifier.create(stockCollectionService.collectDueStocksReactive())
+                    .assertNext(result -> {
+                        assertThat(result.successCount()).isZero();
+                        assertThat(result.errorCount()).isEqualTo(2);
+                    })
+                    .verifyComplete();
+        }
+    }
+
+    @Nested
+    @DisplayName("실시간 수신 종목")
+    class StreamingTests {
+
+        @Test
+        @DisplayName("실시간으로 수신 중인 종목은 폴링하지 않고 토큰도 쓰지 않는다")
+        void givenStreamedSymbol_whenCollectDueStocks_thenPollsOnlyOthers() {
+            // given - 분당 60회(1초 간격), 버스트 1
+            StockPriceCollectionScheduler pacedScheduler = createScheduler(new TokenBucketRateLimiter(60, 1));
+            given(collectionTargetUseCase.resolveTargets()).willReturn(Flux.just(normal("005930"), normal("035720")));
+            given(realtimeQuotePort.isStreaming(anyString())).willAnswer(invocation -> "005930".equals(invocation.getArgument(0)));
+            given(stockPriceUseCase.collectCurrentPrice("035720")).willReturn(Mono.just(StockPriceTestFixture.kakao()));
+            pacedScheduler.refreshTargetsReactive().block();
+
+            // when & then
+            StepVerifier.create(pacedScheduler.collectDueStocksReactive())
+                    .assertNext(result -> {
+                        assertThat(result.totalCount()).isEqualTo(1);
+                        assertThat(result.successCount()).isEqualTo(1);
+                        assertThat(result.pacingWait()).isZero();
+                    })
+                    .verifyComplete();
+
+            verify(stockPriceUseCase, never()).collectCurrentPrice("005930");
+        }
+
+        @Test
+        @DisplayName("수집 대상이 모두 실시간으로 수신 중이면 아무것도 수집하지 않는다")
+        void givenAllStreamed_whenCollectDueStocks_thenDoesNothing() {
+            // given
+            givenTargets(normal("005930"), normal("035720"));
+            given(realtimeQuotePort.isStreaming(anyString())).willReturn(true);
+
+            // when & then
+            StepVerifier.create(stockCollectionService.collectDueStocksReactive())
+                    .verifyComplete();
+
+            verifyNoInteractions(stockPriceUseCase);
+        }
+    }
+
+    @Nested
+    @DisplayName("인스턴스 간 종목 분할")
+    class ShardingTests {
+
+        private final StockCollectionProperties shardedProperties = new StockCollectionProperties(
+                null, null, null, null, null, null, null,
+                new StockCollectionProperties.Sharding(true, Duration.ofSeconds(10), Duration.ofSeconds(3), 128));
+
+        @Test
+        @DisplayName("다른 인스턴스가 있으면 소유한 종목만 수집하고, 그 인스턴스가 빠지면 나머지 종목도 인계받는다")
+        void givenTwoInstances_whenCollect_thenCollectsOnlyOwnedAndTakesOverOnLeave() {
+            // given
+            TokenBucketRateLimiter rateLimiter = new TokenBucketRateLimiter(6000, 100);
+            StockPriceCollectionScheduler shardedScheduler = createScheduler(rateLimiter, shardedProperties);
+            List<String> symbols = List.of("005930", "000660", "035720", "051910");
+            ConsistentHashRing ring = ConsistentHashRing.of(Set.of("instance-a", "instance-b"), 128);
+            List<String> owned = symbols.stream().filter(symbol -> ring.isOwnedBy(symbol, "instance-a")).toList();
+
+            given(membershipPort.heartbeat(Duration.ofSeconds(10))).willReturn(Mono.just(true));
+            given(membershipPort.findActiveMembers())
+                    .willReturn(Mono.just(Set.of("instance-a", "instance-b")))
+                    .willReturn(Mono.just(Set.of("instance-a")));
+            given(collectionTargetUseCase.resolveTargets())
+                    .willReturn(Flux.fromIterable(symbols).map(StockPriceCollectionSchedulerTest.this::normal));
+            given(stockPriceUseCase.collectCurrentPrice(anyString()))
+                    .willReturn(Mono.just(StockPriceTestFixture.samsung()));
+
+            StepVerifier.create(shardedScheduler.refreshShardReactive()).expectNext(0).verifyComplete();
+            StepVerifier.create(shardedScheduler.refreshTargetsReactive()).expectNext(owned.size()).verifyComplete();
+            // 외부 API 허용량은 두 인스턴스가 나눠 씀
+            assertThat(rateLimiter.getPermitsPerMinute()).isEqualTo(3000);
+            assertThat(rateLimiter.getBurstCapacity()).isEqualTo(50);
+
+            // when & then - 소유 종목만 수집
+            StepVerifier.create(shardedScheduler.collectDueStocksReactive())
+                    .assertNext(result -> assertThat(result.successCount()).isEqualTo(owned.size()))
+                    .verifyComplete();
+            symbols.stream()
+                    .filter(symbol -> !owned.contains(symbol))
+                    .forEach(symbol -> verify(stockPriceUseCase, never()).collectCurrentPrice(symbol));
+
+            // when & then - 다른 인스턴스가 빠지면 대상을 다시 조회하지 않고 전체 종목을 인계
+            StepVerifier.create(shardedScheduler.refreshShardReactive()).expectNext(symbols.size()).verifyComplete();
+            verify(collectionTargetUseCase, times(1)).resolveTargets();
+            verify(collectionMetricsPort).recordShardOwnership(1, symbols.size());
+            assertThat(rateLimiter.getPermitsPerMinute()).isEqualTo(6000);
+            verify(realtimeQuotePort).updateSubscriptions(symbols.stream().sorted().toList());
+            // 소유 종목이 바뀔 때마다 그 종목의 목표가 알림을 다시 읽음
+            verify(priceTargetAlertService, atLeastOnce()).loadTargets(owned);
+            verify(priceTargetAlertService, atLeastOnce()).loadTargets(symbols);
+        }
+    }
+
+    private StockPriceCollectionScheduler createScheduler(TokenBucketRateLimiter rateLimiter) {
+        return createScheduler(rateLimiter, properties);
+    }
+
+    private StockPriceCollectionScheduler createScheduler(TokenBucketRateLimiter rateLimiter,
+                                                          StockCollectionProperties properties) {
+        return new StockPriceCollectionScheduler(
+                stockPriceUseCase, marketHoursUseCase, collectionTargetUseCase,
+                new CollectionShardService(membershipPort, properties), realtimeQuotePort, priceTargetAlertService, rateLimiter,
+                new DeadlineCollectionQueue(Duration.ofMillis(100), 64, false),
+                new AdaptiveIntervalPolicy(properties.adaptive(), List.of(), rateLimiter.getPermitsPerMinute()),
+                collectionMetricsPort, properties, TestClockFactory.marketMiddle());
+    }
+
+    private void givenTargets(CollectionTarget... targets) {
+        given(collectionTargetUseCase.resolveTargets()).willReturn(Flux.just(targets));
+        StepVerifier.create(stockCollectionService.refreshTargetsReactive())
+                .expectNext(targets.length)
+                .verifyComplete();
+    }
+
+    private CollectionTarget normal(String symbol) {
+        return CollectionTarget.of(symbol, CollectionTier.NORMAL, Duration.ofSeconds(30));
+    }
+
 //
 //    @Nested
 //    @DisplayName("높은 우선순위 종목 수집")
@@ -5,6 +5,7 @@ import me.rgunny.marketpulse.event.marketdata.application.port.out.SyncConfigPor
 import me.rgunny.marketpulse.event.marketdata.application.port.out.SyncLockPort;
 import me.rgunny.marketpulse.event.marketdata.application.port.out.shared.StockPort;
 import me.rgunny.marketpulse.event.marketdata.application.service.StockMasterSyncService;
+import me.rgunny.marketpulse.event.marketdata.application.service.SymbolRegistry;
 import me.rgunny.marketpulse.event.marketdata.domain.model.MarketType;
 import me.rgunny.marketpulse.event.marketdata.domain.model.Stock;
 import me.rgunny.marketpulse.event.marketdata.domain.model.SyncMode;
@@ -47,15 +48,19 @@ class StockMasterSyncServiceTest {
     @Mock
     private SyncConfigPort syncConfigPort;
     
+    private SymbolRegistry symbolRegistry;
+    
     private StockMasterSyncService service;
     
     @BeforeEach
     void setUp() {
+        symbolRegistry = new SymbolRegistry(stockPort);
         service = new StockMasterSyncService(
                 stockMasterPort,
                 stockPort,
                 syncLockPort,
-                syncConfigPort
+                syncConfigPort,
+                symbolRegistry
         );
     }
     
@@ -163,6 +168,9 @@ class StockMasterSyncServiceTest {
         
         // deleteAll이 호출되지 않음
         then(stockPort).should(times(0)).deleteAll();
+        
+        // 저장된 종목이 레지스트리에 반영됨
+        assertThat(symbolRegistry.find("005930").name()).isEqualTo("삼성전자");
     }
     
     @Test
@@ -1,28 +1,46 @@
 package me.rgunny.marketpulse.event.unit.application.service;
 
 import me.rgunny.marketpulse.event.marketdata.application.port.out.ExternalApiPort;
+import me.rgunny.marketpulse.event.marketdata.application.port.out.PriceLookupMetricsPort;
+import me.rgunny.marketpulse.event.marketdata.application.port.out.StockQuotePort;
 import me.rgunny.marketpulse.event.marketdata.application.port.out.shared.MarketDataCachePort;
 import me.rgunny.marketpulse.event.marketdata.application.usecase.GetStockPriceService;
 import me.rgunny.marketpulse.event.marketdata.application.usecase.PriceAlertService;
+import me.rgunny.marketpulse.event.marketdata.application.util.RefreshAheadPolicy;
+import me.rgunny.marketpulse.event.marketdata.application.util.TokenBucketRateLimiter;
+import me.rgunny.marketpulse.event.marketdata.domain.error.StockPriceErrorCode;
+import me.rgunny.marketpulse.event.marketdata.domain.exception.kis.KisApiException;
+import me.rgunny.marketpulse.event.marketdata.domain.model.RealtimeQuote;
 import me.rgunny.marketpulse.event.marketdata.domain.model.StockPrice;
+import me.rgunny.marketpulse.event.marketdata.domain.model.Tick;
 import me.rgunny.marketpulse.event.marketdata.application.port.out.shared.MarketDataRepositoryPort;
+import me.rgunny.marketpulse.event.marketdata.infrastructure.config.shared.MarketDataCacheProperties;
 import me.rgunny.marketpulse.event.shared.domain.value.MarketDataType;
+import me.rgunny.marketpulse.event.support.TestClockFactory;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
 import reactor.test.StepVerifier;
 
 import java.math.BigDecimal;
+import java.time.Clock;
 import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
@@ -32,6 +50,9 @@ class StockPriceServiceTest {
     @Mock
     private ExternalApiPort externalApiPort;
     
+    @Mock
+    private StockQuotePort stockQuotePort;
+    
     @Mock
     private MarketDataCachePort marketDataCachePort;
     
@@ -41,11 +62,22 @@ class StockPriceServiceTest {
     @Mock
     private PriceAlertService priceAlertService;
     
+    @Mock
+    private PriceLookupMetricsPort lookupMetricsPort;
+    
+    private static final MarketDataCacheProperties.RefreshAhead REFRESH_AHEAD =
+            new MarketDataCacheProperties.RefreshAhead(true, Duration.ofSeconds(30), Duration.ofMinutes(1), 60, 5);
+    
     private GetStockPriceService getStockPriceService;
     
     @BeforeEach
     void setUp() {
-        getStockPriceService = new GetStockPriceService(externalApiPort, marketDataCachePort, marketDataRepositoryPort, priceAlertService);
+        Clock clock = TestClockFactory.marketMiddle();
+        getStockPriceService = new GetStockPriceService(externalApiPort, stockQuotePort, marketDataCachePort, marketDataRepositoryPort,
+                priceAlertService, lookupMetricsPort, new RefreshAheadPolicy(REFRESH_AHEAD, clock),
+                new TokenBucketRateLimiter(6000, 100), clock);
+        // KIS 관심종목 시세 1회 조회 상한
+        lenient().when(externalApiPort.getMaxBatchSize()).thenReturn(30);
         
         // 서비스와 의존성 null 체크
         assertThat(externalApiPort).isNotNull();
@@ -162,6 +194,147 @@ class StockPriceServiceTest {
         verify(priceAlertService).analyzeAndSendAlert(savedPrice);
     }
     
+    @Test
+    @DisplayName("수집 주기가 되면 캐시에 값이 있어도 API 에서 새로 조회해 저장한다")
+    void givenCachedPrice_whenCollectCurrentPrice_thenFetchesFromApi() {
+        // given
+        String symbol = "005930";
+        RealtimeQuote quote = createSampleQuote(symbol);
+        StockPrice savedPrice = createSampleStockPrice(symbol);
+        ArgumentCaptor<StockPrice> cached = ArgumentCaptor.forClass(StockPrice.class);
+        
+        lenient().when(marketDataCachePort.getStockPrice(symbol))
+                .thenReturn(Mono.just(createSampleStockPrice(symbol)));
+        given(stockQuotePort.fetchQuote(symbol))
+                .willReturn(Mono.just(quote));
+        given(marketDataCachePort.saveStockPrice(cached.capture(), any(Duration.class)))
+                .willReturn(Mono.empty());
+        given(marketDataRepositoryPort.save(any(StockPrice.class)))
+                .willReturn(Mono.just(savedPrice));
+        given(priceAlertService.analyzeAndSendAlert(quote.tick(), savedPrice))
+                .willReturn(Mono.empty());
+        
+        // when
+        Mono<StockPrice> result = getStockPriceService.collectCurrentPrice(symbol);
+        
+        // then
+        StepVerifier.create(result)
+                .expectNext(savedPrice)
+                .verifyComplete();
+        
+        verify(stockQuotePort).fetchQuote(symbol);
+        verify(marketDataCachePort, never()).getStockPrice(symbol);
+        assertThat(cached.getValue().getCurrentPrice()).isEqualByComparingTo("71000");
+        verify(marketDataRepositoryPort).save(cached.getValue());
+        verify(externalApiPort, never()).fetchMarketData(anyString(), any(), any());
+    }
+    
+    @Test
+    @DisplayName("여러 종목을 수집하면 캐시를 거치지 않고 한 번에 API 호출해 저장한다")
+    void givenSymbols_whenCollectCurrentPrices_thenFetchesAllInOneBatch() {
+        // given
+        given(stockQuotePort.fetchQuotes(List.of("005930", "000660", "035720")))
+                .willReturn(Flux.just(createSampleQuote("005930"), createSampleQuote("000660"), createSampleQuote("035720")));
+        given(marketDataCachePort.saveStockPrice(any(StockPrice.class), any(Duration.class)))
+                .willReturn(Mono.empty());
+        given(marketDataRepositoryPort.save(any(StockPrice.class)))
+                .willAnswer(invocation -> Mono.just(invocation.getArgument(0)));
+        given(priceAlertService.analyzeAndSendAlert(any(Tick.class), any(StockPrice.class)))
+                .willReturn(Mono.empty());
+        
+        // when
+        Flux<StockPrice> result = getStockPriceService.collectCurrentPrices(List.of("005930", "000660", "035720", "005930"));
+        
+        // then
+        StepVerifier.create(result.map(StockPrice::getSymbol).collectList())
+                .assertNext(symbols -> assertThat(symbols).containsExactlyInAnyOrder("005930", "000660", "035720"))
+                .verifyComplete();
+        
+        verify(marketDataCachePort, never()).getStockPrices(anyCollection());
+        verify(stockQuotePort, never()).fetchQuote(anyString());
+        verify(externalApiPort, never()).fetchMarketDataBatch(anyCollection(), any(), any());
+        verify(marketDataCachePort, times(3)).saveStockPrice(any(StockPrice.class), any(Duration.class));
+        verify(priceAlertService, times(3)).analyzeAndSendAlert(any(Tick.class), any(StockPrice.class));
+        verify(priceAlertService, never()).analyzeAndSendAlert(any(StockPrice.class));
+    }
+    
+    @Test
+    @DisplayName("여러 종목 일괄 조회 시 캐시 값을 먼저 내보내고 캐시에 없는 종목만 한 번에 API 호출한다")
+    void givenPartiallyCached_whenGetCurrentPrices_thenEmitsCachedFirstAndFetchesMissingInOneBatch() {
+        // given
+        StockPrice cachedPrice = createSampleStockPrice("005930");
+        StockPrice fetchedHynix = createSampleStockPrice("000660");
+        
+        given(marketDataCachePort.getStockPrices(List.of("005930", "000660")))
+                .willReturn(Flux.just(cachedPrice));
+        given(externalApiPort.fetchMarketDataBatch(List.of("000660"), MarketDataType.STOCK, StockPrice.class))
+                .willReturn(Flux.just(fetchedHynix));
+        given(marketDataCachePort.saveStockPrice(any(StockPrice.class), any(Duration.class)))
+                .willReturn(Mono.empty());
+        
+        // when
+        Flux<StockPrice> result = getStockPriceService.getCurrentPrices(List.of("005930", "000660", "005930"));
+        
+        // then
+        StepVerifier.create(result.map(StockPrice::getSymbol))
+                .expectNext("005930", "000660")
+                .verifyComplete();
+        
+        verify(marketDataCachePort).saveStockPrice(eq(fetchedHynix), any(Duration.class));
+        verify(marketDataRepositoryPort, never()).save(any(StockPrice.class));
+    }
+    
+    @Test
+    @DisplayName("일괄 조회 중 API 호출이 실패해도 캐시 값은 응답한다")
+    void givenBatchApiFailure_whenGetCurrentPrices_thenStillEmitsCachedPrices() {
+        // given
+        StockPrice cachedPrice = createSampleStockPrice("005930");
+        
+        given(marketDataCachePort.getStockPrices(List.of("005930", "000660")))
+                .willReturn(Flux.just(cachedPrice));
+        given(externalApiPort.fetchMarketDataBatch(List.of("000660"), MarketDataType.STOCK, StockPrice.class))
+                .willReturn(Flux.error(new RuntimeException("KIS API 호출 실패")));
+        
+        // when
+        Flux<StockPrice> result = getStockPriceService.getCurrentPrices(List.of("005930", "000660"));
+        
+        // then
+        StepVerifier.create(result)
+                .expectNext(cachedPrice)
+                .verifyComplete();
+    }
+    
+    @Test
+    @DisplayName("실시간 수신 체결은 API 호출 없이 시세로 변환해 캐시/MongoDB 에 저장하고 알림을 분석한다")
+    void givenStreamedTick_whenIngestTick_thenSavesAndAnalyzesWithoutApiCall() {
+        // given
+        Tick tick = Tick.of("005930", 71000L, 70000L, 70500L, 71500L, 70000L, 71100L, 71000L, 1000L, 0L);
+        StockPrice savedPrice = createSampleStockPrice("005930");
+        ArgumentCaptor<StockPrice> cached = ArgumentCaptor.forClass(StockPrice.class);
+        
+        given(marketDataCachePort.saveStockPrice(cached.capture(), any(Duration.class)))
+                .willReturn(Mono.empty());
+        given(marketDataRepositoryPort.save(any(StockPrice.class)))
+                .willReturn(Mono.just(savedPrice));
+        given(priceAlertService.analyzeAndSendAlert(tick, savedPrice))
+                .willReturn(Mono.empty());
+        
+        // when
+        Mono<StockPrice> result = getStockPriceService.ingestTick(tick, "삼성전자");
+        
+        // then
+        StepVerifier.create(result)
+                .expectNext(savedPrice)
+                .verifyComplete();
+        
+        assertThat(cached.getValue().getName()).isEqualTo("삼성전자");
+        assertThat(cached.getValue().getCurrentPrice()).isEqualByComparingTo("71000");
+        assertThat(cached.getValue().getChangeRate()).isEqualByComparingTo("1.43");
+        verify(marketDataRepositoryPort).save(cached.getValue());
+        verify(priceAlertService).analyzeAndSendAlert(tick, savedPrice);
+        verify(externalApiPort, never()).fetchMarketData(anyString(), any(), any());
+    }
+    
     @Test
     @DisplayName("API 호출 실패 시 에러가 전파된다")
     void givenApiFailure_whenGetCurrentPrice_thenPropagatesError() {
@@ -209,6 +382,362 @@ class StockPriceServiceTest {
                 .verify();
     }
     
+    @Test
+    @DisplayName("같은 종목 캐시 미스가 동시에 들어오면 외부 API 호출 1회를 공유한다")
+    void givenConcurrentMisses_whenGetCurrentPrice_thenSharesOneApiCall() {
+        // given
+        String symbol = "005930";
+        StockPrice apiPrice = createSampleStockPrice(symbol);
+        Sinks.One<StockPrice> upstream = Sinks.one();
+        
+        given(marketDataCachePort.getStockPrice(symbol))
+                .willReturn(Mono.empty());
+        given(externalApiPort.fetchMarketData(symbol, MarketDataType.STOCK, StockPrice.class))
+                .willReturn(upstream.asMono());
+        given(marketDataCachePort.saveStockPrice(eq(apiPrice), any(Duration.class)))
+                .willReturn(Mono.empty());
+        
+        // when
+        List<StockPrice> received = new CopyOnWriteArrayList<>();
+        getStockPriceService.getCurrentPrice(symbol).subscribe(received::add);
+        getStockPriceService.getCurrentPrice(symbol).subscribe(received::add);
+        upstream.tryEmitValue(apiPrice);
+        
+        // then
+        assertThat(received).containsExactly(apiPrice, apiPrice);
+        verify(externalApiPort, times(1)).fetchMarketData(symbol, MarketDataType.STOCK, StockPrice.class);
+        verify(marketDataCachePort, times(1)).saveStockPrice(eq(apiPrice), any(Duration.class));
+        verify(lookupMetricsPort, times(1)).recordUpstreamCall();
+        verify(lookupMetricsPort, times(1)).recordCoalescedCall();
+    }
+    
+    @Test
+    @DisplayName("호출이 끝난 뒤의 캐시 미스는 다시 외부 API 를 호출한다")
+    void givenCompletedCall_whenMissAgain_thenCallsApiAgain() {
+        // given
+        String symbol = "005930";
+        StockPrice apiPrice = createSampleStockPrice(symbol);
+        
+        given(marketDataCachePort.getStockPrice(symbol))
+                .willReturn(Mono.empty());
+        given(externalApiPort.fetchMarketData(symbol, MarketDataType.STOCK, StockPrice.class))
+                .willReturn(Mono.just(apiPrice));
+        given(marketDataCachePort.saveStockPrice(eq(apiPrice), any(Duration.class)))
+                .willReturn(Mono.empty());
+        
+        // when
+        getStockPriceService.getCurrentPrice(symbol).block();
+        getStockPriceService.getCurrentPrice(symbol).block();
+        
+        // then
+        verify(externalApiPort, times(2)).fetchMarketData(symbol, MarketDataType.STOCK, StockPrice.class);
+        verify(lookupMetricsPort, never()).recordCoalescedCall();
+    }
+    
+    @Test
+    @DisplayName("KIS 가 거부한 종목은 잠시 외부 API 를 다시 호출하지 않는다")
+    void givenRejectedSymbol_whenGetCurrentPriceAgain_thenServedFromNegativeCache() {
+        // given
+        String symbol = "999999";
+        
+        given(marketDataCachePort.getStockPrice(symbol))
+                .willReturn(Mono.empty());
+        given(externalApiPort.fetchMarketData(symbol, MarketDataType.STOCK, StockPrice.class))
+                .willReturn(Mono.error(new KisApiException(symbol)));
+        
+        // when & then
+        StepVerifier.create(getStockPriceService.getCurrentPrice(symbol))
+                .expectError(KisApiException.class)
+                .verify();
+        StepVerifier.create(getStockPriceService.getCurrentPrice(symbol))
+                .expectError(KisApiException.class)
+                .verify();
+        
+        verify(externalApiPort, times(1)).fetchMarketData(symbol, MarketDataType.STOCK, StockPrice.class);
+        verify(lookupMetricsPort).recordNegativeCacheHit();
+    }
+    
+    @Test
+    @DisplayName("KIS 가 종목코드 오류로 묶음을 거부하면 종목별로 다시 조회하고, 단건으로도 거부된 종목만 부정 캐시에 남긴다")
+    void givenRejectedBatch_whenCollectCurrentPrices_thenRetriesEachAndCachesOnlyRejectedSymbol() {
+        // given
+        List<String> symbols = List.of("005930", "999999");
+        StockPrice samsung = createSampleStockPrice("005930");
+        
+        given(stockQuotePort.fetchQuotes(symbols))
+                .willReturn(Flux.error(new KisApiException("005930,999999")));
+        given(stockQuotePort.fetchQuote("005930"))
+                .willReturn(Mono.just(createSampleQuote("005930")));
+        given(stockQuotePort.fetchQuote("999999"))
+                .willReturn(Mono.error(new KisApiException("999999")));
+        given(externalApiPort.fetchMarketData("005930", MarketDataType.STOCK, StockPrice.class))
+                .willReturn(Mono.just(samsung));
+        given(marketDataCachePort.saveStockPrice(any(StockPrice.class), any(Duration.class)))
+                .willReturn(Mono.empty());
+        given(marketDataCachePort.getStockPrice(anyString()))
+                .willReturn(Mono.empty());
+        given(marketDataRepositoryPort.save(any(StockPrice.class)))
+                .willAnswer(invocation -> Mono.just(invocation.getArgument(0)));
+        given(priceAlertService.analyzeAndSendAlert(any(Tick.class), any(StockPrice.class)))
+                .willReturn(Mono.empty());
+        
+        // when
+        StepVerifier.create(getStockPriceService.collectCurrentPrices(symbols).map(StockPrice::getSymbol))
+                .expectNext("005930")
+                .verifyComplete();
+        
+        // then - 조회 경로에서는 거부된 종목만 부정 캐시로 응답
+        StepVerifier.create(getStockPriceService.getCurrentPrice("999999"))
+                .expectError(KisApiException.class)
+                .verify();
+        StepVerifier.create(getStockPriceService.getCurrentPrice("005930").map(StockPrice::getSymbol))
+                .expectNext("005930")
+                .verifyComplete();
+        verify(externalApiPort, never()).fetchMarketData("999999", MarketDataType.STOCK, StockPrice.class);
+        verify(lookupMetricsPort, times(1)).recordNegativeCacheHit();
+        
+        // 수집 경로는 부정 캐시를 거치지 않고 다시 조회
+        StepVerifier.create(getStockPriceService.collectCurrentPrices(symbols).map(StockPrice::getSymbol))
+                .expectNext("005930")
+                .verifyComplete();
+        verify(stockQuotePort, times(2)).fetchQuotes(symbols);
+        verify(stockQuotePort, times(2)).fetchQuote("999999");
+    }
+    
+    @Test
+    @DisplayName("초당 거래건수 초과 같은 일시적 거부는 종목별로 다시 조회하지 않고 부정 캐시에도 남기지 않는다")
+    void givenThrottledBatch_whenCollectCurrentPrices_thenFailsWithoutNegativeCaching() {
+        // given
+        List<String> symbols = List.of("005930", "000660");
+        
+        given(stockQuotePort.fetchQuotes(symbols))
+                .willReturn(Flux.error(new KisApiException(StockPriceErrorCode.STOCK_PRICE_005,
+                        "EGW00201: 초당 거래건수를 초과하였습니다.")));
+        
+        // when & then
+        StepVerifier.create(getStockPriceService.collectCurrentPrices(symbols))
+                .expectError(KisApiException.class)
+                .verify();
+        StepVerifier.create(getStockPriceService.collectCurrentPrices(symbols))
+                .expectError(KisApiException.class)
+                .verify();
+        
+        verify(stockQuotePort, times(2)).fetchQuotes(symbols);
+        verify(stockQuotePort, never()).fetchQuote(anyString());
+    }
+    
+    @Test
+    @DisplayName("일시적인 오류는 부정 캐시에 남기지 않는다")
+    void givenTransientError_whenGetCurrentPriceAgain_thenCallsApiAgain() {
+        // given
+        String symbol = "005930";
+        
+        given(marketDataCachePort.getStockPrice(symbol))
+                .willReturn(Mono.empty());
+        given(externalApiPort.fetchMarketData(symbol, MarketDataType.STOCK, StockPrice.class))
+                .willReturn(Mono.error(new RuntimeException("타임아웃")));
+        
+        // when
+        getStockPriceService.getCurrentPrice(symbol).onErrorResume(error -> Mono.empty()).block();
+        getStockPriceService.getCurrentPrice(symbol).onErrorResume(error -> Mono.empty()).block();
+        
+        // then
+        verify(externalApiPort, times(2)).fetchMarketData(symbol, MarketDataType.STOCK, StockPrice.class);
+        verify(lookupMetricsPort, never()).recordNegativeCacheHit();
+    }
+    
+    @Test
+    @DisplayName("강제 갱신은 부정 캐시를 무시하고 외부 API 를 호출한다")
+    void givenRejectedSymbol_whenRefreshCurrentPrice_thenCallsApiAgain() {
+        // given
+        String symbol = "999999";
+        
+        given(marketDataCachePort.getStockPrice(symbol))
+                .willReturn(Mono.empty());
+        given(marketDataCachePort.deleteStockPrice(symbol))
+                .willReturn(Mono.empty());
+        given(externalApiPort.fetchMarketData(symbol, MarketDataType.STOCK, StockPrice.class))
+                .willReturn(Mono.error(new KisApiException(symbol)));
+        getStockPriceService.getCurrentPrice(symbol).onErrorResume(error -> Mono.empty()).block();
+        
+        // when & then
+        StepVerifier.create(getStockPriceService.refreshCurrentPrice(symbol))
+                .expectError(KisApiException.class)
+                .verify();
+        
+        verify(externalApiPort, times(2)).fetchMarketData(symbol, MarketDataType.STOCK, StockPrice.class);
+    }
+    
+    @Test
+    @DisplayName("softTtl 이 지난 캐시 값은 바로 응답하고 백그라운드로 한 번만 갱신한다")
+    void givenStaleCachedPrice_whenGetCurrentPrice_thenServesStaleAndRefreshesOnce() {
+        // given - 수집 후 45초가 지난 시점 (softTtl 30초, hardTtl 1분)
+        GetStockPriceService service = serviceAt(Clock.offset(Clock.systemDefaultZone(), Duration.ofSeconds(45)),
+                new TokenBucketRateLimiter(60, 5));
+        String symbol = "005930";
+        StockPrice stalePrice = createSampleStockPrice(symbol);
+        StockPrice freshPrice = createSampleStockPrice(symbol);
+        Sinks.One<StockPrice> upstream = Sinks.one();
+        
+        given(marketDataCachePort.getStockPrice(symbol))
+                .willReturn(Mono.just(stalePrice));
+        given(externalApiPort.fetchMarketData(symbol, MarketDataType.STOCK, StockPrice.class))
+                .willReturn(upstream.asMono());
+        given(marketDataCachePort.saveStockPrice(freshPrice, Duration.ofMinutes(1)))
+                .willReturn(Mono.empty());
+        
+        // when - 갱신이 끝나기 전 두 번 조회
+        StepVerifier.create(service.getCurrentPrice(symbol)).expectNext(stalePrice).verifyComplete();
+        StepVerifier.create(service.getCurrentPrice(symbol)).expectNext(stalePrice).verifyComplete();
+        upstream.tryEmitValue(freshPrice);
+        
+        // then
+        verify(externalApiPort, times(1)).fetchMarketData(symbol, MarketDataType.STOCK, StockPrice.class);
+        verify(marketDataCachePort).saveStockPrice(freshPrice, Duration.ofMinutes(1));
+        verify(lookupMetricsPort, times(2)).recordStaleHit();
+        verify(lookupMetricsPort, times(1)).recordBackgroundRefresh();
+    }
+    
+    @Test
+    @DisplayName("백그라운드 갱신 허용량을 다 쓰면 오래된 캐시 값만 응답하고 갱신하지 않는다")
+    void givenRefreshBudgetExhausted_whenGetStalePrice_thenSkipsRefresh() {
+        // given - 분당 1회, 버스트 1
+        GetStockPriceService service = serviceAt(Clock.offset(Clock.systemDefaultZone(), Duration.ofSeconds(45)),
+                new TokenBucketRateLimiter(1, 1));
+        StockPrice samsung = createSampleStockPrice("005930");
+        StockPrice kakao = createSampleStockPrice("035720");
+        
+        given(marketDataCachePort.getStockPrice("005930")).willReturn(Mono.just(samsung));
+        given(marketDataCachePort.getStockPrice("035720")).willReturn(Mono.just(kakao));
+        given(externalApiPort.fetchMarketData("005930", MarketDataType.STOCK, StockPrice.class))
+                .willReturn(Mono.just(samsung));
+        given(marketDataCachePort.saveStockPrice(eq(samsung), any(Duration.class)))
+                .willReturn(Mono.empty());
+        
+        // when
+        StepVerifier.create(service.getCurrentPrice("005930")).expectNext(samsung).verifyComplete();
+        StepVerifier.create(service.getCurrentPrice("035720")).expectNext(kakao).verifyComplete();
+        
+        // then
+        verify(externalApiPort, never()).fetchMarketData("035720", MarketDataType.STOCK, StockPrice.class);
+        verify(lookupMetricsPort, times(1)).recordBackgroundRefresh();
+    }
+    
+    @Test
+    @DisplayName("softTtl 이 지나지 않은 캐시 값은 갱신하지 않는다")
+    void givenFreshCachedPrice_whenGetCurrentPrice_thenDoesNotRefresh() {
+        // given
+        GetStockPriceService service = serviceAt(Clock.offset(Clock.systemDefaultZone(), Duration.ofSeconds(10)),
+                new TokenBucketRateLimiter(60, 5));
+        String symbol = "005930";
+        StockPrice cachedPrice = createSampleStockPrice(symbol);
+        
+        given(marketDataCachePort.getStockPrice(symbol))
+                .willReturn(Mono.just(cachedPrice));
+        
+        // when & then
+        StepVerifier.create(service.getCurrentPrice(symbol))
+                .expectNext(cachedPrice)
+                .verifyComplete();
+        
+        verify(externalApiPort, never()).fetchMarketData(anyString(), any(), any());
+        verify(lookupMetricsPort, never()).recordStaleHit();
+    }
+    
+    @Test
+    @DisplayName("수집은 softTtl 이 지난 캐시 값을 쓰지 않고 백그라운드 갱신도 예약하지 않는다")
+    void givenStaleCachedPrice_whenCollectCurrentPrice_thenFetchesWithoutRefreshAhead() {
+        // given - 수집 후 45초가 지난 시점 (softTtl 30초, hardTtl 1분)
+        GetStockPriceService service = serviceAt(Clock.offset(Clock.systemDefaultZone(), Duration.ofSeconds(45)),
+                new TokenBucketRateLimiter(60, 5));
+        String symbol = "005930";
+        RealtimeQuote quote = createSampleQuote(symbol);
+        StockPrice savedPrice = createSampleStockPrice(symbol);
+        
+        lenient().when(marketDataCachePort.getStockPrice(symbol))
+                .thenReturn(Mono.just(createSampleStockPrice(symbol)));
+        given(stockQuotePort.fetchQuote(symbol))
+                .willReturn(Mono.just(quote));
+        given(marketDataCachePort.saveStockPrice(any(StockPrice.class), eq(Duration.ofMinutes(1))))
+                .willReturn(Mono.empty());
+        given(marketDataRepositoryPort.save(any(StockPrice.class)))
+                .willReturn(Mono.just(savedPrice));
+        given(priceAlertService.analyzeAndSendAlert(quote.tick(), savedPrice))
+                .willReturn(Mono.empty());
+        
+        // when & then
+        StepVerifier.create(service.collectCurrentPrice(symbol))
+                .expectNext(savedPrice)
+                .verifyComplete();
+        
+        verify(stockQuotePort, times(1)).fetchQuote(symbol);
+        verify(lookupMetricsPort, never()).recordStaleHit();
+        verify(lookupMetricsPort, never()).recordBackgroundRefresh();
+    }
+    
+    @Test
+    @DisplayName("일괄 조회 1건은 캐시에 없는 종목을 최대 두 묶음까지만 API 로 조회한다")
+    void givenManyUncachedSymbols_whenGetCurrentPrices_thenFetchesAtMostTwoBatches() {
+        // given - 호출당 2종목
+        GetStockPriceService service = serviceWithApiBudget(new TokenBucketRateLimiter(6000, 100));
+        List<String> symbols = List.of("000001", "000002", "000003", "000004", "000005", "000006");
+        
+        given(externalApiPort.getMaxBatchSize()).willReturn(2);
+        given(marketDataCachePort.getStockPrices(symbols)).willReturn(Flux.empty());
+        given(externalApiPort.fetchMarketDataBatch(anyCollection(), eq(MarketDataType.STOCK), eq(StockPrice.class)))
+                .willReturn(Flux.empty());
+        
+        // when
+        StepVerifier.create(service.getCurrentPrices(symbols))
+                .verifyComplete();
+        
+        // then
+        verify(externalApiPort).fetchMarketDataBatch(List.of("000001", "000002"), MarketDataType.STOCK, StockPrice.class);
+        verify(externalApiPort).fetchMarketDataBatch(List.of("000003", "000004"), MarketDataType.STOCK, StockPrice.class);
+        verify(externalApiPort, times(2)).fetchMarketDataBatch(anyCollection(), any(), any());
+        verify(lookupMetricsPort).recordThrottledSymbols(2);
+    }
+    
+    @Test
+    @DisplayName("수집과 함께 쓰는 API 허용량이 바닥나면 캐시 값만 응답하고 API 를 호출하지 않는다")
+    void givenApiBudgetExhausted_whenGetCurrentPrices_thenReturnsOnlyCachedPrices() {
+        // given - 버스트 1 을 미리 소진
+        TokenBucketRateLimiter apiRateLimiter = new TokenBucketRateLimiter(1, 1);
+        assertThat(apiRateLimiter.tryAcquire()).isTrue();
+        GetStockPriceService service = serviceWithApiBudget(apiRateLimiter);
+        StockPrice cachedPrice = createSampleStockPrice("005930");
+        
+        given(marketDataCachePort.getStockPrices(List.of("005930", "000660")))
+                .willReturn(Flux.just(cachedPrice));
+        
+        // when
+        StepVerifier.create(service.getCurrentPrices(List.of("005930", "000660")))
+                .expectNext(cachedPrice)
+                .verifyComplete();
+        
+        // then
+        verify(externalApiPort, never()).fetchMarketDataBatch(anyCollection(), any(), any());
+        verify(lookupMetricsPort).recordThrottledSymbols(1);
+    }
+    
+    private GetStockPriceService serviceAt(Clock clock, TokenBucketRateLimiter refreshRateLimiter) {
+        return new GetStockPriceService(externalApiPort, stockQuotePort, marketDataCachePort, marketDataRepositoryPort,
+                priceAlertService, lookupMetricsPort, new RefreshAheadPolicy(REFRESH_AHEAD, refreshRateLimiter, clock),
+                new TokenBucketRateLimiter(6000, 100), clock);
+    }
+    
+    private GetStockPriceService serviceWithApiBudget(TokenBucketRateLimiter apiRateLimiter) {
+        Clock clock = TestClockFactory.marketMiddle();
+        return new GetStockPriceService(externalApiPort, stockQuotePort, marketDataCachePort, marketDataRepositoryPort,
+                priceAlertService, lookupMetricsPort, new RefreshAheadPolicy(REFRESH_AHEAD, clock), apiRateLimiter, clock);
+    }
+    
+    private RealtimeQuote createSampleQuote(String symbol) {
+        return new RealtimeQuote(
+                Tick.of(symbol, 71000L, 70000L, 70800L, 71500L, 70500L, 71100L, 70900L, 1000000L, 0L),
+                "삼성전자");
+    }
+    
     private StockPrice createSampleStockPrice(String symbol) {
         return StockPrice.createWithTTL(
                 symbol,
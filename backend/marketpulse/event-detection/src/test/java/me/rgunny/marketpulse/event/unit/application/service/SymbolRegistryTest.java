@@ -0,0 +1,103 @@
+package me.rgunny.marketpulse.event.unit.application.service;
+
+import me.rgunny.marketpulse.event.marketdata.application.port.out.shared.StockPort;
+import me.rgunny.marketpulse.event.marketdata.application.service.SymbolRegistry;
+import me.rgunny.marketpulse.event.marketdata.domain.model.MarketType;
+import me.rgunny.marketpulse.event.marketdata.domain.model.Stock;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("SymbolRegistry 단위 테스트")
+class SymbolRegistryTest {
+
+    @Mock
+    private StockPort stockPort;
+
+    private SymbolRegistry registry;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SymbolRegistry(stockPort);
+    }
+
+    @Test
+    @DisplayName("시작 시 종목 마스터를 적재하면 등록 순서대로 촘촘한 id 와 종목명을 조회할 수 있다")
+    void givenStockMaster_whenReload_thenAssignsDenseIds() {
+        // given
+        given(stockPort.findAllActiveStocks()).willReturn(Flux.just(
+                stock("005930", "삼성전자"),
+                stock("000660", "SK하이닉스"),
+                stock("035720", "카카오")));
+
+        // when
+        StepVerifier.create(registry.reload()).verifyComplete();
+
+        // then
+        assertThat(registry.isLoaded()).isTrue();
+        assertThat(registry.size()).isEqualTo(3);
+        assertThat(registry.idOf("005930")).isZero();
+        assertThat(registry.idOf("000660")).isEqualTo(1);
+        assertThat(registry.idOf("035720")).isEqualTo(2);
+        assertThat(registry.nameOf("000660")).isEqualTo("SK하이닉스");
+        assertThat(registry.get(2).symbol()).isEqualTo("035720");
+    }
+
+    @Test
+    @DisplayName("미등록이거나 6자리 숫자가 아닌 종목코드는 UNKNOWN_ID 와 null 을 반환한다")
+    void givenUnknownSymbol_whenLookup_thenReturnsUnknown() {
+        // given
+        registry.register(stock("005930", "삼성전자"));
+
+        // when & then
+        assertThat(registry.idOf("000660")).isEqualTo(SymbolRegistry.UNKNOWN_ID);
+        assertThat(registry.idOf("A05930")).isEqualTo(SymbolRegistry.UNKNOWN_ID);
+        assertThat(registry.idOf("05930")).isEqualTo(SymbolRegistry.UNKNOWN_ID);
+        assertThat(registry.idOf(null)).isEqualTo(SymbolRegistry.UNKNOWN_ID);
+        assertThat(registry.nameOf("000660")).isNull();
+        assertThat(registry.contains("005930")).isTrue();
+    }
+
+    @Test
+    @DisplayName("이미 등록된 종목을 다시 등록하면 id 는 유지하고 정보만 갱신한다")
+    void givenRegisteredSymbol_whenRegisterAgain_thenKeepsIdAndUpdatesName() {
+        // given
+        int id = registry.register(stock("005930", "삼성전자"));
+
+        // when
+        int again = registry.register(stock("005930", "삼성전자우"));
+
+        // then
+        assertThat(again).isEqualTo(id);
+        assertThat(registry.size()).isEqualTo(1);
+        assertThat(registry.nameOf("005930")).isEqualTo("삼성전자우");
+    }
+
+    @Test
+    @DisplayName("초기 용량을 넘게 등록해도 기존 id 와 정보가 유지된다")
+    void givenManySymbols_whenRegister_thenGrowsWithoutLosingEntries() {
+        // when
+        IntStream.range(0, 5000).forEach(i -> registry.register(stock(String.format("%06d", i), "종목" + i)));
+
+        // then
+        assertThat(registry.size()).isEqualTo(5000);
+        assertThat(registry.idOf("000000")).isZero();
+        assertThat(registry.nameOf("004999")).isEqualTo("종목4999");
+        assertThat(registry.find("004096").id()).isEqualTo(4096);
+    }
+
+    private Stock stock(String symbol, String name) {
+        return Stock.createStock(symbol, name, name, MarketType.KOSPI, "ELEC", "전기전자");
+    }
+}
@@ -0,0 +1,160 @@
+package me.rgunny.marketpulse.event.unit.application.util;
+
+import me.rgunny.marketpulse.event.marketdata.application.util.AdaptiveIntervalPolicy;
+import me.rgunny.marketpulse.event.marketdata.domain.model.CollectionTarget;
+import me.rgunny.marketpulse.event.marketdata.domain.model.CollectionTier;
+import me.rgunny.marketpulse.event.marketdata.infrastructure.config.shared.StockCollectionProperties;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * AdaptiveIntervalPolicy 단위 테스트
+ */
+@DisplayName("AdaptiveIntervalPolicy 단위 테스트")
+class AdaptiveIntervalPolicyTest {
+
+    private static final StockCollectionProperties.Adaptive ENABLED =
+            new StockCollectionProperties.Adaptive(true, 0.5, 4.0, 0.3, 0.5, 0.5, 1.0);
+
+    private static final List<BigDecimal> THRESHOLDS = List.of(
+            new BigDecimal("3.0"), new BigDecimal("-3.0"), new BigDecimal("29.5"), new BigDecimal("-29.5"));
+
+    @Nested
+    @DisplayName("종목별 주기 조정")
+    class IntervalTests {
+
+        @Test
+        @DisplayName("관측 전에는 기본 주기를 사용한다")
+        void givenNoObservation_whenNextInterval_thenBaseInterval() {
+            AdaptiveIntervalPolicy policy = policy(ENABLED, 1000);
+            policy.sync(List.of(normal("005930")));
+
+            assertThat(policy.nextInterval("005930")).contains(Duration.ofSeconds(30));
+        }
+
+        @Test
+        @DisplayName("가격 변화가 없는 종목은 최대 배율까지 주기를 늘린다")
+        void givenFlatPrices_whenNextInterval_thenLengthens() {
+            AdaptiveIntervalPolicy policy = policy(ENABLED, 1000);
+            policy.sync(List.of(normal("005930")));
+
+            observeAll(policy, "005930", 70000, 70000, 70000);
+
+            assertThat(policy.nextInterval("005930")).contains(Duration.ofMinutes(2));
+        }
+
+        @Test
+        @DisplayName("변동성이 큰 종목은 최소 배율까지 주기를 줄인다")
+        void givenVolatilePrices_whenNextInterval_thenShortens() {
+            AdaptiveIntervalPolicy policy = policy(ENABLED, 1000);
+            policy.sync(List.of(normal("005930")));
+
+            observeAll(policy, "005930", 70000, 71000, 69500, 71200);
+
+            assertThat(policy.nextInterval("005930")).contains(Duration.ofSeconds(15));
+        }
+
+        @Test
+        @DisplayName("등락률이 알림 임계값에 가까우면 변화가 없어도 주기를 줄인다")
+        void givenChangeRateNearThreshold_whenNextInterval_thenShortens() {
+            AdaptiveIntervalPolicy policy = policy(ENABLED, 1000);
+            policy.sync(List.of(normal("005930")));
+
+            for (int i = 0; i < 3; i++) {
+                policy.observe("005930", new BigDecimal("70000"), new BigDecimal("2.8"));
+            }
+
+            // 임계값까지 0.2%p / 근접 구간 0.5%p → 0.4배, 최소 배율 0.5로 제한
+            assertThat(policy.nextInterval("005930")).contains(Duration.ofSeconds(15));
+        }
+
+        @Test
+        @DisplayName("비활성화되면 항상 기본 주기를 사용한다")
+        void givenDisabled_whenNextInterval_thenBaseInterval() {
+            AdaptiveIntervalPolicy policy = policy(new StockCollectionProperties.Adaptive(false, 0, 0, 0, 0, 0, 0), 1000);
+            policy.sync(List.of(normal("005930")));
+
+            observeAll(policy, "005930", 70000, 70000, 70000);
+
+            assertThat(policy.nextInterval("005930")).contains(Duration.ofSeconds(30));
+        }
+
+        @Test
+        @DisplayName("대상이 아닌 종목은 주기를 반환하지 않는다")
+        void givenUnknownSymbol_whenNextInterval_thenEmpty() {
+            AdaptiveIntervalPolicy policy = policy(ENABLED, 1000);
+
+            assertThat(policy.nextInterval("005930")).isEmpty();
+        }
+    }
+
+    @Nested
+    @DisplayName("수집 예산")
+    class BudgetTests {
+
+        @Test
+        @DisplayName("계획 호출량이 예산을 넘으면 주기를 비례해서 늘린다")
+        void givenPlanOverBudget_whenNextInterval_thenScalesIntervals() {
+            // given - 30초 주기 100종목 = 분당 200회, 예산 분당 100회
+            AdaptiveIntervalPolicy policy = policy(ENABLED, 100);
+            policy.sync(IntStream.rangeClosed(1, 100)
+                    .mapToObj(i -> normal(String.format("%06d", i)))
+                    .toList());
+
+            // when & then
+            assertThat(policy.plannedRatePerMinute()).isEqualTo(200.0);
+            assertThat(policy.budgetScale()).isEqualTo(2.0);
+            assertThat(policy.nextInterval("000001")).contains(Duration.ofMinutes(1));
+        }
+
+        @Test
+        @DisplayName("여러 인스턴스가 종목을 나눠 수집하면 인스턴스 몫의 예산 기준으로 주기를 늘린다")
+        void givenSharedBudget_whenNextInterval_thenScalesAgainstInstanceShare() {
+            // given - 30초 주기 50종목 = 분당 100회, 전체 예산 분당 100회를 2개 인스턴스가 나눔
+            AdaptiveIntervalPolicy policy = policy(ENABLED, 100);
+            policy.shareAmong(2);
+            policy.sync(IntStream.rangeClosed(1, 50)
+                    .mapToObj(i -> normal(String.format("%06d", i)))
+                    .toList());
+
+            // when & then
+            assertThat(policy.budgetScale()).isEqualTo(2.0);
+            assertThat(policy.nextInterval("000001")).contains(Duration.ofMinutes(1));
+        }
+
+        @Test
+        @DisplayName("변화 없는 종목의 주기를 늘리면 계획 호출량이 줄어든다")
+        void givenFlatSymbol_whenNextInterval_thenPlannedRateDrops() {
+            AdaptiveIntervalPolicy policy = policy(ENABLED, 1000);
+            policy.sync(List.of(normal("005930"), normal("035720")));
+            observeAll(policy, "005930", 70000, 70000, 70000);
+
+            policy.nextInterval("005930");
+
+            // 2회/분 (30초) → 0.5회/분 (2분) + 2회/분
+            assertThat(policy.plannedRatePerMinute()).isEqualTo(2.5);
+        }
+    }
+
+    private AdaptiveIntervalPolicy policy(StockCollectionProperties.Adaptive config, int permitsPerMinute) {
+        return new AdaptiveIntervalPolicy(config, THRESHOLDS, permitsPerMinute);
+    }
+
+    private void observeAll(AdaptiveIntervalPolicy policy, String symbol, int... prices) {
+        for (int price : prices) {
+            policy.observe(symbol, BigDecimal.valueOf(price), BigDecimal.ZERO);
+        }
+    }
+
+    private CollectionTarget normal(String symbol) {
+        return CollectionTarget.of(symbol, CollectionTier.NORMAL, Duration.ofSeconds(30));
+    }
+}
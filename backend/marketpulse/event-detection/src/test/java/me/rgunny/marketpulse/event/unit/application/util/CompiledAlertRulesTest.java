@@ -0,0 +1,171 @@
+package me.rgunny.marketpulse.event.unit.application.util;
+
+import me.rgunny.marketpulse.event.marketdata.application.util.CompiledAlertRules;
+import me.rgunny.marketpulse.event.marketdata.domain.model.AlertCondition;
+import me.rgunny.marketpulse.event.marketdata.domain.model.AlertRule;
+import me.rgunny.marketpulse.event.marketdata.domain.model.AlertRuleSet;
+import me.rgunny.marketpulse.event.marketdata.domain.model.AlertType;
+import me.rgunny.marketpulse.event.marketdata.domain.model.Tick;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static me.rgunny.marketpulse.event.marketdata.domain.model.AlertCondition.allOf;
+import static me.rgunny.marketpulse.event.marketdata.domain.model.AlertCondition.anyOf;
+import static me.rgunny.marketpulse.event.marketdata.domain.model.AlertCondition.changeRateAtLeast;
+import static me.rgunny.marketpulse.event.marketdata.domain.model.AlertCondition.changeRateAtMost;
+import static me.rgunny.marketpulse.event.marketdata.domain.model.AlertCondition.volumeAtLeast;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * CompiledAlertRules 단위 테스트
+ */
+@DisplayName("CompiledAlertRules 단위 테스트")
+class CompiledAlertRulesTest {
+
+    private static final long PREVIOUS_CLOSE = 70_000L;
+
+    @Test
+    @DisplayName("여러 규칙이 맞으면 우선순위가 높은 규칙을 선택한다")
+    void givenOverlappingRules_whenMatch_thenHighestPriorityWins() {
+        // given
+        CompiledAlertRules rules = compile(List.of(
+                AlertRule.global("rise", AlertType.PRICE_RISE, 10, 30, changeRateAtLeast(new BigDecimal("5"))),
+                AlertRule.global("limit-up", AlertType.LIMIT_UP, 100, 60, changeRateAtLeast(new BigDecimal("29.5")))
+        ), Map.of());
+
+        // when & then
+        assertThat(rules.match(tick("005930", 30.0, 0L)).id()).isEqualTo("limit-up");
+        assertThat(rules.match(tick("005930", 6.0, 0L)).id()).isEqualTo("rise");
+        assertThat(rules.match(tick("005930", 1.0, 0L))).isNull();
+    }
+
+    @Test
+    @DisplayName("상승형/하락형/구간형 규칙이 함께 맞으면 우선순위가 높은 규칙을 선택한다")
+    void givenMixedRateRules_whenMatch_thenHighestPriorityWinsAcrossIndexes() {
+        // given: 하한만(상승형), 상한만(하락형), 양쪽(구간형), 등락률 무관 규칙
+        CompiledAlertRules rules = compile(List.of(
+                AlertRule.global("rise-5", AlertType.PRICE_RISE, 1, 30, changeRateAtLeast(new BigDecimal("5"))),
+                AlertRule.global("rise-3", AlertType.PRICE_RISE, 9, 30, changeRateAtLeast(new BigDecimal("3"))),
+                AlertRule.global("band", AlertType.VOLUME_SURGE, 5, 30, allOf(
+                        changeRateAtLeast(new BigDecimal("-2")), changeRateAtMost(new BigDecimal("4")), volumeAtLeast(100L))),
+                AlertRule.global("fall-1", AlertType.PRICE_FALL, 3, 30, changeRateAtMost(new BigDecimal("-1"))),
+                AlertRule.global("volume", AlertType.VOLUME_SURGE, 2, 30, volumeAtLeast(500L))
+        ), Map.of());
+
+        // when & then
+        assertThat(rules.match(tick("005930", 6.0, 0L)).id()).isEqualTo("rise-3");
+        assertThat(rules.match(tick("005930", 3.5, 200L)).id()).isEqualTo("rise-3");
+        assertThat(rules.match(tick("005930", -1.5, 200L)).id()).isEqualTo("band");
+        assertThat(rules.match(tick("005930", -1.5, 0L)).id()).isEqualTo("fall-1");
+        assertThat(rules.match(tick("005930", 0.0, 600L)).id()).isEqualTo("band");
+        assertThat(rules.match(tick("005930", 0.0, 0L))).isNull();
+    }
+
+    @Test
+    @DisplayName("AND/OR 조합 조건을 평가한다")
+    void givenCombinedCondition_whenMatch_thenEvaluatesAndOr() {
+        // given: 3% 이상 상승하면서 (거래량 100만 이상 또는 7% 이상)
+        AlertCondition condition = allOf(
+                changeRateAtLeast(new BigDecimal("3")),
+                anyOf(volumeAtLeast(1_000_000L), changeRateAtLeast(new BigDecimal("7"))));
+        CompiledAlertRules rules = compile(List.of(
+                AlertRule.global("volume-rise", AlertType.VOLUME_SURGE, 10, 30, condition)
+        ), Map.of());
+
+        // when & then
+        assertThat(rules.match(tick("005930", 3.5, 2_000_000L))).isNotNull();
+        assertThat(rules.match(tick("005930", 7.5, 10L))).isNotNull();
+        assertThat(rules.match(tick("005930", 3.5, 10L))).isNull();
+        assertThat(rules.match(tick("005930", 2.0, 2_000_000L))).isNull();
+        assertThat(rules.clauseCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("종목/그룹 규칙은 해당 종목에만 적용되고, 우선순위가 같으면 전체 규칙보다 먼저 선택된다")
+    void givenSymbolAndGroupRules_whenMatch_thenAppliesOnlyToTargets() {
+        // given
+        CompiledAlertRules rules = compile(List.of(
+                AlertRule.global("rise", AlertType.PRICE_RISE, 10, 30, changeRateAtLeast(new BigDecimal("5"))),
+                AlertRule.forGroup("semis-rise", "semis", AlertType.PRICE_RISE, 10, 15, changeRateAtLeast(new BigDecimal("2"))),
+                AlertRule.forSymbol("samsung-fall", "005930", AlertType.PRICE_FALL, 10, 15, changeRateAtMost(new BigDecimal("-1")))
+        ), Map.of("semis", List.of("005930", "000660")));
+
+        // when & then
+        assertThat(rules.match(tick("000660", 2.5, 0L)).id()).isEqualTo("semis-rise");
+        assertThat(rules.match(tick("000660", 6.0, 0L)).id()).isEqualTo("semis-rise");
+        assertThat(rules.match(tick("035720", 2.5, 0L))).isNull();
+        assertThat(rules.match(tick("035720", 6.0, 0L)).id()).isEqualTo("rise");
+        assertThat(rules.match(tick("005930", -1.5, 0L)).id()).isEqualTo("samsung-fall");
+        assertThat(rules.match(tick("000660", -1.5, 0L))).isNull();
+    }
+
+    @Test
+    @DisplayName("전체 규칙의 우선순위가 더 높으면 종목 규칙보다 먼저 선택된다")
+    void givenHigherPriorityGlobalRule_whenMatch_thenGlobalWins() {
+        // given
+        CompiledAlertRules rules = compile(List.of(
+                AlertRule.forSymbol("samsung-rise", "005930", AlertType.PRICE_RISE, 10, 15, changeRateAtLeast(new BigDecimal("2"))),
+                AlertRule.global("limit-up", AlertType.LIMIT_UP, 100, 60, changeRateAtLeast(new BigDecimal("29.5")))
+        ), Map.of());
+
+        // when & then
+        assertThat(rules.match(tick("005930", 29.9, 0L)).id()).isEqualTo("limit-up");
+        assertThat(rules.match(tick("005930", 3.0, 0L)).id()).isEqualTo("samsung-rise");
+    }
+
+    @Test
+    @DisplayName("규칙이 올바르지 않으면 컴파일하지 않는다")
+    void givenInvalidRules_whenCompile_thenThrows() {
+        AlertCondition condition = changeRateAtLeast(new BigDecimal("5"));
+
+        assertThatThrownBy(() -> compile(List.of(
+                AlertRule.global("rise", AlertType.PRICE_RISE, 10, 30, condition),
+                AlertRule.global("rise", AlertType.PRICE_RISE, 10, 30, condition)), Map.of()))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Duplicate");
+        assertThatThrownBy(() -> compile(List.of(
+                AlertRule.forGroup("semis", "unknown", AlertType.PRICE_RISE, 10, 30, condition)), Map.of()))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Unknown alert group");
+        assertThatThrownBy(() -> compile(List.of(
+                AlertRule.global("always", AlertType.PRICE_RISE, 10, 30, allOf())), Map.of()))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("condition");
+        assertThatThrownBy(() -> compile(List.of(
+                AlertRule.global("no-cooldown", AlertType.PRICE_RISE, 10, 0, condition)), Map.of()))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Cooldown");
+    }
+
+    @Test
+    @DisplayName("OR 조합이 절 상한을 넘게 펼쳐지면 컴파일하지 않는다")
+    void givenExplodingCondition_whenCompile_thenThrows() {
+        // given: (a|b) x 7 = 128 절
+        List<AlertCondition> factors = new ArrayList<>();
+        for (int i = 0; i < 7; i++) {
+            factors.add(anyOf(volumeAtLeast(i), changeRateAtLeast(BigDecimal.valueOf(i))));
+        }
+        AlertCondition condition = allOf(factors.toArray(AlertCondition[]::new));
+
+        // when & then
+        assertThatThrownBy(() -> compile(List.of(
+                AlertRule.global("explode", AlertType.PRICE_RISE, 10, 30, condition)), Map.of()))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining(String.valueOf(CompiledAlertRules.MAX_CLAUSES_PER_RULE));
+    }
+
+    private static CompiledAlertRules compile(List<AlertRule> rules, Map<String, List<String>> groups) {
+        return CompiledAlertRules.compile(new AlertRuleSet(rules, groups));
+    }
+
+    private static Tick tick(String symbol, double changeRatePercent, long volume) {
+        long price = Math.round(PREVIOUS_CLOSE * (1 + changeRatePercent / 100));
+        return Tick.of(symbol, price, PREVIOUS_CLOSE, PREVIOUS_CLOSE, price, price, price, price, volume, 0L);
+    }
+}
@@ -0,0 +1,111 @@
+package me.rgunny.marketpulse.event.unit.application.util;
+
+import me.rgunny.marketpulse.event.marketdata.application.util.ConsistentHashRing;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * ConsistentHashRing 단위 테스트
+ */
+@DisplayName("ConsistentHashRing 단위 테스트")
+class ConsistentHashRingTest {
+
+    private static final int VIRTUAL_NODES = 128;
+
+    private static final List<String> SYMBOLS = symbols(3000);
+
+    @Test
+    @DisplayName("모든 종목은 정확히 한 인스턴스가 소유하고 인스턴스 간 고르게 분배된다")
+    void givenMembers_whenOwnerOf_thenDistributesEvenly() {
+        // given
+        ConsistentHashRing ring = ConsistentHashRing.of(List.of("instance-a", "instance-b", "instance-c"), VIRTUAL_NODES);
+
+        // when
+        Map<String, Integer> counts = new HashMap<>();
+        SYMBOLS.forEach(symbol -> counts.merge(ring.ownerOf(symbol).orElseThrow(), 1, Integer::sum));
+
+        // then - 공평 몫(1000) 대비 ±20% 이내
+        assertThat(counts.keySet()).containsExactlyInAnyOrder("instance-a", "instance-b", "instance-c");
+        assertThat(counts.values()).allSatisfy(count -> assertThat(count).isBetween(800, 1200));
+    }
+
+    @Test
+    @DisplayName("같은 인스턴스 목록이면 입력 순서와 관계없이 같은 소유자를 계산한다")
+    void givenSameMembersInDifferentOrder_whenOwnerOf_thenSameOwner() {
+        // given
+        ConsistentHashRing ring = ConsistentHashRing.of(List.of("instance-a", "instance-b", "instance-c"), VIRTUAL_NODES);
+        ConsistentHashRing reordered = ConsistentHashRing.of(List.of("instance-c", "instance-a", "instance-b"), VIRTUAL_NODES);
+
+        // when & then
+        assertThat(SYMBOLS).allSatisfy(symbol ->
+                assertThat(reordered.ownerOf(symbol)).isEqualTo(ring.ownerOf(symbol)));
+    }
+
+    @Test
+    @DisplayName("인스턴스가 추가되면 새 인스턴스 몫의 종목만 이동한다")
+    void givenMemberJoined_whenOwnerOf_thenOnlyMovesToNewMember() {
+        // given
+        ConsistentHashRing before = ConsistentHashRing.of(List.of("instance-a", "instance-b", "instance-c"), VIRTUAL_NODES);
+        ConsistentHashRing after = ConsistentHashRing.of(
+                List.of("instance-a", "instance-b", "instance-c", "instance-d"), VIRTUAL_NODES);
+
+        // when
+        int moved = 0;
+        for (String symbol : SYMBOLS) {
+            String previousOwner = before.ownerOf(symbol).orElseThrow();
+            String newOwner = after.ownerOf(symbol).orElseThrow();
+            if (!previousOwner.equals(newOwner)) {
+                moved++;
+                // then - 기존 인스턴스끼리는 종목을 주고받지 않음
+                assertThat(newOwner).isEqualTo("instance-d");
+            }
+        }
+
+        // then - 약 1/4 만 이동
+        assertThat(moved).isBetween(450, 1050);
+    }
+
+    @Test
+    @DisplayName("인스턴스가 빠지면 그 인스턴스의 종목만 남은 인스턴스로 이동한다")
+    void givenMemberLeft_whenOwnerOf_thenOnlyItsSymbolsMove() {
+        // given
+        ConsistentHashRing before = ConsistentHashRing.of(List.of("instance-a", "instance-b", "instance-c"), VIRTUAL_NODES);
+        ConsistentHashRing after = ConsistentHashRing.of(List.of("instance-a", "instance-b"), VIRTUAL_NODES);
+
+        // when & then
+        assertThat(SYMBOLS).allSatisfy(symbol -> {
+            String previousOwner = before.ownerOf(symbol).orElseThrow();
+            if (!previousOwner.equals("instance-c")) {
+                assertThat(after.ownerOf(symbol)).contains(previousOwner);
+            }
+        });
+    }
+
+    @Test
+    @DisplayName("인스턴스가 없으면 소유자가 없다")
+    void givenNoMembers_whenOwnerOf_thenEmpty() {
+        // given
+        ConsistentHashRing ring = ConsistentHashRing.of(Set.of(), VIRTUAL_NODES);
+
+        // when & then
+        assertThat(ring.isEmpty()).isTrue();
+        assertThat(ring.ownerOf("005930")).isEmpty();
+        assertThat(ring.isOwnedBy("005930", "instance-a")).isFalse();
+    }
+
+    private static List<String> symbols(int count) {
+        List<String> symbols = new ArrayList<>(count);
+        for (int i = 1; i <= count; i++) {
+            symbols.add(String.format("%06d", i));
+        }
+        return symbols;
+    }
+}
@@ -0,0 +1,66 @@
+package me.rgunny.marketpulse.event.unit.application.util;
+
+import me.rgunny.marketpulse.event.marketdata.application.util.CooldownLedger;
+import me.rgunny.marketpulse.event.marketdata.domain.model.AlertType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * CooldownLedger 단위 테스트
+ */
+@DisplayName("CooldownLedger 단위 테스트")
+class CooldownLedgerTest {
+
+    private static final long T0 = 1_736_737_200_000L;
+
+    private final CooldownLedger ledger = new CooldownLedger(2);
+
+    @Test
+    @DisplayName("기록한 쿨다운은 종료 시각까지만 남고, 종목/타입별로 따로 관리된다")
+    void givenExtended_whenRemaining_thenCountsDownPerSymbolAndType() {
+        // given
+        ledger.extend(1, AlertType.PRICE_RISE, T0 + 60_000);
+
+        // when & then
+        assertThat(ledger.remainingMillis(1, AlertType.PRICE_RISE, T0)).isEqualTo(60_000);
+        assertThat(ledger.remainingMillis(1, AlertType.PRICE_RISE, T0 + 60_000)).isZero();
+        assertThat(ledger.remainingMillis(1, AlertType.PRICE_FALL, T0)).isZero();
+        assertThat(ledger.remainingMillis(0, AlertType.PRICE_RISE, T0)).isZero();
+        assertThat(ledger.activeCount(T0)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("더 이른 종료 시각으로는 줄어들지 않고, 해제하면 바로 비워진다")
+    void givenLaterUntil_whenExtendEarlierOrClear_thenKeepsLaterOrClears() {
+        // given
+        ledger.extend(0, AlertType.LIMIT_UP, T0 + 60_000);
+
+        // when
+        ledger.extend(0, AlertType.LIMIT_UP, T0 + 10_000);
+
+        // then
+        assertThat(ledger.remainingMillis(0, AlertType.LIMIT_UP, T0)).isEqualTo(60_000);
+        ledger.clear(0, AlertType.LIMIT_UP);
+        assertThat(ledger.remainingMillis(0, AlertType.LIMIT_UP, T0)).isZero();
+    }
+
+    @Test
+    @DisplayName("초기 용량을 넘는 종목 id 는 배열을 늘려 기록하고 기존 값은 유지한다")
+    void givenIdBeyondCapacity_whenExtend_thenGrowsAndKeepsEntries() {
+        // given
+        ledger.extend(1, AlertType.PRICE_RISE, T0 + 60_000);
+
+        // when
+        ledger.extend(5_000, AlertType.NEWS_ALERT, T0 + 30_000);
+
+        // then
+        assertThat(ledger.remainingMillis(1, AlertType.PRICE_RISE, T0)).isEqualTo(60_000);
+        assertThat(ledger.remainingMillis(5_000, AlertType.NEWS_ALERT, T0)).isEqualTo(30_000);
+        assertThat(ledger.remainingMillis(9_999, AlertType.NEWS_ALERT, T0)).isZero();
+        assertThatThrownBy(() -> ledger.extend(-1, AlertType.PRICE_RISE, T0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
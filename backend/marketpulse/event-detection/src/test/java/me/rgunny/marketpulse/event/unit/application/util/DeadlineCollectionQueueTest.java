@@ -0,0 +1,244 @@
+package me.rgunny.marketpulse.event.unit.application.util;
+
+import me.rgunny.marketpulse.event.marketdata.application.util.DeadlineCollectionQueue;
+import me.rgunny.marketpulse.event.marketdata.domain.model.CollectionTarget;
+import me.rgunny.marketpulse.event.marketdata.domain.model.CollectionTier;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * DeadlineCollectionQueue 단위 테스트
+ */
+@DisplayName("DeadlineCollectionQueue 단위 테스트")
+class DeadlineCollectionQueueTest {
+
+    private static final long T0 = 1_736_737_200_000L;
+
+    // 첫 발행 분산 없이 등록 즉시 발행
+    private final DeadlineCollectionQueue queue = new DeadlineCollectionQueue(Duration.ofMillis(100), 64, false);
+
+    @Nested
+    @DisplayName("마감 시각 우선 선택")
+    class EarliestDeadlineTests {
+
+        @Test
+        @DisplayName("발행된 작업 중 마감이 가장 가까운 종목을 먼저 꺼낸다")
+        void givenReleasedJobs_whenPollDue_thenReturnsEarliestDeadlineFirst() {
+            // given - 005930은 T0, 035720은 T0+10s에 발행
+            queue.sync(List.of(normal("005930")), T0);
+            queue.sync(List.of(normal("005930"), normal("035720")), T0 + 10_000);
+
+            // when & then
+            assertThat(queue.pollDue(T0 + 10_000)).get()
+                    .extracting(DeadlineCollectionQueue.Job::symbol).isEqualTo("005930");
+            assertThat(queue.pollDue(T0 + 10_000)).get()
+                    .extracting(DeadlineCollectionQueue.Job::symbol).isEqualTo("035720");
+            assertThat(queue.pollDue(T0 + 10_000)).isEmpty();
+        }
+
+        @Test
+        @DisplayName("완료된 종목은 현재 마감 시각에 다음 작업이 발행된다")
+        void givenCompletedJob_whenBeforeNextRelease_thenNotDue() {
+            // given
+            queue.sync(List.of(normal("005930")), T0);
+            DeadlineCollectionQueue.Job job = queue.pollDue(T0).orElseThrow();
+
+            // when
+            queue.complete(job, T0 + 1_000);
+
+            // then
+            assertThat(queue.hasDue(T0 + 29_999)).isFalse();
+            assertThat(queue.pollDue(T0 + 30_000)).get()
+                    .extracting(DeadlineCollectionQueue.Job::deadlineMillis).isEqualTo(T0 + 60_000);
+        }
+
+        @Test
+        @DisplayName("마감을 넘겨 꺼낸 작업은 초과 시간을 반환한다")
+        void givenOverdueJob_whenPollDue_thenReportsLateness() {
+            // given
+            queue.sync(List.of(normal("005930")), T0);
+
+            // when
+            DeadlineCollectionQueue.Job job = queue.pollDue(T0 + 35_000).orElseThrow();
+
+            // then
+            assertThat(job.latenessMillis(T0 + 35_000)).isEqualTo(5_000);
+        }
+
+        @Test
+        @DisplayName("대상에서 빠진 종목은 더 이상 꺼내지 않는다")
+        void givenRemovedTarget_whenPollDue_thenSkipsRemoved() {
+            // given
+            queue.sync(List.of(normal("005930"), normal("035720")), T0);
+
+            // when
+            queue.sync(List.of(normal("035720")), T0);
+
+            // then
+            assertThat(queue.pollDue(T0)).get()
+                    .extracting(DeadlineCollectionQueue.Job::symbol).isEqualTo("035720");
+            assertThat(queue.pollDue(T0)).isEmpty();
+            assertThat(queue.size()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("여러 건을 꺼내면 마감 순서대로 최대 개수까지만 꺼낸다")
+        void givenReleasedJobs_whenPollDueBatch_thenReturnsUpToMaxInDeadlineOrder() {
+            // given - 005930, 000660은 T0, 035720은 T0+10s에 발행
+            queue.sync(List.of(normal("005930"), normal("000660")), T0);
+            queue.sync(List.of(normal("005930"), normal("000660"), normal("035720")), T0 + 10_000);
+
+            // when
+            List<DeadlineCollectionQueue.Job> first = queue.pollDue(T0 + 10_000, 2);
+            List<DeadlineCollectionQueue.Job> second = queue.pollDue(T0 + 10_000, 2);
+
+            // then
+            assertThat(first).extracting(DeadlineCollectionQueue.Job::symbol).containsExactly("000660", "005930");
+            assertThat(second).extracting(DeadlineCollectionQueue.Job::symbol).containsExactly("035720");
+            assertThat(queue.pollDue(T0 + 10_000, 2)).isEmpty();
+        }
+
+        @Test
+        @DisplayName("건너뛸 종목은 꺼내지 않고 다음 주기로 넘긴다")
+        void givenSkippedSymbol_whenPollDue_thenDefersToNextInterval() {
+            // given
+            queue.sync(List.of(normal("005930"), normal("035720")), T0);
+
+            // when
+            List<DeadlineCollectionQueue.Job> jobs = queue.pollDue(T0, 2, "005930"::equals);
+
+            // then
+            assertThat(jobs).extracting(DeadlineCollectionQueue.Job::symbol).containsExactly("035720");
+            assertThat(queue.hasDue(T0)).isFalse();
+            assertThat(queue.pollDue(T0 + 30_000)).get()
+                    .extracting(DeadlineCollectionQueue.Job::symbol).isEqualTo("005930");
+        }
+
+        @Test
+        @DisplayName("건너뛸 종목만 발행되어 있으면 수집할 작업이 없다")
+        void givenOnlySkippedSymbols_whenHasDue_thenFalse() {
+            // given
+            queue.sync(List.of(normal("005930")), T0);
+
+            // when & then
+            assertThat(queue.hasDue(T0, symbol -> true)).isFalse();
+            assertThat(queue.hasDue(T0 + 29_999)).isFalse();
+            assertThat(queue.hasDue(T0 + 30_000)).isTrue();
+        }
+    }
+
+    @Nested
+    @DisplayName("보호 등급 기아 방지")
+    class StarvationTests {
+
+        @Test
+        @DisplayName("코어 종목은 여유가 남아 있으면 마감이 더 빠른 일반 종목에 순서를 양보한다")
+        void givenCoreWithSlack_whenNormalBacklog_thenNormalFirst() {
+            // given - 일반 종목 마감 T0+30s, 코어 종목 마감 T0+100s
+            queue.sync(List.of(normal("035720")), T0);
+            queue.sync(List.of(normal("035720"), core("005930")), T0 + 40_000);
+
+            // when & then - T0+45s: 코어 여유 55s > 주기 절반(30s)
+            assertThat(queue.pollDue(T0 + 45_000)).get()
+                    .extracting(DeadlineCollectionQueue.Job::tier).isEqualTo(CollectionTier.NORMAL);
+        }
+
+        @Test
+        @DisplayName("코어 종목의 마감이 임박하면 밀린 일반 종목보다 먼저 꺼낸다")
+        void givenUrgentCore_whenNormalBacklog_thenCoreFirst() {
+            // given - 일반 종목 마감 T0+30s로 이미 지남, 코어 종목 마감 T0+100s
+            queue.sync(List.of(normal("035720"), normal("000660")), T0);
+            queue.sync(List.of(normal("035720"), normal("000660"), core("005930")), T0 + 40_000);
+
+            // when & then - T0+75s: 코어 여유 25s <= 주기 절반(30s)
+            assertThat(queue.pollDue(T0 + 75_000)).get()
+                    .extracting(DeadlineCollectionQueue.Job::symbol).isEqualTo("005930");
+            assertThat(queue.pollDue(T0 + 75_000)).get()
+                    .extracting(DeadlineCollectionQueue.Job::tier).isEqualTo(CollectionTier.NORMAL);
+        }
+
+        @Test
+        @DisplayName("등급이 바뀐 종목은 기존 발행 시각을 유지한 채 새 등급으로 꺼낸다")
+        void givenTierChanged_whenPollDue_thenUsesNewTier() {
+            // given
+            queue.sync(List.of(normal("005930")), T0);
+
+            // when
+            queue.sync(List.of(CollectionTarget.of("005930", CollectionTier.HIGH, Duration.ofSeconds(15))), T0 + 5_000);
+
+            // then
+            DeadlineCollectionQueue.Job job = queue.pollDue(T0 + 5_000).orElseThrow();
+            assertThat(job.tier()).isEqualTo(CollectionTier.HIGH);
+            assertThat(job.deadlineMillis()).isEqualTo(T0 + 15_000);
+            assertThat(queue.size(CollectionTier.NORMAL)).isZero();
+        }
+    }
+
+    @Nested
+    @DisplayName("발행 분산과 메모리 정리")
+    class SpreadAndCleanupTests {
+
+        @Test
+        @DisplayName("신규 종목의 첫 발행은 주기 안에 고르게 분산된다")
+        void givenManyNewTargets_whenSync_thenReleasesSpreadAcrossInterval() {
+            // given
+            DeadlineCollectionQueue spreadQueue = new DeadlineCollectionQueue();
+            List<CollectionTarget> targets = IntStream.rangeClosed(1, 300)
+                    .mapToObj(i -> normal(String.format("%06d", i)))
+                    .toList();
+            spreadQueue.sync(targets, T0);
+
+            // when - 10초 구간별로 발행된 종목 수 집계
+            int[] releasedPerWindow = new int[3];
+            for (int window = 0; window < 3; window++) {
+                long windowEnd = T0 + (window + 1) * 10_000L - 1;
+                while (spreadQueue.pollDue(windowEnd).isPresent()) {
+                    releasedPerWindow[window]++;
+                }
+            }
+
+            // then - 모든 종목이 한 주기 안에 발행되고 한 구간에 몰리지 않음
+            assertThat(IntStream.of(releasedPerWindow).sum()).isEqualTo(300);
+            assertThat(releasedPerWindow).allSatisfy(count -> assertThat(count).isBetween(60, 140));
+        }
+
+        @Test
+        @DisplayName("첫 발행 지연은 종목마다 고정되고 주기를 넘지 않는다")
+        void givenSymbol_whenInitialOffset_thenStableWithinInterval() {
+            long offset = DeadlineCollectionQueue.initialOffsetMillis("005930", 30_000);
+
+            assertThat(offset).isBetween(0L, 29_999L);
+            assertThat(DeadlineCollectionQueue.initialOffsetMillis("005930", 30_000)).isEqualTo(offset);
+        }
+
+        @Test
+        @DisplayName("TTL 동안 다시 확인되지 않은 종목은 정리된다")
+        void givenUnconfirmedTarget_whenCleanup_thenRemoved() {
+            // given
+            queue.sync(List.of(normal("005930")), T0);
+
+            // when
+            int removed = queue.cleanup(T0 + Duration.ofDays(1).toMillis() + 1, Duration.ofDays(1));
+
+            // then
+            assertThat(removed).isEqualTo(1);
+            assertThat(queue.size()).isZero();
+            assertThat(queue.hasDue(T0 + Duration.ofDays(1).toMillis() + 1)).isFalse();
+        }
+    }
+
+    private CollectionTarget normal(String symbol) {
+        return CollectionTarget.of(symbol, CollectionTier.NORMAL, Duration.ofSeconds(30));
+    }
+
+    private CollectionTarget core(String symbol) {
+        return CollectionTarget.of(symbol, CollectionTier.CORE, Duration.ofMinutes(1));
+    }
+}
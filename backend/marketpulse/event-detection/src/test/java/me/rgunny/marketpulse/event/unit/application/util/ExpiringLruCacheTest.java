@@ -0,0 +1,75 @@
+package me.rgunny.marketpulse.event.unit.application.util;
+
+import me.rgunny.marketpulse.event.marketdata.application.util.ExpiringLruCache;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * ExpiringLruCache 단위 테스트
+ */
+@DisplayName("ExpiringLruCache 단위 테스트")
+class ExpiringLruCacheTest {
+
+    private static final long T0 = 1_736_737_200_000L;
+
+    @Test
+    @DisplayName("만료 시각 전까지만 조회된다")
+    void givenEntry_whenExpired_thenReturnsNull() {
+        // given
+        ExpiringLruCache<String, String> cache = new ExpiringLruCache<>(10);
+        cache.put("005930", "71000", T0 + 5_000);
+
+        // when & then
+        assertThat(cache.get("005930", T0 + 4_999)).isEqualTo("71000");
+        assertThat(cache.get("005930", T0 + 5_000)).isNull();
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("가득 차면 가장 오래 사용하지 않은 항목부터 제거한다")
+    void givenFullCache_whenPut_thenEvictsLeastRecentlyUsed() {
+        // given
+        ExpiringLruCache<String, String> cache = new ExpiringLruCache<>(2);
+        cache.put("005930", "71000", T0 + 5_000);
+        cache.put("035720", "45000", T0 + 5_000);
+        cache.get("005930", T0);
+
+        // when
+        cache.put("000660", "130000", T0 + 5_000);
+
+        // then
+        assertThat(cache.get("035720", T0)).isNull();
+        assertThat(cache.get("005930", T0)).isEqualTo("71000");
+        assertThat(cache.get("000660", T0)).isEqualTo("130000");
+        assertThat(cache.evictionCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("무효화하면 바로 제거된다")
+    void givenEntries_whenInvalidate_thenRemoved() {
+        // given
+        ExpiringLruCache<String, String> cache = new ExpiringLruCache<>(10);
+        cache.put("005930", "71000", T0 + 5_000);
+        cache.put("035720", "45000", T0 + 5_000);
+
+        // when
+        cache.invalidate("005930");
+
+        // then
+        assertThat(cache.get("005930", T0)).isNull();
+        assertThat(cache.size()).isEqualTo(1);
+
+        cache.invalidateAll();
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("maxSize 가 0 이하이면 생성할 수 없다")
+    void givenZeroMaxSize_whenCreate_thenThrows() {
+        assertThatThrownBy(() -> new ExpiringLruCache<String, String>(0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
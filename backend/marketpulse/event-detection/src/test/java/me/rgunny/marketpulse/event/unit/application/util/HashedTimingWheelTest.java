@@ -0,0 +1,103 @@
+package me.rgunny.marketpulse.event.unit.application.util;
+
+import me.rgunny.marketpulse.event.marketdata.application.util.HashedTimingWheel;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * HashedTimingWheel 단위 테스트
+ */
+@DisplayName("HashedTimingWheel 단위 테스트")
+class HashedTimingWheelTest {
+
+    private static final long T0 = 1_736_737_200_000L;
+
+    private final HashedTimingWheel<String> wheel = new HashedTimingWheel<>(Duration.ofMillis(100), 8, T0);
+
+    @Test
+    @DisplayName("만료 시각이 지난 원소만 꺼낸다")
+    void givenScheduledElements_whenAdvance_thenExpiresOnlyDue() {
+        // given
+        wheel.schedule("005930", T0 + 300);
+        wheel.schedule("035720", T0 + 500);
+
+        // when
+        List<String> expired = new ArrayList<>();
+        wheel.advance(T0 + 300, expired::add);
+
+        // then
+        assertThat(expired).containsExactly("005930");
+        assertThat(wheel.size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("한 바퀴보다 먼 만료 시각은 해당 바퀴가 될 때까지 남아 있다")
+    void givenDeadlineBeyondOneRevolution_whenAdvance_thenWaitsForItsRound() {
+        // given - 한 바퀴 = 8 * 100ms = 800ms
+        wheel.schedule("005930", T0 + 1_000);
+
+        // when
+        List<String> expired = new ArrayList<>();
+        wheel.advance(T0 + 200, expired::add);
+        wheel.advance(T0 + 900, expired::add);
+
+        // then
+        assertThat(expired).isEmpty();
+
+        wheel.advance(T0 + 1_000, expired::add);
+        assertThat(expired).containsExactly("005930");
+    }
+
+    @Test
+    @DisplayName("여러 바퀴를 한 번에 건너뛰어도 만료된 원소를 모두 꺼낸다")
+    void givenLongGap_whenAdvance_thenExpiresAll() {
+        // given
+        wheel.schedule("005930", T0 + 150);
+        wheel.schedule("035720", T0 + 2_550);
+
+        // when
+        List<String> expired = new ArrayList<>();
+        wheel.advance(T0 + 10_000, expired::add);
+
+        // then
+        assertThat(expired).containsExactlyInAnyOrder("005930", "035720");
+        assertThat(wheel.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("이미 지난 시각으로 등록한 원소는 다음 advance에서 바로 꺼낸다")
+    void givenPastDeadline_whenAdvanceSameTick_thenExpiresImmediately() {
+        // given
+        wheel.schedule("005930", T0 - 1_000);
+
+        // when
+        List<String> expired = new ArrayList<>();
+        wheel.advance(T0, expired::add);
+
+        // then
+        assertThat(expired).containsExactly("005930");
+    }
+
+    @Test
+    @DisplayName("조건에 맞는 원소를 제거한다")
+    void givenElements_whenRemoveIf_thenRemovesMatching() {
+        // given
+        wheel.schedule("005930", T0 + 300);
+        wheel.schedule("035720", T0 + 300);
+
+        // when
+        int removed = wheel.removeIf("005930"::equals);
+
+        // then
+        assertThat(removed).isEqualTo(1);
+        List<String> expired = new ArrayList<>();
+        wheel.advance(T0 + 300, expired::add);
+        assertThat(expired).containsExactly("035720");
+    }
+}
@@ -0,0 +1,70 @@
+package me.rgunny.marketpulse.event.unit.application.util;
+
+import me.rgunny.marketpulse.event.marketdata.application.util.NegativeCache;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * NegativeCache 단위 테스트
+ */
+@DisplayName("NegativeCache 단위 테스트")
+class NegativeCacheTest {
+
+    private static final long T0 = 1_736_737_200_000L;
+
+    private final NegativeCache<String> cache = new NegativeCache<>(Duration.ofSeconds(30), 2);
+
+    @Test
+    @DisplayName("기록한 키는 ttl 동안만 유효하다")
+    void givenRejectedKey_whenWithinTtl_thenContains() {
+        // given
+        cache.put("999999", T0);
+
+        // when & then
+        assertThat(cache.contains("999999", T0 + 29_999)).isTrue();
+        assertThat(cache.contains("999999", T0 + 30_000)).isFalse();
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("무효화한 키는 바로 제거된다")
+    void givenRejectedKey_whenInvalidate_thenNotContains() {
+        // given
+        cache.put("999999", T0);
+
+        // when
+        cache.invalidate("999999");
+
+        // then
+        assertThat(cache.contains("999999", T0)).isFalse();
+    }
+
+    @Test
+    @DisplayName("가득 차면 만료된 항목을 정리하고, 그래도 가득 차 있으면 새 항목은 기록하지 않는다")
+    void givenFullCache_whenPut_thenEvictsExpiredOrSkips() {
+        // given
+        cache.put("AAA", T0);
+        cache.put("BBB", T0 + 20_000);
+
+        // when - AAA 만료 후 CCC 기록, 이어서 DDD 는 공간이 없어 기록하지 않음
+        cache.put("CCC", T0 + 30_000);
+        cache.put("DDD", T0 + 30_000);
+
+        // then
+        assertThat(cache.contains("CCC", T0 + 30_000)).isTrue();
+        assertThat(cache.contains("BBB", T0 + 30_000)).isTrue();
+        assertThat(cache.contains("DDD", T0 + 30_000)).isFalse();
+    }
+
+    @Test
+    @DisplayName("ttl 이 0 이하이면 생성할 수 없다")
+    void givenZeroTtl_whenCreate_thenThrows() {
+        assertThatThrownBy(() -> new NegativeCache<String>(Duration.ZERO, 10))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
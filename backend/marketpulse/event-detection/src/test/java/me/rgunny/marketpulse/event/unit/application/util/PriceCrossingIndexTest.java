@@ -0,0 +1,124 @@
+package me.rgunny.marketpulse.event.unit.application.util;
+
+import me.rgunny.marketpulse.event.marketdata.application.util.PriceCrossingIndex;
+import me.rgunny.marketpulse.event.marketdata.domain.model.PriceCrossing;
+import me.rgunny.marketpulse.event.marketdata.domain.model.PriceTarget;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * PriceCrossingIndex 단위 테스트
+ */
+@DisplayName("PriceCrossingIndex 단위 테스트")
+class PriceCrossingIndexTest {
+
+    private final PriceCrossingIndex index = new PriceCrossingIndex();
+
+    @Test
+    @DisplayName("상승하면 직전가 초과 ~ 현재가 이하의 목표가만 목표가 순으로 돌려준다")
+    void givenTargets_whenPriceRises_thenReturnsCrossedTargetsInOrder() {
+        // given
+        index.add(target("t1", "005930", 80_000L));
+        index.add(target("t2", "005930", 79_000L));
+        index.add(target("t3", "005930", 78_000L));
+        index.add(target("t4", "005930", 81_000L));
+        index.add(target("t5", "000660", 79_000L));
+
+        // when - 첫 체결은 직전가만 기록
+        List<PriceCrossing> first = index.advance("005930", 78_000L);
+        List<PriceCrossing> crossed = index.advance("005930", 80_000L);
+
+        // then
+        assertThat(first).isEmpty();
+        assertThat(crossed).extracting(crossing -> crossing.target().id()).containsExactly("t2", "t1");
+        assertThat(crossed).allMatch(PriceCrossing::isUpward);
+        assertThat(crossed.get(0).previousPrice()).isEqualTo(78_000L);
+    }
+
+    @Test
+    @DisplayName("하락하면 현재가 이상 ~ 직전가 미만의 목표가를 돌려주고, 가격이 같으면 없다")
+    void givenTargets_whenPriceFalls_thenReturnsCrossedTargets() {
+        // given
+        index.add(target("t1", "005930", 80_000L));
+        index.add(target("t2", "005930", 79_000L));
+        index.add(target("t3", "005930", 77_000L));
+        index.advance("005930", 80_000L);
+
+        // when
+        List<PriceCrossing> same = index.advance("005930", 80_000L);
+        List<PriceCrossing> crossed = index.advance("005930", 79_000L);
+
+        // then
+        assertThat(same).isEmpty();
+        assertThat(crossed).extracting(crossing -> crossing.target().id()).containsExactly("t2");
+        assertThat(crossed.get(0).isUpward()).isFalse();
+    }
+
+    @Test
+    @DisplayName("같은 목표가에 여러 알림이 있으면 모두 돌려주고, 해제한 알림은 제외한다")
+    void givenSamePriceTargets_whenRemoveOne_thenReturnsOthers() {
+        // given
+        index.add(target("t1", "005930", 80_000L));
+        index.add(target("t2", "005930", 80_000L));
+        index.add(target("t3", "005930", 80_000L));
+        index.advance("005930", 79_000L);
+
+        // when
+        PriceTarget removed = index.remove("t2");
+        List<PriceCrossing> crossed = index.advance("005930", 80_500L);
+
+        // then
+        assertThat(removed.id()).isEqualTo("t2");
+        assertThat(index.remove("t2")).isNull();
+        assertThat(crossed).extracting(crossing -> crossing.target().id()).containsExactlyInAnyOrder("t1", "t3");
+        assertThat(index.size()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("종목의 목표가를 모두 해제하면 종목을 색인에서 제거하고, 다시 등록하면 다음 체결부터 판단한다")
+    void givenLastTargetRemoved_whenReAdd_thenStartsFresh() {
+        // given
+        index.add(target("t1", "005930", 80_000L));
+        index.add(target("t2", "005930", 81_000L));
+        index.add(target("t3", "000660", 200_000L));
+        index.advance("005930", 79_000L);
+
+        // when
+        index.remove("t1");
+        index.remove("t2");
+
+        // then
+        assertThat(index.symbolCount()).isEqualTo(1);
+        assertThat(index.targets("005930")).isEmpty();
+
+        // 다시 등록한 종목은 직전가가 없으므로 첫 체결은 직전가만 기록
+        index.add(target("t4", "005930", 80_000L));
+        assertThat(index.advance("005930", 80_500L)).isEmpty();
+        assertThat(index.advance("005930", 79_500L)).extracting(crossing -> crossing.target().id())
+                .containsExactly("t4");
+    }
+
+    @Test
+    @DisplayName("같은 ID 는 다시 등록하지 않고, 목표가가 없는 종목은 빈 결과를 돌려준다")
+    void givenDuplicateIdOrUnknownSymbol_whenAddOrAdvance_thenIgnored() {
+        // given
+        boolean added = index.add(target("t1", "005930", 80_000L));
+
+        // when
+        boolean duplicated = index.add(target("t1", "005930", 90_000L));
+
+        // then
+        assertThat(added).isTrue();
+        assertThat(duplicated).isFalse();
+        assertThat(index.targets("005930")).extracting(PriceTarget::targetPrice).containsExactly(80_000L);
+        assertThat(index.advance("035720", 50_000L)).isEmpty();
+    }
+
+    private static PriceTarget target(String id, String symbol, long targetPrice) {
+        return new PriceTarget(id, "user-" + id, symbol, targetPrice);
+    }
+}
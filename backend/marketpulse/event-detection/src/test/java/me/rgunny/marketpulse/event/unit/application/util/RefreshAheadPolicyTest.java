@@ -0,0 +1,101 @@
+package me.rgunny.marketpulse.event.unit.application.util;
+
+import me.rgunny.marketpulse.event.marketdata.application.util.RefreshAheadPolicy;
+import me.rgunny.marketpulse.event.marketdata.application.util.TokenBucketRateLimiter;
+import me.rgunny.marketpulse.event.marketdata.infrastructure.config.shared.MarketDataCacheProperties;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * RefreshAheadPolicy 단위 테스트
+ */
+@DisplayName("RefreshAheadPolicy 단위 테스트")
+class RefreshAheadPolicyTest {
+
+    private static final Instant NOW = Instant.parse("2025-01-13T03:00:00Z");
+    private static final Clock CLOCK = Clock.fixed(NOW, ZoneId.of("Asia/Seoul"));
+    private static final LocalDateTime NOW_LOCAL = LocalDateTime.ofInstant(NOW, ZoneId.systemDefault());
+
+    private static MarketDataCacheProperties.RefreshAhead config(boolean enabled) {
+        return new MarketDataCacheProperties.RefreshAhead(enabled, Duration.ofSeconds(30), Duration.ofMinutes(1), 60, 5);
+    }
+
+    @Nested
+    @DisplayName("softTtl 경과 판단")
+    class Staleness {
+
+        private final RefreshAheadPolicy policy = new RefreshAheadPolicy(config(true), CLOCK);
+
+        @Test
+        @DisplayName("수집 후 softTtl 이 지나면 오래된 시세로 판단한다")
+        void givenCollectedAt_whenSoftTtlElapsed_thenStale() {
+            assertThat(policy.isStale(NOW_LOCAL.minusSeconds(29))).isFalse();
+            assertThat(policy.isStale(NOW_LOCAL.minusSeconds(30))).isTrue();
+        }
+
+        @Test
+        @DisplayName("수집 시각을 모르면 오래된 시세로 판단한다")
+        void givenNoCollectedAt_whenCheck_thenStale() {
+            assertThat(policy.isStale(null)).isTrue();
+        }
+
+        @Test
+        @DisplayName("비활성화하면 항상 최신으로 판단하고 예약하지 않는다")
+        void givenDisabled_whenCheck_thenNeverStale() {
+            RefreshAheadPolicy disabled = new RefreshAheadPolicy(config(false), CLOCK);
+
+            assertThat(disabled.isStale(NOW_LOCAL.minusMinutes(5))).isFalse();
+            assertThat(disabled.tryBegin("005930")).isFalse();
+        }
+    }
+
+    @Nested
+    @DisplayName("갱신 예약")
+    class Reservation {
+
+        @Test
+        @DisplayName("같은 종목은 갱신이 끝날 때까지 다시 예약하지 않는다")
+        void givenRefreshInFlight_whenTryBeginSameSymbol_thenRejected() {
+            // given
+            RefreshAheadPolicy policy = new RefreshAheadPolicy(config(true), new TokenBucketRateLimiter(60, 5), CLOCK);
+
+            // when & then
+            assertThat(policy.tryBegin("005930")).isTrue();
+            assertThat(policy.tryBegin("005930")).isFalse();
+            assertThat(policy.tryBegin("035720")).isTrue();
+
+            policy.complete("005930");
+            assertThat(policy.tryBegin("005930")).isTrue();
+        }
+
+        @Test
+        @DisplayName("허용량이 없으면 예약하지 않고 종목을 잡아두지 않는다")
+        void givenBudgetExhausted_whenTryBegin_thenRejectedAndReleased() {
+            // given - 고정된 시각의 분당 1회 제한기
+            RefreshAheadPolicy policy = new RefreshAheadPolicy(config(true), new TokenBucketRateLimiter(1, 1, () -> 0L), CLOCK);
+
+            // when & then
+            assertThat(policy.tryBegin("005930")).isTrue();
+            assertThat(policy.tryBegin("035720")).isFalse();
+            assertThat(policy.inFlight()).isEqualTo(1);
+        }
+    }
+
+    @Test
+    @DisplayName("softTtl 이 hardTtl 보다 짧지 않으면 설정할 수 없다")
+    void givenSoftTtlNotShorterThanHardTtl_whenCreate_thenThrows() {
+        assertThatThrownBy(() -> new MarketDataCacheProperties.RefreshAhead(
+                true, Duration.ofMinutes(1), Duration.ofMinutes(1), 60, 5))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
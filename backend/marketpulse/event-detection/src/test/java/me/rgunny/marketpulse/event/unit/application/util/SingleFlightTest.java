@@ -0,0 +1,118 @@
+package me.rgunny.marketpulse.event.unit.application.util;
+
+import me.rgunny.marketpulse.event.marketdata.application.util.SingleFlight;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * SingleFlight 단위 테스트
+ */
+@DisplayName("SingleFlight 단위 테스트")
+class SingleFlightTest {
+
+    private final SingleFlight<String, String> singleFlight = new SingleFlight<>();
+    private final AtomicInteger calls = new AtomicInteger();
+    private final AtomicInteger shared = new AtomicInteger();
+
+    @Test
+    @DisplayName("같은 키로 진행 중인 호출이 있으면 합류하여 같은 결과를 받는다")
+    void givenInFlightCall_whenSameKey_thenJoinsCall() {
+        // given
+        Sinks.One<String> upstream = Sinks.one();
+        List<String> received = new CopyOnWriteArrayList<>();
+
+        // when
+        execute("005930", upstream.asMono()).subscribe(received::add);
+        execute("005930", upstream.asMono()).subscribe(received::add);
+        execute("005930", upstream.asMono()).subscribe(received::add);
+        upstream.tryEmitValue("71000");
+
+        // then
+        assertThat(received).containsExactly("71000", "71000", "71000");
+        assertThat(calls).hasValue(1);
+        assertThat(shared).hasValue(2);
+        assertThat(singleFlight.inFlight()).isZero();
+    }
+
+    @Test
+    @DisplayName("다른 키는 각자 호출한다")
+    void givenDifferentKeys_whenExecute_thenCallsEach() {
+        // given
+        Sinks.One<String> samsung = Sinks.one();
+        Sinks.One<String> kakao = Sinks.one();
+
+        // when
+        execute("005930", samsung.asMono()).subscribe();
+        execute("035720", kakao.asMono()).subscribe();
+
+        // then
+        assertThat(calls).hasValue(2);
+        assertThat(shared).hasValue(0);
+        assertThat(singleFlight.inFlight()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("호출이 끝나면 결과를 보관하지 않고 다음 요청은 새로 호출한다")
+    void givenCompletedCall_whenExecuteAgain_thenCallsAgain() {
+        // when
+        StepVerifier.create(execute("005930", Mono.just("71000"))).expectNext("71000").verifyComplete();
+        StepVerifier.create(execute("005930", Mono.just("71100"))).expectNext("71100").verifyComplete();
+
+        // then
+        assertThat(calls).hasValue(2);
+        assertThat(shared).hasValue(0);
+    }
+
+    @Test
+    @DisplayName("실패한 호출은 합류한 구독자 모두에게 전달되고 다음 요청은 새로 호출한다")
+    void givenFailedCall_whenExecuteAgain_thenCallsAgain() {
+        // given
+        Sinks.One<String> upstream = Sinks.one();
+        Mono<String> first = execute("005930", upstream.asMono());
+        Mono<String> second = execute("005930", upstream.asMono());
+
+        // when & then
+        StepVerifier.create(Mono.zipDelayError(first, second))
+                .then(() -> upstream.tryEmitError(new IllegalStateException("KIS 오류")))
+                .expectError(IllegalStateException.class)
+                .verify();
+        StepVerifier.create(execute("005930", Mono.just("71000"))).expectNext("71000").verifyComplete();
+        assertThat(calls).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("먼저 구독한 쪽이 타임아웃으로 취소해도 합류한 구독자는 결과를 받는다")
+    void givenLeaderCancelled_whenCallCompletes_thenFollowerReceives() {
+        // given
+        Sinks.One<String> upstream = Sinks.one();
+        List<String> received = new CopyOnWriteArrayList<>();
+
+        // when
+        execute("005930", upstream.asMono()).timeout(Duration.ZERO).subscribe(value -> { }, error -> { });
+        execute("005930", upstream.asMono()).subscribe(received::add);
+        upstream.tryEmitValue("71000");
+
+        // then
+        assertThat(received).containsExactly("71000");
+        assertThat(calls).hasValue(1);
+    }
+
+    private Mono<String> execute(String key, Mono<String> upstream) {
+        return singleFlight.execute(key,
+                () -> {
+                    calls.incrementAndGet();
+                    return upstream;
+                },
+                shared::incrementAndGet);
+    }
+}
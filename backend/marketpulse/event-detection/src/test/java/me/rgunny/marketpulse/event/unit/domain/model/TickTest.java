@@ -0,0 +1,86 @@
+package me.rgunny.marketpulse.event.unit.domain.model;
+
+import me.rgunny.marketpulse.event.marketdata.domain.model.StockPrice;
+import me.rgunny.marketpulse.event.marketdata.domain.model.Tick;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tick 도메인 값 객체 단위 테스트
+ */
+@DisplayName("Tick 도메인 값 객체 테스트")
+class TickTest {
+
+    @ParameterizedTest(name = "현재가 {0}, 전일종가 {1}")
+    @CsvSource({
+            "71000, 70000",
+            "66500, 70000",
+            "70000, 70000",
+            "100001, 99999",
+            "1005, 1000",
+            "995, 1000",
+            "1299, 1000",
+            "123, 0"
+    })
+    @DisplayName("basis point 등락률은 StockPrice 의 BigDecimal 등락률과 같다")
+    void givenPrices_whenCreate_thenChangeRateMatchesStockPrice(long price, long previousClose) {
+        // given
+        StockPrice expected = StockPrice.createWithTTL(
+                "005930", "삼성전자",
+                BigDecimal.valueOf(price), BigDecimal.valueOf(previousClose),
+                BigDecimal.valueOf(price), BigDecimal.valueOf(price), BigDecimal.valueOf(price),
+                0L, BigDecimal.valueOf(price), BigDecimal.valueOf(price));
+
+        // when
+        Tick tick = Tick.of("005930", price, previousClose, price, price, price, price, price, 0L, 0L);
+
+        // then
+        assertThat(BigDecimal.valueOf(tick.changeRateBps(), 2)).isEqualByComparingTo(expected.getChangeRate());
+        assertThat(tick.change()).isEqualTo(expected.getChange().longValueExact());
+    }
+
+    @Test
+    @DisplayName("저장/응답 경계에서 같은 값을 가진 StockPrice 로 변환한다")
+    void givenTick_whenToStockPrice_thenCopiesFields() {
+        // given
+        long epochMillis = Instant.parse("2025-01-13T00:30:00Z").toEpochMilli();
+        Tick tick = Tick.of("005930", 71000L, 70000L, 70500L, 71500L, 69800L, 71100L, 70900L, 1234567L, epochMillis);
+
+        // when
+        StockPrice price = tick.toStockPrice("삼성전자");
+
+        // then
+        assertThat(price.getSymbol()).isEqualTo("005930");
+        assertThat(price.getName()).isEqualTo("삼성전자");
+        assertThat(price.getCurrentPrice()).isEqualByComparingTo("71000");
+        assertThat(price.getPreviousClose()).isEqualByComparingTo("70000");
+        assertThat(price.getChange()).isEqualByComparingTo("1000");
+        assertThat(price.getChangeRate()).isEqualByComparingTo("1.43");
+        assertThat(price.getOpen()).isEqualByComparingTo("70500");
+        assertThat(price.getHigh()).isEqualByComparingTo("71500");
+        assertThat(price.getLow()).isEqualByComparingTo("69800");
+        assertThat(price.getAskPrice1()).isEqualByComparingTo("71100");
+        assertThat(price.getBidPrice1()).isEqualByComparingTo("70900");
+        assertThat(price.getVolume()).isEqualTo(1234567L);
+        assertThat(price.getTimestamp())
+                .isEqualTo(LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMillis), ZoneId.systemDefault()));
+    }
+
+    @Test
+    @DisplayName("퍼센트 임계값을 basis point 로 변환한다")
+    void givenPercent_whenToBasisPoints_thenConverts() {
+        assertThat(Tick.toBasisPoints(new BigDecimal("5.0"))).isEqualTo(500);
+        assertThat(Tick.toBasisPoints(new BigDecimal("-29.5"))).isEqualTo(-2950);
+        assertThat(Tick.toBasisPoints(new BigDecimal("1.4286"))).isEqualTo(143);
+        assertThat(Tick.toBasisPoints(null)).isZero();
+    }
+}
@@ -4,6 +4,7 @@ import me.rgunny.marketpulse.event.marketdata.domain.error.StockPriceErrorCode;
 import me.rgunny.marketpulse.event.marketdata.application.port.in.GetStockPriceUseCase;
 import me.rgunny.marketpulse.event.marketdata.domain.model.StockPrice;
 import me.rgunny.marketpulse.event.marketdata.infrastructure.adapter.in.rest.StockPriceController;
+import me.rgunny.marketpulse.common.core.exception.BusinessException;
 import me.rgunny.marketpulse.common.core.response.Result;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -11,13 +12,19 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
 import java.math.BigDecimal;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.IntStream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
@@ -165,6 +172,91 @@ class StockPriceControllerTest {
                 .verifyComplete();
     }
     
+    @Test
+    @DisplayName("여러 종목 현재가 일괄 조회 시 공백과 중복을 제거하여 조회한다")
+    void givenSymbolsWithBlankAndDuplicate_whenGetCurrentPrices_thenReturnsSuccessResult() {
+        // given
+        StockPrice stockPrice = createSampleStockPrice();
+        given(getStockPriceUseCase.getCurrentPrices(List.of(SYMBOL, "000660"))).willReturn(Flux.just(stockPrice));
+        
+        // when
+        Mono<Result<List<StockPrice>>> result = controller.getCurrentPrices(List.of(" 005930", "", "000660", SYMBOL));
+        
+        // then
+        StepVerifier.create(result)
+                .assertNext(response -> {
+                    assertThat(response.isSuccess()).isTrue();
+                    assertThat(response.dataOrThrow()).extracting(StockPrice::getSymbol).containsExactly(SYMBOL);
+                })
+                .verifyComplete();
+    }
+    
+    @Test
+    @DisplayName("일괄 조회 종목 수가 허용 개수를 넘으면 조회하지 않고 에러 응답")
+    void givenTooManySymbols_whenGetCurrentPrices_thenReturnsErrorResult() {
+        // given
+        List<String> symbols = IntStream.range(0, 101)
+                .mapToObj(i -> String.format("%06d", i))
+                .toList();
+        
+        // when
+        Mono<Result<List<StockPrice>>> result = controller.getCurrentPrices(symbols);
+        
+        // then
+        StepVerifier.create(result)
+                .assertNext(response -> {
+                    assertThat(response.isFailure()).isTrue();
+                    assertThat(response.code()).isEqualTo(StockPriceErrorCode.STOCK_PRICE_006.code());
+                })
+                .verifyComplete();
+        
+        verify(getStockPriceUseCase, never()).getCurrentPrices(anyCollection());
+    }
+    
+    @Test
+    @DisplayName("일괄 조회 실패 시 에러 응답")
+    void givenServiceError_whenGetCurrentPrices_thenReturnsErrorResult() {
+        // given
+        given(getStockPriceUseCase.getCurrentPrices(List.of(SYMBOL)))
+                .willReturn(Flux.error(new RuntimeException("조회 실패")));
+        
+        // when
+        Mono<Result<List<StockPrice>>> result = controller.getCurrentPrices(List.of(SYMBOL));
+        
+        // then
+        StepVerifier.create(result)
+                .assertNext(response -> assertThat(response.code()).isEqualTo(StockPriceErrorCode.STOCK_PRICE_001.code()))
+                .verifyComplete();
+    }
+    
+    @Test
+    @DisplayName("스트리밍 조회는 조회된 현재가를 그대로 흘려보낸다")
+    void givenValidSymbols_whenStreamCurrentPrices_thenStreamsPrices() {
+        // given
+        StockPrice stockPrice = createSampleStockPrice();
+        given(getStockPriceUseCase.getCurrentPrices(List.of(SYMBOL))).willReturn(Flux.just(stockPrice));
+        
+        // when
+        Flux<StockPrice> result = controller.streamCurrentPrices(List.of(SYMBOL));
+        
+        // then
+        StepVerifier.create(result)
+                .expectNext(stockPrice)
+                .verifyComplete();
+    }
+    
+    @Test
+    @DisplayName("스트리밍 조회에 종목코드가 없으면 BusinessException")
+    void givenNoSymbols_whenStreamCurrentPrices_thenErrors() {
+        // when
+        Flux<StockPrice> result = controller.streamCurrentPrices(Collections.emptyList());
+        
+        // then
+        StepVerifier.create(result)
+                .expectErrorSatisfies(error -> assertThat(error).isInstanceOf(BusinessException.class))
+                .verify();
+    }
+    
     private StockPrice createSampleStockPrice() {
         return StockPrice.createWithTTL(
                 SYMBOL,
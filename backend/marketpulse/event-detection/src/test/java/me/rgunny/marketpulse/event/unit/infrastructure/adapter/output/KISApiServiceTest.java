@@ -0,0 +1,172 @@
+package me.rgunny.marketpulse.event.unit.infrastructure.adapter.output;
+
+import me.rgunny.marketpulse.event.marketdata.application.port.out.kis.KISCredentialPort;
+import me.rgunny.marketpulse.event.marketdata.application.port.out.kis.KISTokenPort;
+import me.rgunny.marketpulse.event.marketdata.application.port.out.shared.StockPort;
+import me.rgunny.marketpulse.event.marketdata.application.service.SymbolRegistry;
+import me.rgunny.marketpulse.event.marketdata.domain.exception.kis.KisApiException;
+import me.rgunny.marketpulse.event.marketdata.domain.model.StockPrice;
+import me.rgunny.marketpulse.event.marketdata.infrastructure.adapter.out.kis.KISApiRetryService;
+import me.rgunny.marketpulse.event.marketdata.infrastructure.adapter.out.kis.KISApiService;
+import me.rgunny.marketpulse.event.marketdata.infrastructure.adapter.out.kis.KISRequestTemplates;
+import me.rgunny.marketpulse.event.marketdata.infrastructure.config.kis.KISApiProperties;
+import me.rgunny.marketpulse.event.marketdata.infrastructure.resilience.KISApiCircuitBreakerService;
+import me.rgunny.marketpulse.event.support.TestClockFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Clock;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("KISApiService 단위 테스트")
+class KISApiServiceTest {
+
+    private static final String SUCCESS_BODY = """
+            {"rt_cd":"0","msg_cd":"MCA00000","msg1":"정상처리 되었습니다.","output":[
+              {"inter_shrn_iscd":"005930","inter_kor_isnm":"삼성전자","inter2_prpr":"71000","inter2_prdy_clpr":"70000",
+               "inter2_hgpr":"71500","inter2_lwpr":"70500","inter2_oprc":"70800","acml_vol":"1000000",
+               "inter2_askp":"71100","inter2_bidp":"70900"},
+              {"inter_shrn_iscd":"000660","inter_kor_isnm":"SK하이닉스","inter2_prpr":"120000","inter2_prdy_clpr":"118000",
+               "inter2_hgpr":"121000","inter2_lwpr":"117500","inter2_oprc":"118500","acml_vol":"500000",
+               "inter2_askp":"120100","inter2_bidp":"119900"}]}
+            """;
+
+    private static final String THROTTLED_BODY = """
+            {"rt_cd":"1","msg_cd":"EGW00201","msg1":"초당 거래건수를 초과하였습니다.","output":[]}
+            """;
+
+    // 테스트용 종목코드 오류 응답 코드
+    private static final String INVALID_SYMBOL_CODE = "TEST0001";
+
+    private static final String INVALID_SYMBOL_BODY = """
+            {"rt_cd":"1","msg_cd":"TEST0001","msg1":"종목코드 오류","output":[]}
+            """;
+
+    @Mock
+    private KISCredentialPort credentialPort;
+
+    @Mock
+    private KISTokenPort tokenPort;
+
+    @Mock
+    private StockPort stockPort;
+
+    @Mock
+    private KISApiCircuitBreakerService circuitBreakerService;
+
+    @Mock
+    private KISApiRetryService retryService;
+
+    private KISApiProperties properties;
+
+    private final Clock clock = TestClockFactory.marketMiddle();
+
+    @BeforeEach
+    void setUp() {
+        properties = new KISApiProperties(
+                true, "https://openapi.koreainvestment.com:9443", "app-key", "app-secret",
+                null, null, null, null, null, null, null, null, null, null, null, null, null,
+                List.of(INVALID_SYMBOL_CODE));
+        given(credentialPort.getDecryptedAppKey()).willReturn("app-key");
+        given(credentialPort.getDecryptedAppSecret()).willReturn("app-secret");
+        given(tokenPort.getAccessToken()).willReturn(Mono.just("token"));
+        // 재시도/서킷브레이커는 그대로 통과시켜 응답 변환만 검증
+        given(retryService.withRetry(any(), anyString())).willAnswer(invocation -> invocation.getArgument(0));
+        given(circuitBreakerService.executeGetCurrentPrices(anyList(), any()))
+                .willAnswer(invocation -> invocation.getArgument(1));
+    }
+
+    @Test
+    @DisplayName("여러 종목 시세 응답을 종목별 현재가로 변환한다")
+    void givenSuccessResponse_whenFetchCurrentPrices_thenMapsEachSymbol() {
+        // given
+        KISApiService service = serviceRespondingWith(SUCCESS_BODY);
+
+        // when & then
+        StepVerifier.create(service.fetchCurrentPrices(List.of("005930", "000660")).map(StockPrice::getSymbol))
+                .expectNext("005930", "000660")
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("수집용 조회는 응답을 StockPrice 없이 체결과 종목명으로 변환한다")
+    void givenSuccessResponse_whenFetchQuotes_thenMapsToTicks() {
+        // given
+        KISApiService service = serviceRespondingWith(SUCCESS_BODY);
+
+        // when & then
+        StepVerifier.create(service.fetchQuotes(List.of("005930", "000660")))
+                .assertNext(quote -> {
+                    assertThat(quote.name()).isEqualTo("삼성전자");
+                    assertThat(quote.tick().price()).isEqualTo(71000L);
+                    assertThat(quote.tick().previousClose()).isEqualTo(70000L);
+                    assertThat(quote.tick().open()).isEqualTo(70800L);
+                    assertThat(quote.tick().askPrice1()).isEqualTo(71100L);
+                    assertThat(quote.tick().volume()).isEqualTo(1_000_000L);
+                    assertThat(quote.tick().changeRateBps()).isEqualTo(143);
+                    assertThat(quote.tick().epochMillis()).isEqualTo(clock.millis());
+                })
+                .assertNext(quote -> assertThat(quote.symbol()).isEqualTo("000660"))
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("KIS 가 종목코드 오류로 여러 종목 요청을 거부하면 묶음 종목의 거부 예외로 실패한다")
+    void givenInvalidSymbolResponse_whenFetchCurrentPrices_thenFailsWithSymbolRejection() {
+        // given
+        KISApiService service = serviceRespondingWith(INVALID_SYMBOL_BODY);
+
+        // when & then
+        StepVerifier.create(service.fetchCurrentPrices(List.of("005930", "000660")))
+                .expectErrorSatisfies(error -> {
+                    assertThat(error).isInstanceOf(KisApiException.class);
+                    assertThat(((KisApiException) error).getSymbol()).isEqualTo("005930,000660");
+                })
+                .verify();
+    }
+
+    @Test
+    @DisplayName("초당 거래건수 초과 같은 그 외 거부는 종목을 지정하지 않은 일시적 오류로 실패한다")
+    void givenThrottledResponse_whenFetchCurrentPrices_thenFailsAsTransientError() {
+        // given
+        KISApiService service = serviceRespondingWith(THROTTLED_BODY);
+
+        // when & then
+        StepVerifier.create(service.fetchCurrentPrices(List.of("005930", "000660")))
+                .expectErrorSatisfies(error -> {
+                    assertThat(error).isInstanceOf(KisApiException.class);
+                    assertThat(((KisApiException) error).getSymbol()).isNull();
+                    assertThat(((KisApiException) error).getDetail()).startsWith("EGW00201");
+                })
+                .verify();
+    }
+
+    private KISApiService serviceRespondingWith(String body) {
+        WebClient webClient = WebClient.builder()
+                .exchangeFunction(request -> Mono.just(ClientResponse.create(HttpStatus.OK)
+                        .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                        .body(body)
+                        .build()))
+                .build();
+        return new KISApiService(webClient, new KISRequestTemplates(credentialPort, properties), tokenPort,
+                stockPort, new SymbolRegistry(stockPort), properties, circuitBreakerService, retryService, clock);
+    }
+}
@@ -0,0 +1,117 @@
+package me.rgunny.marketpulse.event.unit.infrastructure.adapter.output;
+
+import me.rgunny.marketpulse.event.marketdata.application.port.out.kis.KISCredentialPort;
+import me.rgunny.marketpulse.event.marketdata.infrastructure.adapter.out.kis.KISRequestTemplates;
+import me.rgunny.marketpulse.event.marketdata.infrastructure.config.kis.KISApiProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
+
+import java.net.URI;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("KISRequestTemplates 단위 테스트")
+class KISRequestTemplatesTest {
+
+    private static final String TRANSACTION_ID = "FHKST01010100";
+
+    @Mock
+    private KISCredentialPort credentialPort;
+
+    private KISRequestTemplates templates;
+
+    @BeforeEach
+    void setUp() {
+        KISApiProperties properties = new KISApiProperties(
+                true, "https://openapi.koreainvestment.com:9443", "app-key", "app-secret",
+                null, null, null, null, null, null, null, null, null, null, null, null, null, null);
+        given(credentialPort.getDecryptedAppKey()).willReturn("app-key");
+        given(credentialPort.getDecryptedAppSecret()).willReturn("app-secret");
+        templates = new KISRequestTemplates(credentialPort, properties);
+    }
+
+    @Test
+    @DisplayName("같은 토큰과 트랜잭션 ID 면 미리 만든 헤더를 그대로 재사용하고 자격증명은 다시 읽지 않는다")
+    void givenSameToken_whenHeaders_thenReusesPrebuiltHeaders() {
+        // when
+        HttpHeaders first = templates.headers("token-1", TRANSACTION_ID);
+        HttpHeaders second = templates.headers(new String("token-1"), TRANSACTION_ID);
+
+        // then
+        assertThat(second).isSameAs(first);
+        assertThat(first.getFirst("authorization")).isEqualTo("Bearer token-1");
+        assertThat(first.getFirst("appkey")).isEqualTo("app-key");
+        assertThat(first.getFirst("appsecret")).isEqualTo("app-secret");
+        assertThat(first.getFirst("tr_id")).isEqualTo(TRANSACTION_ID);
+        assertThat(first.containsKey("custtype")).isFalse();
+        verify(credentialPort, times(1)).getDecryptedAppKey();
+    }
+
+    @Test
+    @DisplayName("토큰이 바뀌면 새 토큰으로 헤더를 다시 만든다")
+    void givenRotatedToken_whenHeaders_thenRebuildsWithNewToken() {
+        // given
+        HttpHeaders before = templates.headers("token-1", TRANSACTION_ID);
+
+        // when
+        HttpHeaders after = templates.headers("token-2", TRANSACTION_ID);
+
+        // then
+        assertThat(after).isNotSameAs(before);
+        assertThat(after.getFirst("authorization")).isEqualTo("Bearer token-2");
+    }
+
+    @Test
+    @DisplayName("고객유형 헤더가 필요한 요청은 custtype 을 포함한다")
+    void givenCustomerRequest_whenCustomerHeaders_thenIncludesCustType() {
+        // when
+        HttpHeaders headers = templates.customerHeaders("token-1", "FHKST11300006");
+
+        // then
+        assertThat(headers.getFirst("custtype")).isEqualTo("P");
+        assertThat(headers.getFirst("tr_id")).isEqualTo("FHKST11300006");
+    }
+
+    @Test
+    @DisplayName("자격증명을 갱신하면 다시 읽어 헤더를 새로 만든다")
+    void givenCredentialsRotated_whenRefreshCredentials_thenRebuildsHeaders() {
+        // given
+        HttpHeaders before = templates.headers("token-1", TRANSACTION_ID);
+        given(credentialPort.getDecryptedAppKey()).willReturn("rotated-key");
+
+        // when
+        templates.refreshCredentials();
+        HttpHeaders after = templates.headers("token-1", TRANSACTION_ID);
+
+        // then
+        assertThat(after).isNotSameAs(before);
+        assertThat(after.getFirst("appkey")).isEqualTo("rotated-key");
+    }
+
+    @Test
+    @DisplayName("엔드포인트 템플릿은 접두어에 값만 이어 붙이고, 값은 인코딩한다")
+    void givenEndpoint_whenUri_thenAppendsEncodedValues() {
+        // given
+        KISRequestTemplates.Endpoint endpoint = templates.endpoint("/uapi/domestic-stock/v1/quotations/inquire-price",
+                "fid_cond_mrkt_div_code", "fid_input_iscd");
+
+        // when
+        URI uri = endpoint.uri("J", "A 1&2");
+
+        // then
+        assertThat(uri.toString()).isEqualTo("https://openapi.koreainvestment.com:9443"
+                + "/uapi/domestic-stock/v1/quotations/inquire-price?fid_cond_mrkt_div_code=J&fid_input_iscd=A%201%262");
+        assertThatThrownBy(() -> endpoint.uri("J", "005930", "extra"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
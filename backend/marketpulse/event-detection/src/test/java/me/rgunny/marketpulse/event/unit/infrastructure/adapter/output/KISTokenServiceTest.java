@@ -0,0 +1,246 @@
+package me.rgunny.marketpulse.event.unit.infrastructure.adapter.output;
+
+import me.rgunny.marketpulse.event.marketdata.application.port.out.SyncLockPort;
+import me.rgunny.marketpulse.event.marketdata.application.port.out.kis.KISCredentialPort;
+import me.rgunny.marketpulse.event.marketdata.application.port.out.kis.KISTokenCachePort;
+import me.rgunny.marketpulse.event.marketdata.infrastructure.adapter.out.kis.KISTokenService;
+import me.rgunny.marketpulse.event.marketdata.infrastructure.config.kis.KISApiProperties;
+import me.rgunny.marketpulse.event.marketdata.infrastructure.resilience.KISApiCircuitBreakerService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("KISTokenService 단위 테스트")
+class KISTokenServiceTest {
+
+    private static final String LEASE_KEY = "kis_token_issue";
+    private static final int EXPIRES_IN_SECONDS = 7200;
+
+    @Mock
+    private KISCredentialPort credentialPort;
+
+    @Mock
+    private KISTokenCachePort tokenCachePort;
+
+    @Mock
+    private KISApiCircuitBreakerService circuitBreakerService;
+
+    @Mock
+    private SyncLockPort syncLockPort;
+
+    private final AtomicInteger issuedCount = new AtomicInteger();
+    private final AtomicInteger failedIssueCount = new AtomicInteger();
+    private volatile boolean issueFailing;
+    private final MutableClock clock = new MutableClock(Instant.parse("2025-01-13T03:00:00Z"));
+    private Duration issueDelay = Duration.ZERO;
+    private KISTokenService tokenService;
+
+    @BeforeEach
+    void setUp() {
+        KISApiProperties properties = new KISApiProperties(
+                true, "http://localhost", "app-key", "app-secret",
+                null, null, null, null, null, null, null, null, null, null,
+                null, null, new KISApiProperties.Token(60, 30, 1, 10), null);
+
+        // 발급할 때마다 token-1, token-2 ... 를 돌려주는 KIS 토큰 API 대역
+        WebClient webClient = WebClient.builder()
+                .baseUrl("http://localhost")
+                .exchangeFunction(request -> {
+                    if (issueFailing) {
+                        failedIssueCount.incrementAndGet();
+                        return Mono.error(new IllegalStateException("KIS token API unavailable"));
+                    }
+                    Mono<ClientResponse> response = Mono.fromSupplier(() -> ClientResponse.create(HttpStatus.OK)
+                            .header("Content-Type", "application/json")
+                            .body("{\"access_token\":\"token-" + issuedCount.incrementAndGet()
+                                    + "\",\"token_type\":\"Bearer\",\"expires_in\":" + EXPIRES_IN_SECONDS + "}")
+                            .build());
+                    return issueDelay.isZero() ? response : response.delaySubscription(issueDelay);
+                })
+                .build();
+
+        lenient().when(credentialPort.getDecryptedAppKey()).thenReturn("app-key");
+        lenient().when(credentialPort.getDecryptedAppSecret()).thenReturn("app-secret");
+        lenient().when(circuitBreakerService.executeGetAccessToken(any())).thenAnswer(invocation -> invocation.getArgument(0));
+        lenient().when(tokenCachePort.getToken()).thenReturn(Mono.empty());
+        lenient().when(tokenCachePort.getTokenTtl()).thenReturn(Mono.just(-2L));
+        lenient().when(tokenCachePort.saveToken(anyString(), any(Duration.class))).thenReturn(Mono.empty());
+        lenient().when(syncLockPort.tryLock(eq(LEASE_KEY), any(Duration.class))).thenReturn(Mono.just(true));
+        lenient().when(syncLockPort.unlock(LEASE_KEY)).thenReturn(Mono.empty());
+
+        tokenService = new KISTokenService(webClient, credentialPort, tokenCachePort, properties,
+                circuitBreakerService, syncLockPort, clock);
+    }
+
+    @Test
+    @DisplayName("공유 토큰이 없으면 임대를 잡고 발급하여 expires_in 만큼 저장하고, 이후 조회는 메모리에서 응답한다")
+    void givenNoSharedToken_whenGetAccessTokenTwice_thenIssuesOnceAndServesFromMemory() {
+        // when
+        StepVerifier.create(tokenService.getAccessToken()).expectNext("token-1").verifyComplete();
+        StepVerifier.create(tokenService.getAccessToken()).expectNext("token-1").verifyComplete();
+
+        // then
+        assertThat(issuedCount.get()).isEqualTo(1);
+        verify(tokenCachePort).saveToken("token-1", Duration.ofSeconds(EXPIRES_IN_SECONDS));
+        verify(syncLockPort).unlock(LEASE_KEY);
+        verify(tokenCachePort, times(2)).getToken();
+    }
+
+    @Test
+    @DisplayName("동시에 여러 요청이 들어와도 토큰 발급은 한 번만 한다")
+    void givenConcurrentCallers_whenGetAccessToken_thenIssuesOnce() {
+        // given
+        issueDelay = Duration.ofMillis(100);
+
+        // when
+        Flux<String> tokens = Flux.range(0, 10).flatMap(i -> tokenService.getAccessToken());
+
+        // then
+        StepVerifier.create(tokens.collectList())
+                .assertNext(values -> assertThat(values).hasSize(10).containsOnly("token-1"))
+                .verifyComplete();
+        assertThat(issuedCount.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스가 Redis 에 저장한 토큰이 있으면 발급하지 않고 사용한다")
+    void givenSharedToken_whenGetAccessToken_thenAdoptsWithoutIssuing() {
+        // given
+        given(tokenCachePort.getToken()).willReturn(Mono.just("shared-token"));
+        given(tokenCachePort.getTokenTtl()).willReturn(Mono.just(80_000L));
+
+        // when & then
+        StepVerifier.create(tokenService.getAccessToken()).expectNext("shared-token").verifyComplete();
+        assertThat(issuedCount.get()).isZero();
+        verify(syncLockPort, never()).tryLock(anyString(), any(Duration.class));
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스가 발급 임대를 보유 중이면 발급하지 않고 Redis 에 저장되기를 기다린다")
+    void givenLeaseHeldElsewhere_whenGetAccessToken_thenWaitsForSharedToken() {
+        // given
+        given(syncLockPort.tryLock(eq(LEASE_KEY), any(Duration.class))).willReturn(Mono.just(false));
+        given(tokenCachePort.getToken()).willReturn(Mono.empty(), Mono.empty(), Mono.just("other-token"));
+        given(tokenCachePort.getTokenTtl()).willReturn(Mono.just(80_000L));
+
+        // when & then
+        StepVerifier.create(tokenService.getAccessToken()).expectNext("other-token").verifyComplete();
+        assertThat(issuedCount.get()).isZero();
+    }
+
+    @Test
+    @DisplayName("만료가 가까워지면 현재 토큰으로 응답하면서 백그라운드에서 한 번 갱신한다")
+    void givenTokenNearExpiry_whenGetAccessToken_thenServesCurrentAndRefreshesInBackground() {
+        // given
+        StepVerifier.create(tokenService.getAccessToken()).expectNext("token-1").verifyComplete();
+        clock.advance(Duration.ofMinutes(90));
+
+        // when
+        StepVerifier.create(tokenService.getAccessToken()).expectNext("token-1").verifyComplete();
+
+        // then
+        assertThat(issuedCount.get()).isEqualTo(2);
+        StepVerifier.create(tokenService.getAccessToken()).expectNext("token-2").verifyComplete();
+        assertThat(issuedCount.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("백그라운드 갱신이 실패하면 조회마다 재시도하지 않고 백오프가 지난 뒤에 다시 시도한다")
+    void givenFailingRefresh_whenGetAccessTokenRepeatedly_thenRetriesOnlyAfterBackoff() {
+        // given
+        StepVerifier.create(tokenService.getAccessToken()).expectNext("token-1").verifyComplete();
+        clock.advance(Duration.ofMinutes(90));
+        issueFailing = true;
+
+        // when - 백오프(10초) 안의 조회는 갱신을 다시 시도하지 않음
+        for (int i = 0; i < 5; i++) {
+            StepVerifier.create(tokenService.getAccessToken()).expectNext("token-1").verifyComplete();
+        }
+
+        // then
+        assertThat(failedIssueCount.get()).isEqualTo(1);
+
+        // 백오프가 지나면 한 번 더 시도하고, 다음 간격은 두 배(20초)
+        clock.advance(Duration.ofSeconds(10));
+        StepVerifier.create(tokenService.getAccessToken()).expectNext("token-1").verifyComplete();
+        clock.advance(Duration.ofSeconds(10));
+        StepVerifier.create(tokenService.getAccessToken()).expectNext("token-1").verifyComplete();
+        assertThat(failedIssueCount.get()).isEqualTo(2);
+
+        // 복구 후 백오프가 지나면 갱신에 성공
+        issueFailing = false;
+        clock.advance(Duration.ofSeconds(10));
+        StepVerifier.create(tokenService.getAccessToken()).expectNext("token-1").verifyComplete();
+        StepVerifier.create(tokenService.getAccessToken()).expectNext("token-2").verifyComplete();
+    }
+
+    @Test
+    @DisplayName("강제 갱신 시 Redis 에 거부된 토큰이 남아 있어도 새로 발급한다")
+    void givenRejectedTokenStillShared_whenRefreshToken_thenIssuesNewToken() {
+        // given
+        StepVerifier.create(tokenService.getAccessToken()).expectNext("token-1").verifyComplete();
+        given(tokenCachePort.getToken()).willReturn(Mono.just("token-1"));
+        given(tokenCachePort.getTokenTtl()).willReturn(Mono.just(7000L));
+
+        // when & then
+        StepVerifier.create(tokenService.refreshToken()).expectNext("token-2").verifyComplete();
+        StepVerifier.create(tokenService.getAccessToken()).expectNext("token-2").verifyComplete();
+    }
+
+    /**
+     * 테스트 중 시간을 앞당길 수 있는 Clock
+     */
+    private static final class MutableClock extends Clock {
+
+        private volatile Instant now;
+
+        private MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneId.of("Asia/Seoul");
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
@@ -0,0 +1,281 @@
+package me.rgunny.marketpulse.event.unit.infrastructure.adapter.output;
+
+import me.rgunny.marketpulse.event.marketdata.application.service.SymbolRegistry;
+import me.rgunny.marketpulse.event.marketdata.domain.model.AlertHistory;
+import me.rgunny.marketpulse.event.marketdata.domain.model.AlertType;
+import me.rgunny.marketpulse.event.marketdata.domain.model.CooldownClaim;
+import me.rgunny.marketpulse.event.marketdata.infrastructure.adapter.out.shared.LedgerAlertHistoryAdapter;
+import me.rgunny.marketpulse.event.marketdata.infrastructure.adapter.out.shared.RedisAlertHistoryAdapter;
+import me.rgunny.marketpulse.event.marketdata.infrastructure.config.PriceAlertProperties;
+import me.rgunny.marketpulse.event.support.TestClockFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("LedgerAlertHistoryAdapter 단위 테스트")
+class LedgerAlertHistoryAdapterTest {
+
+    private static final String SYMBOL = "005930";
+
+    @Mock
+    private RedisAlertHistoryAdapter redisHistory;
+
+    @Mock
+    private SymbolRegistry symbolRegistry;
+
+    private final MutableClock clock = new MutableClock(TestClockFactory.marketMiddle().instant());
+    private LedgerAlertHistoryAdapter adapter;
+
+    @BeforeEach
+    void setUp() {
+        PriceAlertProperties properties = new PriceAlertProperties(
+                new BigDecimal("5.0"), new BigDecimal("-5.0"),
+                new BigDecimal("29.5"), new BigDecimal("-29.5"),
+                30, 60, null, null,
+                new PriceAlertProperties.Ledger(true, Duration.ofSeconds(1), 2, 3));
+        adapter = new LedgerAlertHistoryAdapter(redisHistory, symbolRegistry, properties, clock);
+        lenient().when(symbolRegistry.idOf(SYMBOL)).thenReturn(0);
+        lenient().when(symbolRegistry.idOf("UNKNOWN")).thenReturn(SymbolRegistry.UNKNOWN_ID);
+    }
+
+    @Test
+    @DisplayName("선점한 뒤 같은 종목/타입은 Redis 를 호출하지 않고 장부에서 차단한다")
+    void givenAcquired_whenAcquireAgain_thenBlockedLocally() {
+        // given
+        AlertHistory history = AlertHistory.create(SYMBOL, AlertType.PRICE_RISE, 30, clock);
+        given(redisHistory.tryAcquireCooldown(history)).willReturn(Mono.just(CooldownClaim.granted()));
+
+        // when & then
+        StepVerifier.create(adapter.tryAcquireCooldown(history))
+                .expectNext(CooldownClaim.granted())
+                .verifyComplete();
+        StepVerifier.create(adapter.tryAcquireCooldown(history))
+                .assertNext(claim -> {
+                    assertThat(claim.acquired()).isFalse();
+                    assertThat(claim.remaining()).isEqualTo(Duration.ofMinutes(30));
+                })
+                .verifyComplete();
+
+        verify(redisHistory, times(1)).tryAcquireCooldown(any());
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스가 선점해 Redis 에서 차단되면 남은 쿨다운을 장부에 기록한다")
+    void givenBlockedByRedis_whenAcquireAgain_thenBlockedLocally() {
+        // given
+        AlertHistory history = AlertHistory.create(SYMBOL, AlertType.PRICE_FALL, 30, clock);
+        given(redisHistory.tryAcquireCooldown(history))
+                .willReturn(Mono.just(CooldownClaim.blocked(Duration.ofMinutes(5))));
+
+        // when
+        StepVerifier.create(adapter.tryAcquireCooldown(history)).expectNextCount(1).verifyComplete();
+
+        // then
+        StepVerifier.create(adapter.tryAcquireCooldown(history))
+                .assertNext(claim -> assertThat(claim.remaining()).isEqualTo(Duration.ofMinutes(5)))
+                .verifyComplete();
+        verify(redisHistory, times(1)).tryAcquireCooldown(any());
+    }
+
+    @Test
+    @DisplayName("쿨다운을 해제하면 장부도 비워 다음 선점은 Redis 로 간다")
+    void givenAcquired_whenDelete_thenNextAcquireGoesToRedis() {
+        // given
+        AlertHistory history = AlertHistory.create(SYMBOL, AlertType.PRICE_RISE, 30, clock);
+        given(redisHistory.tryAcquireCooldown(history)).willReturn(Mono.just(CooldownClaim.granted()));
+        given(redisHistory.delete(SYMBOL, AlertType.PRICE_RISE)).willReturn(Mono.just(true));
+        StepVerifier.create(adapter.tryAcquireCooldown(history)).expectNextCount(1).verifyComplete();
+
+        // when
+        StepVerifier.create(adapter.delete(SYMBOL, AlertType.PRICE_RISE)).expectNext(true).verifyComplete();
+
+        // then
+        StepVerifier.create(adapter.tryAcquireCooldown(history))
+                .expectNext(CooldownClaim.granted())
+                .verifyComplete();
+        verify(redisHistory, times(2)).tryAcquireCooldown(any());
+    }
+
+    @Test
+    @DisplayName("이력 저장은 장부에 먼저 반영하고 Redis 에는 배치로 나중에 반영한다")
+    void givenSaves_whenFlush_thenWritesBehindInBatches() {
+        // given
+        AlertHistory rise = AlertHistory.create(SYMBOL, AlertType.PRICE_RISE, 30, clock);
+        AlertHistory fall = AlertHistory.create(SYMBOL, AlertType.PRICE_FALL, 30, clock);
+        AlertHistory limitUp = AlertHistory.create(SYMBOL, AlertType.LIMIT_UP, 60, clock);
+        given(redisHistory.saveAll(any())).willAnswer(invocation -> Mono.just((long) invocation.<List<?>>getArgument(0).size()));
+
+        // when
+        StepVerifier.create(adapter.save(rise)).expectNext(rise).verifyComplete();
+        StepVerifier.create(adapter.save(fall)).expectNext(fall).verifyComplete();
+        StepVerifier.create(adapter.save(limitUp)).expectNext(limitUp).verifyComplete();
+
+        // then - 저장 직후 장부에서 차단되고, Redis 에는 아직 쓰지 않음
+        StepVerifier.create(adapter.tryAcquireCooldown(rise))
+                .assertNext(claim -> assertThat(claim.acquired()).isFalse())
+                .verifyComplete();
+        verify(redisHistory, never()).save(any());
+        assertThat(adapter.pendingCount()).isEqualTo(3);
+
+        // 배치 크기 2 로 두 번에 나눠 반영
+        StepVerifier.create(adapter.flush()).expectNext(3L).verifyComplete();
+        verify(redisHistory).saveAll(List.of(rise, fall));
+        verify(redisHistory).saveAll(List.of(limitUp));
+        assertThat(adapter.pendingCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("반영에 실패한 이력은 다시 쌓아 다음 반영 때 재시도한다")
+    void givenFlushFailure_whenFlush_thenRequeues() {
+        // given
+        AlertHistory rise = AlertHistory.create(SYMBOL, AlertType.PRICE_RISE, 30, clock);
+        given(redisHistory.saveAll(any())).willReturn(Mono.error(new RuntimeException("redis down")));
+        adapter.save(rise).block();
+
+        // when
+        StepVerifier.create(adapter.flush()).expectNext(0L).verifyComplete();
+
+        // then
+        assertThat(adapter.pendingCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("반영에 실패하면 백오프가 지날 때까지 다시 반영하지 않는다")
+    void givenFlushFailure_whenFlushAgain_thenWaitsForBackoff() {
+        // given
+        AlertHistory rise = AlertHistory.create(SYMBOL, AlertType.PRICE_RISE, 30, clock);
+        given(redisHistory.saveAll(any()))
+                .willReturn(Mono.error(new RuntimeException("redis down")))
+                .willReturn(Mono.just(1L));
+        adapter.save(rise).block();
+        StepVerifier.create(adapter.flush()).expectNext(0L).verifyComplete();
+
+        // when - 백오프(반영 주기의 2배) 안의 반영은 건너뜀
+        clock.advance(Duration.ofSeconds(1));
+        StepVerifier.create(adapter.flush()).expectNext(0L).verifyComplete();
+
+        // then
+        verify(redisHistory, times(1)).saveAll(any());
+
+        // 백오프가 지나면 다시 반영
+        clock.advance(Duration.ofSeconds(1));
+        StepVerifier.create(adapter.flush()).expectNext(1L).verifyComplete();
+        verify(redisHistory, times(2)).saveAll(List.of(rise));
+        assertThat(adapter.pendingCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("반영이 밀려 대기 이력이 상한을 넘으면 오래된 이력부터 버리고 나머지는 순서대로 반영한다")
+    void givenPendingOverLimit_whenSave_thenDropsOldestAndKeepsOrder() {
+        // given
+        AlertHistory rise = AlertHistory.create(SYMBOL, AlertType.PRICE_RISE, 30, clock);
+        AlertHistory fall = AlertHistory.create(SYMBOL, AlertType.PRICE_FALL, 30, clock);
+        AlertHistory limitUp = AlertHistory.create(SYMBOL, AlertType.LIMIT_UP, 60, clock);
+        AlertHistory limitDown = AlertHistory.create(SYMBOL, AlertType.LIMIT_DOWN, 60, clock);
+        given(redisHistory.saveAll(any()))
+                .willReturn(Mono.error(new RuntimeException("redis down")))
+                .willAnswer(invocation -> Mono.just((long) invocation.<List<?>>getArgument(0).size()));
+        adapter.save(rise).block();
+        adapter.save(fall).block();
+        adapter.save(limitUp).block();
+        StepVerifier.create(adapter.flush()).expectNext(0L).verifyComplete();
+
+        // when - 상한(3)을 넘는 저장
+        adapter.save(limitDown).block();
+
+        // then
+        assertThat(adapter.pendingCount()).isEqualTo(3);
+        assertThat(adapter.droppedCount()).isEqualTo(1);
+
+        clock.advance(Duration.ofSeconds(2));
+        StepVerifier.create(adapter.flush()).expectNext(3L).verifyComplete();
+        verify(redisHistory).saveAll(List.of(fall, limitUp));
+        verify(redisHistory).saveAll(List.of(limitDown));
+    }
+
+    @Test
+    @DisplayName("시작 시 Redis 의 쿨다운 이력으로 장부를 복원한다")
+    void givenRedisHistories_whenRehydrate_thenBlocksLocally() {
+        // given
+        AlertHistory history = AlertHistory.create(SYMBOL, AlertType.LIMIT_DOWN, 60, clock);
+        given(symbolRegistry.isLoaded()).willReturn(true);
+        given(redisHistory.findAll()).willReturn(Flux.just(history));
+
+        // when
+        StepVerifier.create(adapter.rehydrate()).expectNext(1L).verifyComplete();
+
+        // then
+        StepVerifier.create(adapter.tryAcquireCooldown(history))
+                .assertNext(claim -> assertThat(claim.remaining()).isEqualTo(Duration.ofMinutes(60)))
+                .verifyComplete();
+        verify(redisHistory, never()).tryAcquireCooldown(any());
+    }
+
+    @Test
+    @DisplayName("레지스트리에 없는 종목은 장부를 거치지 않고 Redis 로 처리한다")
+    void givenUnknownSymbol_whenAcquire_thenDelegatesToRedis() {
+        // given
+        AlertHistory history = AlertHistory.create("UNKNOWN", AlertType.PRICE_RISE, 30, clock);
+        given(redisHistory.tryAcquireCooldown(history)).willReturn(Mono.just(CooldownClaim.granted()));
+
+        // when
+        StepVerifier.create(adapter.tryAcquireCooldown(history)).expectNextCount(1).verifyComplete();
+        StepVerifier.create(adapter.tryAcquireCooldown(history)).expectNextCount(1).verifyComplete();
+
+        // then
+        verify(redisHistory, times(2)).tryAcquireCooldown(history);
+    }
+
+    /**
+     * 테스트 중 시간을 앞당길 수 있는 Clock
+     */
+    private static final class MutableClock extends Clock {
+
+        private volatile Instant now;
+
+        private MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return TestClockFactory.KOREA_ZONE;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
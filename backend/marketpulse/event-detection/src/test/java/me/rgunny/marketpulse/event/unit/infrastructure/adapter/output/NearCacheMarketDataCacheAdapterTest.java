@@ -0,0 +1,267 @@
+package me.rgunny.marketpulse.event.unit.infrastructure.adapter.output;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import me.rgunny.marketpulse.event.fixture.StockPriceTestFixture;
+import me.rgunny.marketpulse.event.marketdata.domain.model.StockPrice;
+import me.rgunny.marketpulse.event.marketdata.infrastructure.adapter.out.shared.NearCacheMarketDataCacheAdapter;
+import me.rgunny.marketpulse.event.marketdata.infrastructure.adapter.out.shared.RedisMarketDataCacheAdapter;
+import me.rgunny.marketpulse.event.marketdata.infrastructure.config.StockPriceCacheMetrics;
+import me.rgunny.marketpulse.event.marketdata.infrastructure.config.shared.MarketDataCacheProperties;
+import me.rgunny.marketpulse.event.support.TestClockFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.ReactiveSubscription;
+import org.springframework.data.redis.core.ReactiveRedisTemplate;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("NearCacheMarketDataCacheAdapter 단위 테스트")
+class NearCacheMarketDataCacheAdapterTest {
+
+    private static final String CHANNEL = "stock:price:invalidation";
+    private static final String SYMBOL = "005930";
+    private static final Duration TTL = Duration.ofMinutes(1);
+
+    @Mock
+    private RedisMarketDataCacheAdapter redisCache;
+
+    @Mock
+    private ReactiveRedisTemplate<String, String> redisTemplate;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private Sinks.Many<ReactiveSubscription.Message<String, String>> channel;
+    private NearCacheMarketDataCacheAdapter adapter;
+
+    @BeforeEach
+    void setUp() {
+        MarketDataCacheProperties properties = new MarketDataCacheProperties(
+                new MarketDataCacheProperties.NearCache(true, 100, Duration.ofSeconds(5), CHANNEL), null);
+        adapter = new NearCacheMarketDataCacheAdapter(redisCache, redisTemplate, properties,
+                new StockPriceCacheMetrics(meterRegistry), TestClockFactory.marketMiddle());
+
+        channel = Sinks.many().multicast().onBackpressureBuffer();
+        lenient().doReturn(Mono.just(channel.asFlux())).when(redisTemplate).listenToChannelLater(CHANNEL);
+        lenient().when(redisTemplate.convertAndSend(eq(CHANNEL), anyString())).thenReturn(Mono.just(1L));
+    }
+
+    @AfterEach
+    void tearDown() {
+        adapter.stop();
+    }
+
+    @Test
+    @DisplayName("무효화 채널 구독 전에는 L1 을 쓰지 않고 매번 Redis 에서 조회한다")
+    void givenNotSubscribed_whenGetStockPrice_thenAlwaysReadsRedis() {
+        // given
+        given(redisCache.getStockPrice(SYMBOL)).willReturn(Mono.just(StockPriceTestFixture.samsung()));
+
+        // when
+        StepVerifier.create(adapter.getStockPrice(SYMBOL)).expectNextCount(1).verifyComplete();
+        StepVerifier.create(adapter.getStockPrice(SYMBOL)).expectNextCount(1).verifyComplete();
+
+        // then
+        verify(redisCache, times(2)).getStockPrice(SYMBOL);
+    }
+
+    @Test
+    @DisplayName("L1 미스면 Redis 에서 읽어 채우고, 다음 조회는 L1 에서 응답한다")
+    void givenSubscribed_whenGetTwice_thenSecondServedFromL1() {
+        // given
+        adapter.start();
+        StockPrice samsung = StockPriceTestFixture.samsung();
+        given(redisCache.getStockPrice(SYMBOL)).willReturn(Mono.just(samsung));
+
+        // when
+        StepVerifier.create(adapter.getStockPrice(SYMBOL)).expectNext(samsung).verifyComplete();
+        StepVerifier.create(adapter.getStockPrice(SYMBOL)).expectNext(samsung).verifyComplete();
+
+        // then
+        verify(redisCache, times(1)).getStockPrice(SYMBOL);
+        assertThat(lookups("l1", "hit")).isEqualTo(1);
+        assertThat(lookups("l1", "miss")).isEqualTo(1);
+        assertThat(lookups("l2", "hit")).isEqualTo(1);
+        assertThat(lookups("l2", "miss")).isZero();
+    }
+
+    @Test
+    @DisplayName("Redis 에도 없으면 L2 미스로 기록하고 L1 에 채우지 않는다")
+    void givenRedisMiss_whenGetStockPrice_thenRecordsL2Miss() {
+        // given
+        adapter.start();
+        given(redisCache.getStockPrice(SYMBOL)).willReturn(Mono.empty());
+
+        // when
+        StepVerifier.create(adapter.getStockPrice(SYMBOL)).verifyComplete();
+        StepVerifier.create(adapter.getStockPrice(SYMBOL)).verifyComplete();
+
+        // then
+        verify(redisCache, times(2)).getStockPrice(SYMBOL);
+        assertThat(lookups("l2", "miss")).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스의 무효화 메시지를 받으면 L1 에서 제거하여 Redis 에서 다시 읽는다")
+    void givenRemoteInvalidation_whenGetStockPrice_thenReadsRedisAgain() {
+        // given
+        adapter.start();
+        given(redisCache.getStockPrice(SYMBOL)).willReturn(Mono.just(StockPriceTestFixture.samsung()));
+        adapter.getStockPrice(SYMBOL).block();
+
+        // when
+        channel.tryEmitNext(new ReactiveSubscription.ChannelMessage<>(CHANNEL, "other-instance|" + SYMBOL));
+        adapter.getStockPrice(SYMBOL).block();
+
+        // then
+        verify(redisCache, times(2)).getStockPrice(SYMBOL);
+        assertThat(meterRegistry.counter("stock.price.cache.invalidation").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("저장하면 Redis 에 쓰고 무효화를 발행하며, 자신이 발행한 메시지로는 L1 을 지우지 않는다")
+    void givenSave_whenOwnMessageReceived_thenKeepsL1() {
+        // given
+        adapter.start();
+        StockPrice samsung = StockPriceTestFixture.samsung();
+        given(redisCache.saveStockPrice(samsung, TTL)).willReturn(Mono.empty());
+
+        // when
+        StepVerifier.create(adapter.saveStockPrice(samsung, TTL)).verifyComplete();
+
+        ArgumentCaptor<String> published = ArgumentCaptor.forClass(String.class);
+        verify(redisTemplate).convertAndSend(eq(CHANNEL), published.capture());
+        channel.tryEmitNext(new ReactiveSubscription.ChannelMessage<>(CHANNEL, published.getValue()));
+
+        // then
+        assertThat(published.getValue()).endsWith("|" + SYMBOL);
+        StepVerifier.create(adapter.getStockPrice(SYMBOL)).expectNext(samsung).verifyComplete();
+        verify(redisCache, never()).getStockPrice(SYMBOL);
+    }
+
+    @Test
+    @DisplayName("삭제하면 L1 과 Redis 에서 제거하고 무효화를 발행한다")
+    void givenCachedPrice_whenDelete_thenRemovesAndPublishes() {
+        // given
+        adapter.start();
+        given(redisCache.getStockPrice(SYMBOL)).willReturn(Mono.just(StockPriceTestFixture.samsung()));
+        given(redisCache.deleteStockPrice(SYMBOL)).willReturn(Mono.empty());
+        adapter.getStockPrice(SYMBOL).block();
+
+        // when
+        StepVerifier.create(adapter.deleteStockPrice(SYMBOL)).verifyComplete();
+        adapter.getStockPrice(SYMBOL).block();
+
+        // then
+        verify(redisCache).deleteStockPrice(SYMBOL);
+        verify(redisTemplate).convertAndSend(eq(CHANNEL), anyString());
+        verify(redisCache, times(2)).getStockPrice(SYMBOL);
+    }
+
+    @Test
+    @DisplayName("무효화 채널이 끊기면 L1 을 비우고 Redis 로만 조회한다")
+    void givenChannelLost_whenGetStockPrice_thenBypassesL1() {
+        // given
+        adapter.start();
+        given(redisCache.getStockPrice(SYMBOL)).willReturn(Mono.just(StockPriceTestFixture.samsung()));
+        adapter.getStockPrice(SYMBOL).block();
+
+        // when
+        adapter.stop();
+        adapter.getStockPrice(SYMBOL).block();
+
+        // then
+        verify(redisCache, times(2)).getStockPrice(SYMBOL);
+    }
+
+    @Test
+    @DisplayName("여러 종목 조회 시 L1 에 없는 종목만 Redis 에서 한 번에 읽어 L1 에 채운다")
+    void givenPartiallyInL1_whenGetStockPrices_thenReadsOnlyMissesFromRedis() {
+        // given
+        adapter.start();
+        StockPrice samsung = StockPriceTestFixture.samsung();
+        StockPrice kakao = StockPriceTestFixture.kakao();
+        given(redisCache.getStockPrice(SYMBOL)).willReturn(Mono.just(samsung));
+        StepVerifier.create(adapter.getStockPrice(SYMBOL)).expectNext(samsung).verifyComplete();
+        given(redisCache.getStockPrices(List.of(kakao.getSymbol(), "000660"))).willReturn(Flux.just(kakao));
+
+        // when
+        StepVerifier.create(adapter.getStockPrices(List.of(SYMBOL, kakao.getSymbol(), "000660")).collectList())
+                .assertNext(prices -> assertThat(prices).containsExactlyInAnyOrder(samsung, kakao))
+                .verifyComplete();
+        StepVerifier.create(adapter.getStockPrice(kakao.getSymbol())).expectNext(kakao).verifyComplete();
+
+        // then
+        verify(redisCache, never()).getStockPrice(kakao.getSymbol());
+        assertThat(lookups("l1", "hit")).isEqualTo(2);
+        assertThat(lookups("l2", "hit")).isEqualTo(2);
+        assertThat(lookups("l2", "miss")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Redis 조회 중 같은 종목이 무효화되면 조회 결과를 L1 에 채우지 않는다")
+    void givenSameSymbolInvalidatedDuringRead_whenReadCompletes_thenDoesNotFillL1() {
+        // given
+        adapter.start();
+        StockPrice samsung = StockPriceTestFixture.samsung();
+        Sinks.One<StockPrice> slowRead = Sinks.one();
+        given(redisCache.getStockPrice(SYMBOL)).willReturn(slowRead.asMono(), Mono.just(samsung));
+        CompletableFuture<StockPrice> inFlight = adapter.getStockPrice(SYMBOL).toFuture();
+
+        // when
+        channel.tryEmitNext(new ReactiveSubscription.ChannelMessage<>(CHANNEL, "other-instance|" + SYMBOL));
+        slowRead.tryEmitValue(samsung);
+        assertThat(inFlight.join()).isEqualTo(samsung);
+        adapter.getStockPrice(SYMBOL).block();
+
+        // then
+        verify(redisCache, times(2)).getStockPrice(SYMBOL);
+    }
+
+    @Test
+    @DisplayName("Redis 조회 중 다른 종목이 저장되어도 조회 결과는 L1 에 채운다")
+    void givenOtherSymbolSavedDuringRead_whenReadCompletes_thenFillsL1() {
+        // given
+        adapter.start();
+        StockPrice samsung = StockPriceTestFixture.samsung();
+        StockPrice kakao = StockPriceTestFixture.kakao();
+        Sinks.One<StockPrice> slowRead = Sinks.one();
+        given(redisCache.getStockPrice(SYMBOL)).willReturn(slowRead.asMono());
+        given(redisCache.saveStockPrice(kakao, TTL)).willReturn(Mono.empty());
+        CompletableFuture<StockPrice> inFlight = adapter.getStockPrice(SYMBOL).toFuture();
+
+        // when
+        StepVerifier.create(adapter.saveStockPrice(kakao, TTL)).verifyComplete();
+        slowRead.tryEmitValue(samsung);
+        assertThat(inFlight.join()).isEqualTo(samsung);
+
+        // then
+        StepVerifier.create(adapter.getStockPrice(SYMBOL)).expectNext(samsung).verifyComplete();
+        verify(redisCache, times(1)).getStockPrice(SYMBOL);
+    }
+
+    private double lookups(String tier, String result) {
+        return meterRegistry.counter("stock.price.cache.lookup", "tier", tier, "result", result).count();
+    }
+}
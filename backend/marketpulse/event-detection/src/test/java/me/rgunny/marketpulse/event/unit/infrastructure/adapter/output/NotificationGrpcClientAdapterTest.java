@@ -0,0 +1,165 @@
+package me.rgunny.marketpulse.event.unit.infrastructure.adapter.output;
+
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+import io.grpc.stub.ClientCallStreamObserver;
+import io.grpc.stub.ClientResponseObserver;
+import io.grpc.stub.StreamObserver;
+import me.rgunny.marketpulse.common.core.exception.BusinessException;
+import me.rgunny.marketpulse.event.fixture.StockPriceTestFixture;
+import me.rgunny.marketpulse.event.notification.domain.error.NotificationClientErrorCode;
+import me.rgunny.marketpulse.event.notification.infrastructure.adapter.out.grpc.NotificationGrpcClientAdapter;
+import me.rgunny.marketpulse.event.notification.infrastructure.config.NotificationClientProperties;
+import me.rgunny.marketpulse.notification.grpc.NotificationServiceGrpc;
+import me.rgunny.marketpulse.notification.grpc.NotificationServiceProto.NotificationResponse;
+import me.rgunny.marketpulse.notification.grpc.NotificationServiceProto.PriceAlertRequest;
+import me.rgunny.marketpulse.notification.grpc.NotificationServiceProto.PriceAlertType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.BDDMockito.willDoNothing;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("NotificationGrpcClientAdapter 단위 테스트")
+class NotificationGrpcClientAdapterTest {
+
+    private static final Duration DEADLINE = Duration.ofMillis(500);
+
+    @Mock
+    private NotificationServiceGrpc.NotificationServiceStub notificationStub;
+
+    @Mock
+    private ClientCallStreamObserver<PriceAlertRequest> requestStream;
+
+    private NotificationGrpcClientAdapter adapter;
+
+    @BeforeEach
+    void setUp() {
+        // 동시 호출 한도 1, 알림마다 unary 호출
+        adapter = new NotificationGrpcClientAdapter(new NotificationClientProperties(DEADLINE, DEADLINE, 1, false));
+        ReflectionTestUtils.setField(adapter, "notificationStub", notificationStub);
+        given(notificationStub.withDeadlineAfter(anyLong(), any(TimeUnit.class))).willReturn(notificationStub);
+    }
+
+    @Test
+    @DisplayName("동시 호출 한도에 닿으면 다음 호출은 기다리지 않고 바로 한도 초과 오류로 실패한다")
+    void givenMaxInFlightReached_whenSendPriceAlert_thenFailsImmediately() {
+        // given - 응답이 오지 않는 호출 하나가 한도를 차지
+        willDoNothing().given(notificationStub).sendPriceAlert(any(), any());
+        Disposable first = adapter.sendPriceAlert(StockPriceTestFixture.samsung(), PriceAlertType.RISE).subscribe();
+
+        // when & then
+        StepVerifier.create(adapter.sendPriceAlert(StockPriceTestFixture.samsung(), PriceAlertType.RISE))
+                .expectErrorSatisfies(error -> {
+                    assertThat(error).isInstanceOf(BusinessException.class);
+                    assertThat(((BusinessException) error).errorCode())
+                            .isEqualTo(NotificationClientErrorCode.NOTIFICATION_CLIENT_001);
+                })
+                .verify(Duration.ofSeconds(1));
+        verify(notificationStub, times(1)).sendPriceAlert(any(), any());
+        first.dispose();
+    }
+
+    @Test
+    @DisplayName("deadline 이 지나 실패하면 호출 한도를 반납하여 다음 호출이 진행된다")
+    void givenDeadlineExceeded_whenSendPriceAlert_thenFailsAndReleasesPermit() {
+        // given
+        willAnswer(invocation -> {
+            StreamObserver<NotificationResponse> observer = invocation.getArgument(1);
+            observer.onError(Status.DEADLINE_EXCEEDED.asRuntimeException());
+            return null;
+        }).willAnswer(invocation -> {
+            StreamObserver<NotificationResponse> observer = invocation.getArgument(1);
+            observer.onNext(NotificationResponse.newBuilder().setSuccess(true).build());
+            observer.onCompleted();
+            return null;
+        }).given(notificationStub).sendPriceAlert(any(), any());
+
+        // when & then
+        StepVerifier.create(adapter.sendPriceAlert(StockPriceTestFixture.samsung(), PriceAlertType.RISE))
+                .expectErrorSatisfies(error -> assertThat(error.getCause())
+                        .isInstanceOfSatisfying(StatusRuntimeException.class, cause ->
+                                assertThat(cause.getStatus().getCode()).isEqualTo(Status.Code.DEADLINE_EXCEEDED)))
+                .verify();
+        StepVerifier.create(adapter.sendPriceAlert(StockPriceTestFixture.samsung(), PriceAlertType.RISE))
+                .verifyComplete();
+        verify(notificationStub, times(2)).withDeadlineAfter(DEADLINE.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    @Test
+    @DisplayName("구독을 취소하면 진행 중인 RPC 를 취소하고 호출 한도를 반납한다")
+    void givenInFlightCall_whenSubscriberCancels_thenCancelsRpcAndReleasesPermit() {
+        // given
+        ArgumentCaptor<StreamObserver<NotificationResponse>> observer = observerCaptor();
+        willDoNothing().given(notificationStub).sendPriceAlert(any(), observer.capture());
+        Disposable call = adapter.sendPriceAlert(StockPriceTestFixture.samsung(), PriceAlertType.RISE).subscribe();
+        @SuppressWarnings("unchecked")
+        ClientResponseObserver<PriceAlertRequest, NotificationResponse> responseObserver =
+                (ClientResponseObserver<PriceAlertRequest, NotificationResponse>) observer.getValue();
+        responseObserver.beforeStart(requestStream);
+
+        // when
+        call.dispose();
+
+        // then
+        verify(requestStream).cancel("Subscriber cancelled", null);
+        Mono<Void> next = adapter.sendPriceAlert(StockPriceTestFixture.samsung(), PriceAlertType.RISE);
+        StepVerifier.create(next.timeout(Duration.ofMillis(50)))
+                .expectError(TimeoutException.class)
+                .verify();
+        verify(notificationStub, times(2)).sendPriceAlert(any(), any());
+    }
+
+    @Test
+    @DisplayName("재시도해도 같은 알림은 같은 eventId 로 보낸다")
+    void givenRetriedAlert_whenSendPriceAlert_thenReusesEventId() {
+        // given
+        ArgumentCaptor<PriceAlertRequest> requests = ArgumentCaptor.forClass(PriceAlertRequest.class);
+        willAnswer(invocation -> {
+            StreamObserver<NotificationResponse> observer = invocation.getArgument(1);
+            observer.onError(Status.UNAVAILABLE.asRuntimeException());
+            return null;
+        }).willAnswer(invocation -> {
+            StreamObserver<NotificationResponse> observer = invocation.getArgument(1);
+            observer.onNext(NotificationResponse.newBuilder().setSuccess(true).build());
+            observer.onCompleted();
+            return null;
+        }).given(notificationStub).sendPriceAlert(requests.capture(), any());
+
+        // when
+        StepVerifier.create(adapter.sendPriceAlert(StockPriceTestFixture.samsung(), PriceAlertType.RISE).retry(1))
+                .verifyComplete();
+
+        // then
+        assertThat(requests.getAllValues()).hasSize(2);
+        assertThat(requests.getAllValues().get(1).getEventId())
+                .isNotBlank()
+                .isEqualTo(requests.getAllValues().get(0).getEventId());
+        assertThat(requests.getAllValues().get(1).getTimestamp()).isEqualTo(requests.getAllValues().get(0).getTimestamp());
+    }
+
+    @SuppressWarnings("unchecked")
+    private static ArgumentCaptor<StreamObserver<NotificationResponse>> observerCaptor() {
+        return ArgumentCaptor.forClass((Class<StreamObserver<NotificationResponse>>) (Class<?>) StreamObserver.class);
+    }
+}
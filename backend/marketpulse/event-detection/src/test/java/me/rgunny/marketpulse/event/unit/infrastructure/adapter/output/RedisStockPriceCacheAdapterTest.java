@@ -1,7 +1,5 @@
 package me.rgunny.marketpulse.event.unit.infrastructure.adapter.output;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import me.rgunny.marketpulse.event.marketdata.domain.model.StockPrice;
 import me.rgunny.marketpulse.event.marketdata.infrastructure.adapter.out.shared.RedisMarketDataCacheAdapter;
 import org.junit.jupiter.api.BeforeEach;
@@ -12,29 +10,31 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.redis.core.ReactiveRedisTemplate;
 import org.springframework.data.redis.core.ReactiveValueOperations;
+import org.springframework.data.redis.serializer.SerializationException;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
 import java.math.BigDecimal;
 import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
 
 @ExtendWith(MockitoExtension.class)
 @DisplayName("RedisStockPriceCacheAdapter 단위 테스트")
 class RedisStockPriceCacheAdapterTest {
     
     @Mock
-    private ReactiveRedisTemplate<String, String> redisTemplate;
+    private ReactiveRedisTemplate<String, StockPrice> redisTemplate;
     
     @Mock
-    private ReactiveValueOperations<String, String> valueOperations;
-    
-    @Mock
-    private ObjectMapper objectMapper;
+    private ReactiveValueOperations<String, StockPrice> valueOperations;
     
     private RedisMarketDataCacheAdapter cacheAdapter;
     
@@ -43,19 +43,17 @@ class RedisStockPriceCacheAdapterTest {
     
     @BeforeEach
     void setUp() {
-        cacheAdapter = new RedisMarketDataCacheAdapter(redisTemplate, objectMapper);
+        cacheAdapter = new RedisMarketDataCacheAdapter(redisTemplate);
         lenient().when(redisTemplate.opsForValue()).thenReturn(valueOperations);
     }
     
     @Test
     @DisplayName("캐시에서 StockPrice 조회 성공")
-    void givenCachedData_whenGetStockPrice_thenReturnsStockPrice() throws JsonProcessingException {
+    void givenCachedData_whenGetStockPrice_thenReturnsStockPrice() {
         // given
         StockPrice stockPrice = createSampleStockPrice();
-        String serializedData = "{\"symbol\":\"005930\",\"currentPrice\":71000}";
         
-        given(valueOperations.get(CACHE_KEY)).willReturn(Mono.just(serializedData));
-        given(objectMapper.readValue(serializedData, StockPrice.class)).willReturn(stockPrice);
+        given(valueOperations.get(CACHE_KEY)).willReturn(Mono.just(stockPrice));
         
         // when
         Mono<StockPrice> result = cacheAdapter.getStockPrice(SYMBOL);
@@ -69,7 +67,6 @@ class RedisStockPriceCacheAdapterTest {
                 .verifyComplete();
         
         verify(valueOperations).get(CACHE_KEY);
-        verify(objectMapper).readValue(serializedData, StockPrice.class);
     }
     
     @Test
@@ -90,14 +87,12 @@ class RedisStockPriceCacheAdapterTest {
     
     @Test
     @DisplayName("StockPrice 캐시 저장 성공")
-    void givenStockPrice_whenSaveStockPrice_thenSavesToCache() throws JsonProcessingException {
+    void givenStockPrice_whenSaveStockPrice_thenSavesToCache() {
         // given
         StockPrice stockPrice = createSampleStockPrice();
-        String serializedData = "{\"symbol\":\"005930\",\"currentPrice\":71000}";
         Duration ttl = Duration.ofMinutes(1);
         
-        given(objectMapper.writeValueAsString(stockPrice)).willReturn(serializedData);
-        given(valueOperations.set(CACHE_KEY, serializedData, ttl)).willReturn(Mono.just(true));
+        given(valueOperations.set(CACHE_KEY, stockPrice, ttl)).willReturn(Mono.just(true));
         
         // when
         Mono<Void> result = cacheAdapter.saveStockPrice(stockPrice, ttl);
@@ -106,8 +101,7 @@ class RedisStockPriceCacheAdapterTest {
         StepVerifier.create(result)
                 .verifyComplete();
         
-        verify(objectMapper).writeValueAsString(stockPrice);
-        verify(valueOperations).set(CACHE_KEY, serializedData, ttl);
+        verify(valueOperations).set(CACHE_KEY, stockPrice, ttl);
     }
     
     @Test
@@ -142,13 +136,13 @@ class RedisStockPriceCacheAdapterTest {
     
     @Test
     @DisplayName("직렬화 실패 시 빈 Mono 반환")
-    void givenSerializationError_whenSaveStockPrice_thenReturnsEmpty() throws JsonProcessingException {
+    void givenSerializationError_whenSaveStockPrice_thenReturnsEmpty() {
         // given
         StockPrice stockPrice = createSampleStockPrice();
         Duration ttl = Duration.ofMinutes(1);
         
-        given(objectMapper.writeValueAsString(stockPrice))
-                .willThrow(new JsonProcessingException("Serialization failed") {});
+        given(valueOperations.set(CACHE_KEY, stockPrice, ttl))
+                .willReturn(Mono.error(new SerializationException("Serialization failed")));
         
         // when
         Mono<Void> result = cacheAdapter.saveStockPrice(stockPrice, ttl);
@@ -160,13 +154,10 @@ class RedisStockPriceCacheAdapterTest {
     
     @Test
     @DisplayName("역직렬화 실패 시 빈 Mono 반환")
-    void givenDeserializationError_whenGetStockPrice_thenReturnsEmpty() throws JsonProcessingException {
+    void givenDeserializationError_whenGetStockPrice_thenReturnsEmpty() {
         // given
-        String serializedData = "invalid-json";
-        
-        given(valueOperations.get(CACHE_KEY)).willReturn(Mono.just(serializedData));
-        given(objectMapper.readValue(serializedData, StockPrice.class))
-                .willThrow(new JsonProcessingException("Deserialization failed") {});
+        given(valueOperations.get(CACHE_KEY))
+                .willReturn(Mono.error(new SerializationException("Deserialization failed")));
         
         // when
         Mono<StockPrice> result = cacheAdapter.getStockPrice(SYMBOL);
@@ -193,14 +184,12 @@ class RedisStockPriceCacheAdapterTest {
     
     @Test
     @DisplayName("캐시 저장 실패 시 적절히 처리")
-    void givenRedisError_whenSaveStockPrice_thenHandlesGracefully() throws JsonProcessingException {
+    void givenRedisError_whenSaveStockPrice_thenHandlesGracefully() {
         // given
         StockPrice stockPrice = createSampleStockPrice();
-        String serializedData = "{\"symbol\":\"005930\",\"currentPrice\":71000}";
         Duration ttl = Duration.ofMinutes(1);
         
-        given(objectMapper.writeValueAsString(stockPrice)).willReturn(serializedData);
-        given(valueOperations.set(CACHE_KEY, serializedData, ttl))
+        given(valueOperations.set(CACHE_KEY, stockPrice, ttl))
                 .willReturn(Mono.error(new RuntimeException("Redis connection failed")));
         
         // when
@@ -226,6 +215,44 @@ class RedisStockPriceCacheAdapterTest {
                 .verifyComplete(); // 에러가 발생해도 처리됨
     }
     
+    @Test
+    @DisplayName("여러 종목은 MGET 한 번으로 조회하고 캐시에 없는 종목은 제외한다")
+    void givenPartiallyCached_whenGetStockPrices_thenReadsWithSingleMget() {
+        // given
+        StockPrice stockPrice = createSampleStockPrice();
+        given(valueOperations.multiGet(List.of(CACHE_KEY, "stock:price:000660")))
+                .willReturn(Mono.just(Arrays.asList(stockPrice, null)));
+        
+        // when
+        Flux<StockPrice> result = cacheAdapter.getStockPrices(List.of(SYMBOL, "000660", SYMBOL));
+        
+        // then
+        StepVerifier.create(result)
+                .assertNext(retrieved -> assertThat(retrieved.getSymbol()).isEqualTo(SYMBOL))
+                .verifyComplete();
+        
+        verify(valueOperations, never()).get(CACHE_KEY);
+    }
+    
+    @Test
+    @DisplayName("MGET 이 실패하면 해당 묶음은 단건 조회로 대체한다")
+    void givenMgetFailure_whenGetStockPrices_thenFallsBackToSingleReads() {
+        // given
+        StockPrice stockPrice = createSampleStockPrice();
+        given(valueOperations.multiGet(List.of(CACHE_KEY, "stock:price:000660")))
+                .willReturn(Mono.error(new SerializationException("legacy entry")));
+        given(valueOperations.get(CACHE_KEY)).willReturn(Mono.just(stockPrice));
+        given(valueOperations.get("stock:price:000660")).willReturn(Mono.empty());
+        
+        // when
+        Flux<StockPrice> result = cacheAdapter.getStockPrices(List.of(SYMBOL, "000660"));
+        
+        // then
+        StepVerifier.create(result)
+                .assertNext(retrieved -> assertThat(retrieved.getSymbol()).isEqualTo(SYMBOL))
+                .verifyComplete();
+    }
+    
     private StockPrice createSampleStockPrice() {
         return StockPrice.createWithTTL(
                 SYMBOL,
@@ -3,7 +3,9 @@ package me.rgunny.marketpulse.event.unit.infrastructure.resilience;
 import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
 import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
 import me.rgunny.marketpulse.event.marketdata.application.port.out.shared.MarketDataCachePort;
+import me.rgunny.marketpulse.event.marketdata.domain.model.RealtimeQuote;
 import me.rgunny.marketpulse.event.marketdata.domain.model.StockPrice;
+import me.rgunny.marketpulse.event.marketdata.domain.model.Tick;
 import me.rgunny.marketpulse.event.marketdata.infrastructure.resilience.KISApiCircuitBreakerService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -50,6 +52,10 @@ class KISApiCircuitBreakerServiceTest {
             new BigDecimal("70100"),
             new BigDecimal("69900")
     );
+    private static final RealtimeQuote TEST_QUOTE = new RealtimeQuote(
+            Tick.of(TEST_SYMBOL, 70000, 69000, 70000, 71000, 69500, 70100, 69900, 1000000L, 0L),
+            "삼성전자"
+    );
     
     @BeforeEach
     void setUp() {
@@ -75,14 +81,14 @@ class KISApiCircuitBreakerServiceTest {
     @DisplayName("정상 API 호출 시 서킷브레이커 CLOSED 상태 유지")
     void given_successfulApiCall_when_execute_then_circuitBreakerRemainsClosed() {
         // given
-        Mono<StockPrice> successfulApiCall = Mono.just(TEST_PRICE);
+        Mono<RealtimeQuote> successfulApiCall = Mono.just(TEST_QUOTE);
         
         // when & then
         StepVerifier.create(
                 circuitBreakerService.executeGetCurrentPrice(TEST_SYMBOL, successfulApiCall)
         )
-        .assertNext(price -> {
-            assertThat(price).isEqualTo(TEST_PRICE);
+        .assertNext(quote -> {
+            assertThat(quote).isEqualTo(TEST_QUOTE);
             assertThat(circuitBreakerService.getCircuitBreakerState()).isEqualTo("CLOSED");
         })
         .verifyComplete();
@@ -92,15 +98,17 @@ class KISApiCircuitBreakerServiceTest {
     @DisplayName("API 호출 실패 시 캐시 Fallback 실행")
     void given_apiCallFails_when_cacheExists_then_returnCachedData() {
         // given
-        Mono<StockPrice> failingApiCall = Mono.error(new TimeoutException("API Timeout"));
+        Mono<RealtimeQuote> failingApiCall = Mono.error(new TimeoutException("API Timeout"));
         given(cachePort.getStockPrice(TEST_SYMBOL)).willReturn(Mono.just(TEST_PRICE));
         
         // when & then
         StepVerifier.create(
                 circuitBreakerService.executeGetCurrentPrice(TEST_SYMBOL, failingApiCall)
         )
-        .assertNext(price -> {
-            assertThat(price).isEqualTo(TEST_PRICE);
+        .assertNext(quote -> {
+            assertThat(quote.symbol()).isEqualTo(TEST_SYMBOL);
+            assertThat(quote.name()).isEqualTo("삼성전자");
+            assertThat(quote.tick().price()).isEqualTo(70000L);
         })
         .verifyComplete();
         
@@ -111,7 +119,7 @@ class KISApiCircuitBreakerServiceTest {
     @DisplayName("API 호출 실패 및 캐시 미스 시 에러 전파")
     void given_apiCallFailsAndCacheMiss_when_execute_then_propagateError() {
         // given
-        Mono<StockPrice> failingApiCall = Mono.error(new TimeoutException("API Timeout"));
+        Mono<RealtimeQuote> failingApiCall = Mono.error(new TimeoutException("API Timeout"));
         given(cachePort.getStockPrice(TEST_SYMBOL)).willReturn(Mono.empty());
         
         // when & then
@@ -126,7 +134,7 @@ class KISApiCircuitBreakerServiceTest {
     @DisplayName("연속 실패로 서킷브레이커 OPEN 전환")
     void given_consecutiveFailures_when_thresholdExceeded_then_circuitBreakerOpens() {
         // given
-        Mono<StockPrice> failingApiCall = Mono.error(new TimeoutException("API Timeout"));
+        Mono<RealtimeQuote> failingApiCall = Mono.error(new TimeoutException("API Timeout"));
         given(cachePort.getStockPrice(anyString())).willReturn(Mono.empty());
         
         // when - 연속 실패 발생 (KIS API는 20개 윈도우에 5개 최소 호출 필요)
@@ -155,10 +163,10 @@ class KISApiCircuitBreakerServiceTest {
         
         // when & then - OPEN 상태에서도 캐시에서 데이터 반환
         StepVerifier.create(
-                circuitBreakerService.executeGetCurrentPrice(TEST_SYMBOL, Mono.just(TEST_PRICE))
+                circuitBreakerService.executeGetCurrentPrice(TEST_SYMBOL, Mono.just(TEST_QUOTE))
         )
-        .assertNext(price -> {
-            assertThat(price).isEqualTo(TEST_PRICE);
+        .assertNext(quote -> {
+            assertThat(quote.tick().price()).isEqualTo(70000L);
         })
         .verifyComplete();
         
@@ -184,8 +192,8 @@ class KISApiCircuitBreakerServiceTest {
     @DisplayName("서킷브레이커 메트릭 조회")
     void given_someCallsExecuted_when_getMetrics_then_returnCorrectMetrics() {
         // given - 일부 성공, 일부 실패 호출 실행
-        Mono<StockPrice> successCall = Mono.just(TEST_PRICE);
-        Mono<StockPrice> failCall = Mono.error(new RuntimeException("Failed"));
+        Mono<RealtimeQuote> successCall = Mono.just(TEST_QUOTE);
+        Mono<RealtimeQuote> failCall = Mono.error(new RuntimeException("Failed"));
         given(cachePort.getStockPrice(anyString())).willReturn(Mono.just(TEST_PRICE));
         
         // 성공 호출
@@ -0,0 +1,163 @@
+package me.rgunny.marketpulse.event.unit.infrastructure.util;
+
+import me.rgunny.marketpulse.event.marketdata.domain.model.StockPrice;
+import me.rgunny.marketpulse.event.marketdata.infrastructure.dto.kis.KISRealtimeTrade;
+import me.rgunny.marketpulse.event.marketdata.infrastructure.util.KISRealtimeMessageParser;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static me.rgunny.marketpulse.event.support.KISWebSocketStubServer.tradeFrame;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("KISRealtimeMessageParser 단위 테스트")
+class KISRealtimeMessageParserTest {
+
+    private static final String TRADE_TR_ID = "H0STCNT0";
+
+    @Nested
+    @DisplayName("체결가 데이터 메시지")
+    class TradeTests {
+
+        @Test
+        @DisplayName("체결 1건을 시세 필드로 변환한다")
+        void givenSingleTrade_whenParse_thenMapsFields() {
+            // given
+            String message = tradeFrame("005930", 71000L, 500L, "0.71", 1234567L);
+
+            // when
+            List<KISRealtimeTrade> trades = KISRealtimeMessageParser.parseTrades(message, TRADE_TR_ID);
+
+            // then
+            assertThat(trades).hasSize(1);
+            KISRealtimeTrade trade = trades.get(0);
+            assertThat(trade.symbol()).isEqualTo("005930");
+            assertThat(trade.tradeTime()).isEqualTo("093000");
+            assertThat(trade.price()).isEqualTo(71000L);
+            assertThat(trade.change()).isEqualTo(500L);
+            assertThat(trade.open()).isEqualTo(70500L);
+            assertThat(trade.askPrice1()).isEqualTo(71100L);
+            assertThat(trade.bidPrice1()).isEqualTo(71000L);
+            assertThat(trade.accumulatedVolume()).isEqualTo(1234567L);
+        }
+
+        @Test
+        @DisplayName("여러 건이 이어 붙은 메시지는 건수만큼 변환한다")
+        void givenMultipleTrades_whenParse_thenReturnsAll() {
+            // given
+            String first = tradeFrame("005930", 71000L, 500L, "0.71", 100L);
+            String second = tradeFrame("005930", 71100L, 600L, "0.85", 200L);
+            String message = "0|H0STCNT0|002|" + first.substring(first.lastIndexOf('|') + 1)
+                    + "^" + second.substring(second.lastIndexOf('|') + 1);
+
+            // when
+            List<KISRealtimeTrade> trades = KISRealtimeMessageParser.parseTrades(message, TRADE_TR_ID);
+
+            // then
+            assertThat(trades).extracting(KISRealtimeTrade::price)
+                    .containsExactly(71000L, 71100L);
+        }
+
+        @Test
+        @DisplayName("하락 부호면 전일 대비를 음수로 만들어 전일종가를 맞춘다")
+        void givenDownSign_whenParse_thenNegatesChange() {
+            // given
+            String message = tradeFrame("000660", 120000L, 3000L, "2.44", 100L).replace("^2^3000^", "^5^3000^");
+
+            // when
+            KISRealtimeTrade trade = KISRealtimeMessageParser.parseTrades(message, TRADE_TR_ID).get(0);
+            StockPrice price = trade.toTick(0L).toStockPrice("SK하이닉스");
+
+            // then
+            assertThat(trade.change()).isEqualTo(-3000L);
+            assertThat(price.getPreviousClose()).isEqualByComparingTo("123000");
+            assertThat(price.isPriceDown()).isTrue();
+        }
+
+        @Test
+        @DisplayName("다른 TR 이거나 암호화된 메시지는 무시한다")
+        void givenOtherTransactionOrEncrypted_whenParse_thenEmpty() {
+            // given
+            String trade = tradeFrame("005930", 71000L, 500L, "0.71", 100L);
+
+            // when & then
+            assertThat(KISRealtimeMessageParser.parseTrades(trade.replace("H0STCNT0", "H0STASP0"), TRADE_TR_ID)).isEmpty();
+            assertThat(KISRealtimeMessageParser.parseTrades("1" + trade.substring(1), TRADE_TR_ID)).isEmpty();
+        }
+
+        @Test
+        @DisplayName("건수보다 필드가 모자라면 예외를 던진다")
+        void givenTruncatedMessage_whenParse_thenThrows() {
+            // given
+            String message = tradeFrame("005930", 71000L, 500L, "0.71", 100L).replace("|001|", "|002|");
+
+            // when & then
+            assertThatThrownBy(() -> KISRealtimeMessageParser.parseTrades(message, TRADE_TR_ID))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("제어 메시지")
+    class ControlTests {
+
+        @Test
+        @DisplayName("데이터 메시지와 JSON 제어 메시지를 구분한다")
+        void givenMessages_whenCheckDataMessage_thenDistinguishes() {
+            assertThat(KISRealtimeMessageParser.isDataMessage(tradeFrame("005930", 71000L, 500L, "0.71", 100L))).isTrue();
+            assertThat(KISRealtimeMessageParser.isDataMessage("{\"header\":{\"tr_id\":\"PINGPONG\"}}")).isFalse();
+            assertThat(KISRealtimeMessageParser.isDataMessage("")).isFalse();
+        }
+
+        @Test
+        @DisplayName("PINGPONG 메시지를 인식한다")
+        void givenPingPong_whenParseControl_thenIsPingPong() {
+            // given
+            String message = "{\"header\":{\"tr_id\":\"PINGPONG\",\"datetime\":\"20250101093000\"}}";
+
+            // when
+            KISRealtimeMessageParser.ControlMessage control = KISRealtimeMessageParser.parseControl(message);
+
+            // then
+            assertThat(control.isPingPong()).isTrue();
+            assertThat(control.isSuccess()).isFalse();
+        }
+
+        @Test
+        @DisplayName("구독 응답의 결과 코드와 종목을 읽는다")
+        void givenSubscribeResponse_whenParseControl_thenReadsResult() {
+            // given
+            String message = "{\"header\":{\"tr_id\":\"H0STCNT0\",\"tr_key\":\"005930\",\"encrypt\":\"N\"},"
+                    + "\"body\":{\"rt_cd\":\"1\",\"msg_cd\":\"OPSP0008\",\"msg1\":\"MAX SUBSCRIBE OVER\"}}";
+
+            // when
+            KISRealtimeMessageParser.ControlMessage control = KISRealtimeMessageParser.parseControl(message);
+
+            // then
+            assertThat(control.transactionId()).isEqualTo("H0STCNT0");
+            assertThat(control.symbol()).isEqualTo("005930");
+            assertThat(control.isSuccess()).isFalse();
+            assertThat(control.message()).isEqualTo("MAX SUBSCRIBE OVER");
+        }
+
+        @Test
+        @DisplayName("구독/해지 요청 메시지를 KIS 형식으로 만든다")
+        void givenSymbol_whenBuildSubscription_thenKisFormat() {
+            // when
+            String subscribe = KISRealtimeMessageParser.subscriptionMessage("approval", "P", TRADE_TR_ID, "005930", true);
+            String unsubscribe = KISRealtimeMessageParser.subscriptionMessage("approval", "P", TRADE_TR_ID, "005930", false);
+
+            // then
+            assertThat(subscribe)
+                    .contains("\"approval_key\":\"approval\"")
+                    .contains("\"custtype\":\"P\"")
+                    .contains("\"tr_type\":\"1\"")
+                    .contains("\"tr_id\":\"H0STCNT0\"")
+                    .contains("\"tr_key\":\"005930\"");
+            assertThat(unsubscribe).contains("\"tr_type\":\"2\"");
+        }
+    }
+}
@@ -0,0 +1,127 @@
+package me.rgunny.marketpulse.event.unit.infrastructure.util;
+
+import me.rgunny.marketpulse.common.infrastructure.config.redis.BinaryRedisSerializer;
+import me.rgunny.marketpulse.common.infrastructure.config.redis.RedisSerializerHelper;
+import me.rgunny.marketpulse.event.fixture.StockPriceTestFixture;
+import me.rgunny.marketpulse.event.marketdata.domain.model.StockPrice;
+import me.rgunny.marketpulse.event.marketdata.infrastructure.util.StockPriceBinaryCodec;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * StockPriceBinaryCodec 단위 테스트
+ */
+@DisplayName("StockPriceBinaryCodec 단위 테스트")
+class StockPriceBinaryCodecTest {
+
+    private final BinaryRedisSerializer<StockPrice> serializer =
+            RedisSerializerHelper.binarySerializer(new StockPriceBinaryCodec(), StockPrice.class);
+
+    @Test
+    @DisplayName("모든 필드를 자릿수까지 그대로 복원한다 (시각은 밀리초 단위)")
+    void givenFullStockPrice_whenRoundTrip_thenRestoresAllFields() {
+        // given
+        LocalDateTime collectedAt = LocalDateTime.of(2025, 1, 13, 12, 0, 0, 123_456_789);
+        StockPrice original = new StockPrice(
+                "65a1b2c3d4e5f6a7b8c9d0e1", "005930", "삼성전자",
+                new BigDecimal("71000"), new BigDecimal("70000"), new BigDecimal("1000"),
+                new BigDecimal("1.4286"), new BigDecimal("71500"), new BigDecimal("70500"),
+                new BigDecimal("70800"), 12_345_678L, new BigDecimal("876543210000"),
+                new BigDecimal("423000000000000"), new BigDecimal("71100"), new BigDecimal("70900"),
+                collectedAt, collectedAt.plusHours(24));
+
+        // when
+        StockPrice restored = serializer.deserialize(serializer.serialize(original));
+
+        // then
+        assertThat(restored)
+                .usingRecursiveComparison()
+                .ignoringFields("timestamp", "ttl")
+                .isEqualTo(original);
+        assertThat(restored.getChangeRate().scale()).isEqualTo(4);
+        assertThat(restored.getTimestamp()).isEqualTo(collectedAt.truncatedTo(ChronoUnit.MILLIS));
+        assertThat(restored.getTtl()).isEqualTo(collectedAt.plusHours(24).truncatedTo(ChronoUnit.MILLIS));
+    }
+
+    @Test
+    @DisplayName("비어 있는 필드는 null 로 복원한다")
+    void givenMissingFields_whenRoundTrip_thenRestoresNulls() {
+        // given - id, 거래대금, 시가총액 없음
+        StockPrice original = StockPriceTestFixture.samsung();
+
+        // when
+        StockPrice restored = serializer.deserialize(serializer.serialize(original));
+
+        // then
+        assertThat(restored.getId()).isNull();
+        assertThat(restored.getAmount()).isNull();
+        assertThat(restored.getMarketCap()).isNull();
+        assertThat(restored.getSymbol()).isEqualTo("005930");
+        assertThat(restored.getName()).isEqualTo("삼성전자");
+        assertThat(restored.getCurrentPrice()).isEqualTo(original.getCurrentPrice());
+        assertThat(restored.getVolume()).isEqualTo(original.getVolume());
+    }
+
+    @Test
+    @DisplayName("음수 전일대비도 그대로 복원한다")
+    void givenNegativeChange_whenRoundTrip_thenRestoresSign() {
+        // given
+        StockPrice original = StockPrice.createWithTTL("035720", "카카오",
+                new BigDecimal("42300"), new BigDecimal("45000"), new BigDecimal("45200"),
+                new BigDecimal("42100"), new BigDecimal("44900"), 2_000_000L,
+                new BigDecimal("42350"), new BigDecimal("42300"));
+
+        // when
+        StockPrice restored = serializer.deserialize(serializer.serialize(original));
+
+        // then
+        assertThat(restored.getChange()).isEqualTo(original.getChange());
+        assertThat(restored.getChangeRate()).isEqualTo(original.getChangeRate());
+    }
+
+    @Test
+    @DisplayName("같은 시세의 JSON 보다 작게 저장한다")
+    void givenStockPrice_whenSerialize_thenSmallerThanJson() throws Exception {
+        // given
+        StockPrice price = StockPriceTestFixture.samsung();
+        byte[] json = RedisSerializerHelper.jsonSerializer(StockPrice.class).serialize(price);
+
+        // when
+        byte[] binary = serializer.serialize(price);
+
+        // then
+        assertThat(binary.length).isLessThan(json.length / 3);
+    }
+
+    @Test
+    @DisplayName("지원하지 않는 포맷 버전은 역직렬화 오류로 처리한다")
+    void givenUnknownVersion_whenDeserialize_thenThrows() {
+        // given
+        byte[] bytes = serializer.serialize(StockPriceTestFixture.samsung());
+        bytes[0] = 99;
+
+        // when & then
+        assertThatThrownBy(() -> serializer.deserialize(bytes))
+                .isInstanceOf(SerializationException.class)
+                .hasMessageContaining("version");
+    }
+
+    @Test
+    @DisplayName("이전 JSON 값은 역직렬화 오류로 처리한다 (캐시 미스로 간주)")
+    void givenLegacyJson_whenDeserialize_thenThrows() {
+        // given
+        byte[] json = "{\"symbol\":\"005930\",\"currentPrice\":71000}".getBytes();
+
+        // when & then
+        assertThatThrownBy(() -> serializer.deserialize(json))
+                .isInstanceOf(SerializationException.class);
+    }
+}
@@ -1,9 +1,13 @@
 package me.rgunny.marketpulse.notification;
 
+import me.rgunny.marketpulse.notification.infrastructure.config.NotificationOutboxProperties;
+import me.rgunny.marketpulse.notification.infrastructure.config.SlackDeliveryProperties;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.boot.autoconfigure.jdbc.DataSourceAutoConfiguration;
 import org.springframework.boot.autoconfigure.orm.jpa.HibernateJpaAutoConfiguration;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 /**
  * Notification Service Application
@@ -14,6 +18,11 @@ import org.springframework.boot.autoconfigure.orm.jpa.HibernateJpaAutoConfigurat
     DataSourceAutoConfiguration.class,
     HibernateJpaAutoConfiguration.class
 })
+@EnableScheduling
+@EnableConfigurationProperties({
+    SlackDeliveryProperties.class,
+    NotificationOutboxProperties.class
+})
 public class NotificationApplication {
     
     public static void main(String[] args) {
@@ -0,0 +1,16 @@
+package me.rgunny.marketpulse.notification.application.port.in;
+
+import reactor.core.publisher.Mono;
+
+/**
+ * 알림 재발송 유스케이스
+ */
+public interface RetryNotificationUseCase {
+    
+    /**
+     * 재시도 시점이 된 알림 재발송
+     * 
+     * @return 재발송을 시도한 알림 수
+     */
+    Mono<Long> retryDueNotifications();
+}
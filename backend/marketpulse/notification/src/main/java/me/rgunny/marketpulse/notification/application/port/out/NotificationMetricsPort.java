@@ -4,11 +4,35 @@ import io.micrometer.core.instrument.Timer;
 import me.rgunny.marketpulse.notification.domain.model.NotificationChannel;
 import me.rgunny.marketpulse.notification.domain.model.NotificationType;
 
+import java.util.function.Supplier;
+
 /**
  * 알림 메트릭 수집 포트
  */
 public interface NotificationMetricsPort {
     
+    /**
+     * 알림 처리 단계 (gRPC 수신 → 이벤트 변환 → 발송 → ack)
+     */
+    enum Stage {
+        /**
+         * 알림 생성 시각부터 gRPC 수신까지 (서버 간 시계 차이 포함)
+         */
+        RECEIVE,
+        /**
+         * gRPC 메시지를 도메인 이벤트로 변환
+         */
+        CONVERT,
+        /**
+         * 알림 접수/발송 유스케이스 처리
+         */
+        SEND,
+        /**
+         * 응답(ack) 작성과 전송
+         */
+        ACK
+    }
+    
     /**
      * 타이머 시작
      */
@@ -28,4 +52,19 @@ public interface NotificationMetricsPort {
      * 응답 시간 기록
      */
     void recordResponseTime(Timer.Sample sample, NotificationChannel channel);
+    
+    /**
+     * 발송 대기열 깊이 게이지 등록
+     */
+    void registerQueueDepth(NotificationChannel channel, Supplier<Number> depth);
+    
+    /**
+     * 채널로 보낸 메시지 기록 (묶음 메시지면 담긴 알림 수가 2 이상)
+     */
+    void recordDelivery(NotificationChannel channel, int notifications);
+    
+    /**
+     * 처리 단계별 소요 시간 기록
+     */
+    void recordStageLatency(Stage stage, long nanos);
 }
\ No newline at end of file
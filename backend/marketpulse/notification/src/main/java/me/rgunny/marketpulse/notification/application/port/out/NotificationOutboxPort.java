@@ -0,0 +1,37 @@
+package me.rgunny.marketpulse.notification.application.port.out;
+
+import me.rgunny.marketpulse.notification.domain.model.Notification;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Instant;
+
+/**
+ * 알림 outbox 저장소 포트
+ * - 접수한 알림을 발송이 끝날 때까지 보관 (재시작해도 유실되지 않음)
+ * - eventId 당 하나만 보관하여 같은 이벤트를 두 번 발송하지 않음
+ */
+public interface NotificationOutboxPort {
+    
+    /**
+     * 알림 추가 (leaseUntil 까지는 접수한 쪽이 발송 중인 것으로 보고 재시도 대상에서 제외)
+     * 
+     * @return 새로 추가했으면 true, 같은 eventId 가 이미 있으면 false
+     */
+    Mono<Boolean> append(Notification notification, Instant leaseUntil);
+    
+    /**
+     * 재시도 시점이 된 알림을 최대 limit 건 선점 (선점한 알림은 leaseUntil 까지 다른 인스턴스가 가져가지 않음)
+     */
+    Flux<Notification> claimDue(Instant now, Instant leaseUntil, int limit);
+    
+    /**
+     * 발송 완료 처리
+     */
+    Mono<Void> markSent(Notification notification);
+    
+    /**
+     * 발송 실패 처리 (nextAttemptAt 이 null 이면 더 이상 재시도하지 않음)
+     */
+    Mono<Void> markFailed(Notification notification, Instant nextAttemptAt);
+}
@@ -0,0 +1,116 @@
+package me.rgunny.marketpulse.notification.application.usecase;
+
+import lombok.extern.slf4j.Slf4j;
+import me.rgunny.marketpulse.notification.application.port.in.RetryNotificationUseCase;
+import me.rgunny.marketpulse.notification.application.port.in.SendNotificationUseCase;
+import me.rgunny.marketpulse.notification.application.port.out.NotificationOutboxPort;
+import me.rgunny.marketpulse.notification.domain.event.MarketEvent;
+import me.rgunny.marketpulse.notification.domain.model.Notification;
+import me.rgunny.marketpulse.notification.infrastructure.config.NotificationOutboxProperties;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+import java.time.Instant;
+
+/**
+ * outbox 기반 알림 접수 서비스
+ * - 알림을 outbox 에 저장하면 바로 응답하고 발송은 비동기로 진행 (Slack 이 느려도 접수가 밀리지 않음)
+ * - 같은 eventId 는 한 번만 접수하여 중복 발송하지 않음
+ * - 실패한 알림은 지수 백오프로 재시도하고, 재시작 후에도 선점 시간이 지난 알림을 이어서 발송
+ */
+@Primary
+@Service
+@Slf4j
+public class NotificationOutboxService implements SendNotificationUseCase, RetryNotificationUseCase {
+    
+    private final NotificationService notificationService;
+    private final NotificationOutboxPort outbox;
+    private final NotificationOutboxProperties properties;
+    
+    public NotificationOutboxService(
+            NotificationService notificationService,
+            NotificationOutboxPort outbox,
+            NotificationOutboxProperties properties) {
+        this.notificationService = notificationService;
+        this.outbox = outbox;
+        this.properties = properties;
+    }
+    
+    /**
+     * 알림 접수 (outbox 저장까지만 기다림)
+     */
+    @Override
+    public Mono<Void> sendNotification(MarketEvent event) {
+        if (!properties.enabled()) {
+            return notificationService.sendNotification(event);
+        }
+        
+        return Mono.defer(() -> {
+            Notification notification = notificationService.createNotification(event);
+            Instant leaseUntil = Instant.now().plus(properties.lease());
+            
+            return outbox.append(notification, leaseUntil)
+                    .doOnNext(appended -> {
+                        if (appended) {
+                            deliver(notification).subscribe();
+                        } else {
+                            log.info("Duplicate notification ignored: eventId={}", notification.eventId());
+                        }
+                    })
+                    .then();
+        });
+    }
+    
+    @Override
+    public Mono<Long> retryDueNotifications() {
+        if (!properties.enabled()) {
+            return Mono.just(0L);
+        }
+        
+        return Mono.defer(() -> {
+            Instant now = Instant.now();
+            return outbox.claimDue(now, now.plus(properties.lease()), properties.batchSize())
+                    .flatMap(notification -> {
+                        log.info("Retrying notification: eventId={}, retryCount={}",
+                                notification.eventId(), notification.retryCount());
+                        return deliver(notification).thenReturn(notification.eventId());
+                    })
+                    .count();
+        });
+    }
+    
+    /**
+     * 발송 후 outbox 에 결과 반영 (오류는 여기서 처리하므로 항상 정상 완료)
+     */
+    private Mono<Void> deliver(Notification notification) {
+        return notificationService.deliver(notification)
+                .then(Mono.defer(() -> outbox.markSent(notification)
+                        .onErrorResume(error -> {
+                            // 선점 시간이 지나면 다시 발송될 수 있음 (최소 한 번 발송)
+                            log.error("Failed to mark notification as sent: eventId={}", notification.eventId(), error);
+                            return Mono.empty();
+                        })))
+                .onErrorResume(error -> scheduleRetry(notification, error));
+    }
+    
+    private Mono<Void> scheduleRetry(Notification notification, Throwable error) {
+        Notification failed = notification.markForRetry(error.getMessage());
+        Instant nextAttemptAt = null;
+        
+        if (failed.canRetry()) {
+            nextAttemptAt = Instant.now().plus(properties.backoff(failed.retryCount()));
+            log.warn("Notification will be retried: eventId={}, retryCount={}, nextAttemptAt={}",
+                    failed.eventId(), failed.retryCount(), nextAttemptAt);
+        } else {
+            log.error("Notification retries exhausted: eventId={}, retryCount={}",
+                    failed.eventId(), failed.retryCount());
+        }
+        
+        return outbox.markFailed(failed, nextAttemptAt)
+                .onErrorResume(saveError -> {
+                    log.error("Failed to record notification failure: eventId={}", failed.eventId(), saveError);
+                    return Mono.empty();
+                });
+    }
+}
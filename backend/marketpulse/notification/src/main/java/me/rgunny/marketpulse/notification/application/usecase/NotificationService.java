@@ -47,8 +47,14 @@ public class NotificationService implements SendNotificationUseCase {
     
     @Override
     public Mono<Void> sendNotification(MarketEvent event) {
+        return Mono.defer(() -> deliver(createNotification(event)));
+    }
+    
+    /**
+     * 알림 발송 (메트릭 기록과 이력 이벤트 발행 포함)
+     */
+    Mono<Void> deliver(Notification notification) {
         return Mono.defer(() -> {
-            Notification notification = createNotification(event);
             Timer.Sample sample = metrics.startTimer();
             
             return sendToChannel(notification)
@@ -88,7 +94,7 @@ public class NotificationService implements SendNotificationUseCase {
                 notification.eventId(), notification.type(), notification.channel(), error.getMessage());
     }
     
-    private Notification createNotification(MarketEvent event) {
+    Notification createNotification(MarketEvent event) {
         return switch (event) {
             case PriceAlertEvent priceEvent -> Notification.create(
                     priceEvent.eventId(),
@@ -12,6 +12,7 @@ public enum NotificationErrorCode implements ErrorCode {
     NOTIFICATION_SEND_001("NOTIFICATION_SEND_001", "알림 발송에 실패했습니다", HttpStatus.INTERNAL_SERVER_ERROR),
     NOTIFICATION_SEND_002("NOTIFICATION_SEND_002", "Slack API 호출에 실패했습니다", HttpStatus.BAD_GATEWAY),
     NOTIFICATION_SEND_003("NOTIFICATION_SEND_003", "지원하지 않는 알림 채널입니다", HttpStatus.BAD_REQUEST),
+    NOTIFICATION_SEND_004("NOTIFICATION_SEND_004", "알림 발송 대기열이 가득 찼습니다", HttpStatus.SERVICE_UNAVAILABLE),
     
     // 알림 검증 관련 에러
     NOTIFICATION_VALIDATION_001("NOTIFICATION_VALIDATION_001", "알림 내용이 비어있습니다", HttpStatus.BAD_REQUEST),
@@ -4,6 +4,8 @@ import me.rgunny.marketpulse.common.core.exception.BusinessException;
 import me.rgunny.marketpulse.notification.domain.error.NotificationErrorCode;
 
 import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.Map;
 
 /**
@@ -91,6 +93,35 @@ public record Notification(
         );
     }
     
+    /**
+     * 발송 실패 후 재시도 대기 처리 (metadata 의 retryCount 증가)
+     */
+    public Notification markForRetry(String errorMessage) {
+        Map<String, Object> nextMetadata = metadata == null ? new HashMap<>() : new HashMap<>(metadata);
+        nextMetadata.put("retryCount", retryCount() + 1);
+        return new Notification(
+                id,
+                eventId,
+                type,
+                channel,
+                recipient,
+                title,
+                message,
+                Collections.unmodifiableMap(nextMetadata),
+                NotificationStatus.FAILED,
+                createdAt,
+                null,
+                errorMessage
+        );
+    }
+    
+    /**
+     * 실패 후 재시도한 횟수 (metadata 의 retryCount, 없으면 0)
+     */
+    public int retryCount() {
+        return metadata != null && metadata.get("retryCount") instanceof Integer count ? count : 0;
+    }
+    
     /**
      * 재시도 가능 여부 확인
      */
@@ -1,43 +1,60 @@
 package me.rgunny.marketpulse.notification.infrastructure.adapter.in.grpc;
 
+import io.grpc.stub.ServerCallStreamObserver;
 import io.grpc.stub.StreamObserver;
 import me.rgunny.marketpulse.notification.application.port.in.SendNotificationUseCase;
+import me.rgunny.marketpulse.notification.application.port.out.NotificationMetricsPort;
+import me.rgunny.marketpulse.notification.application.port.out.NotificationMetricsPort.Stage;
 import me.rgunny.marketpulse.notification.domain.event.PriceAlertEvent;
 import me.rgunny.marketpulse.notification.grpc.NotificationServiceGrpc;
 import me.rgunny.marketpulse.notification.grpc.NotificationServiceProto.Empty;
 import me.rgunny.marketpulse.notification.grpc.NotificationServiceProto.NotificationResponse;
 import me.rgunny.marketpulse.notification.grpc.NotificationServiceProto.NotificationStatus;
 import me.rgunny.marketpulse.notification.grpc.NotificationServiceProto.NotificationStatusResponse;
+import me.rgunny.marketpulse.notification.grpc.NotificationServiceProto.PriceAlert;
+import me.rgunny.marketpulse.notification.grpc.NotificationServiceProto.PriceAlertAck;
 import me.rgunny.marketpulse.notification.grpc.NotificationServiceProto.PriceAlertRequest;
 import net.devh.boot.grpc.server.service.GrpcService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
+import reactor.core.publisher.Mono;
 
 import java.math.BigDecimal;
 import java.time.Instant;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
+import java.util.HashMap;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.TimeUnit;
 
 /**
  * gRPC 알림 서비스 구현체
  * - event-detection에서 gRPC 호출을 수신하여 알림 발송
+ * - 수신 → 변환 → 발송 → ack 단계별 소요 시간을 기록
  */
 @GrpcService
 public class NotificationGrpcService extends NotificationServiceGrpc.NotificationServiceImplBase {
     
     private static final Logger log = LoggerFactory.getLogger(NotificationGrpcService.class);
     
+    /**
+     * 스트림 하나에서 동시에 처리하는 최대 알림 수 (처리가 끝난 만큼만 추가로 수신하여 버퍼를 제한)
+     */
+    private static final int STREAM_WINDOW = 32;
+    
     private final SendNotificationUseCase notificationUseCase;
+    private final NotificationMetricsPort metrics;
     private final String serviceVersion;
     private final Instant startTime;
     
     public NotificationGrpcService(
             SendNotificationUseCase notificationUseCase,
+            NotificationMetricsPort metrics,
             @Value("${spring.application.version:1.0.0}") String serviceVersion) {
         this.notificationUseCase = notificationUseCase;
+        this.metrics = metrics;
         this.serviceVersion = serviceVersion;
         this.startTime = Instant.now();
     }
@@ -47,13 +64,21 @@ public class NotificationGrpcService extends NotificationServiceGrpc.Notificatio
         log.info("Received gRPC price alert request: eventId={}, symbol={}", 
                 request.getEventId(), request.getSymbol());
         
+        long receivedAt = System.nanoTime();
+        recordReceive(request.getTimestamp());
+        
         try {
             // gRPC 요청을 도메인 이벤트로 변환
             PriceAlertEvent event = convertToEvent(request);
+            long convertedAt = System.nanoTime();
+            metrics.recordStageLatency(Stage.CONVERT, convertedAt - receivedAt);
             
             // 비동기 알림 발송
             notificationUseCase.sendNotification(event)
                     .doOnSuccess(unused -> {
+                        long sentAt = System.nanoTime();
+                        metrics.recordStageLatency(Stage.SEND, sentAt - convertedAt);
+                        
                         NotificationResponse response = NotificationResponse.newBuilder()
                                 .setSuccess(true)
                                 .setMessage("Price alert sent successfully")
@@ -63,10 +88,13 @@ public class NotificationGrpcService extends NotificationServiceGrpc.Notificatio
                         
                         responseObserver.onNext(response);
                         responseObserver.onCompleted();
+                        metrics.recordStageLatency(Stage.ACK, System.nanoTime() - sentAt);
                         
                         log.info("Successfully sent price alert: eventId={}", request.getEventId());
                     })
                     .doOnError(error -> {
+                        long sentAt = System.nanoTime();
+                        metrics.recordStageLatency(Stage.SEND, sentAt - convertedAt);
                         log.error("Failed to send price alert: eventId={}", request.getEventId(), error);
                         
                         NotificationResponse response = NotificationResponse.newBuilder()
@@ -78,6 +106,7 @@ public class NotificationGrpcService extends NotificationServiceGrpc.Notificatio
                         
                         responseObserver.onNext(response);
                         responseObserver.onCompleted();
+                        metrics.recordStageLatency(Stage.ACK, System.nanoTime() - sentAt);
                     })
                     .subscribe();
                     
@@ -96,6 +125,22 @@ public class NotificationGrpcService extends NotificationServiceGrpc.Notificatio
         }
     }
     
+    /**
+     * 가격 알림 스트림 수신
+     * - 알림마다 eventId 를 담은 ack 를 보내고, 클라이언트가 보내기를 마치고 모든 처리가 끝나면 스트림 종료
+     * - 자동 수신 요청을 끄고 STREAM_WINDOW 만큼만 먼저 받은 뒤 처리가 끝날 때마다 하나씩 더 받음
+     *   (ack 를 보낼 수 없는 상태면 추가 수신도 미뤄 클라이언트가 느려도 메모리에 쌓이지 않음)
+     */
+    @Override
+    public StreamObserver<PriceAlert> streamPriceAlerts(StreamObserver<PriceAlertAck> responseObserver) {
+        ServerCallStreamObserver<PriceAlertAck> acks = (ServerCallStreamObserver<PriceAlertAck>) responseObserver;
+        acks.disableAutoRequest();
+        PriceAlertStreamHandler handler = new PriceAlertStreamHandler(acks);
+        acks.setOnReadyHandler(handler::onReady);
+        acks.request(STREAM_WINDOW);
+        return handler;
+    }
+    
     @Override
     public void getNotificationStatus(Empty request, StreamObserver<NotificationStatusResponse> responseObserver) {
         log.debug("Health check requested via gRPC");
@@ -113,6 +158,21 @@ public class NotificationGrpcService extends NotificationServiceGrpc.Notificatio
         responseObserver.onCompleted();
     }
     
+    /**
+     * 알림 생성 시각(epoch millis)부터 수신까지 걸린 시간 기록
+     * (서버 간 시계 차이로 음수가 나오면 0 으로 기록하지 않고 건너뜀)
+     */
+    private void recordReceive(long timestampMillis) {
+        if (timestampMillis <= 0) {
+            return;
+        }
+        long elapsedMillis = System.currentTimeMillis() - timestampMillis;
+        if (elapsedMillis < 0) {
+            return;
+        }
+        metrics.recordStageLatency(Stage.RECEIVE, TimeUnit.MILLISECONDS.toNanos(elapsedMillis));
+    }
+    
     /**
      * gRPC 요청을 도메인 이벤트로 변환
      */
@@ -134,4 +194,124 @@ public class NotificationGrpcService extends NotificationServiceGrpc.Notificatio
                 Map.copyOf(request.getMetadataMap())
         );
     }
+    
+    /**
+     * 스트림 가격 알림을 도메인 이벤트로 변환
+     */
+    private PriceAlertEvent convertToEvent(PriceAlert alert) {
+        LocalDateTime timestamp = LocalDateTime.ofInstant(
+                Instant.ofEpochMilli(alert.getTimestamp()),
+                ZoneId.systemDefault()
+        );
+        
+        Map<String, Object> metadata = new HashMap<>(alert.getMetadataMap());
+        metadata.put("high", BigDecimal.valueOf(alert.getHigh()));
+        metadata.put("low", BigDecimal.valueOf(alert.getLow()));
+        metadata.put("volume", alert.getVolume());
+        
+        return new PriceAlertEvent(
+                alert.getEventId(),
+                alert.getSymbol(),
+                alert.getSymbolName(),
+                BigDecimal.valueOf(alert.getPreviousPrice()),
+                BigDecimal.valueOf(alert.getCurrentPrice()),
+                BigDecimal.valueOf(alert.getChangeRate()),
+                alert.getAlertType().name(),
+                timestamp,
+                Map.copyOf(metadata)
+        );
+    }
+    
+    private static PriceAlertAck ack(PriceAlert alert, Throwable error) {
+        PriceAlertAck.Builder ack = PriceAlertAck.newBuilder()
+                .setEventId(alert.getEventId())
+                .setProcessedAt(Instant.now().toEpochMilli());
+        if (error == null) {
+            return ack.setSuccess(true)
+                    .setMessage("Price alert sent successfully")
+                    .setNotificationId(UUID.randomUUID().toString())
+                    .build();
+        }
+        return ack.setSuccess(false)
+                .setMessage("Failed to send alert: " + error.getMessage())
+                .build();
+    }
+    
+    /**
+     * 스트림 하나의 수신/처리 상태 (응답 스트림 쓰기는 this 로 직렬화)
+     */
+    private final class PriceAlertStreamHandler implements StreamObserver<PriceAlert> {
+        
+        private final ServerCallStreamObserver<PriceAlertAck> acks;
+        private int processing;
+        private int deferredRequests;
+        private boolean inboundCompleted;
+        
+        private PriceAlertStreamHandler(ServerCallStreamObserver<PriceAlertAck> acks) {
+            this.acks = acks;
+        }
+        
+        @Override
+        public void onNext(PriceAlert alert) {
+            synchronized (this) {
+                processing++;
+            }
+            long receivedAt = System.nanoTime();
+            recordReceive(alert.getTimestamp());
+            long[] convertedAt = {receivedAt};
+            Mono.defer(() -> {
+                        PriceAlertEvent event = convertToEvent(alert);
+                        convertedAt[0] = System.nanoTime();
+                        metrics.recordStageLatency(Stage.CONVERT, convertedAt[0] - receivedAt);
+                        return notificationUseCase.sendNotification(event);
+                    })
+                    .subscribe(
+                            null,
+                            error -> {
+                                log.error("Failed to send streamed price alert: eventId={}", alert.getEventId(), error);
+                                complete(alert, error, convertedAt[0]);
+                            },
+                            () -> complete(alert, null, convertedAt[0]));
+        }
+        
+        @Override
+        public void onError(Throwable t) {
+            log.warn("Price alert stream aborted by client: {}", t.getMessage());
+        }
+        
+        @Override
+        public synchronized void onCompleted() {
+            inboundCompleted = true;
+            if (processing == 0 && !acks.isCancelled()) {
+                acks.onCompleted();
+            }
+        }
+        
+        private synchronized void complete(PriceAlert alert, Throwable error, long convertedAt) {
+            long sentAt = System.nanoTime();
+            metrics.recordStageLatency(Stage.SEND, sentAt - convertedAt);
+            processing--;
+            if (acks.isCancelled()) {
+                return;
+            }
+            acks.onNext(ack(alert, error));
+            metrics.recordStageLatency(Stage.ACK, System.nanoTime() - sentAt);
+            if (inboundCompleted) {
+                if (processing == 0) {
+                    acks.onCompleted();
+                }
+            } else if (acks.isReady()) {
+                acks.request(1);
+            } else {
+                deferredRequests++;
+            }
+        }
+        
+        private synchronized void onReady() {
+            if (deferredRequests > 0 && !acks.isCancelled()) {
+                acks.request(deferredRequests);
+                deferredRequests = 0;
+            }
+        }
+    }
 }
\ No newline at end of file
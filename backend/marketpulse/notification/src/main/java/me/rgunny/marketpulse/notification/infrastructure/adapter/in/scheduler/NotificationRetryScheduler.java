@@ -0,0 +1,38 @@
+package me.rgunny.marketpulse.notification.infrastructure.adapter.in.scheduler;
+
+import me.rgunny.marketpulse.notification.application.port.in.RetryNotificationUseCase;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+/**
+ * 알림 재발송 스케줄러
+ * - outbox 에서 재시도 시점이 된 알림을 주기적으로 가져와 재발송
+ */
+@Component
+public class NotificationRetryScheduler {
+    
+    private static final Logger log = LoggerFactory.getLogger(NotificationRetryScheduler.class);
+    
+    private final RetryNotificationUseCase retryNotificationUseCase;
+    
+    public NotificationRetryScheduler(RetryNotificationUseCase retryNotificationUseCase) {
+        this.retryNotificationUseCase = retryNotificationUseCase;
+    }
+    
+    @Scheduled(fixedDelayString = "#{T(java.time.Duration).parse('${notification.outbox.retry-interval:PT5S}').toMillis()}",
+              initialDelayString = "#{T(java.time.Duration).parse('${notification.outbox.retry-interval:PT5S}').toMillis()}")
+    public void retryDueNotifications() {
+        retryNotificationUseCase.retryDueNotifications()
+                .doOnNext(count -> {
+                    if (count > 0) {
+                        log.info("Retried {} notifications from outbox", count);
+                    }
+                })
+                .doOnError(error -> log.error("Notification retry failed", error))
+                .onErrorResume(error -> Mono.empty())
+                .subscribe();
+    }
+}
@@ -0,0 +1,90 @@
+package me.rgunny.marketpulse.notification.infrastructure.adapter.out.mongo;
+
+import me.rgunny.marketpulse.notification.application.port.out.NotificationOutboxPort;
+import me.rgunny.marketpulse.notification.domain.model.Notification;
+import me.rgunny.marketpulse.notification.domain.model.NotificationStatus;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * MongoDB 알림 outbox 어댑터
+ * - 선점은 findAndModify 로 한 건씩 nextAttemptAt 을 선점 만료 시각으로 옮겨 여러 인스턴스가 같은 알림을 가져가지 않음
+ */
+@Component
+public class MongoNotificationOutboxAdapter implements NotificationOutboxPort {
+    
+    private static final List<NotificationStatus> RETRYABLE = List.of(NotificationStatus.PENDING, NotificationStatus.FAILED);
+    
+    private final ReactiveMongoTemplate mongoTemplate;
+    
+    public MongoNotificationOutboxAdapter(ReactiveMongoTemplate mongoTemplate) {
+        this.mongoTemplate = mongoTemplate;
+    }
+    
+    @Override
+    public Mono<Boolean> append(Notification notification, Instant leaseUntil) {
+        return mongoTemplate.insert(NotificationOutboxDocument.pending(notification, leaseUntil))
+                .thenReturn(true)
+                .onErrorResume(DuplicateKeyException.class, e -> Mono.just(false));
+    }
+    
+    @Override
+    public Flux<Notification> claimDue(Instant now, Instant leaseUntil, int limit) {
+        AtomicInteger claimed = new AtomicInteger(1);
+        return claimOne(now, leaseUntil)
+                .expand(document -> claimed.getAndIncrement() < limit ? claimOne(now, leaseUntil) : Mono.empty())
+                .map(NotificationOutboxDocument::toDomain);
+    }
+    
+    @Override
+    public Mono<Void> markSent(Notification notification) {
+        Update update = new Update()
+                .set("status", NotificationStatus.SENT)
+                .set("sentAt", Instant.now())
+                .unset("nextAttemptAt")
+                .unset("errorMessage");
+        return mongoTemplate.updateFirst(byEventId(notification.eventId()), update, NotificationOutboxDocument.class)
+                .then();
+    }
+    
+    @Override
+    public Mono<Void> markFailed(Notification notification, Instant nextAttemptAt) {
+        Update update = new Update()
+                .set("status", NotificationStatus.FAILED)
+                .set("metadata", notification.metadata())
+                .set("errorMessage", notification.errorMessage());
+        if (nextAttemptAt != null) {
+            update.set("nextAttemptAt", nextAttemptAt);
+        } else {
+            update.unset("nextAttemptAt");
+        }
+        return mongoTemplate.updateFirst(byEventId(notification.eventId()), update, NotificationOutboxDocument.class)
+                .then();
+    }
+    
+    private Mono<NotificationOutboxDocument> claimOne(Instant now, Instant leaseUntil) {
+        Query due = new Query(Criteria.where("status").in(RETRYABLE).and("nextAttemptAt").lte(now))
+                .with(Sort.by(Sort.Direction.ASC, "nextAttemptAt"));
+        return mongoTemplate.findAndModify(
+                due,
+                new Update().set("nextAttemptAt", leaseUntil),
+                FindAndModifyOptions.options().returnNew(true),
+                NotificationOutboxDocument.class);
+    }
+    
+    private static Query byEventId(String eventId) {
+        return new Query(Criteria.where("_id").is(eventId));
+    }
+}
@@ -0,0 +1,73 @@
+package me.rgunny.marketpulse.notification.infrastructure.adapter.out.mongo;
+
+import me.rgunny.marketpulse.notification.domain.model.Notification;
+import me.rgunny.marketpulse.notification.domain.model.NotificationChannel;
+import me.rgunny.marketpulse.notification.domain.model.NotificationStatus;
+import me.rgunny.marketpulse.notification.domain.model.NotificationType;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.Indexed;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Map;
+
+/**
+ * 알림 outbox 문서
+ * 
+ * eventId 를 _id 로 사용하여 같은 이벤트는 한 번만 저장되고,
+ * 발송 완료된 문서는 sentAt 기준 7일 뒤 TTL 인덱스로 삭제 (그동안은 중복 접수를 걸러냄)
+ */
+@Document(collection = "notification_outbox")
+@CompoundIndex(name = "status_next_attempt", def = "{'status': 1, 'nextAttemptAt': 1}")
+public record NotificationOutboxDocument(
+        @Id String eventId,
+        NotificationType type,
+        NotificationChannel channel,
+        String recipient,
+        String title,
+        String message,
+        Map<String, Object> metadata,
+        NotificationStatus status,
+        LocalDateTime createdAt,
+        Instant nextAttemptAt,           // 다음 발송 시도 가능 시각 (선점 만료 시각 겸용, null 이면 재시도 안 함)
+        String errorMessage,
+        @Indexed(expireAfter = "7d") Instant sentAt
+) {
+    
+    static NotificationOutboxDocument pending(Notification notification, Instant leaseUntil) {
+        return new NotificationOutboxDocument(
+                notification.eventId(),
+                notification.type(),
+                notification.channel(),
+                notification.recipient(),
+                notification.title(),
+                notification.message(),
+                notification.metadata(),
+                NotificationStatus.PENDING,
+                notification.createdAt(),
+                leaseUntil,
+                null,
+                null
+        );
+    }
+    
+    Notification toDomain() {
+        return new Notification(
+                eventId,
+                eventId,
+                type,
+                channel,
+                recipient,
+                title,
+                message,
+                metadata,
+                status,
+                createdAt,
+                sentAt == null ? null : LocalDateTime.ofInstant(sentAt, ZoneId.systemDefault()),
+                errorMessage
+        );
+    }
+}
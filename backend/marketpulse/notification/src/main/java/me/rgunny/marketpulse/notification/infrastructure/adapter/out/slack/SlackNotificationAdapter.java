@@ -3,21 +3,33 @@ package me.rgunny.marketpulse.notification.infrastructure.adapter.out.slack;
 import com.slack.api.Slack;
 import com.slack.api.webhook.Payload;
 import com.slack.api.webhook.WebhookResponse;
+import me.rgunny.marketpulse.notification.application.port.out.NotificationMetricsPort;
 import me.rgunny.marketpulse.notification.application.port.out.NotificationSenderPort;
-import me.rgunny.marketpulse.notification.domain.error.NotificationErrorCode;
 import me.rgunny.marketpulse.notification.domain.model.Notification;
 import me.rgunny.marketpulse.notification.domain.model.NotificationChannel;
-import me.rgunny.marketpulse.common.core.exception.BusinessException;
+import me.rgunny.marketpulse.notification.infrastructure.config.SlackDeliveryProperties;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.ContextClosedEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Component;
 import reactor.core.publisher.Mono;
 
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Slack 알림 발송 어댑터
  * - Slack Webhook을 통한 메시지 발송
+ * - 블로킹 Webhook 호출은 전용 발송 스레드에서 실행 (구독 스레드를 막지 않음)
+ * - 웹훅별 대기열에서 속도를 맞춰 보내고, 밀린 알림은 묶음 메시지로 합침
  */
 @Component
 public class SlackNotificationAdapter implements NotificationSenderPort {
@@ -26,27 +38,34 @@ public class SlackNotificationAdapter implements NotificationSenderPort {
     
     private final Slack slack;
     private final String webhookUrl;
+    private final SlackDeliveryProperties properties;
+    private final NotificationMetricsPort metrics;
+    private final ScheduledExecutorService deliveryExecutor;
+    private final Map<String, SlackWebhookLane> lanes = new ConcurrentHashMap<>();
     
-    public SlackNotificationAdapter(@Value("${notification.slack.webhook-url}") String webhookUrl) {
-        this.slack = Slack.getInstance();
+    @Autowired
+    public SlackNotificationAdapter(@Value("${notification.slack.webhook-url}") String webhookUrl,
+                                    SlackDeliveryProperties properties,
+                                    NotificationMetricsPort metrics) {
+        this(Slack.getInstance(), webhookUrl, properties, metrics);
+    }
+    
+    public SlackNotificationAdapter(Slack slack, String webhookUrl,
+                                    SlackDeliveryProperties properties,
+                                    NotificationMetricsPort metrics) {
+        this.slack = slack;
         this.webhookUrl = webhookUrl;
+        this.properties = properties;
+        this.metrics = metrics;
+        this.deliveryExecutor = Executors.newScheduledThreadPool(properties.workers(),
+                Thread.ofPlatform().name("slack-delivery-", 0).daemon().factory());
+        metrics.registerQueueDepth(NotificationChannel.SLACK, this::queueDepth);
     }
     
     @Override
     public Mono<Void> send(Notification notification) {
-        return Mono.fromCallable(() -> {
-            Payload payload = buildPayload(notification);
-            WebhookResponse response = slack.send(webhookUrl, payload);
-            
-            if (response.getCode() != 200) {
-                throw new BusinessException(NotificationErrorCode.NOTIFICATION_SEND_002);
-            }
-            
-            log.info("Slack notification sent successfully. EventId: {}", notification.eventId());
-            return response;
-        })
-        .doOnError(error -> log.error("Failed to send Slack notification", error))
-        .then();
+        return Mono.<Void>create(sink -> lane(resolveWebhookUrl(notification)).enqueue(notification, sink))
+                .doOnError(error -> log.error("Failed to send Slack notification", error));
     }
     
     @Override
@@ -54,6 +73,63 @@ public class SlackNotificationAdapter implements NotificationSenderPort {
         return channel == NotificationChannel.SLACK;
     }
     
+    /**
+     * 종료 시 발송 스레드 정리 (진행 중인 호출은 잠시 기다림)
+     */
+    @EventListener(ContextClosedEvent.class)
+    public void shutdown() {
+        deliveryExecutor.shutdown();
+        try {
+            if (!deliveryExecutor.awaitTermination(5, TimeUnit.SECONDS)) {
+                deliveryExecutor.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            deliveryExecutor.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+    
+    private SlackWebhookLane lane(String url) {
+        return lanes.computeIfAbsent(url, key ->
+                new SlackWebhookLane(key, this::post, deliveryExecutor, properties, metrics));
+    }
+    
+    private String resolveWebhookUrl(Notification notification) {
+        return properties.webhooks().getOrDefault(notification.recipient(), webhookUrl);
+    }
+    
+    private int queueDepth() {
+        return lanes.values().stream().mapToInt(SlackWebhookLane::depth).sum();
+    }
+    
+    /**
+     * 발송 스레드에서 Webhook 호출 (알림이 여럿이면 묶음 메시지)
+     */
+    private int post(String url, List<Notification> batch) throws IOException {
+        Payload payload = batch.size() == 1 ? buildPayload(batch.get(0)) : buildDigestPayload(batch);
+        WebhookResponse response = slack.send(url, payload);
+        
+        if (response.getCode() == 200) {
+            log.info("Slack notification sent successfully. EventIds: {}",
+                    batch.stream().map(Notification::eventId).toList());
+        }
+        return response.getCode();
+    }
+    
+    private Payload buildDigestPayload(List<Notification> batch) {
+        StringBuilder message = new StringBuilder();
+        message.append("*📦 밀린 알림 ").append(batch.size()).append("건 묶음*\n");
+        
+        for (Notification notification : batch) {
+            message.append("\n*").append(notification.title()).append("*\n");
+            message.append(notification.message()).append("\n");
+        }
+        
+        return Payload.builder()
+                .text(message.toString())
+                .build();
+    }
+    
     private Payload buildPayload(Notification notification) {
         return Payload.builder()
                 .text(formatMessage(notification))
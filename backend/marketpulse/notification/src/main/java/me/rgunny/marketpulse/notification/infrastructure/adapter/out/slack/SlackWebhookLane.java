@@ -0,0 +1,191 @@
+package me.rgunny.marketpulse.notification.infrastructure.adapter.out.slack;
+
+import me.rgunny.marketpulse.common.core.exception.BusinessException;
+import me.rgunny.marketpulse.notification.application.port.out.NotificationMetricsPort;
+import me.rgunny.marketpulse.notification.domain.error.NotificationErrorCode;
+import me.rgunny.marketpulse.notification.domain.model.Notification;
+import me.rgunny.marketpulse.notification.domain.model.NotificationChannel;
+import me.rgunny.marketpulse.notification.infrastructure.config.SlackDeliveryProperties;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import reactor.core.publisher.MonoSink;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 웹훅 하나의 발송 대기열
+ *
+ * - 한 번에 워커 하나만 대기열을 처리하므로 웹훅별 발송 순서와 속도가 유지됨
+ * - GCRA 방식 토큰 버킷으로 발송 간격을 맞추고, 토큰을 기다리는 동안 워커를 점유하지 않고 다시 예약
+ * - 발송 차례에 대기 중인 알림이 digestThreshold 이상이면 maxDigestSize 까지 묶음 메시지 하나로 보냄
+ * - 429 응답이면 묶음을 대기열 앞에 되돌리고 잠시 쉰 뒤 다시 보냄
+ */
+final class SlackWebhookLane implements Runnable {
+    
+    private static final Logger log = LoggerFactory.getLogger(SlackWebhookLane.class);
+    
+    private static final int MAX_RATE_LIMITED_ATTEMPTS = 3;
+    private static final long RATE_LIMITED_BACKOFF_NANOS = TimeUnit.SECONDS.toNanos(1);
+    
+    /**
+     * 묶음 단위 발송 (HTTP 상태 코드 반환)
+     */
+    @FunctionalInterface
+    interface BatchSender {
+        int send(String webhookUrl, List<Notification> batch) throws Exception;
+    }
+    
+    private record Delivery(Notification notification, MonoSink<Void> sink, int attempts) {
+    }
+    
+    private final String webhookUrl;
+    private final BatchSender sender;
+    private final ScheduledExecutorService executor;
+    private final NotificationMetricsPort metrics;
+    private final int queueCapacity;
+    private final int digestThreshold;
+    private final int maxDigestSize;
+    private final long nanosPerPermit;
+    private final long burstToleranceNanos;
+    
+    private final ConcurrentLinkedDeque<Delivery> queue = new ConcurrentLinkedDeque<>();
+    private final AtomicInteger depth = new AtomicInteger();
+    private final AtomicBoolean scheduled = new AtomicBoolean();
+    
+    // 다음 토큰이 이론적으로 도착하는 시각 (nanoTime 기준, 처리 중인 워커만 접근)
+    private long theoreticalArrivalNanos = System.nanoTime();
+    
+    SlackWebhookLane(String webhookUrl, BatchSender sender, ScheduledExecutorService executor,
+                     SlackDeliveryProperties properties, NotificationMetricsPort metrics) {
+        this.webhookUrl = webhookUrl;
+        this.sender = sender;
+        this.executor = executor;
+        this.metrics = metrics;
+        this.queueCapacity = properties.queueCapacity();
+        this.digestThreshold = properties.digestThreshold();
+        this.maxDigestSize = properties.maxDigestSize();
+        this.nanosPerPermit = TimeUnit.MINUTES.toNanos(1) / properties.permitsPerMinute();
+        this.burstToleranceNanos = nanosPerPermit * (properties.burstCapacity() - 1);
+    }
+    
+    void enqueue(Notification notification, MonoSink<Void> sink) {
+        if (depth.incrementAndGet() > queueCapacity) {
+            depth.decrementAndGet();
+            sink.error(new BusinessException(NotificationErrorCode.NOTIFICATION_SEND_004));
+            return;
+        }
+        queue.offer(new Delivery(notification, sink, 0));
+        schedule(0L);
+    }
+    
+    int depth() {
+        return depth.get();
+    }
+    
+    @Override
+    public void run() {
+        if (queue.isEmpty()) {
+            scheduled.set(false);
+            // 비우는 사이 들어온 알림이 있으면 다시 예약
+            if (!queue.isEmpty()) {
+                schedule(0L);
+            }
+            return;
+        }
+        
+        long waitNanos = theoreticalArrivalNanos - burstToleranceNanos - System.nanoTime();
+        if (waitNanos > 0) {
+            resubmit(waitNanos);
+            return;
+        }
+        
+        List<Delivery> batch = take();
+        if (batch.isEmpty()) {
+            resubmit(0L);
+            return;
+        }
+        
+        long now = System.nanoTime();
+        theoreticalArrivalNanos = Math.max(theoreticalArrivalNanos, now) + nanosPerPermit;
+        deliver(batch);
+        resubmit(0L);
+    }
+    
+    private List<Delivery> take() {
+        int backlog = depth.get();
+        int size = backlog >= digestThreshold ? Math.min(backlog, maxDigestSize) : 1;
+        List<Delivery> batch = new ArrayList<>(size);
+        Delivery delivery;
+        while (batch.size() < size && (delivery = queue.poll()) != null) {
+            batch.add(delivery);
+        }
+        depth.addAndGet(-batch.size());
+        return batch;
+    }
+    
+    private void deliver(List<Delivery> batch) {
+        int status;
+        try {
+            status = sender.send(webhookUrl, batch.stream().map(Delivery::notification).toList());
+        } catch (Exception e) {
+            log.error("Slack webhook call failed: notifications={}", batch.size(), e);
+            batch.forEach(delivery -> delivery.sink().error(e));
+            return;
+        }
+        
+        if (status == 200) {
+            metrics.recordDelivery(NotificationChannel.SLACK, batch.size());
+            batch.forEach(delivery -> delivery.sink().success());
+            return;
+        }
+        
+        if (status == 429 && batch.stream().allMatch(delivery -> delivery.attempts() + 1 < MAX_RATE_LIMITED_ATTEMPTS)) {
+            log.warn("Slack webhook rate limited, retrying {} notifications after backoff", batch.size());
+            for (int i = batch.size() - 1; i >= 0; i--) {
+                Delivery delivery = batch.get(i);
+                queue.offerFirst(new Delivery(delivery.notification(), delivery.sink(), delivery.attempts() + 1));
+            }
+            depth.addAndGet(batch.size());
+            theoreticalArrivalNanos = Math.max(theoreticalArrivalNanos,
+                    System.nanoTime() + RATE_LIMITED_BACKOFF_NANOS + burstToleranceNanos);
+            return;
+        }
+        
+        log.error("Slack webhook returned status {}: notifications={}", status, batch.size());
+        batch.forEach(delivery -> delivery.sink().error(new BusinessException(NotificationErrorCode.NOTIFICATION_SEND_002)));
+    }
+    
+    private void schedule(long delayNanos) {
+        if (scheduled.compareAndSet(false, true)) {
+            resubmit(delayNanos);
+        }
+    }
+    
+    private void resubmit(long delayNanos) {
+        try {
+            if (delayNanos > 0) {
+                executor.schedule(this, delayNanos, TimeUnit.NANOSECONDS);
+            } else {
+                executor.execute(this);
+            }
+        } catch (RejectedExecutionException e) {
+            scheduled.set(false);
+            failPending(e);
+        }
+    }
+    
+    private void failPending(Throwable cause) {
+        Delivery delivery;
+        while ((delivery = queue.poll()) != null) {
+            depth.decrementAndGet();
+            delivery.sink().error(cause);
+        }
+    }
+}
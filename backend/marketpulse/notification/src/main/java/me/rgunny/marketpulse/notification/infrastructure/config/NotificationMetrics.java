@@ -1,6 +1,8 @@
 package me.rgunny.marketpulse.notification.infrastructure.config;
 
 import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Tags;
 import io.micrometer.core.instrument.Timer;
@@ -9,31 +11,75 @@ import me.rgunny.marketpulse.notification.domain.model.NotificationChannel;
 import me.rgunny.marketpulse.notification.domain.model.NotificationType;
 import org.springframework.stereotype.Component;
 
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
 /**
  * 알림 메트릭 수집기
  * - Spring Boot Actuator 메트릭으로 알림 발송 통계 수집
- * TODO: Prometheus 연동 시 메트릭 라벨링 최적화 필요
+ * - (유형, 채널) 조합별 미터를 생성 시점에 미리 등록하여 발송마다 레지스트리를 조회하지 않음
+ * - 같은 이름의 미터는 태그 키를 맞춤 (Prometheus 는 태그 키가 다른 같은 이름 미터를 허용하지 않음)
  */
 @Component
 public class NotificationMetrics implements NotificationMetricsPort {
     
-    private final Counter successCounter;
-    private final Counter failureCounter;
-    private final Timer responseTimer;
+    private static final String SENT_TOTAL = "notification.sent.total";
+    private static final String NO_ERROR = "none";
+    
+    private static final double[] PERCENTILES = {0.5, 0.95, 0.99};
+    private static final Duration[] LATENCY_SLOS = {
+            Duration.ofMillis(5),
+            Duration.ofMillis(10),
+            Duration.ofMillis(50),
+            Duration.ofMillis(100),
+            Duration.ofMillis(500),
+            Duration.ofSeconds(1),
+            Duration.ofSeconds(5)
+    };
+    
     private final MeterRegistry meterRegistry;
+    private final Map<NotificationType, Map<NotificationChannel, Counter>> successCounters;
+    // 오류 유형은 미리 알 수 없으므로 (유형, 채널)별로 처음 나올 때 한 번만 등록
+    private final Map<NotificationType, Map<NotificationChannel, Map<String, Counter>>> failureCounters;
+    private final Map<NotificationChannel, Timer> responseTimers;
+    private final Map<NotificationChannel, DistributionSummary> batchSizes;
+    private final Map<Stage, Timer> stageTimers;
+    private final AtomicLong deliveredNotifications = new AtomicLong();
+    private final AtomicLong digestedNotifications = new AtomicLong();
     
     public NotificationMetrics(MeterRegistry meterRegistry) {
         this.meterRegistry = meterRegistry;
-        this.successCounter = Counter.builder("notification.sent.total")
-                .tag("status", "success")
-                .description("Total successful notifications sent")
-                .register(meterRegistry);
-        this.failureCounter = Counter.builder("notification.sent.total")
-                .tag("status", "failed")
-                .description("Total failed notifications")
-                .register(meterRegistry);
-        this.responseTimer = Timer.builder("notification.response.time")
-                .description("Notification sending response time")
+        this.successCounters = byEnum(NotificationType.class, type ->
+                byEnum(NotificationChannel.class, channel -> sentCounter("success", type, channel, NO_ERROR)));
+        this.failureCounters = byEnum(NotificationType.class, type ->
+                byEnum(NotificationChannel.class, channel -> new ConcurrentHashMap<String, Counter>()));
+        this.responseTimers = byEnum(NotificationChannel.class, channel ->
+                Timer.builder("notification.response.time")
+                        .tag("channel", tagValue(channel))
+                        .description("Notification sending response time")
+                        .publishPercentiles(PERCENTILES)
+                        .serviceLevelObjectives(LATENCY_SLOS)
+                        .register(meterRegistry));
+        this.batchSizes = byEnum(NotificationChannel.class, channel ->
+                DistributionSummary.builder("notification.delivery.batch.size")
+                        .tag("channel", tagValue(channel))
+                        .description("Notifications per delivered message")
+                        .register(meterRegistry));
+        this.stageTimers = byEnum(Stage.class, stage ->
+                Timer.builder("notification.pipeline.stage.latency")
+                        .tag("stage", tagValue(stage))
+                        .description("Notification pipeline latency per stage")
+                        .publishPercentiles(PERCENTILES)
+                        .serviceLevelObjectives(LATENCY_SLOS)
+                        .register(meterRegistry));
+        Gauge.builder("notification.delivery.digest.ratio", this, NotificationMetrics::digestRatio)
+                .description("Share of delivered notifications merged into digest messages")
                 .register(meterRegistry);
     }
     
@@ -41,28 +87,15 @@ public class NotificationMetrics implements NotificationMetricsPort {
      * 성공 메트릭 기록
      */
     public void recordSuccess(NotificationType type, NotificationChannel channel) {
-        Counter.builder("notification.sent.total")
-                .tags(Tags.of(
-                        "status", "success",
-                        "type", type.name().toLowerCase(),
-                        "channel", channel.name().toLowerCase()
-                ))
-                .register(meterRegistry)
-                .increment();
+        successCounters.get(type).get(channel).increment();
     }
     
     /**
      * 실패 메트릭 기록
      */
     public void recordFailure(NotificationType type, NotificationChannel channel, String errorType) {
-        Counter.builder("notification.sent.total")
-                .tags(Tags.of(
-                        "status", "failed",
-                        "type", type.name().toLowerCase(),
-                        "channel", channel.name().toLowerCase(),
-                        "error_type", errorType
-                ))
-                .register(meterRegistry)
+        failureCounters.get(type).get(channel)
+                .computeIfAbsent(errorType, error -> sentCounter("failed", type, channel, error))
                 .increment();
     }
     
@@ -77,8 +110,63 @@ public class NotificationMetrics implements NotificationMetricsPort {
      * 응답 시간 측정 완료
      */
     public void recordResponseTime(Timer.Sample sample, NotificationChannel channel) {
-        sample.stop(Timer.builder("notification.response.time")
-                .tag("channel", channel.name().toLowerCase())
-                .register(meterRegistry));
+        sample.stop(responseTimers.get(channel));
+    }
+    
+    /**
+     * 발송 대기열 깊이 게이지 등록
+     */
+    public void registerQueueDepth(NotificationChannel channel, Supplier<Number> depth) {
+        Gauge.builder("notification.delivery.queue.depth", depth)
+                .tag("channel", tagValue(channel))
+                .description("Notifications waiting for delivery")
+                .register(meterRegistry);
+    }
+    
+    /**
+     * 발송 메시지 기록 (메시지당 알림 수 분포와 묶음 비율)
+     */
+    public void recordDelivery(NotificationChannel channel, int notifications) {
+        batchSizes.get(channel).record(notifications);
+        deliveredNotifications.addAndGet(notifications);
+        if (notifications > 1) {
+            digestedNotifications.addAndGet(notifications);
+        }
+    }
+    
+    /**
+     * 처리 단계별 소요 시간 기록
+     */
+    public void recordStageLatency(Stage stage, long nanos) {
+        stageTimers.get(stage).record(Math.max(nanos, 0L), TimeUnit.NANOSECONDS);
+    }
+    
+    private Counter sentCounter(String status, NotificationType type, NotificationChannel channel, String errorType) {
+        return Counter.builder(SENT_TOTAL)
+                .tags(Tags.of(
+                        "status", status,
+                        "type", tagValue(type),
+                        "channel", tagValue(channel),
+                        "error_type", errorType
+                ))
+                .description("Total notifications sent")
+                .register(meterRegistry);
+    }
+    
+    private double digestRatio() {
+        long delivered = deliveredNotifications.get();
+        return delivered == 0 ? 0.0 : (double) digestedNotifications.get() / delivered;
+    }
+    
+    private static String tagValue(Enum<?> value) {
+        return value.name().toLowerCase();
+    }
+    
+    private static <E extends Enum<E>, V> Map<E, V> byEnum(Class<E> keyType, Function<E, V> factory) {
+        Map<E, V> values = new EnumMap<>(keyType);
+        for (E key : keyType.getEnumConstants()) {
+            values.put(key, factory.apply(key));
+        }
+        return values;
     }
-}
\ No newline at end of file
+}
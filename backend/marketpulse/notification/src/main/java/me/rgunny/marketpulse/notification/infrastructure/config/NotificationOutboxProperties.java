@@ -0,0 +1,63 @@
+package me.rgunny.marketpulse.notification.infrastructure.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * 알림 outbox 설정 프로퍼티
+ *
+ * 재시도 횟수 상한은 Notification.canRetry() 규칙을 따름
+ */
+@ConfigurationProperties(prefix = "notification.outbox")
+public record NotificationOutboxProperties(
+        /**
+         * outbox 사용 여부 (끄면 접수 요청이 발송 완료까지 기다리고 실패해도 재시도하지 않음)
+         */
+        @DefaultValue("true") boolean enabled,
+        
+        /**
+         * 재시도 대상 확인 주기
+         */
+        Duration retryInterval,
+        
+        /**
+         * 발송 중인 알림 선점 시간 (이 시간 안에 완료/실패 처리가 없으면 다시 재시도 대상이 됨)
+         */
+        Duration lease,
+        
+        /**
+         * 첫 재시도 대기 시간 (실패할 때마다 두 배)
+         */
+        Duration initialBackoff,
+        
+        /**
+         * 재시도 대기 시간 상한
+         */
+        Duration maxBackoff,
+        
+        /**
+         * 한 번에 선점하는 최대 알림 수
+         */
+        int batchSize
+) {
+    
+    public NotificationOutboxProperties {
+        if (retryInterval == null || retryInterval.isNegative() || retryInterval.isZero()) retryInterval = Duration.ofSeconds(5);
+        if (lease == null || lease.isNegative() || lease.isZero()) lease = Duration.ofMinutes(2);
+        if (initialBackoff == null || initialBackoff.isNegative() || initialBackoff.isZero()) initialBackoff = Duration.ofSeconds(10);
+        if (maxBackoff == null) maxBackoff = Duration.ofMinutes(5);
+        if (maxBackoff.compareTo(initialBackoff) < 0) maxBackoff = initialBackoff;
+        if (batchSize <= 0) batchSize = 50;
+    }
+    
+    /**
+     * retryCount 번째 재시도까지의 대기 시간 (initialBackoff * 2^(retryCount-1), 상한 maxBackoff)
+     */
+    public Duration backoff(int retryCount) {
+        int exponent = Math.min(Math.max(retryCount - 1, 0), 30);
+        Duration delay = initialBackoff.multipliedBy(1L << exponent);
+        return delay.compareTo(maxBackoff) > 0 ? maxBackoff : delay;
+    }
+}
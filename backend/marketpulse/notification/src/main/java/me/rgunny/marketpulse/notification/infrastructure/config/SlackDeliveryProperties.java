@@ -0,0 +1,60 @@
+package me.rgunny.marketpulse.notification.infrastructure.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.Map;
+
+/**
+ * Slack 발송 설정 프로퍼티
+ *
+ * Slack Webhook 은 채널(웹훅)마다 초당 약 1건으로 제한되므로 웹훅별로 속도를 맞추고,
+ * 밀린 알림은 하나의 묶음(digest) 메시지로 합쳐 보냄
+ */
+@ConfigurationProperties(prefix = "notification.slack.delivery")
+public record SlackDeliveryProperties(
+        /**
+         * 발송 전용 스레드 수 (Webhook 호출은 블로킹이므로 구독 스레드와 분리)
+         */
+        int workers,
+        
+        /**
+         * 웹훅별 분당 발송 허용량
+         */
+        int permitsPerMinute,
+        
+        /**
+         * 웹훅별 순간 허용 버스트 크기
+         */
+        int burstCapacity,
+        
+        /**
+         * 웹훅별 대기열 상한 (넘으면 바로 실패)
+         */
+        int queueCapacity,
+        
+        /**
+         * 발송 차례에 대기 중인 알림이 이 수 이상이면 묶음 메시지로 합침
+         */
+        int digestThreshold,
+        
+        /**
+         * 묶음 메시지 하나에 담는 최대 알림 수
+         */
+        int maxDigestSize,
+        
+        /**
+         * 수신자별 웹훅 URL (없으면 notification.slack.webhook-url 사용)
+         */
+        Map<String, String> webhooks
+) {
+    
+    public SlackDeliveryProperties {
+        if (workers <= 0) workers = 2;
+        if (permitsPerMinute <= 0) permitsPerMinute = 60;
+        if (burstCapacity <= 0) burstCapacity = 1;
+        if (queueCapacity <= 0) queueCapacity = 1_000;
+        if (digestThreshold <= 1) digestThreshold = 2;
+        if (maxDigestSize <= 1) maxDigestSize = 20;
+        webhooks = webhooks == null ? Map.of() : Map.copyOf(webhooks);
+    }
+}
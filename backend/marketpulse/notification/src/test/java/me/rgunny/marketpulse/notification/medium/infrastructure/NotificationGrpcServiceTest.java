@@ -1,7 +1,10 @@
 package me.rgunny.marketpulse.notification.medium.infrastructure;
 
+import io.grpc.stub.ServerCallStreamObserver;
 import io.grpc.stub.StreamObserver;
 import me.rgunny.marketpulse.notification.application.port.in.SendNotificationUseCase;
+import me.rgunny.marketpulse.notification.application.port.out.NotificationMetricsPort;
+import me.rgunny.marketpulse.notification.application.port.out.NotificationMetricsPort.Stage;
 import me.rgunny.marketpulse.notification.grpc.NotificationServiceProto.*;
 import me.rgunny.marketpulse.notification.infrastructure.adapter.in.grpc.NotificationGrpcService;
 import org.junit.jupiter.api.BeforeEach;
@@ -14,9 +17,12 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import reactor.core.publisher.Mono;
 
 import java.time.Instant;
+import java.util.List;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.*;
 
 /**
@@ -29,17 +35,23 @@ class NotificationGrpcServiceTest {
     @Mock
     private SendNotificationUseCase notificationUseCase;
     
+    @Mock
+    private NotificationMetricsPort metrics;
+    
     @Mock
     private StreamObserver<NotificationResponse> responseObserver;
     
     @Mock 
     private StreamObserver<NotificationStatusResponse> statusResponseObserver;
     
+    @Mock
+    private ServerCallStreamObserver<PriceAlertAck> ackObserver;
+    
     private NotificationGrpcService grpcService;
     
     @BeforeEach
     void setUp() {
-        grpcService = new NotificationGrpcService(notificationUseCase, "1.0.0");
+        grpcService = new NotificationGrpcService(notificationUseCase, metrics, "1.0.0");
     }
     
     @Test
@@ -111,6 +123,94 @@ class NotificationGrpcServiceTest {
         assertThat(response.getNotificationId()).isEmpty();
     }
     
+    @Test
+    @DisplayName("스트림으로 받은 알림마다 ack 를 보내고, 처리한 만큼만 추가로 수신을 요청한다")
+    void givenStreamedAlerts_whenStreamPriceAlerts_thenAcksEachAndRequestsMore() {
+        // given
+        given(ackObserver.isReady()).willReturn(true);
+        given(notificationUseCase.sendNotification(any()))
+                .willReturn(Mono.empty())
+                .willReturn(Mono.error(new RuntimeException("Slack API Error")));
+        
+        // when
+        StreamObserver<PriceAlert> requests = grpcService.streamPriceAlerts(ackObserver);
+        requests.onNext(streamedAlert("event-1"));
+        requests.onNext(streamedAlert("event-2"));
+        requests.onCompleted();
+        
+        // then
+        verify(ackObserver).disableAutoRequest();
+        verify(ackObserver).request(32);
+        verify(ackObserver, times(2)).request(1);
+        
+        ArgumentCaptor<PriceAlertAck> ackCaptor = ArgumentCaptor.forClass(PriceAlertAck.class);
+        verify(ackObserver, times(2)).onNext(ackCaptor.capture());
+        verify(ackObserver).onCompleted();
+        
+        List<PriceAlertAck> acks = ackCaptor.getAllValues();
+        assertThat(acks).extracting(PriceAlertAck::getEventId).containsExactly("event-1", "event-2");
+        assertThat(acks).extracting(PriceAlertAck::getSuccess).containsExactly(true, false);
+        assertThat(acks.get(1).getMessage()).contains("Slack API Error");
+    }
+    
+    @Test
+    @DisplayName("ack 를 보낼 수 없는 동안에는 추가 수신 요청을 미뤘다가 전송 가능해지면 요청한다")
+    void givenAckStreamNotReady_whenAlertProcessed_thenDefersRequestUntilReady() {
+        // given
+        given(ackObserver.isReady()).willReturn(false);
+        given(notificationUseCase.sendNotification(any())).willReturn(Mono.empty());
+        ArgumentCaptor<Runnable> onReady = ArgumentCaptor.forClass(Runnable.class);
+        
+        // when
+        StreamObserver<PriceAlert> requests = grpcService.streamPriceAlerts(ackObserver);
+        requests.onNext(streamedAlert("event-1"));
+        
+        // then
+        verify(ackObserver).onNext(any());
+        verify(ackObserver, never()).request(1);
+        
+        verify(ackObserver).setOnReadyHandler(onReady.capture());
+        onReady.getValue().run();
+        verify(ackObserver).request(1);
+    }
+    
+    @Test
+    @DisplayName("수신부터 ack 까지 단계별 소요 시간을 기록한다")
+    void givenStreamedAlert_whenProcessed_thenRecordsEachStageLatency() {
+        // given
+        given(ackObserver.isReady()).willReturn(true);
+        given(notificationUseCase.sendNotification(any())).willReturn(Mono.empty());
+        
+        // when
+        StreamObserver<PriceAlert> requests = grpcService.streamPriceAlerts(ackObserver);
+        requests.onNext(streamedAlert("event-1"));
+        
+        // then
+        verify(metrics).recordStageLatency(eq(Stage.RECEIVE), anyLong());
+        verify(metrics).recordStageLatency(eq(Stage.CONVERT), anyLong());
+        verify(metrics).recordStageLatency(eq(Stage.SEND), anyLong());
+        verify(metrics).recordStageLatency(eq(Stage.ACK), anyLong());
+    }
+    
+    @Test
+    @DisplayName("보낸 쪽 시계가 앞서 생성 시각이 미래이면 수신 지연을 기록하지 않는다")
+    void givenFutureTimestamp_whenProcessed_thenSkipsReceiveLatency() {
+        // given
+        given(ackObserver.isReady()).willReturn(true);
+        given(notificationUseCase.sendNotification(any())).willReturn(Mono.empty());
+        PriceAlert alert = streamedAlert("event-1").toBuilder()
+                .setTimestamp(Instant.now().plusSeconds(60).toEpochMilli())
+                .build();
+        
+        // when
+        StreamObserver<PriceAlert> requests = grpcService.streamPriceAlerts(ackObserver);
+        requests.onNext(alert);
+        
+        // then
+        verify(metrics, never()).recordStageLatency(eq(Stage.RECEIVE), anyLong());
+        verify(metrics).recordStageLatency(eq(Stage.SEND), anyLong());
+    }
+    
     @Test
     @DisplayName("헬스 체크 요청 시 서비스 상태를 반환한다")
     void givenHealthCheckRequest_whenGetNotificationStatus_thenReturnsHealthStatus() {
@@ -131,4 +231,20 @@ class NotificationGrpcServiceTest {
         assertThat(response.getVersion()).isEqualTo("1.0.0");
         assertThat(response.getUptimeSeconds()).isGreaterThanOrEqualTo(0);
     }
-}
\ No newline at end of file
+    
+    private PriceAlert streamedAlert(String eventId) {
+        return PriceAlert.newBuilder()
+                .setEventId(eventId)
+                .setSymbol("005930")
+                .setSymbolName("삼성전자")
+                .setCurrentPrice(72000.0)
+                .setPreviousPrice(71500.0)
+                .setChangeRate(0.7)
+                .setAlertType(PriceAlertType.RISE)
+                .setTimestamp(Instant.now().toEpochMilli())
+                .setHigh(72500.0)
+                .setLow(71000.0)
+                .setVolume(1_000_000L)
+                .build();
+    }
+}
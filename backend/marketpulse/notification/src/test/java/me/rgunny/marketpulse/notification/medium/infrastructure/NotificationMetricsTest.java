@@ -0,0 +1,78 @@
+package me.rgunny.marketpulse.notification.medium.infrastructure;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import me.rgunny.marketpulse.notification.application.port.out.NotificationMetricsPort.Stage;
+import me.rgunny.marketpulse.notification.domain.model.NotificationChannel;
+import me.rgunny.marketpulse.notification.domain.model.NotificationType;
+import me.rgunny.marketpulse.notification.infrastructure.config.NotificationMetrics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * NotificationMetrics 단위 테스트
+ */
+@DisplayName("NotificationMetrics 인프라스트럭처 메트릭")
+class NotificationMetricsTest {
+    
+    private SimpleMeterRegistry registry;
+    private NotificationMetrics metrics;
+    
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        metrics = new NotificationMetrics(registry);
+    }
+    
+    @Test
+    @DisplayName("유형과 채널 조합별 발송 카운터를 미리 등록하고 기록 시 재등록하지 않는다")
+    void givenPreRegisteredMeters_whenRecordSuccess_thenIncrementsWithoutNewMeters() {
+        // given
+        int metersBefore = registry.getMeters().size();
+        
+        // when
+        metrics.recordSuccess(NotificationType.PRICE_ALERT, NotificationChannel.SLACK);
+        metrics.recordSuccess(NotificationType.PRICE_ALERT, NotificationChannel.SLACK);
+        
+        // then
+        Counter counter = registry.get("notification.sent.total")
+                .tags("status", "success", "type", "price_alert", "channel", "slack")
+                .counter();
+        assertThat(counter.count()).isEqualTo(2.0);
+        assertThat(registry.getMeters()).hasSize(metersBefore);
+    }
+    
+    @Test
+    @DisplayName("실패 카운터는 오류 유형별로 한 번만 등록한다")
+    void givenSameErrorType_whenRecordFailureTwice_thenSharesCounter() {
+        // when
+        metrics.recordFailure(NotificationType.PRICE_ALERT, NotificationChannel.SLACK, "BusinessException");
+        metrics.recordFailure(NotificationType.PRICE_ALERT, NotificationChannel.SLACK, "BusinessException");
+        
+        // then
+        Counter counter = registry.get("notification.sent.total")
+                .tags("status", "failed", "error_type", "BusinessException")
+                .counter();
+        assertThat(counter.count()).isEqualTo(2.0);
+    }
+    
+    @Test
+    @DisplayName("처리 단계별 소요 시간을 단계 태그로 나눠 기록한다")
+    void givenStageLatency_whenRecord_thenRecordsToStageTimer() {
+        // when
+        metrics.recordStageLatency(Stage.SEND, TimeUnit.MILLISECONDS.toNanos(30));
+        
+        // then
+        Timer send = registry.get("notification.pipeline.stage.latency").tag("stage", "send").timer();
+        Timer ack = registry.get("notification.pipeline.stage.latency").tag("stage", "ack").timer();
+        assertThat(send.count()).isEqualTo(1);
+        assertThat(send.totalTime(TimeUnit.MILLISECONDS)).isEqualTo(30.0);
+        assertThat(ack.count()).isZero();
+    }
+}
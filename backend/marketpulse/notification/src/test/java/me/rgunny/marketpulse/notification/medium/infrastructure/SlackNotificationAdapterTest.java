@@ -1,14 +1,37 @@
 package me.rgunny.marketpulse.notification.medium.infrastructure;
 
+import com.slack.api.Slack;
+import com.slack.api.webhook.Payload;
+import com.slack.api.webhook.WebhookResponse;
+import me.rgunny.marketpulse.common.core.exception.BusinessException;
+import me.rgunny.marketpulse.notification.application.port.out.NotificationMetricsPort;
+import me.rgunny.marketpulse.notification.domain.model.Notification;
 import me.rgunny.marketpulse.notification.domain.model.NotificationChannel;
+import me.rgunny.marketpulse.notification.domain.model.NotificationType;
+import me.rgunny.marketpulse.notification.fixture.NotificationTestFixture;
 import me.rgunny.marketpulse.notification.infrastructure.adapter.out.slack.SlackNotificationAdapter;
+import me.rgunny.marketpulse.notification.infrastructure.config.SlackDeliveryProperties;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.Map;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 
 /**
  * SlackNotificationAdapter 단위 테스트
@@ -17,11 +40,25 @@ import static org.assertj.core.api.Assertions.assertThat;
 @DisplayName("SlackNotificationAdapter 인프라스트럭처 어댑터")
 class SlackNotificationAdapterTest {
     
+    private static final String WEBHOOK_URL = "https://hooks.slack.com/test-webhook";
+    
+    @Mock
+    private Slack slack;
+    
+    @Mock
+    private NotificationMetricsPort metrics;
+    
     private SlackNotificationAdapter adapter;
     
     @BeforeEach
     void setUp() {
-        adapter = new SlackNotificationAdapter("https://hooks.slack.com/test-webhook");
+        SlackDeliveryProperties properties = new SlackDeliveryProperties(2, 60, 1, 100, 2, 20, Map.of());
+        adapter = new SlackNotificationAdapter(slack, WEBHOOK_URL, properties, metrics);
+    }
+    
+    @AfterEach
+    void tearDown() {
+        adapter.shutdown();
     }
     
     @Test
@@ -50,4 +87,75 @@ class SlackNotificationAdapterTest {
         assertThat(supports).isFalse();
     }
     
-}
\ No newline at end of file
+    @Test
+    @DisplayName("발송 스레드에서 Webhook 을 호출하고 메시지 한 건으로 기록한다")
+    void givenNotification_whenSend_thenPostsOnDeliveryThread() throws Exception {
+        // given
+        WebhookResponse response = response(200);
+        given(slack.send(eq(WEBHOOK_URL), any(Payload.class))).willReturn(response);
+        
+        // when
+        StepVerifier.create(adapter.send(NotificationTestFixture.createPendingNotification()))
+                .verifyComplete();
+        
+        // then
+        ArgumentCaptor<Payload> payload = ArgumentCaptor.forClass(Payload.class);
+        verify(slack).send(eq(WEBHOOK_URL), payload.capture());
+        assertThat(payload.getValue().getText()).contains("가격 상승 알림");
+        verify(metrics).recordDelivery(NotificationChannel.SLACK, 1);
+    }
+    
+    @Test
+    @DisplayName("속도 제한으로 밀린 알림은 묶음 메시지 하나로 보낸다")
+    void givenBacklog_whenRateLimited_thenSendsDigest() throws Exception {
+        // given
+        WebhookResponse response = response(200);
+        given(slack.send(eq(WEBHOOK_URL), any(Payload.class))).willReturn(response);
+        adapter.send(notification("event-0")).block(Duration.ofSeconds(5));
+        
+        // when
+        StepVerifier.create(Mono.when(
+                        adapter.send(notification("event-1")),
+                        adapter.send(notification("event-2")),
+                        adapter.send(notification("event-3"))))
+                .expectComplete()
+                .verify(Duration.ofSeconds(5));
+        
+        // then
+        ArgumentCaptor<Payload> payload = ArgumentCaptor.forClass(Payload.class);
+        verify(slack, times(2)).send(eq(WEBHOOK_URL), payload.capture());
+        assertThat(payload.getAllValues().get(1).getText()).contains("3건 묶음");
+        verify(metrics).recordDelivery(NotificationChannel.SLACK, 3);
+    }
+    
+    @Test
+    @DisplayName("Webhook 이 실패 응답을 주면 발송 오류로 끝난다")
+    void givenErrorResponse_whenSend_thenFailsWithBusinessException() throws Exception {
+        // given
+        WebhookResponse response = response(500);
+        given(slack.send(eq(WEBHOOK_URL), any(Payload.class))).willReturn(response);
+        
+        // when & then
+        StepVerifier.create(adapter.send(NotificationTestFixture.createPendingNotification()))
+                .expectError(BusinessException.class)
+                .verify(Duration.ofSeconds(5));
+    }
+    
+    private static WebhookResponse response(int code) {
+        WebhookResponse response = mock(WebhookResponse.class);
+        given(response.getCode()).willReturn(code);
+        return response;
+    }
+    
+    private static Notification notification(String eventId) {
+        return Notification.create(
+                eventId,
+                NotificationType.PRICE_ALERT,
+                NotificationChannel.SLACK,
+                "test-channel",
+                "가격 상승 알림",
+                "삼성전자(005930) 가격이 5% 상승했습니다.",
+                Map.of("symbol", "005930")
+        );
+    }
+}
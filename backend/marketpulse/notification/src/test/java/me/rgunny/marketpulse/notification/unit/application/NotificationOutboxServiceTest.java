@@ -0,0 +1,167 @@
+package me.rgunny.marketpulse.notification.unit.application;
+
+import me.rgunny.marketpulse.notification.application.port.out.NotificationMetricsPort;
+import me.rgunny.marketpulse.notification.application.port.out.NotificationOutboxPort;
+import me.rgunny.marketpulse.notification.application.port.out.NotificationSenderPort;
+import me.rgunny.marketpulse.notification.application.usecase.NotificationOutboxService;
+import me.rgunny.marketpulse.notification.application.usecase.NotificationService;
+import me.rgunny.marketpulse.notification.domain.event.PriceAlertEvent;
+import me.rgunny.marketpulse.notification.domain.model.Notification;
+import me.rgunny.marketpulse.notification.domain.model.NotificationChannel;
+import me.rgunny.marketpulse.notification.fixture.NotificationTestFixture;
+import me.rgunny.marketpulse.notification.infrastructure.config.NotificationOutboxProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.BDDMockito.*;
+
+/**
+ * NotificationOutboxService 애플리케이션 서비스 단위 테스트
+ * - outbox 접수, 중복 eventId 무시, 실패 시 재시도 예약 검증
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("NotificationOutboxService 애플리케이션 서비스")
+class NotificationOutboxServiceTest {
+    
+    @Mock
+    private NotificationSenderPort slackSender;
+    
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+    
+    @Mock
+    private NotificationMetricsPort metrics;
+    
+    @Mock
+    private NotificationOutboxPort outbox;
+    
+    private NotificationOutboxService outboxService;
+    
+    @BeforeEach
+    void setUp() {
+        lenient().when(slackSender.supports(NotificationChannel.SLACK)).thenReturn(true);
+        
+        NotificationService notificationService = new NotificationService(
+                List.of(slackSender),
+                eventPublisher,
+                metrics,
+                "test-channel"
+        );
+        NotificationOutboxProperties properties = new NotificationOutboxProperties(
+                true, null, Duration.ofMinutes(2), Duration.ofSeconds(10), Duration.ofMinutes(5), 50);
+        outboxService = new NotificationOutboxService(notificationService, outbox, properties);
+    }
+    
+    @Test
+    @DisplayName("접수한 알림을 outbox 에 저장하고 발송이 끝나면 완료로 표시한다")
+    void givenNewEvent_whenSendNotification_thenAppendsAndMarksSent() {
+        // given
+        PriceAlertEvent event = NotificationTestFixture.createPriceAlertEvent();
+        given(outbox.append(any(Notification.class), any(Instant.class))).willReturn(Mono.just(true));
+        given(slackSender.send(any(Notification.class))).willReturn(Mono.empty());
+        given(outbox.markSent(any(Notification.class))).willReturn(Mono.empty());
+        
+        // when
+        StepVerifier.create(outboxService.sendNotification(event))
+                .verifyComplete();
+        
+        // then
+        ArgumentCaptor<Notification> sent = ArgumentCaptor.forClass(Notification.class);
+        verify(outbox).markSent(sent.capture());
+        assertThat(sent.getValue().eventId()).isEqualTo(event.eventId());
+        verify(outbox, never()).markFailed(any(), any());
+    }
+    
+    @Test
+    @DisplayName("이미 접수한 eventId 면 다시 발송하지 않는다")
+    void givenDuplicateEventId_whenSendNotification_thenSkipsDelivery() {
+        // given
+        PriceAlertEvent event = NotificationTestFixture.createPriceAlertEvent();
+        given(outbox.append(any(Notification.class), any(Instant.class))).willReturn(Mono.just(false));
+        
+        // when
+        StepVerifier.create(outboxService.sendNotification(event))
+                .verifyComplete();
+        
+        // then
+        verify(slackSender, never()).send(any());
+        verify(outbox, never()).markSent(any());
+    }
+    
+    @Test
+    @DisplayName("발송이 실패해도 접수는 성공하고, 백오프 후 재시도하도록 실패로 표시한다")
+    void givenSlackError_whenSendNotification_thenAcceptsAndSchedulesRetry() {
+        // given
+        PriceAlertEvent event = NotificationTestFixture.createPriceAlertEvent();
+        given(outbox.append(any(Notification.class), any(Instant.class))).willReturn(Mono.just(true));
+        given(slackSender.send(any(Notification.class))).willReturn(Mono.error(new RuntimeException("Slack API Error")));
+        given(outbox.markFailed(any(Notification.class), any())).willReturn(Mono.empty());
+        Instant before = Instant.now();
+        
+        // when
+        StepVerifier.create(outboxService.sendNotification(event))
+                .verifyComplete();
+        
+        // then
+        ArgumentCaptor<Notification> failed = ArgumentCaptor.forClass(Notification.class);
+        ArgumentCaptor<Instant> nextAttemptAt = ArgumentCaptor.forClass(Instant.class);
+        verify(outbox).markFailed(failed.capture(), nextAttemptAt.capture());
+        assertThat(failed.getValue().retryCount()).isEqualTo(1);
+        assertThat(failed.getValue().errorMessage()).isEqualTo("Slack API Error");
+        assertThat(nextAttemptAt.getValue()).isAfterOrEqualTo(before.plusSeconds(10));
+        verify(outbox, never()).markSent(any());
+    }
+    
+    @Test
+    @DisplayName("재시도 대상을 선점해 재발송하고, 횟수를 다 쓰면 더 이상 재시도하지 않는다")
+    void givenDueNotifications_whenRetryDue_thenRedeliversAndGivesUpWhenExhausted() {
+        // given
+        Notification recovering = NotificationTestFixture.createPendingNotification().markForRetry("timeout");
+        Notification exhausted = Notification.create(
+                "event-456",
+                recovering.type(),
+                recovering.channel(),
+                recovering.recipient(),
+                recovering.title(),
+                recovering.message(),
+                recovering.metadata()
+        ).markForRetry("timeout").markForRetry("timeout");
+        given(outbox.claimDue(any(Instant.class), any(Instant.class), anyInt()))
+                .willReturn(Flux.just(recovering, exhausted));
+        given(slackSender.send(recovering)).willReturn(Mono.empty());
+        given(slackSender.send(exhausted)).willReturn(Mono.error(new RuntimeException("Slack API Error")));
+        given(outbox.markSent(recovering)).willReturn(Mono.empty());
+        given(outbox.markFailed(any(Notification.class), isNull())).willReturn(Mono.empty());
+        
+        // when
+        StepVerifier.create(outboxService.retryDueNotifications())
+                .expectNext(2L)
+                .verifyComplete();
+        
+        // then
+        verify(outbox).claimDue(any(Instant.class), any(Instant.class), eq(50));
+        verify(outbox).markSent(recovering);
+        ArgumentCaptor<Notification> failed = ArgumentCaptor.forClass(Notification.class);
+        verify(outbox).markFailed(failed.capture(), isNull());
+        assertThat(failed.getValue().eventId()).isEqualTo("event-456");
+        assertThat(failed.getValue().canRetry()).isFalse();
+    }
+}
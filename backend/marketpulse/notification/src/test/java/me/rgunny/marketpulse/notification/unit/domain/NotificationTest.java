@@ -109,6 +109,26 @@ class NotificationTest {
         assertThat(canRetry).isTrue();
     }
     
+    @Test
+    @DisplayName("재시도 대기로 표시할 때마다 retryCount 가 늘고 3회째에는 재시도 불가능하다")
+    void givenPendingNotification_whenMarkForRetryRepeatedly_thenIncrementsRetryCount() {
+        // given
+        Notification notification = NotificationTestFixture.createPendingNotification();
+        
+        // when
+        Notification first = notification.markForRetry("Slack API Error");
+        Notification third = first.markForRetry("Slack API Error").markForRetry("Slack API Error");
+        
+        // then
+        assertThat(first.status()).isEqualTo(NotificationStatus.FAILED);
+        assertThat(first.retryCount()).isEqualTo(1);
+        assertThat(first.errorMessage()).isEqualTo("Slack API Error");
+        assertThat(first.metadata()).containsEntry("symbol", "005930");
+        assertThat(first.canRetry()).isTrue();
+        assertThat(third.retryCount()).isEqualTo(3);
+        assertThat(third.canRetry()).isFalse();
+    }
+    
     @Test
     @DisplayName("재시도 카운트가 3 이상인 FAILED 알림은 재시도 불가능하다")
     void givenFailedNotificationWithMaxRetryCount_whenCanRetry_thenReturnsFalse() {